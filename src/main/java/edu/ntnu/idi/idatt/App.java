@@ -1,10 +1,28 @@
 package edu.ntnu.idi.idatt;
 
+import java.io.IOException;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import edu.ntnu.idi.idatt.controller.BoardManager;
+import edu.ntnu.idi.idatt.factory.BoardCache;
 import edu.ntnu.idi.idatt.ui.pages.MainMenu;
 import javafx.application.Application;
 import javafx.stage.Stage;
 
 public class App extends Application {
+  private static final Logger LOGGER = Logger.getLogger(App.class.getName());
+
+  @Override
+  public void init() {
+    // Edited board files then reach the cache without a file check per game
+    try {
+      BoardCache.getShared().watch(BoardManager.getBoardsDirectory());
+    } catch (IOException e) {
+      LOGGER.log(Level.WARNING, "Could not watch the board directory; boards are checked on every load", e);
+    }
+  }
+
   @Override
   public void start(Stage primaryStage) throws Exception {
     MainMenu page = new MainMenu();
@@ -14,7 +32,12 @@ public class App extends Application {
     page.start(primaryStage);
   }
 
+  @Override
+  public void stop() {
+    BoardCache.getShared().close();
+  }
+
   public static void main(String[] args) {
     launch(args);
   }
-}
\ No newline at end of file
+}
@@ -0,0 +1,263 @@
+package edu.ntnu.idi.idatt.controller;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+
+import edu.ntnu.idi.idatt.model.Player;
+
+/**
+ * Plays a game on its own, rolling for every player in turn, for demos,
+ * tests and computer-only matches.
+ * <p>
+ * A background thread drives the game at one of three speeds:
+ * </p>
+ * <ul>
+ * <li>{@link Speed#REAL_TIME} plays a turn every {@link Speed#getTurnDelayMillis()}
+ * with every event, so the view animates the game as if people played.</li>
+ * <li>{@link Speed#FAST} does the same with short pauses; the view is expected
+ * to shorten its animations.</li>
+ * <li>{@link Speed#INSTANT} plays turns back to back with the controller's
+ * events muted. Nothing is drawn per move; a view follows the game by
+ * reading {@link GameController#getSnapshot()} once per frame.</li>
+ * </ul>
+ * <p>
+ * Timed turns run on the turn executor given to the constructor, such as
+ * {@code Platform::runLater} when the controller's observers update a
+ * JavaFX view. Instant turns run on the background thread, so the caller
+ * must leave the controller alone until {@link #stop()} returns.
+ * </p>
+ */
+public class AutoPlayer implements AutoCloseable {
+
+  /**
+   * How fast a game is played
+   */
+  public enum Speed {
+    REAL_TIME(1500),
+    FAST(100),
+    INSTANT(0);
+
+    private final long turnDelayMillis;
+
+    Speed(long turnDelayMillis) {
+      this.turnDelayMillis = turnDelayMillis;
+    }
+
+    /**
+     * Gets the pause before each turn
+     *
+     * @return The pause in milliseconds
+     */
+    public long getTurnDelayMillis() {
+      return turnDelayMillis;
+    }
+  }
+
+  private final GameController controller;
+  private final Executor turnExecutor;
+  private volatile boolean running;
+  // Changes on every start and stop, so turns queued by an earlier run are dropped
+  private volatile long generation;
+  private volatile Speed speed;
+  private volatile long turnsPlayed;
+  private Thread driver;
+  private Runnable onFinished;
+
+  /**
+   * Creates an auto-player whose timed turns run on the driving thread
+   *
+   * @param controller The game to play
+   */
+  public AutoPlayer(GameController controller) {
+    this(controller, Runnable::run);
+  }
+
+  /**
+   * Creates an auto-player
+   *
+   * @param controller   The game to play
+   * @param turnExecutor Runs the turns of timed speeds
+   */
+  public AutoPlayer(GameController controller, Executor turnExecutor) {
+    if (controller == null || turnExecutor == null) {
+      throw new IllegalArgumentException("Controller and turn executor cannot be null");
+    }
+    this.controller = controller;
+    this.turnExecutor = turnExecutor;
+  }
+
+  /**
+   * Sets what runs once the game is won while playing on its own. It runs on
+   * the background thread, after events are unmuted.
+   *
+   * @param onFinished The action, or null for none
+   */
+  public void setOnFinished(Runnable onFinished) {
+    this.onFinished = onFinished;
+  }
+
+  /**
+   * Starts playing on a background thread, or changes the speed if already
+   * playing
+   *
+   * @param speed The speed to play at
+   */
+  public synchronized void start(Speed speed) {
+    if (speed == null) {
+      throw new IllegalArgumentException("Speed cannot be null");
+    }
+    if (running) {
+      stop();
+    }
+    this.speed = speed;
+    this.running = true;
+    long run = ++generation;
+    controller.setEventsMuted(speed == Speed.INSTANT);
+    driver = new Thread(() -> drive(run), "auto-play");
+    driver.setDaemon(true);
+    driver.start();
+  }
+
+  /**
+   * Stops playing and waits for the turn in progress to finish. Events are
+   * unmuted when this returns.
+   */
+  public synchronized void stop() {
+    running = false;
+    generation++;
+    Thread thread = driver;
+    driver = null;
+    if (thread != null && thread != Thread.currentThread()) {
+      thread.interrupt();
+      try {
+        thread.join();
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+      }
+    }
+    controller.setEventsMuted(false);
+  }
+
+  private void drive(long run) {
+    Speed current = speed;
+    boolean finished = false;
+    try {
+      while (generation == run && !finished) {
+        if (current == Speed.INSTANT) {
+          finished = !playTurn();
+        } else {
+          Thread.sleep(current.getTurnDelayMillis());
+          finished = !playTimedTurn(run);
+        }
+      }
+    } catch (InterruptedException e) {
+      // Stopped while waiting
+    }
+    if (finished && generation == run) {
+      running = false;
+      controller.setEventsMuted(false);
+      Runnable action = onFinished;
+      if (action != null) {
+        action.run();
+      }
+    }
+  }
+
+  /**
+   * Plays a turn on the turn executor and waits for it
+   *
+   * @param run The run the turn belongs to
+   * @return false if the game is over
+   */
+  private boolean playTimedTurn(long run) throws InterruptedException {
+    CompletableFuture<Boolean> turn = new CompletableFuture<>();
+    turnExecutor.execute(() -> {
+      try {
+        // A turn queued before stopping is dropped, even if a new run started
+        turn.complete(generation == run ? playTurn() : true);
+      } catch (RuntimeException e) {
+        turn.completeExceptionally(e);
+      }
+    });
+    try {
+      return turn.get();
+    } catch (ExecutionException e) {
+      throw new IllegalStateException("Auto-play turn failed", e.getCause());
+    }
+  }
+
+  /**
+   * Plays one turn for the current player: a roll, and for the treasure
+   * game every step the roll allows
+   *
+   * @return false if the game is over, before or after the turn
+   */
+  public boolean playTurn() {
+    if (isGameOver()) {
+      return false;
+    }
+    int playerIndex = controller.getCurrentPlayerIndex();
+    controller.rollDiceAndMove();
+    if (controller instanceof TreasureGameController treasureController) {
+      while (treasureController.isMoving()) {
+        treasureController.executeNextStep();
+      }
+    }
+    turnsPlayed++;
+    if (isGameOver()) {
+      return false;
+    }
+    // A turn that ends on a dug-up tile waits for the view to pass it on
+    if (controller.getCurrentPlayerIndex() == playerIndex && controller.getPlayers().size() > 1) {
+      controller.switchToNextPlayer();
+    }
+    return true;
+  }
+
+  /**
+   * Plays turns on the calling thread as fast as possible
+   *
+   * @param maxTurns The most turns to play
+   * @return The number of turns played
+   */
+  public long runTurns(long maxTurns) {
+    long before = turnsPlayed;
+    while (turnsPlayed - before < maxTurns && playTurn()) {
+      // Keep playing until the game is won or enough turns are played
+    }
+    return turnsPlayed - before;
+  }
+
+  /**
+   * Checks whether the game has been won
+   *
+   * @return true if the current player has won
+   */
+  public boolean isGameOver() {
+    Player current = controller.getCurrentPlayer();
+    return current != null && controller.checkVictory(current);
+  }
+
+  public boolean isRunning() {
+    return running;
+  }
+
+  public Speed getSpeed() {
+    return speed;
+  }
+
+  /**
+   * Gets the number of turns played since this auto-player was created
+   *
+   * @return The number of turns
+   */
+  public long getTurnsPlayed() {
+    return turnsPlayed;
+  }
+
+  @Override
+  public void close() {
+    stop();
+  }
+}
@@ -0,0 +1,340 @@
+package edu.ntnu.idi.idatt.controller;
+
+import java.io.BufferedInputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.nio.MappedByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import java.util.zip.CRC32C;
+import java.util.zip.CheckedInputStream;
+
+import com.google.gson.JsonParseException;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+
+import edu.ntnu.idi.idatt.exceptions.FileReadException;
+import edu.ntnu.idi.idatt.exceptions.FileWriteException;
+import edu.ntnu.idi.idatt.model.BoardCatalogEntry;
+import edu.ntnu.idi.idatt.model.BoardConfig;
+import edu.ntnu.idi.idatt.persistence.BinaryBoardHandler;
+import edu.ntnu.idi.idatt.persistence.JsonHandler;
+
+/**
+ * An index of the board files in the boards directory.
+ * <p>
+ * The index is kept in a single JSON file, so listing the available boards
+ * at startup costs one small file load instead of parsing every board.
+ * {@link #refresh()} brings it up to date incrementally: files whose size
+ * and modification time match the index are skipped, and only new or
+ * changed files are read, and only far enough to summarize them. Full
+ * boards are parsed when a game is started on them.
+ * </p>
+ * <p>
+ * Both JSON and binary board files are listed. When a board has both, the
+ * binary file is summarized, since that is the one a game loads. Binary
+ * treasure hunt boards are left out; the index remembers their size and
+ * modification time too, so they are not opened again until they change.
+ * </p>
+ */
+public class BoardCatalog {
+  private static final Logger LOGGER = Logger.getLogger(BoardCatalog.class.getName());
+  private static final int INDEX_VERSION = 1;
+
+  private final Path boardsDirectory;
+  private final Path indexFile;
+  private Map<String, BoardCatalogEntry> entries = new HashMap<>();
+  private Map<String, SkippedFile> skipped = new HashMap<>();
+
+  /**
+   * The layout of the index file
+   */
+  private static class Index {
+    int version;
+    List<BoardCatalogEntry> entries;
+    Map<String, SkippedFile> skipped;
+  }
+
+  /**
+   * A board file that is not listed, as it was when it was last checked
+   */
+  private static class SkippedFile {
+    long fileSize;
+    long modifiedMillis;
+
+    SkippedFile(long fileSize, long modifiedMillis) {
+      this.fileSize = fileSize;
+      this.modifiedMillis = modifiedMillis;
+    }
+  }
+
+  /**
+   * Creates a catalog
+   *
+   * @param boardsDirectory The directory holding the board files
+   * @param indexFile       The file the index is kept in
+   */
+  public BoardCatalog(Path boardsDirectory, Path indexFile) {
+    if (boardsDirectory == null || indexFile == null) {
+      throw new IllegalArgumentException("Paths cannot be null");
+    }
+    this.boardsDirectory = boardsDirectory;
+    this.indexFile = indexFile;
+  }
+
+  /**
+   * Creates a catalog of the application's boards directory
+   *
+   * @return The catalog
+   */
+  public static BoardCatalog createDefault() {
+    return new BoardCatalog(BoardManager.getBoardsDirectory(), Paths.get("./", "data", "board-catalog.json"));
+  }
+
+  /**
+   * Reads the index file. A missing or unreadable index leaves the catalog
+   * empty, to be rebuilt by the next refresh.
+   */
+  public synchronized void load() {
+    Map<String, BoardCatalogEntry> loaded = new HashMap<>();
+    Map<String, SkippedFile> loadedSkipped = new HashMap<>();
+    if (Files.exists(indexFile)) {
+      try {
+        Index index = JsonHandler.readFromJson(indexFile.toString(), Index.class);
+        if (index.version == INDEX_VERSION && index.entries != null) {
+          for (BoardCatalogEntry entry : index.entries) {
+            loaded.put(entry.getBoardName(), entry);
+          }
+          if (index.skipped != null) {
+            loadedSkipped.putAll(index.skipped);
+          }
+        }
+      } catch (FileReadException e) {
+        LOGGER.log(Level.WARNING, "Ignoring unreadable board catalog: " + indexFile, e);
+      }
+    }
+    entries = loaded;
+    skipped = loadedSkipped;
+  }
+
+  /**
+   * Brings the catalog up to date with the boards directory and saves the
+   * index if anything changed
+   *
+   * @return True if any board was added, changed or removed
+   * @throws FileReadException  If the boards directory could not be listed
+   * @throws FileWriteException If the index could not be saved
+   */
+  public synchronized boolean refresh() throws FileReadException, FileWriteException {
+    Map<String, BoardCatalogEntry> fresh = new HashMap<>();
+    Map<String, SkippedFile> freshSkipped = new HashMap<>();
+    boolean changed = false;
+    boolean skippedChanged = false;
+    String pattern = "*{" + BoardManager.JSON_EXTENSION + "," + BoardManager.BINARY_EXTENSION + "}";
+    try (DirectoryStream<Path> files = Files.newDirectoryStream(boardsDirectory, pattern)) {
+      Map<String, Path> boardFiles = new HashMap<>();
+      for (Path file : files) {
+        String fileName = file.getFileName().toString();
+        String boardName = fileName.substring(0, fileName.lastIndexOf('.'));
+        // A binary file takes precedence, as in BoardManager.getBoardFile
+        if (isBinary(file) || !boardFiles.containsKey(boardName)) {
+          boardFiles.put(boardName, file);
+        }
+      }
+      for (Map.Entry<String, Path> boardFile : boardFiles.entrySet()) {
+        String boardName = boardFile.getKey();
+        Path file = boardFile.getValue();
+        BasicFileAttributes attributes = Files.readAttributes(file, BasicFileAttributes.class);
+        long modified = attributes.lastModifiedTime().toMillis();
+
+        BoardCatalogEntry known = entries.get(boardName);
+        if (known != null && known.getFileSize() == attributes.size()
+            && known.getModifiedMillis() == modified) {
+          fresh.put(boardName, known);
+          continue;
+        }
+        SkippedFile skip = skipped.get(boardName);
+        if (skip != null && skip.fileSize == attributes.size() && skip.modifiedMillis == modified) {
+          freshSkipped.put(boardName, skip);
+          continue;
+        }
+        if (isBinary(file) && !isLadderBoard(file)) {
+          // The treasure hunt board is kept in the same directory
+          freshSkipped.put(boardName, new SkippedFile(attributes.size(), modified));
+          skippedChanged = true;
+          continue;
+        }
+        changed = true;
+        try {
+          fresh.put(boardName, summarize(boardName, file, attributes.size(), modified));
+        } catch (IOException | FileReadException | JsonParseException | IllegalStateException e) {
+          LOGGER.log(Level.WARNING, "Skipping unreadable board file: " + file, e);
+        }
+      }
+    } catch (IOException e) {
+      throw new FileReadException("Failed to list boards in " + boardsDirectory, e);
+    }
+    if (fresh.size() != entries.size()) {
+      changed = true;
+    }
+    if (freshSkipped.size() != skipped.size()) {
+      skippedChanged = true;
+    }
+    entries = fresh;
+    skipped = freshSkipped;
+    if (changed || skippedChanged) {
+      save();
+    }
+    return changed;
+  }
+
+  /**
+   * Writes the index file
+   *
+   * @throws FileWriteException If the index could not be saved
+   */
+  public synchronized void save() throws FileWriteException {
+    Index index = new Index();
+    index.version = INDEX_VERSION;
+    index.entries = new ArrayList<>(entries.values());
+    index.skipped = new HashMap<>(skipped);
+    JsonHandler.writeToJson(index, indexFile.toString());
+  }
+
+  /**
+   * Gets every board in the catalog, sorted by display name
+   *
+   * @return The entries
+   */
+  public synchronized List<BoardCatalogEntry> getEntries() {
+    List<BoardCatalogEntry> list = new ArrayList<>(entries.values());
+    list.sort(Comparator.comparing(BoardCatalogEntry::getName, String.CASE_INSENSITIVE_ORDER));
+    return list;
+  }
+
+  /**
+   * Gets the entry for one board
+   *
+   * @param boardName The name used to load the board
+   * @return The entry, or null if the board is not in the catalog
+   */
+  public synchronized BoardCatalogEntry getEntry(String boardName) {
+    return entries.get(boardName);
+  }
+
+  public synchronized int size() {
+    return entries.size();
+  }
+
+  private static boolean isBinary(Path file) {
+    return file.getFileName().toString().endsWith(BoardManager.BINARY_EXTENSION);
+  }
+
+  private static boolean isLadderBoard(Path file) {
+    try {
+      return BinaryBoardHandler.getBoardType(BinaryBoardHandler.map(file.toString()))
+          == BinaryBoardHandler.BOARD_LADDER;
+    } catch (FileReadException e) {
+      // Let summarize report the unreadable file
+      return true;
+    }
+  }
+
+  private static BoardCatalogEntry summarize(String boardName, Path file, long size, long modified)
+      throws IOException, FileReadException {
+    return isBinary(file)
+        ? summarizeBinary(boardName, file, size, modified)
+        : summarizeJson(boardName, file, size, modified);
+  }
+
+  /**
+   * Summarizes a binary board. The file is mapped, so it is checksummed
+   * and decoded without being copied onto the heap.
+   */
+  private static BoardCatalogEntry summarizeBinary(String boardName, Path file, long size, long modified)
+      throws FileReadException {
+    MappedByteBuffer content = BinaryBoardHandler.map(file.toString());
+    CRC32C checksum = new CRC32C();
+    checksum.update(content.duplicate());
+    BoardConfig config = BinaryBoardHandler.decodeBoardConfig(content);
+    return new BoardCatalogEntry(boardName, config.getName(), config.getDescription(), config.getRows(),
+        config.getColumns(), config.getSnakeCount(), config.getLadderCount(), config.getWormholeCount(),
+        size, modified, checksum.getValue());
+  }
+
+  /**
+   * Reads a JSON board just far enough to summarize it: the header fields
+   * are read and the position arrays are only counted. The file is
+   * checksummed as it streams past the parser.
+   */
+  private static BoardCatalogEntry summarizeJson(String boardName, Path file, long size, long modified)
+      throws IOException {
+    CRC32C checksum = new CRC32C();
+    String name = null;
+    String description = null;
+    int rows = 0;
+    int columns = 0;
+    int snakes = 0;
+    int ladders = 0;
+    int wormholes = 0;
+    try (CheckedInputStream content = new CheckedInputStream(
+        new BufferedInputStream(Files.newInputStream(file)), checksum);
+        JsonReader reader = new JsonReader(new InputStreamReader(content, StandardCharsets.UTF_8))) {
+      reader.beginObject();
+      while (reader.hasNext()) {
+        switch (reader.nextName()) {
+          case "name" -> name = readString(reader);
+          case "description" -> description = readString(reader);
+          case "rows" -> rows = reader.nextInt();
+          case "columns" -> columns = reader.nextInt();
+          case "snakeHeads" -> snakes = countArray(reader);
+          case "ladderStarts" -> ladders = countArray(reader);
+          case "wormholeStarts" -> wormholes = countArray(reader);
+          default -> reader.skipValue();
+        }
+      }
+      reader.endObject();
+      // Anything after the object still belongs in the checksum
+      content.transferTo(OutputStream.nullOutputStream());
+    } catch (NumberFormatException e) {
+      throw new IOException("Invalid number in board file", e);
+    }
+    return new BoardCatalogEntry(boardName, name, description, rows, columns, snakes, ladders,
+        wormholes, size, modified, checksum.getValue());
+  }
+
+  private static String readString(JsonReader reader) throws IOException {
+    if (reader.peek() == JsonToken.NULL) {
+      reader.nextNull();
+      return null;
+    }
+    return reader.nextString();
+  }
+
+  private static int countArray(JsonReader reader) throws IOException {
+    if (reader.peek() == JsonToken.NULL) {
+      reader.nextNull();
+      return 0;
+    }
+    int count = 0;
+    reader.beginArray();
+    while (reader.hasNext()) {
+      reader.skipValue();
+      count++;
+    }
+    reader.endArray();
+    return count;
+  }
+}
@@ -4,25 +4,53 @@ import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.logging.Level;
+import java.util.logging.Logger;
 
 import edu.ntnu.idi.idatt.exceptions.FileReadException;
 import edu.ntnu.idi.idatt.exceptions.FileWriteException;
 import edu.ntnu.idi.idatt.model.BoardConfig;
+import edu.ntnu.idi.idatt.model.TreasureBoardConfig;
+import edu.ntnu.idi.idatt.persistence.BinaryBoardHandler;
 import edu.ntnu.idi.idatt.persistence.JsonHandler;
-import javafx.scene.control.Alert;
 
 public class BoardManager {
+  private static final Logger LOGGER = Logger.getLogger(BoardManager.class.getName());
+
+  /** Extension of board files in JSON format */
+  public static final String JSON_EXTENSION = ".json";
+  /** Extension of board files in the binary format */
+  public static final String BINARY_EXTENSION = ".slb";
+  /** Name of the treasure hunt board file */
+  public static final String TREASURE_BOARD = "treasure";
+
+  private static final Path DEFAULT_BOARDS_DIRECTORY = Paths.get("./", "data", "boards");
+  private static volatile Path boardsDirectory = DEFAULT_BOARDS_DIRECTORY;
+  // Set once the directory is known to exist, so later calls do no I/O
+  private static volatile Path createdDirectory;
+
+  /**
+   * Sets the directory boards are read from and written to, for example a
+   * temporary directory in tests
+   *
+   * @param directory The directory, or null for the default data/boards
+   */
+  public static void setBoardsDirectory(Path directory) {
+    boardsDirectory = directory == null ? DEFAULT_BOARDS_DIRECTORY : directory;
+  }
 
   public static Path getBoardsDirectory() {
-    Path dataDir = Paths.get("./", "data", "boards");
+    Path dataDir = boardsDirectory;
+    if (dataDir.equals(createdDirectory)) {
+      return dataDir;
+    }
     try {
       Files.createDirectories(dataDir);
+      createdDirectory = dataDir;
     } catch (IOException e) {
-      Alert alert = new Alert(Alert.AlertType.ERROR);
-      alert.setTitle("Error");
-      alert.setHeaderText("Failed to create data directory");
-      alert.setContentText("Could not create the data directory for boards.");
-      alert.showAndWait();
+      // This may run on an I/O thread, so the failure is logged rather than
+      // shown; reading or writing a board will then fail with its own error
+      LOGGER.log(Level.WARNING, "Could not create the data directory for boards", e);
     }
     return dataDir;
   }
@@ -100,7 +128,84 @@ public class BoardManager {
   }
 
   public static BoardConfig loadBoard(String boardName) throws FileReadException {
-    Path boardPath = getBoardsDirectory().resolve(boardName + ".json");
+    Path boardPath = getBoardsDirectory().resolve(boardName + JSON_EXTENSION);
     return JsonHandler.readFromJson(boardPath.toString(), BoardConfig.class);
   }
+
+  /**
+   * Loads a board configuration from its binary file
+   *
+   * @param boardName The name of the board
+   * @return The board configuration
+   * @throws FileReadException If the file could not be read
+   */
+  public static BoardConfig loadBinaryBoard(String boardName) throws FileReadException {
+    Path boardPath = getBoardsDirectory().resolve(boardName + BINARY_EXTENSION);
+    return BinaryBoardHandler.readBoardConfig(boardPath.toString());
+  }
+
+  /**
+   * Loads the layout of the treasure hunt board from its binary file. The
+   * file is created with the standard layout the first time, and can then
+   * be replaced by a larger or custom layout.
+   *
+   * @return The layout
+   * @throws FileReadException  If the file could not be read
+   * @throws FileWriteException If the standard board could not be saved
+   */
+  public static TreasureBoardConfig loadTreasureBoard() throws FileReadException, FileWriteException {
+    Path boardPath = getBoardsDirectory().resolve(TREASURE_BOARD + BINARY_EXTENSION);
+    if (!Files.exists(boardPath)) {
+      TreasureBoardConfig standard = new TreasureBoardConfig();
+      BinaryBoardHandler.writeTreasureBoard(standard, "Star of Africa",
+          "Classic 10x10 treasure hunt board", boardPath.toString());
+      return standard;
+    }
+    return BinaryBoardHandler.readTreasureBoardConfig(boardPath.toString());
+  }
+
+  /**
+   * Gets the file a board is loaded from. A binary file takes precedence
+   * over a JSON file with the same name.
+   *
+   * @param boardName The name of the board
+   * @return The binary file if it exists, otherwise the JSON file
+   */
+  public static Path getBoardFile(String boardName) {
+    Path binaryPath = getBoardsDirectory().resolve(boardName + BINARY_EXTENSION);
+    if (Files.exists(binaryPath)) {
+      return binaryPath;
+    }
+    return getBoardsDirectory().resolve(boardName + JSON_EXTENSION);
+  }
+
+  /**
+   * Converts a JSON board to the binary format. The JSON file is kept.
+   *
+   * @param boardName The name of the board
+   * @return The path to the binary file
+   * @throws FileReadException  If the JSON file could not be read
+   * @throws FileWriteException If the binary file could not be written
+   */
+  public static Path convertToBinary(String boardName) throws FileReadException, FileWriteException {
+    BoardConfig config = loadBoard(boardName);
+    Path binaryPath = getBoardsDirectory().resolve(boardName + BINARY_EXTENSION);
+    BinaryBoardHandler.writeBoard(config, binaryPath.toString());
+    return binaryPath;
+  }
+
+  /**
+   * Converts a binary board to JSON. The binary file is kept.
+   *
+   * @param boardName The name of the board
+   * @return The path to the JSON file
+   * @throws FileReadException  If the binary file could not be read
+   * @throws FileWriteException If the JSON file could not be written
+   */
+  public static Path convertToJson(String boardName) throws FileReadException, FileWriteException {
+    BoardConfig config = loadBinaryBoard(boardName);
+    Path jsonPath = getBoardsDirectory().resolve(boardName + JSON_EXTENSION);
+    JsonHandler.writeToJson(config, jsonPath.toString());
+    return jsonPath;
+  }
 }
\ No newline at end of file
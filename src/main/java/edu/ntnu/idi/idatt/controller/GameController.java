@@ -9,8 +9,11 @@ import edu.ntnu.idi.idatt.exceptions.FileReadException;
 import edu.ntnu.idi.idatt.exceptions.FileWriteException;
 import edu.ntnu.idi.idatt.model.AbstractBoard;
 import edu.ntnu.idi.idatt.model.Dice;
+import edu.ntnu.idi.idatt.model.GameStateSnapshot;
 import edu.ntnu.idi.idatt.model.Player;
+import edu.ntnu.idi.idatt.model.ReplayTimeline;
 import edu.ntnu.idi.idatt.model.Tile;
+import edu.ntnu.idi.idatt.model.TurnHistory;
 import edu.ntnu.idi.idatt.observer.GameEvent;
 import edu.ntnu.idi.idatt.observer.GameObserver;
 import edu.ntnu.idi.idatt.persistence.CsvHandler;
@@ -19,13 +22,35 @@ import edu.ntnu.idi.idatt.persistence.CsvHandler;
  * Abstract controller class for board games.
  * Handles common game functionality like player management, turn handling,
  * dice rolling, and observer pattern implementation.
+ * <p>
+ * The controller itself is not thread-safe. After every change of turn or
+ * position it publishes an immutable {@link GameStateSnapshot}, which other
+ * threads can read at any time through {@link #getSnapshot()}.
+ * </p>
+ * <p>
+ * The latest moves are kept in a {@link TurnHistory}, so they can be taken
+ * back with {@link #undoLastMove()} and replayed with {@link #redoMove()}.
+ * </p>
+ * <p>
+ * A whole game can be recorded with {@link #startRecording()}, which adds
+ * every published snapshot to a {@link ReplayTimeline}.
+ * </p>
  */
 public abstract class GameController {
+  // Number of moves that can be taken back
+  public static final int HISTORY_CAPACITY = 128;
+
   public AbstractBoard<? extends Tile> gameBoard;
-  public List<Player> players;  private Player currentPlayer;
+  public List<Player> players;
+  private Player currentPlayer;
   private int currentPlayerIndex;
   private final Dice dice;
   private final Map<GameObserver, List<String>> observerEventTypes;
+  private volatile GameStateSnapshot snapshot = GameStateSnapshot.EMPTY;
+  private long snapshotVersion;
+  private final TurnHistory history = new TurnHistory(HISTORY_CAPACITY);
+  private volatile boolean eventsMuted;
+  private ReplayTimeline recording;
 
   /**
    * Creates a new game controller with default configuration
@@ -83,6 +108,9 @@ public abstract class GameController {
       this.currentPlayerIndex = 0;
       this.currentPlayer = this.players.get(0);
 
+      history.clear();
+      publishSnapshot();
+
       // Notify observers about game setup
       notifyObservers(new GameEvent("GAME_SETUP", this.players));
     }
@@ -96,6 +124,8 @@ public abstract class GameController {
   public void addPlayer(Player player) {
     if (player != null && !players.contains(player)) {
       players.add(player);
+      history.clear();
+      publishSnapshot();
       notifyObservers(new GameEvent("PLAYER_ADDED", player));
     }
   }
@@ -107,6 +137,8 @@ public abstract class GameController {
    */
   public void removePlayer(Player player) {
     if (players.remove(player)) {
+      history.clear();
+      publishSnapshot();
       notifyObservers(new GameEvent("PLAYER_REMOVED", player));
     }
   }
@@ -121,8 +153,12 @@ public abstract class GameController {
     }
 
     // Reset turn to first player
-    currentPlayerIndex = 0;
-    currentPlayer = players.get(0);
+    if (!players.isEmpty()) {
+      setCurrentPlayerIndex(0);
+    }
+
+    history.clear();
+    publishSnapshot();
 
     // Notify observers about game reset
     notifyObservers(new GameEvent("GAME_RESET", players));
@@ -139,6 +175,13 @@ public abstract class GameController {
     return value;
   }
 
+  /**
+   * Rolls the dice for the current player and carries out their move
+   * 
+   * @return The dice value
+   */
+  public abstract int rollDiceAndMove();
+
   /**
    * Moves a player to a new position
    * 
@@ -177,12 +220,145 @@ public abstract class GameController {
    * Switches to the next player in turn
    */
   public void switchToNextPlayer() {
-    currentPlayerIndex = (currentPlayerIndex + 1) % players.size();
-    currentPlayer = players.get(currentPlayerIndex);
+    if (players.isEmpty())
+      return;
+
+    setCurrentPlayerIndex((currentPlayerIndex + 1) % players.size());
+    publishSnapshot();
 
     notifyObservers(new GameEvent("TURN_CHANGED", currentPlayer));
   }
 
+  /**
+   * Makes the player at the given index the current player
+   * 
+   * @param index The index of the player in the player list
+   */
+  protected void setCurrentPlayerIndex(int index) {
+    this.currentPlayerIndex = index;
+    this.currentPlayer = players.get(index);
+  }
+
+  /**
+   * Records a move in the turn history. The state after the move is read
+   * from the controller, so call this once the move is complete.
+   * 
+   * @param playerIndex   The index of the player who moved
+   * @param roll          The dice value, or 0 if the move was not a roll
+   * @param from          The tile the player moved from
+   * @param landed        The tile the player landed on
+   * @param resolved      The tile the player ended on after tile actions
+   * @param actionKind    One of the {@code TurnHistory.ACTION_} constants
+   * @param indexBefore   The current player index before the move
+   * @param counterBefore The move counter before the move
+   * @param flagsBefore   The state flags before the move
+   */
+  protected void recordMove(int playerIndex, int roll, int from, int landed, int resolved,
+      int actionKind, int indexBefore, int counterBefore, int flagsBefore) {
+    history.record(playerIndex, roll, from, landed, resolved, actionKind,
+        indexBefore, currentPlayerIndex, counterBefore, getSnapshotMoveCounter(),
+        flagsBefore, getStateFlags());
+  }
+
+  /**
+   * Takes back the latest move, restoring the mover's position, the current
+   * player and any game specific turn state
+   * 
+   * @return True if a move was taken back, false if there was none
+   */
+  public boolean undoLastMove() {
+    int entry = history.undo();
+    if (entry < 0) {
+      return false;
+    }
+    Player player = players.get(history.getPlayerIndex(entry));
+    int oldPosition = player.getTileId();
+    player.setTileId(history.getFrom(entry));
+    setCurrentPlayerIndex(history.getIndexBefore(entry));
+    restoreTurnState(history.getCounterBefore(entry), history.getFlagsBefore(entry));
+    publishSnapshot();
+
+    notifyObservers(new GameEvent("MOVE_UNDONE",
+        Map.of("player", player, "from", oldPosition, "to", player.getTileId())));
+    return true;
+  }
+
+  /**
+   * Replays the latest move that was taken back
+   * 
+   * @return True if a move was replayed, false if there was none
+   */
+  public boolean redoMove() {
+    int entry = history.redo();
+    if (entry < 0) {
+      return false;
+    }
+    Player player = players.get(history.getPlayerIndex(entry));
+    int oldPosition = player.getTileId();
+    player.setTileId(history.getResolved(entry));
+    setCurrentPlayerIndex(history.getIndexAfter(entry));
+    restoreTurnState(history.getCounterAfter(entry), history.getFlagsAfter(entry));
+    publishSnapshot();
+
+    notifyObservers(new GameEvent("MOVE_REDONE",
+        Map.of("player", player, "from", oldPosition, "to", player.getTileId())));
+    return true;
+  }
+
+  /**
+   * Restores a saved game: the players with their positions, whose turn it
+   * is and any game specific turn state. The turn history starts empty.
+   * 
+   * @param players            The players in turn order
+   * @param currentPlayerIndex The index of the player whose turn it is
+   * @param moveCounter        Moves left in the current turn
+   * @param flags              The state flags, see {@link #getStateFlags()}
+   */
+  public void restoreGame(List<Player> players, int currentPlayerIndex, int moveCounter, int flags) {
+    if (players == null || players.isEmpty()) {
+      throw new IllegalArgumentException("Players cannot be null or empty");
+    }
+    if (currentPlayerIndex < 0 || currentPlayerIndex >= players.size()) {
+      throw new IllegalArgumentException("Invalid current player index: " + currentPlayerIndex);
+    }
+    this.players = new ArrayList<>(players);
+    setCurrentPlayerIndex(currentPlayerIndex);
+    restoreTurnState(moveCounter, flags);
+    history.clear();
+    publishSnapshot();
+
+    notifyObservers(new GameEvent("GAME_RESTORED", this.players));
+  }
+
+  /**
+   * Gets game specific turn state packed into bit flags, as stored in the
+   * turn history and in saved games. Games without such state return 0.
+   * 
+   * @return The state flags
+   */
+  public int getStateFlags() {
+    return 0;
+  }
+
+  /**
+   * Restores game specific turn state from the turn history
+   * 
+   * @param moveCounter The move counter to restore
+   * @param flags       The state flags to restore
+   */
+  protected void restoreTurnState(int moveCounter, int flags) {
+    // Games that move a whole roll at once have no extra turn state
+  }
+
+  /**
+   * Gets the record of the latest moves
+   * 
+   * @return The turn history
+   */
+  public TurnHistory getTurnHistory() {
+    return history;
+  }
+
   /**
    * Saves the current players to a CSV file
    * 
@@ -216,8 +392,9 @@ public abstract class GameController {
       }
 
       this.players = loadedPlayers;
-      currentPlayer = players.get(0);
-      currentPlayerIndex = 0;
+      setCurrentPlayerIndex(0);
+      history.clear();
+      publishSnapshot();
 
       notifyObservers(new GameEvent("PLAYERS_LOADED", loadedPlayers));
       return true;
@@ -268,6 +445,9 @@ public abstract class GameController {
    * @param event The event to notify about
    */
   public void notifyObservers(GameEvent event) {
+    if (eventsMuted) {
+      return;
+    }
     for (Map.Entry<GameObserver, List<String>> entry : observerEventTypes.entrySet()) {
       GameObserver observer = entry.getKey();
       List<String> eventTypes = entry.getValue();
@@ -278,17 +458,103 @@ public abstract class GameController {
     }
   }
 
+  /**
+   * Sets whether observers and UI callbacks are told about changes. While
+   * muted, the game still publishes snapshots, so a view can follow a game
+   * played faster than it could draw every event.
+   *
+   * @param eventsMuted true to stop notifying observers
+   */
+  public void setEventsMuted(boolean eventsMuted) {
+    this.eventsMuted = eventsMuted;
+  }
+
+  public boolean isEventsMuted() {
+    return eventsMuted;
+  }
+
+  /**
+   * Publishes a snapshot of the current state for readers on other threads.
+   * Called after every change of turn or position.
+   */
+  protected void publishSnapshot() {
+    snapshot = GameStateSnapshot.of(++snapshotVersion, players, currentPlayerIndex,
+        getSnapshotMoveCounter());
+    if (recording != null) {
+      if (recording.getPlayerCount() == snapshot.getPlayerCount()) {
+        recording.append(snapshot);
+      } else {
+        // A game with other players has been set up
+        recording = null;
+      }
+    }
+  }
+
+  /**
+   * Starts recording the game from its current state. Every state published
+   * from now on becomes a frame of the recording, until recording is
+   * stopped or a game with other players is set up.
+   *
+   * @return The recording
+   */
+  public ReplayTimeline startRecording() {
+    recording = ReplayTimeline.startingAt(snapshot, ReplayTimeline.DEFAULT_KEYFRAME_INTERVAL);
+    return recording;
+  }
+
+  public void stopRecording() {
+    recording = null;
+  }
+
+  /**
+   * Gets the recording in progress
+   *
+   * @return The recording, or null if the game is not being recorded
+   */
+  public ReplayTimeline getRecording() {
+    return recording;
+  }
+
+  /**
+   * Gets the moves left in the current turn, as recorded in snapshots.
+   * Games that move a whole roll at once have no move counter.
+   * 
+   * @return The move counter
+   */
+  protected int getSnapshotMoveCounter() {
+    return 0;
+  }
+
+  /**
+   * Gets the latest published state. Safe to call from any thread; the
+   * returned snapshot never changes.
+   * 
+   * @return The latest snapshot
+   */
+  public GameStateSnapshot getSnapshot() {
+    return snapshot;
+  }
+
   // Getters for game state
 
   public AbstractBoard<? extends Tile> getGameBoard() {
     return gameBoard;
   }
 
+  /**
+   * Gets a copy of the player list. Readers on other threads should use
+   * {@link #getSnapshot()} instead.
+   * 
+   * @return A copy of the player list
+   */
   public List<Player> getPlayers() {
     return new ArrayList<>(players);
   }
 
   public Player getCurrentPlayer() {
+    if (currentPlayer == null && !players.isEmpty()) {
+      setCurrentPlayerIndex(0);
+    }
     return currentPlayer;
   }
 
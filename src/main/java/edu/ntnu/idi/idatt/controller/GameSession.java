@@ -0,0 +1,88 @@
+package edu.ntnu.idi.idatt.controller;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.function.Function;
+
+/**
+ * A single game hosted by a {@link GameSessionHost}.
+ * Wraps the controller running the game together with the bookkeeping the
+ * host needs to index, measure and retire it. All commands go through the
+ * session's mailbox, so the controller is only ever touched by one thread
+ * at a time.
+ */
+public class GameSession {
+  private final long id;
+  private final GameController controller;
+  private final SessionMailbox mailbox;
+  private final long createdAtMillis;
+  private final long estimatedBytes;
+  private volatile long lastActiveMillis;
+
+  /**
+   * Creates a new session
+   *
+   * @param id             The unique session id
+   * @param controller     The controller running the game
+   * @param estimatedBytes Estimated heap footprint of the session
+   * @param executor       The executor that runs the session's commands
+   */
+  public GameSession(long id, GameController controller, long estimatedBytes, Executor executor) {
+    if (controller == null) {
+      throw new IllegalArgumentException("Controller cannot be null");
+    }
+    this.id = id;
+    this.controller = controller;
+    this.mailbox = new SessionMailbox(executor);
+    this.estimatedBytes = estimatedBytes;
+    this.createdAtMillis = System.currentTimeMillis();
+    this.lastActiveMillis = createdAtMillis;
+  }
+
+  /**
+   * Queues a command for this session's controller
+   *
+   * @param <R>     The command result type
+   * @param command The command to run
+   * @return A future completed with the command result
+   */
+  public <R> CompletableFuture<R> submit(Function<GameController, R> command) {
+    lastActiveMillis = System.currentTimeMillis();
+    return mailbox.submit(() -> command.apply(controller));
+  }
+
+  /**
+   * Gets the number of commands waiting to run for this session
+   *
+   * @return The mailbox depth
+   */
+  public int getPendingCommands() {
+    return mailbox.getPendingCount();
+  }
+
+  public long getId() {
+    return id;
+  }
+
+  /**
+   * Gets the controller running the game. Outside of a command, only use
+   * it for reads that tolerate a game in progress.
+   *
+   * @return The controller
+   */
+  public GameController getController() {
+    return controller;
+  }
+
+  public long getCreatedAtMillis() {
+    return createdAtMillis;
+  }
+
+  public long getLastActiveMillis() {
+    return lastActiveMillis;
+  }
+
+  public long getEstimatedBytes() {
+    return estimatedBytes;
+  }
+}
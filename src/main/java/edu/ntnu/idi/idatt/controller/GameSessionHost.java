@@ -0,0 +1,418 @@
+package edu.ntnu.idi.idatt.controller;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+import edu.ntnu.idi.idatt.exceptions.FileReadException;
+import edu.ntnu.idi.idatt.exceptions.FileWriteException;
+import edu.ntnu.idi.idatt.factory.LadderGameFactory;
+import edu.ntnu.idi.idatt.model.LadderBoard;
+import edu.ntnu.idi.idatt.model.Player;
+import edu.ntnu.idi.idatt.persistence.CheckpointHandler;
+
+/**
+ * Hosts many concurrent games in one JVM.
+ * Sessions are spread over a fixed number of shards by id, so that creating,
+ * looking up and retiring sessions only touches one small map. Every command
+ * is routed to its session by id and counted per shard.
+ * <p>
+ * Each session runs its commands one at a time through its own mailbox,
+ * drained on virtual threads. Commands for one session are therefore
+ * serialized without locks, while different sessions run in parallel.
+ * </p>
+ */
+public class GameSessionHost implements AutoCloseable {
+
+  // Rough heap cost of the parts of a session, used for the memory report
+  private static final long SESSION_OVERHEAD_BYTES = 1024;
+  private static final long PLAYER_BYTES = 96;
+  private static final long TILE_BYTES = 40;
+
+  private final Shard[] shards;
+  private final int shardMask;
+  private final AtomicLong nextSessionId = new AtomicLong(1);
+  private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+
+  /**
+   * A slice of the session registry
+   */
+  private static class Shard {
+    final ConcurrentHashMap<Long, GameSession> sessions = new ConcurrentHashMap<>();
+    final LongAdder commands = new LongAdder();
+    final AtomicLong estimatedBytes = new AtomicLong();
+    long lastSampleNanos = System.nanoTime();
+    long lastSampleCommands;
+  }
+
+  /**
+   * Point-in-time statistics for one shard
+   */
+  public static class ShardStats {
+    private final int shardIndex;
+    private final int liveSessions;
+    private final long estimatedBytes;
+    private final long commandsProcessed;
+    private final double commandsPerSecond;
+
+    public ShardStats(int shardIndex, int liveSessions, long estimatedBytes,
+        long commandsProcessed, double commandsPerSecond) {
+      this.shardIndex = shardIndex;
+      this.liveSessions = liveSessions;
+      this.estimatedBytes = estimatedBytes;
+      this.commandsProcessed = commandsProcessed;
+      this.commandsPerSecond = commandsPerSecond;
+    }
+
+    public int getShardIndex() {
+      return shardIndex;
+    }
+
+    public int getLiveSessions() {
+      return liveSessions;
+    }
+
+    /**
+     * Gets the estimated heap footprint of the sessions in this shard.
+     * Boards shared between sessions are not counted.
+     *
+     * @return The estimated footprint in bytes
+     */
+    public long getEstimatedBytes() {
+      return estimatedBytes;
+    }
+
+    public long getCommandsProcessed() {
+      return commandsProcessed;
+    }
+
+    /**
+     * Gets the command rate since the previous statistics sample
+     *
+     * @return Commands per second
+     */
+    public double getCommandsPerSecond() {
+      return commandsPerSecond;
+    }
+  }
+
+  /**
+   * Creates a session host with a shard count based on the number of cores
+   */
+  public GameSessionHost() {
+    this(Runtime.getRuntime().availableProcessors() * 4);
+  }
+
+  /**
+   * Creates a session host with the given number of shards.
+   * The count is rounded up to the next power of two.
+   *
+   * @param shardCount The minimum number of shards
+   */
+  public GameSessionHost(int shardCount) {
+    if (shardCount < 1) {
+      throw new IllegalArgumentException("Shard count must be at least 1");
+    }
+    int size = Integer.highestOneBit(shardCount);
+    if (size < shardCount) {
+      size <<= 1;
+    }
+    this.shards = new Shard[size];
+    for (int i = 0; i < size; i++) {
+      shards[i] = new Shard();
+    }
+    this.shardMask = size - 1;
+  }
+
+  /**
+   * Creates a ladder game session on a board that may be shared with other
+   * sessions. Boards are never modified during play, so one board instance
+   * can back any number of sessions.
+   *
+   * @param board   The board to play on
+   * @param players The players, copied for this session
+   * @return The id of the new session
+   */
+  public long createLadderSession(LadderBoard board, List<Player> players) {
+    if (board == null) {
+      throw new IllegalArgumentException("Board cannot be null");
+    }
+    List<Player> sessionPlayers = copyPlayers(players);
+    LadderGameController controller = new LadderGameController(board);
+    controller.setupGame(sessionPlayers);
+    return register(controller, estimateBytes(sessionPlayers.size(), 0));
+  }
+
+  /**
+   * Creates a ladder game session on a named board
+   *
+   * @param boardType The board name ("standard", "wormhole", ...)
+   * @param players   The players, copied for this session
+   * @return The id of the new session
+   * @throws FileWriteException If the board could not be loaded or created
+   */
+  public long createLadderSession(String boardType, List<Player> players) throws FileWriteException {
+    List<Player> sessionPlayers = copyPlayers(players);
+    LadderBoard board = LadderGameFactory.tryCreateBoard(boardType)
+        .orElseThrow(() -> new IllegalArgumentException("Unknown board type: " + boardType));
+    LadderGameController controller = new LadderGameController(board);
+    controller.setupGame(sessionPlayers);
+    return register(controller, estimateBytes(sessionPlayers.size(), board.getNumberOfTiles()));
+  }
+
+  /**
+   * Creates a treasure hunt session. Every treasure session owns its board,
+   * since the treasure location is part of the game state.
+   *
+   * @param players The players, copied for this session
+   * @return The id of the new session
+   */
+  public long createTreasureSession(List<Player> players) {
+    List<Player> sessionPlayers = copyPlayers(players);
+    TreasureGameController controller = new TreasureGameController();
+    controller.setupGame(sessionPlayers);
+    return register(controller,
+        estimateBytes(sessionPlayers.size(), controller.getGameBoard().getNumberOfTiles()));
+  }
+
+  /**
+   * Resumes a game from a checkpoint file as a new session
+   *
+   * @param filePath The path of the checkpoint file
+   * @return The id of the new session
+   * @throws FileReadException If the checkpoint could not be read
+   */
+  public long resumeSession(String filePath) throws FileReadException {
+    GameController controller = CheckpointHandler.loadCheckpoint(filePath);
+    return register(controller, estimateBytes(controller.getPlayers().size(),
+        controller.getGameBoard().getNumberOfTiles()));
+  }
+
+  /**
+   * Saves a checkpoint of a session. The state is encoded inside the
+   * session's mailbox, between two commands, and written on the calling
+   * thread, so the session is only held up for the encoding.
+   *
+   * @param sessionId The session id
+   * @param filePath  The path of the checkpoint file
+   * @throws FileWriteException If the checkpoint could not be written
+   */
+  public void saveCheckpoint(long sessionId, String filePath) throws FileWriteException {
+    ByteBuffer checkpoint = execute(sessionId, CheckpointHandler::encode);
+    CheckpointHandler.writeCheckpoint(checkpoint, filePath);
+  }
+
+  /**
+   * Gets a session by id
+   *
+   * @param sessionId The session id
+   * @return The session, or null if no such session is live
+   */
+  public GameSession getSession(long sessionId) {
+    return shardFor(sessionId).sessions.get(sessionId);
+  }
+
+  /**
+   * Routes a command to a session's mailbox
+   *
+   * @param <R>       The command result type
+   * @param sessionId The session id
+   * @param command   The command to run against the session's controller
+   * @return A future completed with the command result
+   * @throws IllegalArgumentException if the session does not exist
+   */
+  public <R> CompletableFuture<R> submit(long sessionId, Function<GameController, R> command) {
+    Shard shard = shardFor(sessionId);
+    GameSession session = shard.sessions.get(sessionId);
+    if (session == null) {
+      throw new IllegalArgumentException("Unknown session: " + sessionId);
+    }
+    shard.commands.increment();
+    return session.submit(command);
+  }
+
+  /**
+   * Routes a command to a session and waits for its result
+   *
+   * @param <R>       The command result type
+   * @param sessionId The session id
+   * @param command   The command to run against the session's controller
+   * @return The command result
+   * @throws IllegalArgumentException if the session does not exist
+   */
+  public <R> R execute(long sessionId, Function<GameController, R> command) {
+    try {
+      return submit(sessionId, command).join();
+    } catch (CompletionException e) {
+      if (e.getCause() instanceof RuntimeException cause) {
+        throw cause;
+      }
+      throw e;
+    }
+  }
+
+  /**
+   * Rolls the dice and moves the current player of a session
+   *
+   * @param sessionId The session id
+   * @return The dice value
+   */
+  public int rollDiceAndMove(long sessionId) {
+    return execute(sessionId, GameController::rollDiceAndMove);
+  }
+
+  /**
+   * Moves the current player of a treasure session one step
+   *
+   * @param sessionId The session id
+   * @param direction Direction string: "UP", "DOWN", "LEFT", "RIGHT"
+   * @return True if the move was made
+   * @throws IllegalArgumentException if the session is not a treasure game
+   */
+  public boolean movePlayerInDirection(long sessionId, String direction) {
+    return execute(sessionId, controller -> {
+      if (!(controller instanceof TreasureGameController treasureController)) {
+        throw new IllegalArgumentException("Session " + sessionId + " is not a treasure game");
+      }
+      return treasureController.movePlayerInDirection(direction);
+    });
+  }
+
+  /**
+   * Resets a session's game with the same players
+   *
+   * @param sessionId The session id
+   */
+  public void resetGame(long sessionId) {
+    execute(sessionId, controller -> {
+      controller.resetGame();
+      return null;
+    });
+  }
+
+  /**
+   * Retires a session, removing it from the registry
+   *
+   * @param sessionId The session id
+   * @return True if the session existed
+   */
+  public boolean retireSession(long sessionId) {
+    Shard shard = shardFor(sessionId);
+    GameSession session = shard.sessions.remove(sessionId);
+    if (session == null) {
+      return false;
+    }
+    shard.estimatedBytes.addAndGet(-session.getEstimatedBytes());
+    return true;
+  }
+
+  /**
+   * Retires every session that has not received a command for a while
+   *
+   * @param idleMillis The idle time after which a session is retired
+   * @return The number of retired sessions
+   */
+  public int retireIdleSessions(long idleMillis) {
+    long cutoff = System.currentTimeMillis() - idleMillis;
+    int retired = 0;
+    for (Shard shard : shards) {
+      for (GameSession session : shard.sessions.values()) {
+        // Only the thread that removes the session takes it off the estimate,
+        // in case retireSession removes it at the same time
+        if (session.getLastActiveMillis() < cutoff && shard.sessions.remove(session.getId(), session)) {
+          shard.estimatedBytes.addAndGet(-session.getEstimatedBytes());
+          retired++;
+        }
+      }
+    }
+    return retired;
+  }
+
+  /**
+   * Gets the number of live sessions across all shards
+   *
+   * @return The session count
+   */
+  public int getSessionCount() {
+    int count = 0;
+    for (Shard shard : shards) {
+      count += shard.sessions.size();
+    }
+    return count;
+  }
+
+  public int getShardCount() {
+    return shards.length;
+  }
+
+  /**
+   * Samples memory and throughput for every shard.
+   * The command rate covers the time since the previous call.
+   *
+   * @return One entry per shard
+   */
+  public List<ShardStats> getShardStats() {
+    List<ShardStats> stats = new ArrayList<>(shards.length);
+    long now = System.nanoTime();
+    for (int i = 0; i < shards.length; i++) {
+      Shard shard = shards[i];
+      long commands = shard.commands.sum();
+      double rate;
+      synchronized (shard) {
+        long elapsed = now - shard.lastSampleNanos;
+        rate = elapsed > 0 ? (commands - shard.lastSampleCommands) * 1e9 / elapsed : 0;
+        shard.lastSampleNanos = now;
+        shard.lastSampleCommands = commands;
+      }
+      stats.add(new ShardStats(i, shard.sessions.size(), shard.estimatedBytes.get(), commands, rate));
+    }
+    return stats;
+  }
+
+  /**
+   * Stops accepting work. Commands already queued still run; commands
+   * submitted afterwards complete exceptionally with an
+   * {@link IllegalStateException}.
+   */
+  @Override
+  public void close() {
+    executor.shutdown();
+  }
+
+  private long register(GameController controller, long estimatedBytes) {
+    long id = nextSessionId.getAndIncrement();
+    Shard shard = shardFor(id);
+    shard.sessions.put(id, new GameSession(id, controller, estimatedBytes, executor));
+    shard.estimatedBytes.addAndGet(estimatedBytes);
+    return id;
+  }
+
+  private Shard shardFor(long sessionId) {
+    // Spread sequential ids evenly over the shards
+    long h = sessionId * 0x9E3779B97F4A7C15L;
+    return shards[(int) (h ^ (h >>> 32)) & shardMask];
+  }
+
+  private static long estimateBytes(int playerCount, int ownedTiles) {
+    return SESSION_OVERHEAD_BYTES + playerCount * PLAYER_BYTES + ownedTiles * TILE_BYTES;
+  }
+
+  private static List<Player> copyPlayers(List<Player> players) {
+    if (players == null || players.isEmpty()) {
+      throw new IllegalArgumentException("A session needs at least one player");
+    }
+    List<Player> copies = new ArrayList<>(players.size());
+    for (Player player : players) {
+      copies.add(new Player(player.getName(), player.getPieceType(), player.getTileId()));
+    }
+    return copies;
+  }
+}
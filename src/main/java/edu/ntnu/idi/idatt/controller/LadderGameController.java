@@ -9,6 +9,7 @@ import edu.ntnu.idi.idatt.factory.LadderGameFactory;
 import edu.ntnu.idi.idatt.model.LadderBoard;
 import edu.ntnu.idi.idatt.model.LadderGameTile;
 import edu.ntnu.idi.idatt.model.Player;
+import edu.ntnu.idi.idatt.model.TurnHistory;
 import edu.ntnu.idi.idatt.observer.GameEvent;
 
 /**
@@ -40,8 +41,21 @@ public class LadderGameController extends GameController {
    * Creates a new LadderGameController with a default board
    */
   public LadderGameController() {
+    this(new LadderBoard(10, 9));
+  }
+
+  /**
+   * Creates a new LadderGameController on a board. The board is not copied,
+   * so one board can back many games.
+   *
+   * @param board The board to play on
+   */
+  public LadderGameController(LadderBoard board) {
     super();
-    loadBoard(new LadderBoard(10, 9));
+    if (board == null) {
+      throw new IllegalArgumentException("Board cannot be null");
+    }
+    loadBoard(board);
   }
 
   /**
@@ -74,12 +88,14 @@ public class LadderGameController extends GameController {
    * 
    * @return The dice roll value
    */
+  @Override
   public int rollDiceAndMove() {
     // Roll the dice
     int diceValue = rollDice();
 
     // Get player's current position
     Player currentPlayer = getCurrentPlayer();
+    int playerIndex = getCurrentPlayerIndex();
     int oldPosition = currentPlayer.getTileId();
 
     // Calculate new position within board limits
@@ -100,7 +116,7 @@ public class LadderGameController extends GameController {
     movePlayer(currentPlayer, oldPosition, newPosition);
 
     // Notify listeners via callbacks (legacy)
-    if (onDiceRolled != null) {
+    if (onDiceRolled != null && !isEventsMuted()) {
       onDiceRolled.onDiceRolled(diceValue, message, oldPosition, newPosition);
     }
 
@@ -108,28 +124,60 @@ public class LadderGameController extends GameController {
     boolean hasWon = checkVictory(currentPlayer);
 
     // Notify about player movement (for UI animation)
-    if (onPlayerMovement != null) {
+    if (onPlayerMovement != null && !isEventsMuted()) {
       onPlayerMovement.onPlayerMovement(currentPlayer, oldPosition, newPosition, hasWon);
     }
 
     if (hasWon) {
+      recordMove(playerIndex, diceValue, oldPosition, landedPosition, newPosition,
+          getActionKind(landedPosition), playerIndex, 0, 0);
+      publishSnapshot();
+
       // Legacy notification
-      if (onGameWon != null) {
+      if (onGameWon != null && !isEventsMuted()) {
         onGameWon.run();
       }
+      notifyObservers(new GameEvent("GAME_WON", currentPlayer));
       return diceValue;
     }
 
     // Switch to next player
     switchToNextPlayer();
+    recordMove(playerIndex, diceValue, oldPosition, landedPosition, newPosition,
+        getActionKind(landedPosition), playerIndex, 0, 0);
 
     return diceValue;
   }
 
   /**
-   * Creates a descriptive message about the player's movement
+   * Gets the kind of action on a tile, as stored in the turn history
+   */
+  private int getActionKind(int tileId) {
+    LadderGameTile tile = getLadderBoard().getTile(tileId);
+    if (tile == null) {
+      return TurnHistory.ACTION_NONE;
+    } else if (tile.hasLadder()) {
+      return TurnHistory.ACTION_LADDER;
+    } else if (tile.hasSnake()) {
+      return TurnHistory.ACTION_SNAKE;
+    } else if (tile.hasWormhole()) {
+      return TurnHistory.ACTION_WORMHOLE;
+    }
+    return TurnHistory.ACTION_NONE;
+  }
+
+  /**
+   * Creates a descriptive message about a player's move
+   *
+   * @param player         The player who moved
+   * @param diceValue      The value rolled
+   * @param oldPosition    The tile the move started on
+   * @param landedPosition The tile the roll landed on
+   * @param newPosition    The tile the move ended on, after any snake,
+   *                       ladder or wormhole
+   * @return The message
    */
-  private String createMovementMessage(Player player, int diceValue, int oldPosition, int landedPosition,
+  public String createMovementMessage(Player player, int diceValue, int oldPosition, int landedPosition,
       int newPosition) {
     LadderBoard board = getLadderBoard();
     LadderGameTile landedTile = board.getTile(landedPosition);
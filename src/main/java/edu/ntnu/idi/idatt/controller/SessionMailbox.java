@@ -0,0 +1,132 @@
+package edu.ntnu.idi.idatt.controller;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Supplier;
+
+/**
+ * Serializes the commands for one game session without locks.
+ * Commands are queued and drained by at most one thread at a time; the
+ * drain runs on the executor given by the host, which is backed by virtual
+ * threads so that an idle session costs no thread at all. Different
+ * mailboxes drain independently, so sessions run in parallel.
+ * <p>
+ * Once the executor stops accepting work the mailbox closes: every command
+ * accepted before that still runs, on whichever thread saw the rejection,
+ * and commands submitted afterwards fail with an
+ * {@link IllegalStateException} without being queued.
+ * </p>
+ */
+public class SessionMailbox {
+
+  // Commands handled per drain before yielding the thread to other sessions
+  private static final int BATCH_SIZE = 64;
+
+  private final ConcurrentLinkedQueue<Entry<?>> queue = new ConcurrentLinkedQueue<>();
+  private final AtomicBoolean scheduled = new AtomicBoolean(false);
+  private volatile boolean closed = false;
+  private final Executor executor;
+
+  /**
+   * A queued command and the future it completes
+   */
+  private static final class Entry<R> {
+    private final Supplier<R> command;
+    private final CompletableFuture<R> result = new CompletableFuture<>();
+
+    private Entry(Supplier<R> command) {
+      this.command = command;
+    }
+
+    private void run() {
+      try {
+        result.complete(command.get());
+      } catch (Throwable t) {
+        result.completeExceptionally(t);
+      }
+    }
+  }
+
+  /**
+   * Creates a new mailbox
+   *
+   * @param executor The executor that drains the mailbox
+   */
+  public SessionMailbox(Executor executor) {
+    if (executor == null) {
+      throw new IllegalArgumentException("Executor cannot be null");
+    }
+    this.executor = executor;
+  }
+
+  /**
+   * Queues a command. The command runs after every command submitted before
+   * it, and never at the same time as another command of this mailbox.
+   *
+   * @param <R>     The command result type
+   * @param command The command to run
+   * @return A future completed with the command result
+   */
+  public <R> CompletableFuture<R> submit(Supplier<R> command) {
+    Entry<R> entry = new Entry<>(command);
+    if (closed) {
+      entry.result.completeExceptionally(new IllegalStateException("Session host is closed"));
+      return entry.result;
+    }
+    queue.add(entry);
+    schedule(entry);
+    return entry.result;
+  }
+
+  /**
+   * Gets the number of commands waiting to run
+   *
+   * @return The queue depth
+   */
+  public int getPendingCount() {
+    return queue.size();
+  }
+
+  private void schedule(Entry<?> entry) {
+    if (scheduled.compareAndSet(false, true)) {
+      try {
+        executor.execute(this::drain);
+      } catch (RejectedExecutionException e) {
+        closed = true;
+        // Only the command that met the closed executor fails; commands
+        // accepted before it still run, here, since this thread owns the drain
+        if (queue.remove(entry)) {
+          entry.result.completeExceptionally(new IllegalStateException("Session host is closed", e));
+        }
+        drain();
+      }
+    }
+  }
+
+  private void drain() {
+    while (true) {
+      int handled = 0;
+      Entry<?> entry;
+      while (handled < BATCH_SIZE && (entry = queue.poll()) != null) {
+        entry.run();
+        handled++;
+      }
+      // Releasing the flag publishes every write made by this batch to the
+      // thread that runs the next one
+      scheduled.set(false);
+      if (queue.isEmpty() || !scheduled.compareAndSet(false, true)) {
+        return;
+      }
+      try {
+        executor.execute(this::drain);
+        return;
+      } catch (RejectedExecutionException e) {
+        // The executor is shutting down; finish the queue on this thread
+        closed = true;
+      }
+    }
+  }
+}
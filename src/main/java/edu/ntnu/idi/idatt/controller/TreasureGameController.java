@@ -8,22 +8,37 @@ import edu.ntnu.idi.idatt.model.Player;
 import edu.ntnu.idi.idatt.model.TreasureBoard;
 import edu.ntnu.idi.idatt.model.TreasureBoardConfig;
 import edu.ntnu.idi.idatt.model.TreasureGameTile;
+import edu.ntnu.idi.idatt.model.TurnHistory;
 import edu.ntnu.idi.idatt.observer.GameEvent;
 
 public class TreasureGameController extends GameController {
+  // Turn state flags stored in the turn history
+  private static final int FLAG_TREASURE_FOUND = 1;
+  private static final int FLAG_MOVING = 2;
+
   private boolean treasureFound = false;
   private int moveCounter = 0;
   private boolean isMoving = false;
   private Runnable onStepComplete;
-  private int currentPlayerIndex = 0;
-  private Player currentPlayer;
   private boolean manualMovementMode = true;
   private final TreasureBoardConfig config;
 
   public TreasureGameController() {
+    this(new TreasureBoardConfig());
+  }
+
+  /**
+   * Creates a game on a board with the given layout
+   *
+   * @param config The layout of the board
+   */
+  public TreasureGameController(TreasureBoardConfig config) {
     super(1);
-    this.config = new TreasureBoardConfig();
-    loadBoard(new TreasureBoard(config.ROWS, config.COLUMNS));
+    if (config == null) {
+      throw new IllegalArgumentException("Config cannot be null");
+    }
+    this.config = config;
+    loadBoard(new TreasureBoard(config));
   }
 
   public void loadBoard(TreasureBoard board) {
@@ -68,16 +83,28 @@ public class TreasureGameController extends GameController {
    * 
    * @return The dice roll value
    */
+  @Override
   public int rollDiceAndMove() {
     // Prevent multiple rolls while moving
     if (isMoving) {
       return 0;
     }
 
+    int counterBefore = moveCounter;
+    int flagsBefore = getStateFlags();
+
     // Roll the dice
     int diceValue = rollDice();
     moveCounter = diceValue;
     isMoving = true;
+    publishSnapshot();
+
+    Player player = getCurrentPlayer();
+    if (player != null) {
+      int position = player.getTileId();
+      recordMove(getCurrentPlayerIndex(), diceValue, position, position, position,
+          TurnHistory.ACTION_ROLL, getCurrentPlayerIndex(), counterBefore, flagsBefore);
+    }
 
     // Notify observers about move counter
     notifyObservers(new GameEvent("MOVE_COUNTER_UPDATED", moveCounter));
@@ -101,15 +128,9 @@ public class TreasureGameController extends GameController {
     }
     Player player = getCurrentPlayer();
     if (player == null) {
-      if (!players.isEmpty()) {
-        player = players.get(0);
-        this.currentPlayer = player;
-        this.currentPlayerIndex = 0;
-      } else {
-        // No players available
-        finishMovement();
-        return;
-      }
+      // No players available
+      finishMovement();
+      return;
     }
     int oldPosition = player.getTileId();
 
@@ -120,21 +141,29 @@ public class TreasureGameController extends GameController {
       return;
     }
 
+    int playerIndex = getCurrentPlayerIndex();
+    int counterBefore = moveCounter;
+    int flagsBefore = getStateFlags();
+
     movePlayer(player, oldPosition, newPosition);
 
     processTileActions(player, newPosition);
 
     moveCounter--;
+    publishSnapshot();
     notifyObservers(new GameEvent("MOVE_COUNTER_UPDATED", moveCounter));
 
     boolean hasWon = checkVictory(player);
     if (hasWon) {
       notifyObservers(new GameEvent("GAME_WON", player));
       isMoving = false;
+      recordStep(playerIndex, oldPosition, newPosition, counterBefore, flagsBefore);
       return;
     }
 
-    if (onStepComplete != null) {
+    recordStep(playerIndex, oldPosition, newPosition, counterBefore, flagsBefore);
+
+    if (onStepComplete != null && !isEventsMuted()) {
       onStepComplete.run();
     }
   }
@@ -145,6 +174,7 @@ public class TreasureGameController extends GameController {
   private void finishMovement() {
     isMoving = false;
     moveCounter = 0;
+    publishSnapshot();
     notifyObservers(new GameEvent("MOVE_COUNTER_UPDATED", moveCounter));
 
     // If player hasn't won, switch to next player
@@ -240,6 +270,23 @@ public class TreasureGameController extends GameController {
     return tileId;
   }
 
+  @Override
+  protected int getSnapshotMoveCounter() {
+    return moveCounter;
+  }
+
+  @Override
+  public int getStateFlags() {
+    return (treasureFound ? FLAG_TREASURE_FOUND : 0) | (isMoving ? FLAG_MOVING : 0);
+  }
+
+  @Override
+  protected void restoreTurnState(int moveCounter, int flags) {
+    this.moveCounter = moveCounter;
+    this.treasureFound = (flags & FLAG_TREASURE_FOUND) != 0;
+    this.isMoving = (flags & FLAG_MOVING) != 0;
+  }
+
   @Override
   public boolean checkVictory(Player player) {
     return treasureFound;
@@ -280,6 +327,9 @@ public class TreasureGameController extends GameController {
       case "DOWN" -> newRow = row + 1;
       case "LEFT" -> newCol = col - 1;
       case "RIGHT" -> newCol = col + 1;
+      default -> {
+        return -1;
+      }
     }
 
     int newTileId = config.getTileId(newRow, newCol);
@@ -311,7 +361,10 @@ public class TreasureGameController extends GameController {
     }
 
     Player playerToMove = getCurrentPlayer();
+    int playerIndex = getCurrentPlayerIndex();
     int oldPosition = playerToMove.getTileId();
+    int counterBefore = moveCounter;
+    int flagsBefore = getStateFlags();
 
     // Move player to new position
     movePlayer(playerToMove, oldPosition, newPosition);
@@ -321,6 +374,7 @@ public class TreasureGameController extends GameController {
 
     // Decrement move counter
     moveCounter--;
+    publishSnapshot();
     notifyObservers(new GameEvent("MOVE_COUNTER_UPDATED", moveCounter));
 
     // Check for victory
@@ -328,6 +382,7 @@ public class TreasureGameController extends GameController {
     if (hasWon) {
       notifyObservers(new GameEvent("GAME_WON", playerToMove));
       isMoving = false;
+      recordStep(playerIndex, oldPosition, newPosition, counterBefore, flagsBefore);
       return true;
     }
 
@@ -336,9 +391,19 @@ public class TreasureGameController extends GameController {
       finishMovement();
     }
 
+    recordStep(playerIndex, oldPosition, newPosition, counterBefore, flagsBefore);
     return true;
   }
 
+  /**
+   * Records a single step in the turn history
+   */
+  private void recordStep(int playerIndex, int oldPosition, int newPosition, int counterBefore,
+      int flagsBefore) {
+    recordMove(playerIndex, 0, oldPosition, newPosition, newPosition, TurnHistory.ACTION_STEP,
+        playerIndex, counterBefore, flagsBefore);
+  }
+
   /**
    * Sets whether the game is in manual movement mode
    * 
@@ -357,26 +422,6 @@ public class TreasureGameController extends GameController {
     return manualMovementMode;
   }
 
-  @Override
-  public Player getCurrentPlayer() {
-    if (this.currentPlayer == null && !players.isEmpty()) {
-      this.currentPlayer = players.get(0);
-      this.currentPlayerIndex = 0;
-    }
-    return this.currentPlayer;
-  }
-
-  @Override
-  public void switchToNextPlayer() {
-    if (players.isEmpty())
-      return;
-
-    currentPlayerIndex = (currentPlayerIndex + 1) % players.size();
-    currentPlayer = players.get(currentPlayerIndex);
-
-    notifyObservers(new GameEvent("TURN_CHANGED", currentPlayer));
-  }
-
   @Override
   public void setupGame(List<Player> players) {
     if (players != null && !players.isEmpty()) {
@@ -391,8 +436,9 @@ public class TreasureGameController extends GameController {
       }
 
       // Set first player as current
-      this.currentPlayerIndex = 0;
-      this.currentPlayer = this.players.get(0);
+      setCurrentPlayerIndex(0);
+      getTurnHistory().clear();
+      publishSnapshot();
 
       // Notify observers about game setup
       notifyObservers(new GameEvent("GAME_SETUP", this.players));
@@ -414,16 +460,15 @@ public class TreasureGameController extends GameController {
     moveCounter = 0;
     isMoving = false;
 
-    currentPlayerIndex = 0;
     if (!players.isEmpty()) {
-      currentPlayer = players.get(0);
+      setCurrentPlayerIndex(0);
     }
 
     // Reset the treasure position by reassigning it randomly
     TreasureBoard board = getGameBoard();
 
     // Reset all tiles to not have treasure
-    for (int i = 1; i <= 100; i++) {
+    for (int i = 1; i <= board.getNumberOfTiles(); i++) {
       TreasureGameTile tile = board.getTile(i);
       if (tile != null) {
         tile.setHasTreasure(false);
@@ -432,6 +477,8 @@ public class TreasureGameController extends GameController {
 
     // Assign a new random treasure
     board.assignRandomTreasure();
+    getTurnHistory().clear();
+    publishSnapshot();
 
     notifyObservers(new GameEvent("GAME_RESET", players));
   }
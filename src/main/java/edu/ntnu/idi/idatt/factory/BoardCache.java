@@ -0,0 +1,242 @@
+package edu.ntnu.idi.idatt.factory;
+
+import java.io.IOException;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import edu.ntnu.idi.idatt.controller.BoardManager;
+import edu.ntnu.idi.idatt.exceptions.FileReadException;
+import edu.ntnu.idi.idatt.exceptions.FileWriteException;
+import edu.ntnu.idi.idatt.model.LadderBoard;
+
+/**
+ * A bounded cache of compiled ladder boards, keyed by board name.
+ * <p>
+ * Each entry remembers the modification time of the board file it was
+ * built from. Without a watcher, a lookup costs one file status check and
+ * the board is rebuilt only if the file has changed. Once
+ * {@link #watch(Path)} is running, changes are pushed by a
+ * {@link WatchService} instead, and a lookup of a cached board does no I/O
+ * at all. The least recently used board is evicted when the cache is full.
+ * </p>
+ * <p>
+ * Boards are never modified during play, so the same cached instance is
+ * handed to every game that asks for it.
+ * </p>
+ */
+public class BoardCache implements AutoCloseable {
+  private static final Logger LOGGER = Logger.getLogger(BoardCache.class.getName());
+
+  /** Number of boards kept by the shared cache */
+  public static final int DEFAULT_CAPACITY = 16;
+
+  private static final BoardCache SHARED = new BoardCache(DEFAULT_CAPACITY);
+
+  private final Map<String, Entry> entries;
+  private volatile WatchService watchService;
+  private long hits;
+  private long misses;
+  // Bumped on every invalidation, so a board built while its file changed
+  // is not put back into the cache
+  private long generation;
+
+  private static class Entry {
+    final LadderBoard board;
+    final long modifiedMillis;
+
+    Entry(LadderBoard board, long modifiedMillis) {
+      this.board = board;
+      this.modifiedMillis = modifiedMillis;
+    }
+  }
+
+  /**
+   * Creates a new cache
+   *
+   * @param capacity The maximum number of boards to keep
+   */
+  public BoardCache(int capacity) {
+    if (capacity < 1) {
+      throw new IllegalArgumentException("Capacity must be at least 1");
+    }
+    this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+      @Override
+      protected boolean removeEldestEntry(Map.Entry<String, Entry> eldest) {
+        return size() > capacity;
+      }
+    };
+  }
+
+  /**
+   * Gets the cache shared by the whole application
+   *
+   * @return The shared cache
+   */
+  public static BoardCache getShared() {
+    return SHARED;
+  }
+
+  /**
+   * Gets a compiled board, building it from its configuration file if it
+   * is not cached or the file has changed
+   *
+   * @param boardName The name of the board ("standard", "wormhole", ...)
+   * @return The board
+   * @throws FileReadException  If the board file could not be read
+   * @throws FileWriteException If a built-in board file could not be created
+   */
+  public LadderBoard getBoard(String boardName) throws FileReadException, FileWriteException {
+    boolean watching = watchService != null;
+    Entry entry;
+    long startGeneration;
+    synchronized (this) {
+      entry = entries.get(boardName);
+      startGeneration = generation;
+    }
+    if (entry != null && (watching || entry.modifiedMillis == modifiedMillis(boardName))) {
+      synchronized (this) {
+        hits++;
+      }
+      return entry.board;
+    }
+
+    // Read the time before building, so a change during the build is
+    // noticed on the next lookup
+    long modified = modifiedMillis(boardName);
+    LadderBoard board = LadderGameFactory.createBoard(boardName);
+    if (modified == -1) {
+      // The factory just created the file
+      modified = modifiedMillis(boardName);
+    }
+    synchronized (this) {
+      misses++;
+      if (generation == startGeneration) {
+        entries.put(boardName, new Entry(board, modified));
+      }
+    }
+    return board;
+  }
+
+  /**
+   * Removes a board from the cache
+   *
+   * @param boardName The name of the board
+   */
+  public synchronized void invalidate(String boardName) {
+    generation++;
+    entries.remove(boardName);
+  }
+
+  /**
+   * Removes every board from the cache
+   */
+  public synchronized void invalidateAll() {
+    generation++;
+    entries.clear();
+  }
+
+  public synchronized int size() {
+    return entries.size();
+  }
+
+  public synchronized long getHits() {
+    return hits;
+  }
+
+  public synchronized long getMisses() {
+    return misses;
+  }
+
+  /**
+   * Starts watching a board directory on a daemon thread. Boards whose
+   * files are changed or deleted are dropped from the cache, and cached
+   * boards are then trusted without checking their files.
+   *
+   * @param directory The directory holding the board files
+   * @throws IOException If the directory could not be watched
+   */
+  public synchronized void watch(Path directory) throws IOException {
+    if (watchService != null) {
+      throw new IllegalStateException("Already watching a directory");
+    }
+    WatchService service = FileSystems.getDefault().newWatchService();
+    directory.register(service, StandardWatchEventKinds.ENTRY_CREATE,
+        StandardWatchEventKinds.ENTRY_MODIFY, StandardWatchEventKinds.ENTRY_DELETE);
+    // Changes made before the watch started would otherwise go unnoticed
+    invalidateAll();
+    watchService = service;
+
+    Thread watcher = new Thread(() -> processEvents(service), "board-cache-watcher");
+    watcher.setDaemon(true);
+    watcher.start();
+  }
+
+  /**
+   * Stops watching for changes. Lookups go back to checking file times.
+   */
+  @Override
+  public synchronized void close() {
+    if (watchService != null) {
+      try {
+        watchService.close();
+      } catch (IOException e) {
+        LOGGER.log(Level.WARNING, "Failed to close board watcher", e);
+      }
+      watchService = null;
+    }
+  }
+
+  private void processEvents(WatchService service) {
+    try {
+      while (true) {
+        WatchKey key = service.take();
+        for (WatchEvent<?> event : key.pollEvents()) {
+          if (event.kind() == StandardWatchEventKinds.OVERFLOW) {
+            invalidateAll();
+            continue;
+          }
+          String fileName = event.context().toString();
+          if (fileName.endsWith(BoardManager.JSON_EXTENSION)) {
+            invalidate(fileName.substring(0, fileName.length() - BoardManager.JSON_EXTENSION.length()));
+          } else if (fileName.endsWith(BoardManager.BINARY_EXTENSION)) {
+            invalidate(fileName.substring(0, fileName.length() - BoardManager.BINARY_EXTENSION.length()));
+          }
+        }
+        if (!key.reset()) {
+          close();
+          return;
+        }
+      }
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    } catch (ClosedWatchServiceException e) {
+      // The cache was closed
+    }
+  }
+
+  /**
+   * Gets the modification time of the file a board is loaded from, or -1 if
+   * it does not exist
+   */
+  private static long modifiedMillis(String boardName) throws FileReadException {
+    Path path = BoardManager.getBoardFile(boardName);
+    try {
+      return Files.getLastModifiedTime(path).toMillis();
+    } catch (NoSuchFileException e) {
+      return -1;
+    } catch (IOException e) {
+      throw new FileReadException("Failed to check board file: " + path, e);
+    }
+  }
+}
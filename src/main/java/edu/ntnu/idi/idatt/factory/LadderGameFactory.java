@@ -1,6 +1,7 @@
 package edu.ntnu.idi.idatt.factory;
 
 import java.io.IOException;
+import java.nio.ByteBuffer;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.Optional;
@@ -12,6 +13,7 @@ import edu.ntnu.idi.idatt.exceptions.FileWriteException;
 import edu.ntnu.idi.idatt.model.BoardConfig;
 import edu.ntnu.idi.idatt.model.LadderBoard;
 import edu.ntnu.idi.idatt.model.LadderGameTile;
+import edu.ntnu.idi.idatt.persistence.BinaryBoardHandler;
 
 /**
  * Factory for creating ladder game boards from configurations
@@ -28,7 +30,10 @@ public class LadderGameFactory {
    */
   public static LadderBoard createBoard(String boardName) throws FileWriteException, FileReadException {
     // Check if the board configuration file exists
-    Path boardPath = BoardManager.getBoardsDirectory().resolve(boardName + ".json");
+    Path boardPath = BoardManager.getBoardFile(boardName);
+    if (boardPath.toString().endsWith(BoardManager.BINARY_EXTENSION)) {
+      return createBoardFromBinary(boardPath);
+    }
 
     if (!Files.exists(boardPath)) {
       // Create the requested board configuration
@@ -44,6 +49,24 @@ public class LadderGameFactory {
     return createBoardFromConfig(config);
   }
 
+  /**
+   * Creates a board from a binary board file. The file is mapped into
+   * memory and its tables are read straight from the mapping.
+   *
+   * @param boardPath the path of the binary board file
+   * @return the created board
+   * @throws FileReadException if the file could not be read or is not a valid
+   *                           ladder board
+   */
+  public static LadderBoard createBoardFromBinary(Path boardPath) throws FileReadException {
+    ByteBuffer buffer = BinaryBoardHandler.map(boardPath.toString());
+    try {
+      return createBoardFromConfig(BinaryBoardHandler.decodeBoardConfig(buffer));
+    } catch (IllegalArgumentException e) {
+      throw new FileReadException("Invalid board file " + boardPath + ": " + e.getMessage(), e);
+    }
+  }
+
   /**
    * Creates a board from a BoardConfig object
    *
@@ -57,25 +80,18 @@ public class LadderGameFactory {
     board.setDescription(config.getDescription());
 
     // Add snakes
-    for (int i = 0; i < config.getSnakeHeads().size(); i++) {
-      int head = config.getSnakeHeads().get(i);
-      int tail = config.getSnakeTails().get(i);
-      addSnake(board, head, tail);
+    for (int i = 0; i < config.getSnakeCount(); i++) {
+      addSnake(board, config.getSnakeHead(i), config.getSnakeTail(i));
     }
 
     // Add ladders
-    for (int i = 0; i < config.getLadderStarts().size(); i++) {
-      int start = config.getLadderStarts().get(i);
-      int end = config.getLadderEnds().get(i);
-      addLadder(board, start, end);
+    for (int i = 0; i < config.getLadderCount(); i++) {
+      addLadder(board, config.getLadderStart(i), config.getLadderEnd(i));
     }
 
     // Add wormholes
-    if (config.getWormholeStarts() != null) {
-      for (int i = 0; i < config.getWormholeStarts().size(); i++) {
-        int start = config.getWormholeStarts().get(i);
-        addWormhole(board, start);
-      }
+    for (int i = 0; i < config.getWormholeCount(); i++) {
+      addWormhole(board, config.getWormholeStart(i));
     }
 
     return board;
@@ -128,17 +144,19 @@ public class LadderGameFactory {
 
   /**
    * Tries to load a board by name, falling back to creating a standard board if
-   * it fails
+   * it fails. Boards come from the shared {@link BoardCache}, so loading a
+   * known board again costs no parsing.
    *
    * @param boardName the name of the board configuration file
    * @return the created board, or empty if creation fails
    */
   public static Optional<LadderBoard> tryCreateBoard(String boardName) throws FileWriteException {
+    BoardCache cache = BoardCache.getShared();
     try {
-      return Optional.of(createBoard(boardName));
+      return Optional.of(cache.getBoard(boardName));
     } catch (FileWriteException | FileReadException e) {
       try {
-        return Optional.of(createBoard("standard"));
+        return Optional.of(cache.getBoard("standard"));
       } catch (FileReadException ex) {
         throw new FileWriteException("Failed to create board: " + e.getMessage(), e);
       }
@@ -47,6 +47,8 @@ public abstract class AbstractBoard<T extends Tile> {
 
   /**
    * Gets a tile by its number.
+   * Boards that store their tiles in number order are looked up directly;
+   * other orders fall back to a search.
    *
    * @param number The tile number
    * @return The tile with the specified number
@@ -57,6 +59,10 @@ public abstract class AbstractBoard<T extends Tile> {
       throw new IllegalArgumentException("Invalid tile number: " + number);
     }
 
+    T tile = tiles.get(number - 1);
+    if (tile.getNumber() == number) {
+      return tile;
+    }
     return tiles.stream()
         .filter(t -> t.getNumber() == number)
         .findFirst()
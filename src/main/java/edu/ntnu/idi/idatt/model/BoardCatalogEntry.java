@@ -0,0 +1,111 @@
+package edu.ntnu.idi.idatt.model;
+
+/**
+ * Summary of one board file, as listed in the board catalog.
+ * Holds what is needed to show and choose a board without parsing it.
+ */
+public class BoardCatalogEntry {
+  private String boardName;
+  private String name;
+  private String description;
+  private int rows;
+  private int columns;
+  private int snakeCount;
+  private int ladderCount;
+  private int wormholeCount;
+  private long fileSize;
+  private long modifiedMillis;
+  private long contentHash;
+
+  /**
+   * Creates an empty entry, used when the catalog is read from file
+   */
+  public BoardCatalogEntry() {
+  }
+
+  /**
+   * Creates a new entry
+   *
+   * @param boardName      The name used to load the board (file name without
+   *                       extension)
+   * @param name           The display name of the board
+   * @param description    The description of the board
+   * @param rows           Number of rows
+   * @param columns        Number of columns
+   * @param snakeCount     Number of snakes
+   * @param ladderCount    Number of ladders
+   * @param wormholeCount  Number of wormholes
+   * @param fileSize       Size of the board file in bytes
+   * @param modifiedMillis Modification time of the board file
+   * @param contentHash    Checksum of the board file's content
+   */
+  public BoardCatalogEntry(String boardName, String name, String description, int rows, int columns,
+      int snakeCount, int ladderCount, int wormholeCount, long fileSize, long modifiedMillis,
+      long contentHash) {
+    this.boardName = boardName;
+    this.name = name;
+    this.description = description;
+    this.rows = rows;
+    this.columns = columns;
+    this.snakeCount = snakeCount;
+    this.ladderCount = ladderCount;
+    this.wormholeCount = wormholeCount;
+    this.fileSize = fileSize;
+    this.modifiedMillis = modifiedMillis;
+    this.contentHash = contentHash;
+  }
+
+  public String getBoardName() {
+    return boardName;
+  }
+
+  /**
+   * Gets the display name, falling back to the board name
+   *
+   * @return The display name
+   */
+  public String getName() {
+    return name == null || name.isBlank() ? boardName : name;
+  }
+
+  public String getDescription() {
+    return description;
+  }
+
+  public int getRows() {
+    return rows;
+  }
+
+  public int getColumns() {
+    return columns;
+  }
+
+  public int getSnakeCount() {
+    return snakeCount;
+  }
+
+  public int getLadderCount() {
+    return ladderCount;
+  }
+
+  public int getWormholeCount() {
+    return wormholeCount;
+  }
+
+  public long getFileSize() {
+    return fileSize;
+  }
+
+  public long getModifiedMillis() {
+    return modifiedMillis;
+  }
+
+  public long getContentHash() {
+    return contentHash;
+  }
+
+  @Override
+  public String toString() {
+    return getName() + " (" + rows + "x" + columns + ")";
+  }
+}
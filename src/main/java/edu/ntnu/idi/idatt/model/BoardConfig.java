@@ -1,25 +1,31 @@
 package edu.ntnu.idi.idatt.model;
 
-import java.util.ArrayList;
 import java.util.List;
 
+/**
+ * Describes a snakes and ladders board: its size and where its snakes,
+ * ladders and wormholes are. Positions are stored in primitive int lists,
+ * so even procedurally generated boards with huge numbers of entries stay
+ * small. Snakes and ladders are kept as paired lists, where entry i of the
+ * heads (starts) belongs to entry i of the tails (ends).
+ */
 public class BoardConfig {
   private String name;
   private String description;
   private int rows;
   private int columns;
-  private List<Integer> snakeHeads;
-  private List<Integer> snakeTails;
-  private List<Integer> ladderStarts;
-  private List<Integer> ladderEnds;
-  private List<Integer> wormholeStarts;
+  private IntList snakeHeads;
+  private IntList snakeTails;
+  private IntList ladderStarts;
+  private IntList ladderEnds;
+  private IntList wormholeStarts;
 
   public BoardConfig() {
-    this.snakeHeads = new ArrayList<>();
-    this.snakeTails = new ArrayList<>();
-    this.ladderStarts = new ArrayList<>();
-    this.ladderEnds = new ArrayList<>();
-    this.wormholeStarts = new ArrayList<>();
+    this.snakeHeads = new IntList();
+    this.snakeTails = new IntList();
+    this.ladderStarts = new IntList();
+    this.ladderEnds = new IntList();
+    this.wormholeStarts = new IntList();
   }
 
   public BoardConfig(String name, String description, int rows, int columns) {
@@ -63,58 +69,144 @@ public class BoardConfig {
     this.columns = columns;
   }
 
-  public List<Integer> getSnakeHeads() {
+  public IntList getSnakeHeads() {
     return snakeHeads;
   }
 
   public void setSnakeHeads(List<Integer> snakeHeads) {
-    this.snakeHeads = snakeHeads;
+    this.snakeHeads = snakeHeads == null ? new IntList() : new IntList(snakeHeads);
   }
 
-  public List<Integer> getSnakeTails() {
+  public IntList getSnakeTails() {
     return snakeTails;
   }
 
   public void setSnakeTails(List<Integer> snakeTails) {
-    this.snakeTails = snakeTails;
+    this.snakeTails = snakeTails == null ? new IntList() : new IntList(snakeTails);
   }
 
-  public List<Integer> getLadderStarts() {
+  public IntList getLadderStarts() {
     return ladderStarts;
   }
 
   public void setLadderStarts(List<Integer> ladderStarts) {
-    this.ladderStarts = ladderStarts;
+    this.ladderStarts = ladderStarts == null ? new IntList() : new IntList(ladderStarts);
   }
 
-  public List<Integer> getLadderEnds() {
+  public IntList getLadderEnds() {
     return ladderEnds;
   }
 
   public void setLadderEnds(List<Integer> ladderEnds) {
-    this.ladderEnds = ladderEnds;
+    this.ladderEnds = ladderEnds == null ? new IntList() : new IntList(ladderEnds);
   }
 
-  public List<Integer> getWormholeStarts() {
+  public IntList getWormholeStarts() {
     return wormholeStarts;
   }
 
   public void setWormholeStarts(List<Integer> wormholeStarts) {
-    this.wormholeStarts = wormholeStarts;
+    this.wormholeStarts = wormholeStarts == null ? new IntList() : new IntList(wormholeStarts);
+  }
+
+  /**
+   * Replaces all snakes
+   *
+   * @param heads The head of each snake
+   * @param tails The tail of each snake, in the same order
+   * @throws IllegalArgumentException if the arrays differ in length
+   */
+  public void setSnakes(int[] heads, int[] tails) {
+    if (heads.length != tails.length) {
+      throw new IllegalArgumentException("Every snake needs both a head and a tail");
+    }
+    this.snakeHeads = IntList.wrap(heads);
+    this.snakeTails = IntList.wrap(tails);
+  }
+
+  /**
+   * Replaces all ladders
+   *
+   * @param starts The start of each ladder
+   * @param ends   The end of each ladder, in the same order
+   * @throws IllegalArgumentException if the arrays differ in length
+   */
+  public void setLadders(int[] starts, int[] ends) {
+    if (starts.length != ends.length) {
+      throw new IllegalArgumentException("Every ladder needs both a start and an end");
+    }
+    this.ladderStarts = IntList.wrap(starts);
+    this.ladderEnds = IntList.wrap(ends);
+  }
+
+  /**
+   * Replaces all wormholes
+   *
+   * @param starts The entrance of each wormhole
+   */
+  public void setWormholes(int[] starts) {
+    this.wormholeStarts = IntList.wrap(starts);
+  }
+
+  /**
+   * Gets the number of snakes
+   *
+   * @return The number of snakes
+   */
+  public int getSnakeCount() {
+    return snakeHeads.size();
+  }
+
+  public int getSnakeHead(int index) {
+    return snakeHeads.getInt(index);
+  }
+
+  public int getSnakeTail(int index) {
+    return snakeTails.getInt(index);
+  }
+
+  /**
+   * Gets the number of ladders
+   *
+   * @return The number of ladders
+   */
+  public int getLadderCount() {
+    return ladderStarts.size();
+  }
+
+  public int getLadderStart(int index) {
+    return ladderStarts.getInt(index);
+  }
+
+  public int getLadderEnd(int index) {
+    return ladderEnds.getInt(index);
+  }
+
+  /**
+   * Gets the number of wormholes
+   *
+   * @return The number of wormholes
+   */
+  public int getWormholeCount() {
+    return wormholeStarts.size();
+  }
+
+  public int getWormholeStart(int index) {
+    return wormholeStarts.getInt(index);
   }
 
   // Helper methods
   public void addSnake(int head, int tail) {
-    snakeHeads.add(head);
-    snakeTails.add(tail);
+    snakeHeads.addInt(head);
+    snakeTails.addInt(tail);
   }
 
   public void addLadder(int start, int end) {
-    ladderStarts.add(start);
-    ladderEnds.add(end);
+    ladderStarts.addInt(start);
+    ladderEnds.addInt(end);
   }
 
   public void addWormhole(int start) {
-    wormholeStarts.add(start);
+    wormholeStarts.addInt(start);
   }
 }
\ No newline at end of file
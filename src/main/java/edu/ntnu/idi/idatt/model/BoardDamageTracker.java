@@ -0,0 +1,137 @@
+package edu.ntnu.idi.idatt.model;
+
+/**
+ * Keeps track of which tiles of a drawn board are out of date.
+ * <p>
+ * A view hands every new {@link GameStateSnapshot} of a game to the
+ * tracker. When a player has moved, the tile the piece was drawn on and the
+ * tile it is on now are marked as damaged, so the view only has to redraw
+ * those tiles instead of the whole board. Once it has redrawn them, the view
+ * calls {@link #clear()}.
+ * </p>
+ */
+public class BoardDamageTracker {
+  private final int tileCount;
+  private final boolean[] damaged;
+  private final IntList damagedTiles = new IntList();
+  private int[] shownTileIds = new int[0];
+  private long shownVersion = -1;
+  private boolean fullRepaint = true;
+
+  /**
+   * Creates a tracker for a board. Until the first {@link #clear()} the
+   * whole board counts as damaged.
+   *
+   * @param tileCount The number of tiles on the board
+   * @throws IllegalArgumentException if the tile count is not positive
+   */
+  public BoardDamageTracker(int tileCount) {
+    if (tileCount <= 0) {
+      throw new IllegalArgumentException("Tile count must be positive");
+    }
+    this.tileCount = tileCount;
+    this.damaged = new boolean[tileCount + 1];
+  }
+
+  /**
+   * Compares a snapshot with the one last shown and marks the tiles of every
+   * piece that moved, appeared or disappeared
+   *
+   * @param snapshot The game's latest snapshot
+   * @return true if the snapshot is newer than the one last shown
+   * @throws IllegalArgumentException if the snapshot is null
+   */
+  public boolean update(GameStateSnapshot snapshot) {
+    if (snapshot == null) {
+      throw new IllegalArgumentException("Snapshot cannot be null");
+    }
+    if (snapshot.getVersion() == shownVersion) {
+      return false;
+    }
+    shownVersion = snapshot.getVersion();
+
+    int count = snapshot.getPlayerCount();
+    int shared = Math.min(count, shownTileIds.length);
+    for (int i = 0; i < shared; i++) {
+      int tileId = snapshot.getTileId(i);
+      if (tileId != shownTileIds[i]) {
+        markTile(shownTileIds[i]);
+        markTile(tileId);
+      }
+    }
+    // Pieces of players who joined or left
+    for (int i = shared; i < shownTileIds.length; i++) {
+      markTile(shownTileIds[i]);
+    }
+    for (int i = shared; i < count; i++) {
+      markTile(snapshot.getTileId(i));
+    }
+
+    if (shownTileIds.length != count) {
+      shownTileIds = new int[count];
+    }
+    for (int i = 0; i < count; i++) {
+      shownTileIds[i] = snapshot.getTileId(i);
+    }
+    return true;
+  }
+
+  /**
+   * Marks a tile as damaged. Tiles that are not on the board, such as the
+   * start position 0, are ignored.
+   *
+   * @param tileId The tile
+   */
+  public void markTile(int tileId) {
+    if (tileId < 1 || tileId > tileCount || damaged[tileId]) {
+      return;
+    }
+    damaged[tileId] = true;
+    damagedTiles.addInt(tileId);
+  }
+
+  /**
+   * Marks the whole board as damaged, for when it has been resized or
+   * otherwise needs to be drawn from scratch
+   */
+  public void markAll() {
+    fullRepaint = true;
+  }
+
+  public boolean isFullRepaint() {
+    return fullRepaint;
+  }
+
+  public boolean isDamaged(int tileId) {
+    return fullRepaint || (tileId >= 1 && tileId <= tileCount && damaged[tileId]);
+  }
+
+  /**
+   * Gets the damaged tiles, each once, in the order they were marked. Not
+   * meaningful while {@link #isFullRepaint()} is true.
+   *
+   * @return The tile numbers
+   */
+  public IntList getDamagedTiles() {
+    return damagedTiles;
+  }
+
+  public boolean hasDamage() {
+    return fullRepaint || !damagedTiles.isEmpty();
+  }
+
+  /**
+   * Forgets all damage, once the view has redrawn it
+   */
+  public void clear() {
+    for (int i = 0; i < damagedTiles.size(); i++) {
+      damaged[damagedTiles.getInt(i)] = false;
+    }
+    damagedTiles.clear();
+    fullRepaint = false;
+  }
+
+  public long getShownVersion() {
+    return shownVersion;
+  }
+}
@@ -0,0 +1,125 @@
+package edu.ntnu.idi.idatt.model;
+
+import java.util.List;
+
+/**
+ * An immutable view of a game's state at one point in time.
+ * Controllers publish a new snapshot after every change of turn or
+ * position, so any number of reader threads (UI, spectators, metrics) can
+ * read a consistent state without locking and without touching the
+ * mutable {@link Player} objects.
+ */
+public final class GameStateSnapshot {
+
+  /**
+   * Snapshot of a game that has not been set up yet
+   */
+  public static final GameStateSnapshot EMPTY = new GameStateSnapshot(0, new String[0], new String[0],
+      new int[0], -1, 0);
+
+  private final long version;
+  private final String[] names;
+  private final String[] pieceTypes;
+  private final int[] tileIds;
+  private final int currentPlayerIndex;
+  private final int moveCounter;
+
+  private GameStateSnapshot(long version, String[] names, String[] pieceTypes, int[] tileIds,
+      int currentPlayerIndex, int moveCounter) {
+    this.version = version;
+    this.names = names;
+    this.pieceTypes = pieceTypes;
+    this.tileIds = tileIds;
+    this.currentPlayerIndex = currentPlayerIndex;
+    this.moveCounter = moveCounter;
+  }
+
+  /**
+   * Captures the state of the given players
+   *
+   * @param version            Increasing number identifying the snapshot
+   * @param players            The players in turn order
+   * @param currentPlayerIndex The index of the player whose turn it is. An
+   *                           index past the last player, as left behind
+   *                           when a player is removed, wraps around.
+   * @param moveCounter        Moves left in the current turn
+   * @return The snapshot
+   */
+  public static GameStateSnapshot of(long version, List<Player> players, int currentPlayerIndex,
+      int moveCounter) {
+    int count = players.size();
+    String[] names = new String[count];
+    String[] pieceTypes = new String[count];
+    int[] tileIds = new int[count];
+    for (int i = 0; i < count; i++) {
+      Player player = players.get(i);
+      names[i] = player.getName();
+      pieceTypes[i] = player.getPieceType();
+      tileIds[i] = player.getTileId();
+    }
+    return new GameStateSnapshot(version, names, pieceTypes, tileIds,
+        count == 0 ? -1 : Math.floorMod(currentPlayerIndex, count), moveCounter);
+  }
+
+  /**
+   * Wraps arrays in a snapshot without copying them, for callers in this
+   * package that never change the arrays afterwards
+   */
+  static GameStateSnapshot wrap(long version, String[] names, String[] pieceTypes, int[] tileIds,
+      int currentPlayerIndex, int moveCounter) {
+    return new GameStateSnapshot(version, names, pieceTypes, tileIds, currentPlayerIndex, moveCounter);
+  }
+
+  /**
+   * Gets the version of this snapshot. A higher version is newer.
+   *
+   * @return The version
+   */
+  public long getVersion() {
+    return version;
+  }
+
+  public int getPlayerCount() {
+    return tileIds.length;
+  }
+
+  public String getPlayerName(int index) {
+    return names[index];
+  }
+
+  public String getPieceType(int index) {
+    return pieceTypes[index];
+  }
+
+  public int getTileId(int index) {
+    return tileIds[index];
+  }
+
+  /**
+   * Gets the index of the player whose turn it is
+   *
+   * @return The index, or -1 if there are no players
+   */
+  public int getCurrentPlayerIndex() {
+    return currentPlayerIndex;
+  }
+
+  /**
+   * Gets the name of the player whose turn it is
+   *
+   * @return The name, or null if there is no current player
+   */
+  public String getCurrentPlayerName() {
+    return currentPlayerIndex < 0 || currentPlayerIndex >= names.length ? null : names[currentPlayerIndex];
+  }
+
+  /**
+   * Gets the number of moves left in the current turn.
+   * Always 0 for games that move a whole roll at once.
+   *
+   * @return The move counter
+   */
+  public int getMoveCounter() {
+    return moveCounter;
+  }
+}
@@ -0,0 +1,139 @@
+package edu.ntnu.idi.idatt.model;
+
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.RandomAccess;
+
+/**
+ * A growable list of ints backed by a primitive array.
+ * It can be used anywhere a {@code List<Integer>} is expected, boxing only
+ * at that boundary, while {@link #getInt(int)} and {@link #addInt(int)} give
+ * unboxed access for code that iterates large lists.
+ */
+public class IntList extends AbstractList<Integer> implements RandomAccess {
+  private static final int[] EMPTY = new int[0];
+
+  private int[] values;
+  private int size;
+
+  /**
+   * Creates an empty list
+   */
+  public IntList() {
+    this.values = EMPTY;
+  }
+
+  /**
+   * Creates a list holding the given values
+   *
+   * @param values The values, copied into the list
+   */
+  public IntList(Collection<Integer> values) {
+    this.values = new int[values.size()];
+    for (Integer value : values) {
+      this.values[size++] = value;
+    }
+  }
+
+  private IntList(int[] values) {
+    this.values = values;
+    this.size = values.length;
+  }
+
+  /**
+   * Creates a list backed by the given array, without copying it.
+   * The caller must not change the array afterwards.
+   *
+   * @param values The values
+   * @return The list
+   */
+  public static IntList wrap(int[] values) {
+    return new IntList(values);
+  }
+
+  /**
+   * Gets a value without boxing it
+   *
+   * @param index The index of the value
+   * @return The value
+   */
+  public int getInt(int index) {
+    if (index < 0 || index >= size) {
+      throw new IndexOutOfBoundsException("Index: " + index + ", size: " + size);
+    }
+    return values[index];
+  }
+
+  /**
+   * Appends a value without boxing it
+   *
+   * @param value The value
+   */
+  public void addInt(int value) {
+    if (size == values.length) {
+      values = Arrays.copyOf(values, Math.max(8, size * 2));
+    }
+    values[size++] = value;
+    modCount++;
+  }
+
+  /**
+   * Copies the values into a new array
+   *
+   * @return The values
+   */
+  public int[] toIntArray() {
+    return Arrays.copyOf(values, size);
+  }
+
+  @Override
+  public Integer get(int index) {
+    return getInt(index);
+  }
+
+  @Override
+  public Integer set(int index, Integer value) {
+    int old = getInt(index);
+    values[index] = value;
+    return old;
+  }
+
+  @Override
+  public void add(int index, Integer value) {
+    if (index < 0 || index > size) {
+      throw new IndexOutOfBoundsException("Index: " + index + ", size: " + size);
+    }
+    if (index == size) {
+      addInt(value);
+      return;
+    }
+    if (size == values.length) {
+      values = Arrays.copyOf(values, Math.max(8, size * 2));
+    }
+    System.arraycopy(values, index, values, index + 1, size - index);
+    values[index] = value;
+    size++;
+    modCount++;
+  }
+
+  @Override
+  public Integer remove(int index) {
+    int old = getInt(index);
+    System.arraycopy(values, index + 1, values, index, size - index - 1);
+    size--;
+    modCount++;
+    return old;
+  }
+
+  @Override
+  public void clear() {
+    size = 0;
+    modCount++;
+  }
+
+  @Override
+  public int size() {
+    return size;
+  }
+}
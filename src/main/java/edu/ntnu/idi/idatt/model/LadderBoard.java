@@ -1,5 +1,7 @@
 package edu.ntnu.idi.idatt.model;
 
+import java.util.ArrayList;
+
 /**
  * Represents a Snakes and Ladders game board with tiles arranged in a snake
  * pattern.
@@ -29,6 +31,7 @@ public class LadderBoard extends AbstractBoard<LadderGameTile> {
    * 7 8 9
    * 6 5 4
    * 1 2 3
+   * The tiles are stored in number order, so a tile is found by its index.
    */
   @Override
   protected final void initializeTiles() {
@@ -41,18 +44,14 @@ public class LadderBoard extends AbstractBoard<LadderGameTile> {
   private void initializeTilesInternal() {
     tiles.clear();
     int totalTiles = rows * columns;
+    if (tiles instanceof ArrayList<LadderGameTile> list) {
+      list.ensureCapacity(totalTiles);
+    }
 
-    for (int i = 0; i < totalTiles; i++) {
-      int row = i / columns;
-      int col = i % columns;
-
-      // For even rows, numbers go left to right
-      // For odd rows, numbers go right to left
-      int tileNumber = row % 2 == 0 ? row * columns + col + 1 : (row + 1) * columns - col;
-
-      LadderGameTile tile = new LadderGameTile(tileNumber);
-      // Calculate and set the x,y coordinates for UI positioning
-      tiles.add(tile);
+    // The snake pattern only decides where a tile is drawn, which the UI
+    // works out from its number
+    for (int tileNumber = 1; tileNumber <= totalTiles; tileNumber++) {
+      tiles.add(new LadderGameTile(tileNumber));
     }
   }
 
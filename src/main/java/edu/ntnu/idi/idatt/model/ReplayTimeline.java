@@ -0,0 +1,220 @@
+package edu.ntnu.idi.idatt.model;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * A recorded game as a sequence of frames, one per published state, that
+ * can be jumped to in any order.
+ * <p>
+ * Each frame stores only the pieces that moved since the frame before it,
+ * along with whose turn it is and the move counter. Every
+ * {@code keyframeInterval} frames the position of every piece is stored in
+ * full, so building any frame starts from the keyframe at or before it and
+ * applies at most {@code keyframeInterval - 1} deltas. Jumping to a frame
+ * therefore costs the same at turn 10 as at turn 10 000.
+ * </p>
+ * <p>
+ * The first frame holds every piece as a change, so a timeline can be
+ * written out and read back as a plain list of frames.
+ * </p>
+ */
+public class ReplayTimeline {
+  /** Frames between two keyframes when none is given */
+  public static final int DEFAULT_KEYFRAME_INTERVAL = 32;
+
+  private final String[] names;
+  private final String[] pieceTypes;
+  private final int keyframeInterval;
+  private final List<int[]> keyframes = new ArrayList<>();
+  private final IntList currentPlayerIndexes = new IntList();
+  private final IntList moveCounters = new IntList();
+  // Frame f's changes are the pairs from changeStarts[f] to changeStarts[f + 1]
+  private final IntList changeStarts = new IntList();
+  private final IntList changes = new IntList();
+  private final int[] latestTileIds;
+
+  /**
+   * Creates an empty timeline for a set of players
+   *
+   * @param names            The player names, in turn order
+   * @param pieceTypes       The players' piece types
+   * @param keyframeInterval Frames between two full keyframes
+   * @throws IllegalArgumentException if the arrays are null or differ in
+   *                                  length, or the interval is not positive
+   */
+  public ReplayTimeline(String[] names, String[] pieceTypes, int keyframeInterval) {
+    if (names == null || pieceTypes == null || names.length != pieceTypes.length) {
+      throw new IllegalArgumentException("Names and piece types must be given for every player");
+    }
+    if (keyframeInterval < 1) {
+      throw new IllegalArgumentException("Keyframe interval must be at least 1");
+    }
+    this.names = names.clone();
+    this.pieceTypes = pieceTypes.clone();
+    this.keyframeInterval = keyframeInterval;
+    this.latestTileIds = new int[names.length];
+    changeStarts.addInt(0);
+  }
+
+  /**
+   * Creates a timeline whose first frame is the given state
+   *
+   * @param initial          The state the recording starts from
+   * @param keyframeInterval Frames between two full keyframes
+   * @return The timeline
+   */
+  public static ReplayTimeline startingAt(GameStateSnapshot initial, int keyframeInterval) {
+    if (initial == null) {
+      throw new IllegalArgumentException("Initial state cannot be null");
+    }
+    int count = initial.getPlayerCount();
+    String[] names = new String[count];
+    String[] pieceTypes = new String[count];
+    for (int i = 0; i < count; i++) {
+      names[i] = initial.getPlayerName(i);
+      pieceTypes[i] = initial.getPieceType(i);
+    }
+    ReplayTimeline timeline = new ReplayTimeline(names, pieceTypes, keyframeInterval);
+    timeline.append(initial);
+    return timeline;
+  }
+
+  /**
+   * Adds a frame for a state of the game
+   *
+   * @param snapshot The state
+   * @throws IllegalArgumentException if the snapshot is null or has a
+   *                                  different number of players
+   */
+  public void append(GameStateSnapshot snapshot) {
+    if (snapshot == null || snapshot.getPlayerCount() != names.length) {
+      throw new IllegalArgumentException("Snapshot must have " + names.length + " players");
+    }
+    int[] tileIds = new int[names.length];
+    for (int i = 0; i < tileIds.length; i++) {
+      tileIds[i] = snapshot.getTileId(i);
+    }
+    append(tileIds, snapshot.getCurrentPlayerIndex(), snapshot.getMoveCounter());
+  }
+
+  /**
+   * Adds a frame
+   *
+   * @param tileIds            The tile of every player
+   * @param currentPlayerIndex The index of the player whose turn it is
+   * @param moveCounter        Moves left in the current turn
+   * @throws IllegalArgumentException if there is not one tile per player
+   */
+  public void append(int[] tileIds, int currentPlayerIndex, int moveCounter) {
+    if (tileIds == null || tileIds.length != names.length) {
+      throw new IllegalArgumentException("A tile must be given for every player");
+    }
+    boolean first = getFrameCount() == 0;
+    for (int i = 0; i < tileIds.length; i++) {
+      if (first || tileIds[i] != latestTileIds[i]) {
+        changes.addInt(i);
+        changes.addInt(tileIds[i]);
+        latestTileIds[i] = tileIds[i];
+      }
+    }
+    if (getFrameCount() % keyframeInterval == 0) {
+      keyframes.add(latestTileIds.clone());
+    }
+    currentPlayerIndexes.addInt(currentPlayerIndex);
+    moveCounters.addInt(moveCounter);
+    changeStarts.addInt(changes.size());
+  }
+
+  /**
+   * Builds the state of the game at a frame, from the nearest keyframe
+   * before it. The snapshot's version is the frame number plus one.
+   *
+   * @param frame The frame, from 0 to {@link #getFrameCount()} - 1
+   * @return The state at the frame
+   * @throws IllegalArgumentException if there is no such frame
+   */
+  public GameStateSnapshot getFrame(int frame) {
+    checkFrame(frame);
+    int keyframe = frame / keyframeInterval;
+    int[] tileIds = keyframes.get(keyframe).clone();
+    for (int f = keyframe * keyframeInterval + 1; f <= frame; f++) {
+      int end = changeStarts.getInt(f + 1);
+      for (int c = changeStarts.getInt(f); c < end; c += 2) {
+        tileIds[changes.getInt(c)] = changes.getInt(c + 1);
+      }
+    }
+    return GameStateSnapshot.wrap(frame + 1L, names, pieceTypes, tileIds,
+        currentPlayerIndexes.getInt(frame), moveCounters.getInt(frame));
+  }
+
+  private void checkFrame(int frame) {
+    if (frame < 0 || frame >= getFrameCount()) {
+      throw new IllegalArgumentException("No frame " + frame + " in a replay of " + getFrameCount() + " frames");
+    }
+  }
+
+  public int getFrameCount() {
+    return currentPlayerIndexes.size();
+  }
+
+  public int getPlayerCount() {
+    return names.length;
+  }
+
+  public String getPlayerName(int index) {
+    return names[index];
+  }
+
+  public String getPieceType(int index) {
+    return pieceTypes[index];
+  }
+
+  public int getKeyframeInterval() {
+    return keyframeInterval;
+  }
+
+  public int getCurrentPlayerIndex(int frame) {
+    checkFrame(frame);
+    return currentPlayerIndexes.getInt(frame);
+  }
+
+  public int getMoveCounter(int frame) {
+    checkFrame(frame);
+    return moveCounters.getInt(frame);
+  }
+
+  /**
+   * Gets the number of pieces that moved in a frame. In the first frame
+   * every piece counts as moved.
+   *
+   * @param frame The frame
+   * @return The number of changes
+   */
+  public int getChangeCount(int frame) {
+    checkFrame(frame);
+    return (changeStarts.getInt(frame + 1) - changeStarts.getInt(frame)) / 2;
+  }
+
+  /**
+   * Gets the player of one of a frame's changes
+   *
+   * @param frame  The frame
+   * @param change The change, from 0 to {@link #getChangeCount(int)} - 1
+   * @return The index of the player who moved
+   */
+  public int getChangedPlayer(int frame, int change) {
+    return changes.getInt(changeStarts.getInt(frame) + change * 2);
+  }
+
+  /**
+   * Gets the tile a player moved to in one of a frame's changes
+   *
+   * @param frame  The frame
+   * @param change The change, from 0 to {@link #getChangeCount(int)} - 1
+   * @return The tile the player is on after the frame
+   */
+  public int getChangedTile(int frame, int change) {
+    return changes.getInt(changeStarts.getInt(frame) + change * 2 + 1);
+  }
+}
@@ -8,6 +8,7 @@ public class TreasureBoard extends AbstractBoard<TreasureGameTile> {
 
   private final int rows;
   private final int columns;
+  private final TreasureBoardConfig config;
   private int treasureTileId = -1;
 
   /**
@@ -20,6 +21,19 @@ public class TreasureBoard extends AbstractBoard<TreasureGameTile> {
     super();
     this.rows = rows;
     this.columns = columns;
+    this.config = new TreasureBoardConfig();
+  }
+
+  /**
+   * Creates a new Treasure board with the layout of the given config.
+   *
+   * @param config The layout of the board
+   */
+  public TreasureBoard(TreasureBoardConfig config) {
+    super();
+    this.rows = config.ROWS;
+    this.columns = config.COLUMNS;
+    this.config = config;
   }
 
   /**
@@ -54,6 +68,25 @@ public class TreasureBoard extends AbstractBoard<TreasureGameTile> {
     }
   }
 
+  /**
+   * Moves the real treasure to the given tile, for example when a saved
+   * game is restored
+   *
+   * @param tileId The ID of a treasure tile (type 2)
+   * @throws IllegalArgumentException if the tile is not a treasure tile
+   */
+  public void placeTreasure(int tileId) {
+    TreasureGameTile target = getTile(tileId);
+    if (target == null || target.getTileType() != 2) {
+      throw new IllegalArgumentException("Not a treasure tile: " + tileId);
+    }
+    for (TreasureGameTile tile : tiles) {
+      tile.setHasTreasure(false);
+    }
+    target.setHasTreasure(true);
+    treasureTileId = tileId;
+  }
+
   /**
    * Initialize tiles in a tree-like pattern.
    * Uses TreasureBoardConfig for tile type information.
@@ -62,7 +95,6 @@ public class TreasureBoard extends AbstractBoard<TreasureGameTile> {
   protected void initializeTiles() {
     tiles.clear();
     int totalTiles = rows * columns;
-    TreasureBoardConfig config = new TreasureBoardConfig();
 
     for (int i = 0; i < totalTiles; i++) {
       int tileId = i + 1;
@@ -98,4 +130,13 @@ public class TreasureBoard extends AbstractBoard<TreasureGameTile> {
   public int getColumns() {
     return columns;
   }
+
+  /**
+   * Gets the layout this board was built from
+   *
+   * @return The layout
+   */
+  public TreasureBoardConfig getConfig() {
+    return config;
+  }
 }
\ No newline at end of file
@@ -14,7 +14,7 @@ public class TreasureBoardConfig {
    * 2 = Treasure location
    * 3 = Start position
    */
-  public final int[][] STANDARD_LAYOUT = {
+  private static final int[][] STANDARD = {
       { 0, 2, 1, 1, 2, 1, 2, 1, 0, 0 }, // Row 0 (tiles 1-10)
       { 1, 1, 0, 0, 0, 1, 0, 1, 1, 2 }, // Row 1 (tiles 11-20)
       { 1, 0, 0, 0, 0, 1, 0, 0, 0, 1 }, // Row 2 (tiles 21-30)
@@ -27,17 +27,67 @@ public class TreasureBoardConfig {
       { 0, 0, 0, 0, 3, 0, 0, 0, 0, 0 } // Row 9 (tiles 91-100) - Start at tile 95
   };
 
-  public final int ROWS = 10;
-  public final int COLUMNS = 10;
+  /** The layout of this board, indexed by row and column */
+  public final int[][] STANDARD_LAYOUT;
+  public final int ROWS;
+  public final int COLUMNS;
+
+  /**
+   * Creates a config for the standard 10x10 board
+   */
+  public TreasureBoardConfig() {
+    this.ROWS = 10;
+    this.COLUMNS = 10;
+    this.STANDARD_LAYOUT = new int[ROWS][];
+    for (int row = 0; row < ROWS; row++) {
+      STANDARD_LAYOUT[row] = STANDARD[row].clone();
+    }
+  }
+
+  /**
+   * Creates a config for a board with its own layout, for example one
+   * loaded from a board file
+   *
+   * @param rows    Number of rows
+   * @param columns Number of columns
+   * @param layout  The tile types, row by row, indexed by tile ID - 1
+   * @throws IllegalArgumentException if the layout does not match the
+   *                                  dimensions
+   */
+  public TreasureBoardConfig(int rows, int columns, byte[] layout) {
+    if (rows < 1 || columns < 1) {
+      throw new IllegalArgumentException("Rows and columns must be positive");
+    }
+    if (layout == null || layout.length != (long) rows * columns) {
+      throw new IllegalArgumentException("Layout must have rows * columns tiles");
+    }
+    this.ROWS = rows;
+    this.COLUMNS = columns;
+    this.STANDARD_LAYOUT = new int[rows][columns];
+    for (int row = 0; row < rows; row++) {
+      for (int col = 0; col < columns; col++) {
+        STANDARD_LAYOUT[row][col] = layout[row * columns + col];
+      }
+    }
+  }
+
+  /**
+   * Gets the number of tiles on the board
+   *
+   * @return Rows times columns
+   */
+  public int getTileCount() {
+    return ROWS * COLUMNS;
+  }
 
   /**
    * Gets the tile type for a specific tile ID
    * 
-   * @param tileId The tile ID (1-100)
+   * @param tileId The tile ID (1 to the number of tiles)
    * @return The tile type (0=void, 1=path, 2=treasure, 3=start)
    */
   public int getTileType(int tileId) {
-    if (tileId < 1 || tileId > 100) {
+    if (tileId < 1 || tileId > getTileCount()) {
       return 0; // Invalid tile
     }
 
@@ -77,11 +127,11 @@ public class TreasureBoardConfig {
   /**
    * Converts tile ID to row/column coordinates
    * 
-   * @param tileId The tile ID (1-100)
+   * @param tileId The tile ID (1 to the number of tiles)
    * @return Array with [row, col] or null if invalid
    */
   public int[] getCoordinates(int tileId) {
-    if (tileId < 1 || tileId > 100) {
+    if (tileId < 1 || tileId > getTileCount()) {
       return null;
     }
 
@@ -94,9 +144,9 @@ public class TreasureBoardConfig {
   /**
    * Converts row/column coordinates to tile ID
    * 
-   * @param row The row (0-9)
-   * @param col The column (0-9)
-   * @return The tile ID (1-100) or -1 if invalid
+   * @param row The row (0 to ROWS - 1)
+   * @param col The column (0 to COLUMNS - 1)
+   * @return The tile ID or -1 if invalid
    */
   public int getTileId(int row, int col) {
     if (row < 0 || row >= ROWS || col < 0 || col >= COLUMNS) {
@@ -0,0 +1,223 @@
+package edu.ntnu.idi.idatt.model;
+
+/**
+ * A fixed-capacity record of the latest moves in a game.
+ * <p>
+ * Every move is stored as a fixed-size run of ints in one shared array, so
+ * recording a move allocates nothing and a long session never uses more
+ * than {@code capacity} entries. When the buffer is full the oldest move is
+ * dropped. Appending, undoing and redoing are all O(1).
+ * </p>
+ * <p>
+ * Entries are addressed by their logical index, where 0 is the oldest move
+ * still held. Each entry stores the game state both before and after the
+ * move, so undo and redo restore absolute values instead of replaying
+ * rules.
+ * </p>
+ */
+public class TurnHistory {
+
+  /** The move had no special tile action */
+  public static final int ACTION_NONE = 0;
+  /** The player climbed a ladder */
+  public static final int ACTION_LADDER = 1;
+  /** The player slid down a snake */
+  public static final int ACTION_SNAKE = 2;
+  /** The player was sent through a wormhole */
+  public static final int ACTION_WORMHOLE = 3;
+  /** The player rolled for a turn that is taken step by step */
+  public static final int ACTION_ROLL = 4;
+  /** The player took a single step */
+  public static final int ACTION_STEP = 5;
+
+  // Layout of one entry
+  private static final int PLAYER = 0;
+  private static final int ROLL = 1;
+  private static final int FROM = 2;
+  private static final int LANDED = 3;
+  private static final int RESOLVED = 4;
+  private static final int ACTION = 5;
+  private static final int INDEX_BEFORE = 6;
+  private static final int INDEX_AFTER = 7;
+  private static final int COUNTER_BEFORE = 8;
+  private static final int COUNTER_AFTER = 9;
+  private static final int FLAGS_BEFORE = 10;
+  private static final int FLAGS_AFTER = 11;
+  private static final int STRIDE = 12;
+
+  private final int capacity;
+  // Allocated on the first move, so idle games cost nothing
+  private int[] entries;
+  private int head;
+  private int size;
+  private int cursor;
+
+  /**
+   * Creates a new history
+   *
+   * @param capacity The maximum number of moves to keep
+   */
+  public TurnHistory(int capacity) {
+    if (capacity < 1) {
+      throw new IllegalArgumentException("Capacity must be at least 1");
+    }
+    this.capacity = capacity;
+  }
+
+  /**
+   * Records a move. Any undone moves can no longer be redone.
+   *
+   * @param playerIndex   The index of the player who moved
+   * @param roll          The dice value, or 0 if the move was not a roll
+   * @param from          The tile the player moved from
+   * @param landed        The tile the player landed on
+   * @param resolved      The tile the player ended on after tile actions
+   * @param actionKind    One of the {@code ACTION_} constants
+   * @param indexBefore   The current player index before the move
+   * @param indexAfter    The current player index after the move
+   * @param counterBefore The move counter before the move
+   * @param counterAfter  The move counter after the move
+   * @param flagsBefore   Game specific state flags before the move
+   * @param flagsAfter    Game specific state flags after the move
+   */
+  public void record(int playerIndex, int roll, int from, int landed, int resolved, int actionKind,
+      int indexBefore, int indexAfter, int counterBefore, int counterAfter,
+      int flagsBefore, int flagsAfter) {
+    if (entries == null) {
+      entries = new int[capacity * STRIDE];
+    }
+    size = cursor;
+    if (size == capacity) {
+      head = (head + 1) % capacity;
+      size--;
+    }
+    int base = offset(size);
+    entries[base + PLAYER] = playerIndex;
+    entries[base + ROLL] = roll;
+    entries[base + FROM] = from;
+    entries[base + LANDED] = landed;
+    entries[base + RESOLVED] = resolved;
+    entries[base + ACTION] = actionKind;
+    entries[base + INDEX_BEFORE] = indexBefore;
+    entries[base + INDEX_AFTER] = indexAfter;
+    entries[base + COUNTER_BEFORE] = counterBefore;
+    entries[base + COUNTER_AFTER] = counterAfter;
+    entries[base + FLAGS_BEFORE] = flagsBefore;
+    entries[base + FLAGS_AFTER] = flagsAfter;
+    size++;
+    cursor = size;
+  }
+
+  /**
+   * Steps back over the latest applied move
+   *
+   * @return The index of the undone entry, or -1 if there is nothing to undo
+   */
+  public int undo() {
+    if (cursor == 0) {
+      return -1;
+    }
+    return --cursor;
+  }
+
+  /**
+   * Steps forward over the latest undone move
+   *
+   * @return The index of the redone entry, or -1 if there is nothing to redo
+   */
+  public int redo() {
+    if (cursor == size) {
+      return -1;
+    }
+    return cursor++;
+  }
+
+  /**
+   * Forgets every move
+   */
+  public void clear() {
+    head = 0;
+    size = 0;
+    cursor = 0;
+  }
+
+  public int getCapacity() {
+    return capacity;
+  }
+
+  /**
+   * Gets the number of moves held, including undone moves
+   *
+   * @return The number of entries
+   */
+  public int size() {
+    return size;
+  }
+
+  public int getUndoCount() {
+    return cursor;
+  }
+
+  public int getRedoCount() {
+    return size - cursor;
+  }
+
+  public int getPlayerIndex(int entry) {
+    return get(entry, PLAYER);
+  }
+
+  public int getRoll(int entry) {
+    return get(entry, ROLL);
+  }
+
+  public int getFrom(int entry) {
+    return get(entry, FROM);
+  }
+
+  public int getLanded(int entry) {
+    return get(entry, LANDED);
+  }
+
+  public int getResolved(int entry) {
+    return get(entry, RESOLVED);
+  }
+
+  public int getActionKind(int entry) {
+    return get(entry, ACTION);
+  }
+
+  public int getIndexBefore(int entry) {
+    return get(entry, INDEX_BEFORE);
+  }
+
+  public int getIndexAfter(int entry) {
+    return get(entry, INDEX_AFTER);
+  }
+
+  public int getCounterBefore(int entry) {
+    return get(entry, COUNTER_BEFORE);
+  }
+
+  public int getCounterAfter(int entry) {
+    return get(entry, COUNTER_AFTER);
+  }
+
+  public int getFlagsBefore(int entry) {
+    return get(entry, FLAGS_BEFORE);
+  }
+
+  public int getFlagsAfter(int entry) {
+    return get(entry, FLAGS_AFTER);
+  }
+
+  private int get(int entry, int field) {
+    if (entry < 0 || entry >= size) {
+      throw new IllegalArgumentException("No history entry at index " + entry);
+    }
+    return entries[offset(entry) + field];
+  }
+
+  private int offset(int entry) {
+    return ((head + entry) % capacity) * STRIDE;
+  }
+}
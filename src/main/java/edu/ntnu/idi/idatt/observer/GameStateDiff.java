@@ -0,0 +1,171 @@
+package edu.ntnu.idi.idatt.observer;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import edu.ntnu.idi.idatt.model.Player;
+
+/**
+ * The change to a game's state made by a run of events, merged so a view
+ * can apply it in one go.
+ * <p>
+ * Only the latest dice roll, move count and current player are kept, and
+ * the moves of each player are merged into one move from where the player
+ * first was to where the player ended up. Other events are kept in order,
+ * since each of them matters on its own.
+ * </p>
+ */
+public class GameStateDiff {
+
+  /**
+   * Where a player moved from and to
+   */
+  public static final class Move {
+    private final Player player;
+    private final int from;
+    private final int to;
+    private final boolean checkVictory;
+
+    private Move(Player player, int from, int to, boolean checkVictory) {
+      this.player = player;
+      this.from = from;
+      this.to = to;
+      this.checkVictory = checkVictory;
+    }
+
+    public Player getPlayer() {
+      return player;
+    }
+
+    public int getFrom() {
+      return from;
+    }
+
+    public int getTo() {
+      return to;
+    }
+
+    public boolean isCheckVictory() {
+      return checkVictory;
+    }
+  }
+
+  private final Map<Player, Move> moves = new LinkedHashMap<>();
+  private final List<GameEvent> otherEvents = new ArrayList<>();
+  private Integer diceValue;
+  private Integer moveCounter;
+  private Player currentPlayer;
+  private int eventCount;
+
+  /**
+   * Merges an event into the diff
+   *
+   * @param event The event
+   */
+  public void add(GameEvent event) {
+    if (event == null) {
+      return;
+    }
+    eventCount++;
+    Object data = event.getData();
+    switch (event.getType()) {
+      case "DICE_ROLLED" -> {
+        if (data instanceof Integer value) {
+          diceValue = value;
+        }
+      }
+      case "MOVE_COUNTER_UPDATED" -> {
+        if (data instanceof Integer value) {
+          moveCounter = value;
+        }
+      }
+      case "TURN_CHANGED" -> {
+        if (data instanceof Player player) {
+          currentPlayer = player;
+        }
+      }
+      case "PLAYER_MOVED" -> addMove(data);
+      default -> otherEvents.add(event);
+    }
+  }
+
+  private void addMove(Object data) {
+    if (!(data instanceof Map<?, ?> moveData)
+        || !(moveData.get("player") instanceof Player player)
+        || !(moveData.get("from") instanceof Integer from)
+        || !(moveData.get("to") instanceof Integer to)) {
+      return;
+    }
+    boolean checkVictory = Boolean.TRUE.equals(moveData.get("checkVictory"));
+    Move earlier = moves.get(player);
+    int start = earlier != null ? earlier.from : from;
+    moves.put(player, new Move(player, start, to, checkVictory));
+  }
+
+  /**
+   * Checks whether any events were merged
+   *
+   * @return true if no events were added
+   */
+  public boolean isEmpty() {
+    return eventCount == 0;
+  }
+
+  /**
+   * Gets the number of events merged into this diff
+   *
+   * @return The number of events
+   */
+  public int getEventCount() {
+    return eventCount;
+  }
+
+  /**
+   * Gets each player's merged move, in the order the players first moved
+   *
+   * @return The moves
+   */
+  public Collection<Move> getMoves() {
+    return Collections.unmodifiableCollection(moves.values());
+  }
+
+  /**
+   * Gets the events that are not merged, in the order they happened
+   *
+   * @return The events
+   */
+  public List<GameEvent> getOtherEvents() {
+    return Collections.unmodifiableList(otherEvents);
+  }
+
+  /**
+   * Gets the latest dice roll
+   *
+   * @return The value, or null if the dice were not rolled
+   */
+  public Integer getDiceValue() {
+    return diceValue;
+  }
+
+  /**
+   * Gets the latest move count
+   *
+   * @return The count, or null if it did not change
+   */
+  public Integer getMoveCounter() {
+    return moveCounter;
+  }
+
+  /**
+   * Gets the player whose turn it became last
+   *
+   * @return The player, or null if the turn did not change
+   */
+  public Player getCurrentPlayer() {
+    return currentPlayer;
+  }
+}
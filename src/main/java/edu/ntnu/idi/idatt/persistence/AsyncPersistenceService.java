@@ -0,0 +1,383 @@
+package edu.ntnu.idi.idatt.persistence;
+
+import java.nio.ByteBuffer;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import edu.ntnu.idi.idatt.controller.BoardCatalog;
+import edu.ntnu.idi.idatt.controller.BoardManager;
+import edu.ntnu.idi.idatt.controller.GameController;
+import edu.ntnu.idi.idatt.exceptions.FileHandlingException;
+import edu.ntnu.idi.idatt.exceptions.FileReadException;
+import edu.ntnu.idi.idatt.exceptions.FileWriteException;
+import edu.ntnu.idi.idatt.factory.LadderGameFactory;
+import edu.ntnu.idi.idatt.model.BoardCatalogEntry;
+import edu.ntnu.idi.idatt.model.BoardConfig;
+import edu.ntnu.idi.idatt.model.LadderBoard;
+import edu.ntnu.idi.idatt.model.Player;
+import edu.ntnu.idi.idatt.model.ReplayTimeline;
+import edu.ntnu.idi.idatt.model.TreasureBoardConfig;
+
+/**
+ * Runs board and player file operations on a dedicated I/O executor and
+ * returns their results as {@link CompletableFuture}s.
+ * <p>
+ * This keeps slow disks from freezing the JavaFX application thread. UI
+ * code hands the result back to that thread by completing on
+ * {@code Platform::runLater}, for example:
+ * </p>
+ *
+ * <pre>
+ * service.loadPlayers(path).whenCompleteAsync((players, error) -&gt; { ... }, Platform::runLater);
+ * </pre>
+ * <p>
+ * A failed operation completes its future exceptionally with the
+ * {@link FileHandlingException} it threw, wrapped in a
+ * {@link CompletionException}.
+ * </p>
+ * <p>
+ * Operations on the same file run one at a time, in the order they were
+ * submitted, so a load submitted after a save sees the saved file and two
+ * saves never write the same file at once. Operations on the board files
+ * are ordered the same way, as one group. Operations on different files
+ * run at the same time.
+ * </p>
+ */
+public class AsyncPersistenceService implements AutoCloseable {
+  private static final Logger LOGGER = Logger.getLogger(AsyncPersistenceService.class.getName());
+
+  /** Number of I/O threads used by the shared service */
+  public static final int DEFAULT_THREADS = 2;
+
+  private static final AsyncPersistenceService SHARED = new AsyncPersistenceService(DEFAULT_THREADS, false);
+
+  // Orders operations on the board files, which share one directory
+  private static final Object BOARD_FILES = new Object();
+
+  // Numbers the replays of finished games, shared by every service
+  private static final AtomicLong REPLAY_SEQUENCE = new AtomicLong();
+
+  private final ExecutorService executor;
+  private final boolean closeable;
+  // The last operation submitted for each file, which the next one waits for
+  private final Map<Object, CompletableFuture<?>> lastOperations = new HashMap<>();
+  // Rosters opened by this service, by absolute path, kept open for reuse
+  private final Map<Path, PlayerRosterStore> rosters = new HashMap<>();
+
+  /**
+   * A file operation that may fail
+   *
+   * @param <T> The type of the result
+   */
+  @FunctionalInterface
+  public interface IoTask<T> {
+    T run() throws FileHandlingException;
+  }
+
+  /**
+   * Creates a service with its own I/O threads
+   *
+   * @param threads The number of operations that may run at the same time
+   */
+  public AsyncPersistenceService(int threads) {
+    this(threads, true);
+  }
+
+  private AsyncPersistenceService(int threads, boolean closeable) {
+    if (threads < 1) {
+      throw new IllegalArgumentException("Threads must be at least 1");
+    }
+    AtomicInteger count = new AtomicInteger();
+    this.executor = Executors.newFixedThreadPool(threads, runnable -> {
+      Thread thread = new Thread(runnable, "persistence-io-" + count.incrementAndGet());
+      thread.setDaemon(true);
+      return thread;
+    });
+    this.closeable = closeable;
+  }
+
+  /**
+   * Gets the service shared by the whole application. It runs for as long as
+   * the application does and cannot be closed; its rosters are synced after
+   * every save, so nothing is lost when the application exits.
+   *
+   * @return The shared service
+   */
+  public static AsyncPersistenceService getShared() {
+    return SHARED;
+  }
+
+  /**
+   * Runs a file operation on the I/O executor
+   *
+   * @param <T>  The type of the result
+   * @param task The operation
+   * @return A future completed with the result of the operation
+   */
+  public <T> CompletableFuture<T> submit(IoTask<T> task) {
+    if (task == null) {
+      throw new IllegalArgumentException("Task cannot be null");
+    }
+    return CompletableFuture.supplyAsync(() -> {
+      try {
+        return task.run();
+      } catch (FileHandlingException e) {
+        throw new CompletionException(e);
+      }
+    }, executor);
+  }
+
+  /**
+   * Runs a file operation once the operations submitted before it for the
+   * same file are done, whether they succeeded or not
+   */
+  private <T> CompletableFuture<T> submitInOrder(Object file, IoTask<T> task) {
+    synchronized (lastOperations) {
+      CompletableFuture<?> previous = lastOperations.get(file);
+      CompletableFuture<T> operation = previous == null
+          ? submit(task)
+          : previous.handle((result, error) -> null).thenCompose(ignored -> submit(task));
+      lastOperations.put(file, operation);
+      operation.whenComplete((result, error) -> {
+        synchronized (lastOperations) {
+          lastOperations.remove(file, operation);
+        }
+      });
+      return operation;
+    }
+  }
+
+  /**
+   * Gets the key that orders operations on a file
+   */
+  private static Path fileKey(String filePath) {
+    return Paths.get(filePath).toAbsolutePath().normalize();
+  }
+
+  /**
+   * Loads a compiled ladder board, creating the built-in board files if
+   * needed and falling back to the standard board like
+   * {@link LadderGameFactory#tryCreateBoard(String)}
+   *
+   * @param boardName The name of the board
+   * @return A future completed with the board
+   */
+  public CompletableFuture<LadderBoard> loadLadderBoard(String boardName) {
+    return submitInOrder(BOARD_FILES, () -> LadderGameFactory.tryCreateBoard(boardName)
+        .orElseThrow(() -> new FileReadException("Failed to load board: " + boardName)));
+  }
+
+  /**
+   * Loads the layout of the treasure hunt board, creating the standard
+   * board file if needed
+   *
+   * @return A future completed with the layout
+   */
+  public CompletableFuture<TreasureBoardConfig> loadTreasureBoard() {
+    return submitInOrder(BOARD_FILES, BoardManager::loadTreasureBoard);
+  }
+
+  /**
+   * Loads a board configuration from its JSON file
+   *
+   * @param boardName The name of the board
+   * @return A future completed with the configuration
+   */
+  public CompletableFuture<BoardConfig> loadBoardConfig(String boardName) {
+    return submitInOrder(BOARD_FILES, () -> BoardManager.loadBoard(boardName));
+  }
+
+  /**
+   * Loads the players in a CSV file
+   *
+   * @param filePath The path to the CSV file
+   * @return A future completed with the players
+   */
+  public CompletableFuture<List<Player>> loadPlayers(String filePath) {
+    return submitInOrder(fileKey(filePath), () -> CsvHandler.loadPlayersFromCsv(filePath));
+  }
+
+  /**
+   * Saves players to a CSV file. The list is copied, so the caller may
+   * change it once this returns.
+   *
+   * @param players  The players to save
+   * @param filePath The path to the CSV file
+   * @return A future completed when the players are saved
+   */
+  public CompletableFuture<Void> savePlayers(List<Player> players, String filePath) {
+    List<Player> copy = new ArrayList<>(players);
+    return submitInOrder(fileKey(filePath), () -> {
+      CsvHandler.savePlayersToCsv(copy, filePath);
+      return null;
+    });
+  }
+
+  /**
+   * Saves players to a roster, replacing the piece type of players that are
+   * already in it. The list is copied, so the caller may change it once
+   * this returns.
+   *
+   * @param players  The players to save
+   * @param filePath The path of the roster log
+   * @return A future completed when the players are saved
+   */
+  public CompletableFuture<Void> saveToRoster(List<Player> players, String filePath) {
+    List<Player> copy = new ArrayList<>(players);
+    return submitInOrder(fileKey(filePath), () -> {
+      PlayerRosterStore roster = getRoster(filePath);
+      roster.putAll(copy);
+      roster.sync();
+      return null;
+    });
+  }
+
+  /**
+   * Loads every player in a roster
+   *
+   * @param filePath The path of the roster log
+   * @return A future completed with the players, in the order they were
+   *         first saved
+   */
+  public CompletableFuture<List<Player>> loadRoster(String filePath) {
+    return submitInOrder(fileKey(filePath), () -> getRoster(filePath).getPlayers());
+  }
+
+  /**
+   * Saves a recorded game. The replay is encoded on the calling thread,
+   * which must be the thread running the game, and written on the I/O
+   * executor.
+   *
+   * @param game     The game the recording was made from
+   * @param timeline The recording
+   * @param filePath The path of the replay file
+   * @return A future completed when the replay is saved
+   */
+  public CompletableFuture<Void> saveReplay(GameController game, ReplayTimeline timeline, String filePath) {
+    ByteBuffer replay = ReplayHandler.encode(game, timeline);
+    return submitInOrder(fileKey(filePath), () -> {
+      ReplayHandler.writeReplay(replay, filePath);
+      return null;
+    });
+  }
+
+  /**
+   * Saves the recording of a finished game in a replay directory, named by
+   * the time it is saved and a sequence number, and deletes the oldest replays there beyond
+   * {@link ReplayHandler#MAX_SAVED_REPLAYS}. The replay is encoded on the
+   * calling thread, which must be the thread running the game.
+   *
+   * @param game      The game the recording was made from
+   * @param timeline  The recording
+   * @param directory The replay directory
+   * @return A future completed with the path of the saved replay
+   */
+  public CompletableFuture<String> saveFinishedGame(GameController game, ReplayTimeline timeline,
+      String directory) {
+    ByteBuffer replay = ReplayHandler.encode(game, timeline);
+    // The sequence number keeps games finished in the same millisecond apart
+    String fileName = System.currentTimeMillis() + "-" + REPLAY_SEQUENCE.incrementAndGet()
+        + ReplayHandler.REPLAY_EXTENSION;
+    String filePath = Paths.get(directory, fileName).toString();
+    return submitInOrder(fileKey(directory), () -> {
+      ReplayHandler.writeReplay(replay, filePath);
+      ReplayHandler.deleteOldReplays(directory, ReplayHandler.MAX_SAVED_REPLAYS);
+      return filePath;
+    });
+  }
+
+  /**
+   * Loads a recorded game
+   *
+   * @param filePath The path of the replay file
+   * @return A future completed with the replay
+   */
+  public CompletableFuture<ReplayHandler.Replay> loadReplay(String filePath) {
+    return submitInOrder(fileKey(filePath), () -> ReplayHandler.loadReplay(filePath));
+  }
+
+  /**
+   * Reads a board catalog's index and brings it up to date with the boards
+   * directory
+   *
+   * @param catalog The catalog
+   * @return A future completed with the catalog's entries
+   */
+  public CompletableFuture<List<BoardCatalogEntry>> loadCatalog(BoardCatalog catalog) {
+    return submitInOrder(BOARD_FILES, () -> {
+      catalog.load();
+      catalog.refresh();
+      return catalog.getEntries();
+    });
+  }
+
+  /**
+   * Stops the I/O threads once the operations already submitted are done,
+   * and closes the rosters this service has opened
+   *
+   * @throws IllegalStateException If this is the shared service
+   */
+  @Override
+  public void close() {
+    if (!closeable) {
+      throw new IllegalStateException("The shared persistence service cannot be closed");
+    }
+    // Operations waiting for an earlier one on the same file are not on the
+    // executor yet, so they are waited for before it stops taking work
+    CompletableFuture<?>[] waiting;
+    synchronized (lastOperations) {
+      waiting = lastOperations.values().toArray(new CompletableFuture<?>[0]);
+    }
+    try {
+      CompletableFuture.allOf(waiting).exceptionally(error -> null).get(1, TimeUnit.MINUTES);
+      executor.shutdown();
+      executor.awaitTermination(1, TimeUnit.MINUTES);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      executor.shutdown();
+    } catch (ExecutionException | TimeoutException e) {
+      LOGGER.log(Level.WARNING, "Gave up waiting for file operations to finish", e);
+      executor.shutdown();
+    }
+    synchronized (rosters) {
+      for (PlayerRosterStore roster : rosters.values()) {
+        try {
+          roster.close();
+        } catch (FileWriteException e) {
+          LOGGER.log(Level.WARNING, "Failed to close player roster", e);
+        }
+      }
+      rosters.clear();
+    }
+  }
+
+  /**
+   * Gets an open roster, opening it the first time it is used
+   */
+  private PlayerRosterStore getRoster(String filePath) throws FileReadException {
+    Path path = fileKey(filePath);
+    synchronized (rosters) {
+      PlayerRosterStore roster = rosters.get(path);
+      if (roster == null) {
+        roster = PlayerRosterStore.open(path.toString());
+        rosters.put(path, roster);
+      }
+      return roster;
+    }
+  }
+}
@@ -0,0 +1,121 @@
+package edu.ntnu.idi.idatt.persistence;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.FileAlreadyExistsException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Replaces files by writing a temporary file next to the target and moving
+ * it into place, so readers see either the old file or the complete new
+ * one, never a partial write.
+ */
+final class AtomicFileWriter {
+  private static final Logger LOGGER = Logger.getLogger(AtomicFileWriter.class.getName());
+
+  private AtomicFileWriter() {
+  }
+
+  /**
+   * Writes a buffer to a file, replacing any earlier file
+   *
+   * @param data   The bytes to write, from the buffer's position to its limit.
+   *               The buffer itself is not moved.
+   * @param target The file to replace
+   * @param sync   Whether to force the data to disk before the move
+   * @throws IOException If the file could not be written
+   */
+  static void write(ByteBuffer data, Path target, boolean sync) throws IOException {
+    Path temp = createTempFile(target);
+    try {
+      try (FileChannel channel = FileChannel.open(temp, StandardOpenOption.WRITE)) {
+        ByteBuffer remaining = data.duplicate();
+        while (remaining.hasRemaining()) {
+          channel.write(remaining);
+        }
+        if (sync) {
+          channel.force(true);
+        }
+      }
+      moveIntoPlace(temp, target);
+      temp = null;
+    } finally {
+      if (temp != null) {
+        deleteQuietly(temp);
+      }
+    }
+  }
+
+  /**
+   * Creates an empty file in the target's directory to write the new content
+   * to. {@link Files#createTempFile} would make it readable by its owner
+   * only; this file instead gets the target's permissions, or the default
+   * ones when there is no target yet, so replacing a file does not change
+   * who can read it.
+   *
+   * @param target The file that will be replaced
+   * @return The new, empty file
+   * @throws IOException If the file could not be created
+   */
+  static Path createTempFile(Path target) throws IOException {
+    Path absolute = target.toAbsolutePath();
+    Path directory = absolute.getParent();
+    Files.createDirectories(directory);
+    Path temp;
+    while (true) {
+      temp = directory.resolve(absolute.getFileName() + "."
+          + Long.toUnsignedString(ThreadLocalRandom.current().nextLong(), 36) + ".tmp");
+      try {
+        Files.createFile(temp);
+        break;
+      } catch (FileAlreadyExistsException e) {
+        // Another writer picked the same name; try the next one
+      }
+    }
+    if (Files.exists(absolute)) {
+      try {
+        Files.setPosixFilePermissions(temp, Files.getPosixFilePermissions(absolute));
+      } catch (UnsupportedOperationException e) {
+        // The file system has no POSIX permissions to keep
+      }
+    }
+    return temp;
+  }
+
+  /**
+   * Replaces the target with the written file, atomically where the file
+   * system supports it
+   *
+   * @param source The written file
+   * @param target The file to replace
+   * @throws IOException If the file could not be moved
+   */
+  static void moveIntoPlace(Path source, Path target) throws IOException {
+    try {
+      Files.move(source, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+    } catch (AtomicMoveNotSupportedException e) {
+      Files.move(source, target, StandardCopyOption.REPLACE_EXISTING);
+    }
+  }
+
+  /**
+   * Deletes a temporary file left behind by a failed write
+   *
+   * @param temp The file to delete
+   */
+  static void deleteQuietly(Path temp) {
+    try {
+      Files.deleteIfExists(temp);
+    } catch (IOException e) {
+      LOGGER.log(Level.WARNING, "Failed to delete temporary file: " + temp, e);
+    }
+  }
+}
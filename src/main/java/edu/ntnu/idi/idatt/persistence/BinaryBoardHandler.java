@@ -0,0 +1,321 @@
+package edu.ntnu.idi.idatt.persistence;
+
+import java.io.IOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+
+import edu.ntnu.idi.idatt.exceptions.FileReadException;
+import edu.ntnu.idi.idatt.exceptions.FileWriteException;
+import edu.ntnu.idi.idatt.model.BoardConfig;
+import edu.ntnu.idi.idatt.model.TreasureBoardConfig;
+
+/**
+ * Reads and writes boards in a compact, versioned binary format.
+ * <p>
+ * Binary boards are meant for large generated boards, where JSON is slow to
+ * parse and takes several times the space. Files are read through a
+ * {@link MappedByteBuffer}, so the tables are copied straight out of the
+ * operating system's page cache, which is shared by every process that
+ * opens the same board.
+ * </p>
+ * <p>
+ * Layout, all numbers big-endian: magic, format version, board type, rows,
+ * columns, name and description. A ladder board follows with the number of
+ * snakes, ladders and wormholes and then the packed tables: snake heads,
+ * snake tails, ladder starts, ladder ends and wormhole starts, one int per
+ * entry. A treasure board follows with one byte per tile holding its type,
+ * in tile order. Strings are stored as a length followed by UTF-8 bytes,
+ * with length -1 for null.
+ * </p>
+ */
+public class BinaryBoardHandler {
+  private static final int MAGIC = 0x534C4244; // "SLBD"
+  private static final short FORMAT_VERSION = 1;
+
+  /** Board type of a snakes and ladders board */
+  public static final byte BOARD_LADDER = 1;
+  /** Board type of a treasure hunt board */
+  public static final byte BOARD_TREASURE = 2;
+
+  private static final int HEADER_SIZE = 4 + 2 + 1 + 4 + 4;
+
+  /**
+   * Encodes a ladder board configuration
+   *
+   * @param config The board to encode
+   * @return A buffer ready to be read, holding the board
+   */
+  public static ByteBuffer encode(BoardConfig config) {
+    if (config == null) {
+      throw new IllegalArgumentException("Config cannot be null");
+    }
+    byte[] name = BinaryStrings.toBytes(config.getName());
+    byte[] description = BinaryStrings.toBytes(config.getDescription());
+    int snakes = config.getSnakeCount();
+    int ladders = config.getLadderCount();
+    int wormholes = config.getWormholeCount();
+    long size = HEADER_SIZE + BinaryStrings.stringSize(name) + BinaryStrings.stringSize(description) + 12
+        + 4L * (2L * snakes + 2L * ladders + wormholes);
+
+    ByteBuffer buffer = allocate(size);
+    writeHeader(buffer, BOARD_LADDER, config.getRows(), config.getColumns(), name, description);
+    buffer.putInt(snakes).putInt(ladders).putInt(wormholes);
+    for (int i = 0; i < snakes; i++) {
+      buffer.putInt(config.getSnakeHead(i));
+    }
+    for (int i = 0; i < snakes; i++) {
+      buffer.putInt(config.getSnakeTail(i));
+    }
+    for (int i = 0; i < ladders; i++) {
+      buffer.putInt(config.getLadderStart(i));
+    }
+    for (int i = 0; i < ladders; i++) {
+      buffer.putInt(config.getLadderEnd(i));
+    }
+    for (int i = 0; i < wormholes; i++) {
+      buffer.putInt(config.getWormholeStart(i));
+    }
+    return buffer.flip();
+  }
+
+  /**
+   * Encodes a treasure board layout
+   *
+   * @param config      The layout to encode
+   * @param name        The name of the board
+   * @param description The description of the board
+   * @return A buffer ready to be read, holding the board
+   */
+  public static ByteBuffer encode(TreasureBoardConfig config, String name, String description) {
+    if (config == null) {
+      throw new IllegalArgumentException("Config cannot be null");
+    }
+    byte[] nameBytes = BinaryStrings.toBytes(name);
+    byte[] descriptionBytes = BinaryStrings.toBytes(description);
+    long size = HEADER_SIZE + BinaryStrings.stringSize(nameBytes) + BinaryStrings.stringSize(descriptionBytes)
+        + (long) config.ROWS * config.COLUMNS;
+
+    ByteBuffer buffer = allocate(size);
+    writeHeader(buffer, BOARD_TREASURE, config.ROWS, config.COLUMNS, nameBytes, descriptionBytes);
+    for (int row = 0; row < config.ROWS; row++) {
+      for (int col = 0; col < config.COLUMNS; col++) {
+        buffer.put((byte) config.STANDARD_LAYOUT[row][col]);
+      }
+    }
+    return buffer.flip();
+  }
+
+  /**
+   * Reads the board type of an encoded board without moving the buffer
+   *
+   * @param buffer The board, positioned at its first byte
+   * @return {@link #BOARD_LADDER} or {@link #BOARD_TREASURE}
+   * @throws FileReadException If the buffer does not hold a binary board
+   */
+  public static byte getBoardType(ByteBuffer buffer) throws FileReadException {
+    try {
+      return readHeader(buffer.duplicate());
+    } catch (BufferUnderflowException e) {
+      throw new FileReadException("Board file is truncated", e);
+    }
+  }
+
+  /**
+   * Decodes a ladder board configuration
+   *
+   * @param buffer The board, positioned at its first byte
+   * @return The board configuration
+   * @throws FileReadException If the buffer does not hold a valid ladder board
+   */
+  public static BoardConfig decodeBoardConfig(ByteBuffer buffer) throws FileReadException {
+    try {
+      byte type = readHeader(buffer);
+      if (type != BOARD_LADDER) {
+        throw new FileReadException("Not a ladder board");
+      }
+      int rows = buffer.getInt();
+      int columns = buffer.getInt();
+      BoardConfig config = new BoardConfig(BinaryStrings.getString(buffer, "Board file"), BinaryStrings.getString(buffer, "Board file"), rows, columns);
+
+      int snakes = buffer.getInt();
+      int ladders = buffer.getInt();
+      int wormholes = buffer.getInt();
+      if (snakes < 0 || ladders < 0 || wormholes < 0
+          || 4L * (2L * snakes + 2L * ladders + wormholes) > buffer.remaining()) {
+        throw new FileReadException("Board file is corrupt: invalid table sizes");
+      }
+      int[] heads = getInts(buffer, snakes);
+      int[] tails = getInts(buffer, snakes);
+      config.setSnakes(heads, tails);
+      int[] starts = getInts(buffer, ladders);
+      int[] ends = getInts(buffer, ladders);
+      config.setLadders(starts, ends);
+      config.setWormholes(getInts(buffer, wormholes));
+      return config;
+    } catch (BufferUnderflowException e) {
+      throw new FileReadException("Board file is truncated", e);
+    } catch (IllegalArgumentException e) {
+      throw new FileReadException("Board file is corrupt: " + e.getMessage(), e);
+    }
+  }
+
+  /**
+   * Decodes a treasure board layout
+   *
+   * @param buffer The board, positioned at its first byte
+   * @return The layout
+   * @throws FileReadException If the buffer does not hold a valid treasure
+   *                           board
+   */
+  public static TreasureBoardConfig decodeTreasureBoardConfig(ByteBuffer buffer) throws FileReadException {
+    try {
+      byte type = readHeader(buffer);
+      if (type != BOARD_TREASURE) {
+        throw new FileReadException("Not a treasure board");
+      }
+      int rows = buffer.getInt();
+      int columns = buffer.getInt();
+      BinaryStrings.getString(buffer, "Board file");
+      BinaryStrings.getString(buffer, "Board file");
+      if (rows < 1 || columns < 1 || (long) rows * columns > buffer.remaining()) {
+        throw new FileReadException("Board file is corrupt: invalid dimensions " + rows + "x" + columns);
+      }
+      byte[] layout = new byte[rows * columns];
+      buffer.get(layout);
+      return new TreasureBoardConfig(rows, columns, layout);
+    } catch (BufferUnderflowException e) {
+      throw new FileReadException("Board file is truncated", e);
+    }
+  }
+
+  /**
+   * Writes a ladder board to a binary file, replacing any earlier file
+   *
+   * @param config   The board to write
+   * @param filePath The path of the board file
+   * @throws FileWriteException If the file could not be written
+   */
+  public static void writeBoard(BoardConfig config, String filePath) throws FileWriteException {
+    write(encode(config), filePath);
+  }
+
+  /**
+   * Writes a treasure board to a binary file, replacing any earlier file
+   *
+   * @param config      The layout to write
+   * @param name        The name of the board
+   * @param description The description of the board
+   * @param filePath    The path of the board file
+   * @throws FileWriteException If the file could not be written
+   */
+  public static void writeTreasureBoard(TreasureBoardConfig config, String name, String description,
+      String filePath) throws FileWriteException {
+    write(encode(config, name, description), filePath);
+  }
+
+  /**
+   * Reads a ladder board from a binary file
+   *
+   * @param filePath The path of the board file
+   * @return The board configuration
+   * @throws FileReadException If the file could not be read or is not a valid
+   *                           ladder board
+   */
+  public static BoardConfig readBoardConfig(String filePath) throws FileReadException {
+    return decodeBoardConfig(map(filePath));
+  }
+
+  /**
+   * Reads a treasure board from a binary file
+   *
+   * @param filePath The path of the board file
+   * @return The layout
+   * @throws FileReadException If the file could not be read or is not a valid
+   *                           treasure board
+   */
+  public static TreasureBoardConfig readTreasureBoardConfig(String filePath) throws FileReadException {
+    return decodeTreasureBoardConfig(map(filePath));
+  }
+
+  /**
+   * Maps a board file into memory. The mapping stays valid after the file
+   * is closed and is released when the buffer is garbage collected.
+   *
+   * @param filePath The path of the board file
+   * @return A read-only buffer over the whole file
+   * @throws FileReadException If the file could not be opened
+   */
+  public static MappedByteBuffer map(String filePath) throws FileReadException {
+    Path path = Paths.get(filePath);
+    if (!Files.exists(path)) {
+      throw new FileReadException("File not found: " + filePath);
+    }
+    try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+      return channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+    } catch (IOException e) {
+      throw new FileReadException("Error reading board file: " + filePath, e);
+    }
+  }
+
+  /**
+   * Writes the buffer to a temporary file next to the target and moves it
+   * into place, so a board that is mapped by a running game is never
+   * rewritten underneath it
+   */
+  private static void write(ByteBuffer data, String filePath) throws FileWriteException {
+    try {
+      AtomicFileWriter.write(data, Paths.get(filePath), false);
+    } catch (IOException e) {
+      throw new FileWriteException("Error writing board file: " + filePath, e);
+    }
+  }
+
+  private static ByteBuffer allocate(long size) {
+    if (size > Integer.MAX_VALUE) {
+      throw new IllegalArgumentException("Board is too large to encode: " + size + " bytes");
+    }
+    return ByteBuffer.allocate((int) size);
+  }
+
+  private static void writeHeader(ByteBuffer buffer, byte boardType, int rows, int columns,
+      byte[] name, byte[] description) {
+    buffer.putInt(MAGIC);
+    buffer.putShort(FORMAT_VERSION);
+    buffer.put(boardType);
+    buffer.putInt(rows);
+    buffer.putInt(columns);
+    BinaryStrings.putString(buffer, name);
+    BinaryStrings.putString(buffer, description);
+  }
+
+  /**
+   * Checks the magic and version and returns the board type, leaving the
+   * buffer at the dimensions
+   */
+  private static byte readHeader(ByteBuffer buffer) throws FileReadException {
+    if (buffer.remaining() < HEADER_SIZE || buffer.getInt() != MAGIC) {
+      throw new FileReadException("Not a binary board file");
+    }
+    short version = buffer.getShort();
+    if (version != FORMAT_VERSION) {
+      throw new FileReadException("Unsupported board file version: " + version);
+    }
+    return buffer.get();
+  }
+
+  /**
+   * Copies a table of ints in one bulk read
+   */
+  private static int[] getInts(ByteBuffer buffer, int count) {
+    int[] values = new int[count];
+    buffer.asIntBuffer().get(values);
+    buffer.position(buffer.position() + count * 4);
+    return values;
+  }
+}
@@ -0,0 +1,72 @@
+package edu.ntnu.idi.idatt.persistence;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+import edu.ntnu.idi.idatt.exceptions.FileReadException;
+
+/**
+ * Reads and writes the strings of the binary file formats: an int length
+ * followed by UTF-8 bytes, with a length of -1 standing for null.
+ */
+final class BinaryStrings {
+
+  private BinaryStrings() {
+  }
+
+  /**
+   * Encodes a string, so its size is known before the buffer is allocated
+   *
+   * @param value The string, or null
+   * @return The UTF-8 bytes, or null
+   */
+  static byte[] toBytes(String value) {
+    return value == null ? null : value.getBytes(StandardCharsets.UTF_8);
+  }
+
+  /**
+   * Gets the number of bytes an encoded string takes in a buffer
+   *
+   * @param bytes The bytes from {@link #toBytes}
+   * @return The size, length prefix included
+   */
+  static int stringSize(byte[] bytes) {
+    return 4 + (bytes == null ? 0 : bytes.length);
+  }
+
+  /**
+   * Writes an encoded string
+   *
+   * @param buffer The buffer to write to
+   * @param bytes  The bytes from {@link #toBytes}
+   */
+  static void putString(ByteBuffer buffer, byte[] bytes) {
+    if (bytes == null) {
+      buffer.putInt(-1);
+      return;
+    }
+    buffer.putInt(bytes.length);
+    buffer.put(bytes);
+  }
+
+  /**
+   * Reads a string
+   *
+   * @param buffer The buffer to read from
+   * @param source What is being read, for the error message
+   * @return The string, or null
+   * @throws FileReadException If the length does not fit in the buffer
+   */
+  static String getString(ByteBuffer buffer, String source) throws FileReadException {
+    int length = buffer.getInt();
+    if (length == -1) {
+      return null;
+    }
+    if (length < 0 || length > buffer.remaining()) {
+      throw new FileReadException(source + " is corrupt: invalid string length " + length);
+    }
+    byte[] bytes = new byte[length];
+    buffer.get(bytes);
+    return new String(bytes, StandardCharsets.UTF_8);
+  }
+}
@@ -0,0 +1,121 @@
+package edu.ntnu.idi.idatt.persistence;
+
+import java.io.IOException;
+import java.util.Arrays;
+
+import com.google.gson.JsonSyntaxException;
+import com.google.gson.TypeAdapter;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
+
+import edu.ntnu.idi.idatt.model.BoardConfig;
+import edu.ntnu.idi.idatt.model.IntList;
+
+/**
+ * Reads and writes {@link BoardConfig} as JSON without reflection.
+ * The snake, ladder and wormhole arrays are streamed token by token into
+ * growable int arrays that back the config directly, so no boxed value or
+ * intermediate tree is created while parsing. The JSON layout is the same
+ * as Gson's reflective one, so existing board files keep working.
+ */
+public class BoardConfigTypeAdapter extends TypeAdapter<BoardConfig> {
+  private static final int INITIAL_CAPACITY = 16;
+
+  @Override
+  public void write(JsonWriter out, BoardConfig config) throws IOException {
+    if (config == null) {
+      out.nullValue();
+      return;
+    }
+    out.beginObject();
+    out.name("name").value(config.getName());
+    out.name("description").value(config.getDescription());
+    out.name("rows").value(config.getRows());
+    out.name("columns").value(config.getColumns());
+    writeArray(out, "snakeHeads", config.getSnakeHeads());
+    writeArray(out, "snakeTails", config.getSnakeTails());
+    writeArray(out, "ladderStarts", config.getLadderStarts());
+    writeArray(out, "ladderEnds", config.getLadderEnds());
+    writeArray(out, "wormholeStarts", config.getWormholeStarts());
+    out.endObject();
+  }
+
+  @Override
+  public BoardConfig read(JsonReader in) throws IOException {
+    if (in.peek() == JsonToken.NULL) {
+      in.nextNull();
+      return null;
+    }
+    BoardConfig config = new BoardConfig();
+    int[] snakeHeads = new int[0];
+    int[] snakeTails = new int[0];
+    int[] ladderStarts = new int[0];
+    int[] ladderEnds = new int[0];
+    int[] wormholeStarts = new int[0];
+
+    try {
+      in.beginObject();
+      while (in.hasNext()) {
+        switch (in.nextName()) {
+          case "name" -> config.setName(readString(in));
+          case "description" -> config.setDescription(readString(in));
+          case "rows" -> config.setRows(in.nextInt());
+          case "columns" -> config.setColumns(in.nextInt());
+          case "snakeHeads" -> snakeHeads = readArray(in);
+          case "snakeTails" -> snakeTails = readArray(in);
+          case "ladderStarts" -> ladderStarts = readArray(in);
+          case "ladderEnds" -> ladderEnds = readArray(in);
+          case "wormholeStarts" -> wormholeStarts = readArray(in);
+          default -> in.skipValue();
+        }
+      }
+      in.endObject();
+
+      config.setSnakes(snakeHeads, snakeTails);
+      config.setLadders(ladderStarts, ladderEnds);
+    } catch (IllegalArgumentException e) {
+      // Covers numbers that are not ints as well as unpaired snakes and ladders
+      throw new JsonSyntaxException("Invalid board configuration: " + e.getMessage(), e);
+    }
+    config.setWormholes(wormholeStarts);
+    return config;
+  }
+
+  private static void writeArray(JsonWriter out, String name, IntList values) throws IOException {
+    out.name(name).beginArray();
+    for (int i = 0; i < values.size(); i++) {
+      out.value(values.getInt(i));
+    }
+    out.endArray();
+  }
+
+  private static String readString(JsonReader in) throws IOException {
+    if (in.peek() == JsonToken.NULL) {
+      in.nextNull();
+      return null;
+    }
+    return in.nextString();
+  }
+
+  /**
+   * Reads a JSON array of numbers, treating null as an empty array
+   */
+  private static int[] readArray(JsonReader in) throws IOException {
+    if (in.peek() == JsonToken.NULL) {
+      in.nextNull();
+      return new int[0];
+    }
+    int[] values = new int[INITIAL_CAPACITY];
+    int count = 0;
+    in.beginArray();
+    while (in.hasNext()) {
+      if (count == values.length) {
+        values = Arrays.copyOf(values, count * 2);
+      }
+      values[count++] = in.nextInt();
+    }
+    in.endArray();
+    return Arrays.copyOf(values, count);
+  }
+}
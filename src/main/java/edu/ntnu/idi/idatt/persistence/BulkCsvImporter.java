@@ -0,0 +1,357 @@
+package edu.ntnu.idi.idatt.persistence;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import edu.ntnu.idi.idatt.exceptions.FileReadException;
+import edu.ntnu.idi.idatt.exceptions.FileWriteException;
+import edu.ntnu.idi.idatt.model.Player;
+
+/**
+ * Imports large players CSV files into a {@link PlayerRosterStore}, using
+ * every core.
+ * <p>
+ * The file is split into chunks that end on line breaks, each chunk is
+ * memory-mapped and parsed on its own thread straight from the mapped
+ * bytes, and each chunk's players are saved into the roster in file order
+ * as soon as the chunks before it are saved, so a player listed twice ends
+ * up with the later piece type, as with a sequential import, and only a few
+ * chunks per thread are held in memory. Rows that are not a name and a piece type are
+ * rejected and reported with their line numbers; blank lines are skipped.
+ * </p>
+ * <p>
+ * Fields are read as in {@link CsvPlayerReader}, except that a quoted field
+ * may not contain a line break, since a chunk cannot tell whether a line
+ * break is quoted. Such rows are rejected.
+ * </p>
+ */
+public class BulkCsvImporter {
+  /** Number of rejected rows kept in a report */
+  public static final int MAX_REPORTED_REJECTIONS = 1000;
+
+  private static final long MIN_CHUNK_SIZE = 1L << 20;
+  private static final long MAX_CHUNK_SIZE = 256L << 20;
+  private static final int CHUNKS_AHEAD_PER_THREAD = 2;
+
+  /**
+   * The players and rejections parsed from one chunk, with line numbers
+   * counted from the start of the chunk
+   */
+  private static class ChunkResult {
+    final List<Player> players = new ArrayList<>();
+    final List<ImportReport.RejectedRow> rejections = new ArrayList<>();
+    long rejectedRows;
+    long lines;
+  }
+
+  /**
+   * What has been saved so far, with chunk line numbers turned into file
+   * line numbers
+   */
+  private static class Totals {
+    final PlayerRosterStore store;
+    final List<ImportReport.RejectedRow> rejections = new ArrayList<>();
+    long lines;
+    long imported;
+    long rejected;
+
+    Totals(PlayerRosterStore store) {
+      this.store = store;
+    }
+
+    void add(ChunkResult result) throws FileWriteException {
+      store.putAll(result.players);
+      imported += result.players.size();
+      rejected += result.rejectedRows;
+      for (ImportReport.RejectedRow row : result.rejections) {
+        if (rejections.size() < MAX_REPORTED_REJECTIONS) {
+          rejections.add(new ImportReport.RejectedRow(lines + row.getLineNumber(), row.getReason()));
+        }
+      }
+      lines += result.lines;
+    }
+  }
+
+  /**
+   * Imports a players CSV file using one thread per core
+   *
+   * @param filePath The path to the CSV file
+   * @param store    The roster to save the players into
+   * @return What was imported and rejected
+   * @throws FileReadException  If the file could not be read
+   * @throws FileWriteException If the players could not be saved
+   */
+  public static ImportReport importPlayers(String filePath, PlayerRosterStore store)
+      throws FileReadException, FileWriteException {
+    return importPlayers(filePath, store, Runtime.getRuntime().availableProcessors());
+  }
+
+  /**
+   * Imports a players CSV file
+   *
+   * @param filePath    The path to the CSV file
+   * @param store       The roster to save the players into
+   * @param parallelism The number of chunks parsed at the same time
+   * @return What was imported and rejected
+   * @throws FileReadException  If the file could not be read
+   * @throws FileWriteException If the players could not be saved
+   */
+  public static ImportReport importPlayers(String filePath, PlayerRosterStore store, int parallelism)
+      throws FileReadException, FileWriteException {
+    if (store == null) {
+      throw new IllegalArgumentException("Store cannot be null");
+    }
+    if (parallelism < 1) {
+      throw new IllegalArgumentException("Parallelism must be at least 1");
+    }
+    Path path = Paths.get(filePath);
+    if (!Files.exists(path)) {
+      throw new FileReadException("File not found: " + filePath);
+    }
+    long startTime = System.nanoTime();
+
+    Totals totals = new Totals(store);
+    long size;
+    try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+      size = channel.size();
+      long[] boundaries = splitIntoChunks(channel, size, parallelism);
+      parseChunks(channel, boundaries, parallelism, totals);
+    } catch (IOException e) {
+      throw new FileReadException("Error reading file: " + filePath, e);
+    }
+    return new ImportReport(size, totals.lines, totals.imported, totals.rejected, totals.rejections,
+        System.nanoTime() - startTime);
+  }
+
+  /**
+   * Picks chunk boundaries that fall just after a line break, aiming for a
+   * few chunks per thread so uneven chunks even out
+   */
+  private static long[] splitIntoChunks(FileChannel channel, long size, int parallelism) throws IOException {
+    long target = Math.min(MAX_CHUNK_SIZE, Math.max(MIN_CHUNK_SIZE, size / (parallelism * 4L)));
+    List<Long> boundaries = new ArrayList<>();
+    boundaries.add(0L);
+    long start = 0;
+    ByteBuffer probe = ByteBuffer.allocate(8 * 1024);
+    while (start < size) {
+      long end = start + target;
+      if (end >= size) {
+        end = size;
+      } else {
+        end = nextLineStart(channel, end - 1, size, probe);
+      }
+      boundaries.add(end);
+      start = end;
+    }
+    return boundaries.stream().mapToLong(Long::longValue).toArray();
+  }
+
+  /**
+   * Finds the position after the first line break at or after a position
+   */
+  private static long nextLineStart(FileChannel channel, long from, long size, ByteBuffer probe)
+      throws IOException {
+    long position = from;
+    while (position < size) {
+      probe.clear();
+      int read = channel.read(probe, position);
+      if (read <= 0) {
+        break;
+      }
+      for (int i = 0; i < read; i++) {
+        if (probe.get(i) == '\n') {
+          return position + i + 1;
+        }
+      }
+      position += read;
+    }
+    return size;
+  }
+
+  /**
+   * Parses the chunks and saves each one as soon as it and every chunk before
+   * it are parsed. Only a few chunks per thread are parsed ahead of the one
+   * being saved, so a large file is never held in memory all at once.
+   */
+  private static void parseChunks(FileChannel channel, long[] boundaries, int parallelism, Totals totals)
+      throws IOException, FileWriteException {
+    int chunks = boundaries.length - 1;
+    if (chunks <= 1 || parallelism == 1) {
+      for (int i = 0; i < chunks; i++) {
+        totals.add(parseChunk(channel, boundaries[i], boundaries[i + 1]));
+      }
+      return;
+    }
+
+    ExecutorService executor = Executors.newFixedThreadPool(Math.min(parallelism, chunks), runnable -> {
+      Thread thread = new Thread(runnable, "csv-bulk-import");
+      thread.setDaemon(true);
+      return thread;
+    });
+    try {
+      int window = parallelism * CHUNKS_AHEAD_PER_THREAD;
+      ArrayDeque<Future<ChunkResult>> pending = new ArrayDeque<>(window);
+      int next = 0;
+      while (next < chunks || !pending.isEmpty()) {
+        while (next < chunks && pending.size() < window) {
+          long start = boundaries[next];
+          long end = boundaries[next + 1];
+          pending.add(executor.submit(() -> parseChunk(channel, start, end)));
+          next++;
+        }
+        totals.add(pending.poll().get());
+      }
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new IOException("Import was interrupted", e);
+    } catch (ExecutionException e) {
+      if (e.getCause() instanceof IOException cause) {
+        throw cause;
+      }
+      throw new IOException("Failed to parse chunk", e.getCause());
+    } finally {
+      executor.shutdownNow();
+    }
+  }
+
+  /**
+   * Parses the lines between two positions of the file
+   */
+  private static ChunkResult parseChunk(FileChannel channel, long start, long end) throws IOException {
+    ChunkResult result = new ChunkResult();
+    MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, start, end - start);
+    int limit = buffer.limit();
+    int i = 0;
+    if (start == 0 && limit >= 3 && (buffer.get(0) & 0xFF) == 0xEF && (buffer.get(1) & 0xFF) == 0xBB
+        && (buffer.get(2) & 0xFF) == 0xBF) {
+      i = 3; // Byte order mark
+    }
+
+    byte[] field = new byte[128];
+    List<String> fields = new ArrayList<>(4);
+    while (i < limit) {
+      result.lines++;
+      fields.clear();
+      int fieldLength = 0;
+      boolean quoted = false;
+      boolean wasQuoted = false;
+      String error = null;
+
+      while (i < limit) {
+        byte b = buffer.get(i++);
+        if (quoted) {
+          if (b == '"') {
+            if (i < limit && buffer.get(i) == '"') {
+              i++;
+            } else {
+              quoted = false;
+              continue;
+            }
+          } else if (b == '\n') {
+            error = "Line break inside a quoted field";
+            break;
+          }
+        } else if (b == ',') {
+          fields.add(decode(field, fieldLength, wasQuoted));
+          fieldLength = 0;
+          wasQuoted = false;
+          continue;
+        } else if (b == '\n') {
+          break;
+        } else if (b == '\r') {
+          continue;
+        } else if (b == '"') {
+          if (wasQuoted || !isBlank(field, fieldLength)) {
+            error = "Unexpected quote";
+            i = skipLine(buffer, i, limit);
+            break;
+          }
+          fieldLength = 0;
+          quoted = true;
+          wasQuoted = true;
+          continue;
+        } else if (wasQuoted) {
+          if (b != ' ' && b != '\t') {
+            error = "Text after a closing quote";
+            i = skipLine(buffer, i, limit);
+            break;
+          }
+          continue;
+        }
+        if (fieldLength == field.length) {
+          field = Arrays.copyOf(field, field.length * 2);
+        }
+        field[fieldLength++] = b;
+      }
+      if (error == null && quoted) {
+        error = "Unclosed quote";
+      }
+      if (error != null) {
+        reject(result, error);
+        continue;
+      }
+      fields.add(decode(field, fieldLength, wasQuoted));
+
+      int size = fields.size();
+      while (size > 2 && fields.get(size - 1).isEmpty()) {
+        size--;
+      }
+      if (size == 1 && fields.get(0).isEmpty()) {
+        continue; // Blank line
+      }
+      if (size != 2) {
+        reject(result, "Expected a name and a piece type, found " + size + " fields");
+      } else if (fields.get(0).isEmpty()) {
+        reject(result, "Missing name");
+      } else if (fields.get(1).isEmpty()) {
+        reject(result, "Missing piece type");
+      } else {
+        result.players.add(new Player(fields.get(0), fields.get(1), 1));
+      }
+    }
+    return result;
+  }
+
+  private static void reject(ChunkResult result, String reason) {
+    result.rejectedRows++;
+    if (result.rejections.size() < MAX_REPORTED_REJECTIONS) {
+      result.rejections.add(new ImportReport.RejectedRow(result.lines, reason));
+    }
+  }
+
+  private static int skipLine(MappedByteBuffer buffer, int i, int limit) {
+    while (i < limit && buffer.get(i++) != '\n') {
+      // Skip the rest of a rejected line
+    }
+    return i;
+  }
+
+  private static boolean isBlank(byte[] bytes, int length) {
+    for (int i = 0; i < length; i++) {
+      if (bytes[i] != ' ' && bytes[i] != '\t') {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  private static String decode(byte[] bytes, int length, boolean quoted) {
+    String value = new String(bytes, 0, length, StandardCharsets.UTF_8);
+    return quoted ? value : value.trim();
+  }
+}
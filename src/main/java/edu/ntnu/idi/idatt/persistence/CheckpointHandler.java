@@ -0,0 +1,322 @@
+package edu.ntnu.idi.idatt.persistence;
+
+import java.io.IOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+
+import edu.ntnu.idi.idatt.controller.GameController;
+import edu.ntnu.idi.idatt.controller.LadderGameController;
+import edu.ntnu.idi.idatt.controller.TreasureGameController;
+import edu.ntnu.idi.idatt.exceptions.FileReadException;
+import edu.ntnu.idi.idatt.exceptions.FileWriteException;
+import edu.ntnu.idi.idatt.model.GameStateSnapshot;
+import edu.ntnu.idi.idatt.model.LadderBoard;
+import edu.ntnu.idi.idatt.model.LadderGameTile;
+import edu.ntnu.idi.idatt.model.Player;
+import edu.ntnu.idi.idatt.model.TreasureBoard;
+import edu.ntnu.idi.idatt.model.TreasureBoardConfig;
+
+/**
+ * Saves and restores complete games in a compact, versioned binary format.
+ * <p>
+ * A checkpoint holds everything needed to resume a game: the board (for
+ * ladder games every snake, ladder and wormhole destination; for treasure
+ * games the layout and the location of the real treasure), the players and
+ * their positions, whose turn it is and the game specific turn state. It is
+ * encoded into a single buffer and written to a temporary file that then
+ * replaces the checkpoint, so a crash while saving leaves the previous
+ * checkpoint intact.
+ * </p>
+ * <p>
+ * Layout, all numbers big-endian: magic, format version, game type, board
+ * name, rows, columns, board data, players (name, piece type, tile),
+ * current player index, move counter and state flags. Strings are stored
+ * as a length followed by UTF-8 bytes, with length -1 for null.
+ * Version 1 checkpoints, which leave out the treasure layout and always
+ * use the standard board, can still be read.
+ * </p>
+ */
+public class CheckpointHandler {
+  private static final int MAGIC = 0x534C4350; // "SLCP"
+  private static final short FORMAT_VERSION = 2;
+  private static final short STANDARD_TREASURE_VERSION = 1;
+
+  private static final byte GAME_LADDER = 1;
+  private static final byte GAME_TREASURE = 2;
+
+  private static final byte ACTION_LADDER = 1;
+  private static final byte ACTION_SNAKE = 2;
+  private static final byte ACTION_WORMHOLE = 3;
+
+  /**
+   * Encodes the state of a game. Must be called from the thread that runs
+   * the game, so the state does not change while it is encoded.
+   *
+   * @param controller The game to encode
+   * @return A buffer ready to be read, holding the checkpoint
+   */
+  public static ByteBuffer encode(GameController controller) {
+    if (controller == null) {
+      throw new IllegalArgumentException("Controller cannot be null");
+    }
+    GameStateSnapshot snapshot = controller.getSnapshot();
+    byte[] boardName = BinaryStrings.toBytes(controller.getGameBoard().getName());
+    byte[][] names = new byte[snapshot.getPlayerCount()][];
+    byte[][] pieceTypes = new byte[snapshot.getPlayerCount()][];
+    int size = 4 + 2 + 1 + BinaryStrings.stringSize(boardName) + 4 + 4 + 4 + 4 + 4 + 4 + 1;
+    for (int i = 0; i < names.length; i++) {
+      names[i] = BinaryStrings.toBytes(snapshot.getPlayerName(i));
+      pieceTypes[i] = BinaryStrings.toBytes(snapshot.getPieceType(i));
+      size += BinaryStrings.stringSize(names[i]) + BinaryStrings.stringSize(pieceTypes[i]) + 4;
+    }
+
+    ByteBuffer buffer;
+    if (controller instanceof LadderGameController ladderController) {
+      LadderBoard board = ladderController.getLadderBoard();
+      List<LadderGameTile> actionTiles = new ArrayList<>();
+      for (LadderGameTile tile : board.getTiles()) {
+        if (tile.hasAction()) {
+          actionTiles.add(tile);
+        }
+      }
+      buffer = ByteBuffer.allocate(size + actionTiles.size() * 9);
+      writeHeader(buffer, GAME_LADDER, boardName, board.getRows(), board.getColumns());
+      buffer.putInt(actionTiles.size());
+      for (LadderGameTile tile : actionTiles) {
+        buffer.putInt(tile.getNumber());
+        if (tile.hasLadder()) {
+          buffer.put(ACTION_LADDER).putInt(tile.getLadder().getNumber());
+        } else if (tile.hasSnake()) {
+          buffer.put(ACTION_SNAKE).putInt(tile.getSnake().getNumber());
+        } else {
+          buffer.put(ACTION_WORMHOLE).putInt(tile.getWormhole().getNumber());
+        }
+      }
+    } else if (controller instanceof TreasureGameController treasureController) {
+      TreasureBoard board = treasureController.getGameBoard();
+      TreasureBoardConfig config = board.getConfig();
+      buffer = ByteBuffer.allocate(size + config.getTileCount());
+      writeHeader(buffer, GAME_TREASURE, boardName, config.ROWS, config.COLUMNS);
+      for (int row = 0; row < config.ROWS; row++) {
+        for (int col = 0; col < config.COLUMNS; col++) {
+          buffer.put((byte) config.STANDARD_LAYOUT[row][col]);
+        }
+      }
+      buffer.putInt(board.getTreasureTileId());
+    } else {
+      throw new IllegalArgumentException("Unsupported game: " + controller.getClass().getSimpleName());
+    }
+
+    buffer.putInt(names.length);
+    for (int i = 0; i < names.length; i++) {
+      BinaryStrings.putString(buffer, names[i]);
+      BinaryStrings.putString(buffer, pieceTypes[i]);
+      buffer.putInt(snapshot.getTileId(i));
+    }
+    buffer.putInt(snapshot.getCurrentPlayerIndex());
+    buffer.putInt(snapshot.getMoveCounter());
+    buffer.put((byte) controller.getStateFlags());
+    return buffer.flip();
+  }
+
+  /**
+   * Decodes a checkpoint into a new controller, ready to resume the game
+   *
+   * @param buffer The checkpoint, positioned at its first byte
+   * @return The restored game
+   * @throws FileReadException If the buffer does not hold a valid checkpoint
+   */
+  public static GameController decode(ByteBuffer buffer) throws FileReadException {
+    try {
+      if (buffer.getInt() != MAGIC) {
+        throw new FileReadException("Not a game checkpoint");
+      }
+      short version = buffer.getShort();
+      if (version != FORMAT_VERSION && version != STANDARD_TREASURE_VERSION) {
+        throw new FileReadException("Unsupported checkpoint version: " + version);
+      }
+      byte gameType = buffer.get();
+      String boardName = BinaryStrings.getString(buffer, "Checkpoint");
+      int rows = buffer.getInt();
+      int columns = buffer.getInt();
+      if (rows < 1 || columns < 1 || (long) rows * columns > Integer.MAX_VALUE) {
+        throw new FileReadException("Checkpoint is corrupt: invalid dimensions " + rows + "x" + columns);
+      }
+      int tileCount = rows * columns;
+
+      GameController controller;
+      if (gameType == GAME_LADDER) {
+        LadderBoard board = new LadderBoard(rows, columns);
+        board.setName(boardName);
+        int actionCount = buffer.getInt();
+        for (int i = 0; i < actionCount; i++) {
+          LadderGameTile tile = board.getTile(getTileId(buffer, tileCount));
+          byte kind = buffer.get();
+          LadderGameTile destination = board.getTile(getTileId(buffer, tileCount));
+          switch (kind) {
+            case ACTION_LADDER -> tile.setLadder(destination);
+            case ACTION_SNAKE -> tile.setSnake(destination);
+            case ACTION_WORMHOLE -> tile.setWormhole(destination);
+            default -> throw new FileReadException("Unknown tile action: " + kind);
+          }
+        }
+        controller = new LadderGameController(board);
+      } else if (gameType == GAME_TREASURE) {
+        TreasureBoardConfig config;
+        if (version == STANDARD_TREASURE_VERSION) {
+          config = new TreasureBoardConfig();
+        } else {
+          if (tileCount > buffer.remaining()) {
+            throw new FileReadException("Checkpoint is truncated");
+          }
+          byte[] layout = new byte[tileCount];
+          buffer.get(layout);
+          config = new TreasureBoardConfig(rows, columns, layout);
+        }
+        TreasureGameController treasureController = new TreasureGameController(config);
+        treasureController.getGameBoard().setName(boardName);
+        int treasureTileId = buffer.getInt();
+        if (treasureTileId != -1) {
+          treasureController.getGameBoard().placeTreasure(checkTileId(treasureTileId, config.getTileCount()));
+        }
+        controller = treasureController;
+      } else {
+        throw new FileReadException("Unknown game type: " + gameType);
+      }
+
+      int playerCount = buffer.getInt();
+      // Every player takes at least 12 bytes, which bounds a corrupt count
+      if (playerCount < 0 || playerCount > buffer.remaining() / 12) {
+        throw new FileReadException("Checkpoint is corrupt: invalid player count " + playerCount);
+      }
+      List<Player> players = new ArrayList<>(playerCount);
+      for (int i = 0; i < playerCount; i++) {
+        String name = BinaryStrings.getString(buffer, "Checkpoint");
+        String pieceType = BinaryStrings.getString(buffer, "Checkpoint");
+        players.add(new Player(name, pieceType, getTileId(buffer, tileCount)));
+      }
+      int currentPlayerIndex = buffer.getInt();
+      int moveCounter = buffer.getInt();
+      int flags = buffer.get();
+      if (!players.isEmpty()) {
+        controller.restoreGame(players, currentPlayerIndex, moveCounter, flags);
+      }
+      return controller;
+    } catch (BufferUnderflowException e) {
+      throw new FileReadException("Checkpoint is truncated", e);
+    } catch (IllegalArgumentException e) {
+      throw new FileReadException("Checkpoint is corrupt: " + e.getMessage(), e);
+    }
+  }
+
+  /**
+   * Saves the state of a game to a file, replacing any earlier checkpoint
+   *
+   * @param controller The game to save
+   * @param filePath   The path of the checkpoint file
+   * @throws FileWriteException If the file could not be written
+   */
+  public static void saveCheckpoint(GameController controller, String filePath) throws FileWriteException {
+    writeCheckpoint(encode(controller), filePath);
+  }
+
+  /**
+   * Saves the state of a game to a file and forces it to disk before
+   * returning, so the checkpoint survives a power loss. Slower than
+   * {@link #saveCheckpoint(GameController, String)}; meant for the last save
+   * before the game closes.
+   *
+   * @param controller The game to save
+   * @param filePath   The path of the checkpoint file
+   * @throws FileWriteException If the file could not be written
+   */
+  public static void saveDurableCheckpoint(GameController controller, String filePath)
+      throws FileWriteException {
+    writeCheckpoint(encode(controller), filePath, true);
+  }
+
+  /**
+   * Writes an encoded checkpoint to a file, replacing any earlier checkpoint.
+   * Lets the caller encode on the game's thread and write on another. The
+   * file is replaced atomically but not forced to disk.
+   *
+   * @param checkpoint The checkpoint, as returned by {@link #encode}
+   * @param filePath   The path of the checkpoint file
+   * @throws FileWriteException If the file could not be written
+   */
+  public static void writeCheckpoint(ByteBuffer checkpoint, String filePath) throws FileWriteException {
+    writeCheckpoint(checkpoint, filePath, false);
+  }
+
+  /**
+   * Writes an encoded checkpoint to a file, replacing any earlier checkpoint
+   *
+   * @param checkpoint The checkpoint, as returned by {@link #encode}
+   * @param filePath   The path of the checkpoint file
+   * @param durable    Whether to force the checkpoint to disk before returning
+   * @throws FileWriteException If the file could not be written
+   */
+  public static void writeCheckpoint(ByteBuffer checkpoint, String filePath, boolean durable)
+      throws FileWriteException {
+    try {
+      AtomicFileWriter.write(checkpoint, Paths.get(filePath), durable);
+    } catch (IOException e) {
+      throw new FileWriteException("Error writing checkpoint: " + filePath, e);
+    }
+  }
+
+  /**
+   * Loads a game from a checkpoint file
+   *
+   * @param filePath The path of the checkpoint file
+   * @return The restored game
+   * @throws FileReadException If the file could not be read or is not a valid
+   *                           checkpoint
+   */
+  public static GameController loadCheckpoint(String filePath) throws FileReadException {
+    Path path = Paths.get(filePath);
+    if (!Files.exists(path)) {
+      throw new FileReadException("File not found: " + filePath);
+    }
+    try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+      ByteBuffer buffer = ByteBuffer.allocate((int) channel.size());
+      while (buffer.hasRemaining() && channel.read(buffer) >= 0) {
+        // Keep reading until the whole file is in the buffer
+      }
+      return decode(buffer.flip());
+    } catch (IOException e) {
+      throw new FileReadException("Error reading checkpoint: " + filePath, e);
+    }
+  }
+
+  private static void writeHeader(ByteBuffer buffer, byte gameType, byte[] boardName, int rows,
+      int columns) {
+    buffer.putInt(MAGIC);
+    buffer.putShort(FORMAT_VERSION);
+    buffer.put(gameType);
+    BinaryStrings.putString(buffer, boardName);
+    buffer.putInt(rows);
+    buffer.putInt(columns);
+  }
+
+  /**
+   * Reads a tile number and checks that it is on the board
+   */
+  private static int getTileId(ByteBuffer buffer, int tileCount) throws FileReadException {
+    return checkTileId(buffer.getInt(), tileCount);
+  }
+
+  private static int checkTileId(int tileId, int tileCount) throws FileReadException {
+    if (tileId < 1 || tileId > tileCount) {
+      throw new FileReadException("Checkpoint is corrupt: invalid tile " + tileId);
+    }
+    return tileId;
+  }
+}
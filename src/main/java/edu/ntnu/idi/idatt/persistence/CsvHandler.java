@@ -6,7 +6,10 @@ import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
 
 import edu.ntnu.idi.idatt.exceptions.FileReadException;
 import edu.ntnu.idi.idatt.exceptions.FileWriteException;
@@ -22,6 +25,7 @@ public class CsvHandler {
 
   /**
    * Loads players from a CSV file.
+   * The file is streamed, so only the players are kept in memory.
    *
    * @param filePath the path to the CSV file
    * @return a list of Player objects loaded from the file
@@ -29,26 +33,35 @@ public class CsvHandler {
    */
   public static List<Player> loadPlayersFromCsv(String filePath) throws FileReadException {
     List<Player> players = new ArrayList<>();
-    Path path = Paths.get(filePath);
+    forEachPlayer(filePath, players::add);
+    return players;
+  }
 
-    if (!Files.exists(path)) {
-      throw new FileReadException("File not found: " + filePath);
-    }
-    try {
-      List<String> lines = Files.readAllLines(path, StandardCharsets.UTF_8);
-      for (String line : lines) {
-        String[] parts = line.split(",");
-        if (parts.length == 2) {
-          String name = parts[0].trim();
-          String pieceType = parts[1].trim();
-          players.add(new Player(name, pieceType, 1));
-        }
-      }
-    } catch (IOException e) {
-      throw new FileReadException("Error reading file: " + filePath, e);
+  /**
+   * Streams the players in a CSV file to a consumer, one at a time, without
+   * loading the file into memory.
+   *
+   * @param filePath the path to the CSV file
+   * @param consumer receives each player in file order
+   * @return the number of players read
+   * @throws FileReadException if the file does not exist or could not be read
+   */
+  public static long forEachPlayer(String filePath, Consumer<Player> consumer) throws FileReadException {
+    try (CsvPlayerReader reader = CsvPlayerReader.open(filePath)) {
+      return reader.forEachPlayer(consumer);
     }
+  }
 
-    return players;
+  /**
+   * Formats a player as a CSV line, quoting fields that need it so that
+   * names containing commas or quotes are read back unchanged.
+   *
+   * @param name      the name of the player
+   * @param pieceType the piece type of the player
+   * @return the line, without a line break
+   */
+  public static String toCsvLine(String name, String pieceType) {
+    return quote(name) + "," + quote(pieceType);
   }
 
   /**
@@ -74,22 +87,22 @@ public class CsvHandler {
       }
     }
 
+    // Index the existing names once, so each player is matched in constant
+    // time instead of by scanning every line
+    Map<String, Integer> lineByName = new HashMap<>();
+    for (int i = 0; i < lines.size(); i++) {
+      lineByName.putIfAbsent(nameOf(lines.get(i)), i);
+    }
+
     for (Player player : players) {
-      String line = player.getName() + "," + player.getPieceType();
-      // Check if the player name already exists in the lines list
-      boolean nameExists = false;
-      for (int i = 0; i < lines.size(); i++) {
-        String existingLine = lines.get(i);
-        String existingName = existingLine.split(",")[0];
-        if (existingName.equals(player.getName())) {
-          // Update the piece type for this player
-          lines.set(i, line);
-          nameExists = true;
-          break;
-        }
-      }
-      // If name doesn't exist, add as a new entry
-      if (!nameExists) {
+      String line = toCsvLine(player.getName(), player.getPieceType());
+      Integer existing = lineByName.get(player.getName());
+      if (existing != null) {
+        // Update the piece type for this player
+        lines.set(existing, line);
+      } else {
+        // If name doesn't exist, add as a new entry
+        lineByName.put(player.getName(), lines.size());
         lines.add(line);
       }
     }
@@ -100,4 +113,40 @@ public class CsvHandler {
     }
   }
 
-}
\ No newline at end of file
+  /**
+   * Gets the name part of a line, the first field
+   */
+  private static String nameOf(String line) {
+    if (!line.startsWith("\"")) {
+      int comma = line.indexOf(',');
+      return comma == -1 ? line : line.substring(0, comma);
+    }
+    StringBuilder name = new StringBuilder();
+    for (int i = 1; i < line.length(); i++) {
+      char c = line.charAt(i);
+      if (c == '"') {
+        if (i + 1 < line.length() && line.charAt(i + 1) == '"') {
+          i++;
+        } else {
+          break;
+        }
+      }
+      name.append(c);
+    }
+    return name.toString();
+  }
+
+  private static String quote(String field) {
+    if (field == null) {
+      return "";
+    }
+    boolean needsQuotes = !field.isEmpty() && (field.indexOf(',') >= 0 || field.indexOf('"') >= 0
+        || field.indexOf('\n') >= 0 || field.indexOf('\r') >= 0
+        || Character.isWhitespace(field.charAt(0))
+        || Character.isWhitespace(field.charAt(field.length() - 1)));
+    if (!needsQuotes) {
+      return field;
+    }
+    return "\"" + field.replace("\"", "\"\"") + "\"";
+  }
+}
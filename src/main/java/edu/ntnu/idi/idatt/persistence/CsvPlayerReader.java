@@ -0,0 +1,248 @@
+package edu.ntnu.idi.idatt.persistence;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+import edu.ntnu.idi.idatt.exceptions.FileReadException;
+import edu.ntnu.idi.idatt.model.Player;
+
+/**
+ * Reads players from a CSV file one record at a time.
+ * <p>
+ * The reader follows RFC 4180: fields may be quoted, a quoted field may
+ * contain commas, line breaks and doubled quotes, and lines may end with
+ * either LF or CRLF. Unquoted fields are trimmed, as the players file has
+ * always been read that way. Only the current record is held in memory, so
+ * a file of any size is read in constant space.
+ * </p>
+ * <p>
+ * A record with a name and a piece type becomes a player. Other records,
+ * such as blank lines or lines with too many fields, are skipped.
+ * </p>
+ */
+public class CsvPlayerReader implements AutoCloseable {
+  private static final int BUFFER_SIZE = 64 * 1024;
+  private static final int END = -1;
+
+  private final Reader reader;
+  private final char[] buffer = new char[BUFFER_SIZE];
+  private int position;
+  private int limit;
+  private boolean started;
+
+  private final StringBuilder field = new StringBuilder();
+  private final List<String> fields = new ArrayList<>(4);
+  private long lineNumber = 1;
+  private long recordLineNumber;
+
+  /**
+   * Creates a reader over a character stream. The reader does its own
+   * buffering, so the stream does not need to be buffered.
+   *
+   * @param reader The stream to read from
+   */
+  public CsvPlayerReader(Reader reader) {
+    if (reader == null) {
+      throw new IllegalArgumentException("Reader cannot be null");
+    }
+    this.reader = reader;
+  }
+
+  /**
+   * Opens a UTF-8 CSV file for reading
+   *
+   * @param filePath The path to the CSV file
+   * @return The reader
+   * @throws FileReadException If the file does not exist or could not be
+   *                           opened
+   */
+  public static CsvPlayerReader open(String filePath) throws FileReadException {
+    Path path = Paths.get(filePath);
+    if (!Files.exists(path)) {
+      throw new FileReadException("File not found: " + filePath);
+    }
+    try {
+      return new CsvPlayerReader(Files.newBufferedReader(path, StandardCharsets.UTF_8));
+    } catch (IOException e) {
+      throw new FileReadException("Error reading file: " + filePath, e);
+    }
+  }
+
+  /**
+   * Reads the next player, skipping records that do not describe one
+   *
+   * @return The player, on tile 1, or null at the end of the file
+   * @throws FileReadException If the file could not be read or a quoted field
+   *                           is never closed
+   */
+  public Player readPlayer() throws FileReadException {
+    while (readRecord(fields)) {
+      int size = fields.size();
+      // A trailing comma has never made a line invalid
+      while (size > 2 && fields.get(size - 1).isEmpty()) {
+        size--;
+      }
+      if (size == 2) {
+        return new Player(fields.get(0), fields.get(1), 1);
+      }
+    }
+    return null;
+  }
+
+  /**
+   * Passes every remaining player to a consumer
+   *
+   * @param consumer Receives each player in file order
+   * @return The number of players read
+   * @throws FileReadException If the file could not be read
+   */
+  public long forEachPlayer(Consumer<Player> consumer) throws FileReadException {
+    long count = 0;
+    Player player;
+    while ((player = readPlayer()) != null) {
+      consumer.accept(player);
+      count++;
+    }
+    return count;
+  }
+
+  /**
+   * Reads the next record into the given list, replacing its contents
+   *
+   * @param record The list to fill with the fields of the record
+   * @return False at the end of the file
+   * @throws FileReadException If the file could not be read or a quoted field
+   *                           is never closed
+   */
+  public boolean readRecord(List<String> record) throws FileReadException {
+    record.clear();
+    int c = next();
+    if (c == END) {
+      return false;
+    }
+    recordLineNumber = lineNumber;
+    field.setLength(0);
+    boolean quoted = false;
+    boolean wasQuoted = false;
+
+    while (true) {
+      if (quoted) {
+        if (c == END) {
+          throw new FileReadException("Unclosed quote in record starting on line " + recordLineNumber);
+        }
+        if (c == '"') {
+          if (peek() == '"') {
+            next();
+            field.append('"');
+          } else {
+            quoted = false;
+          }
+        } else {
+          if (c == '\n') {
+            lineNumber++;
+          }
+          field.append((char) c);
+        }
+      } else if (c == ',') {
+        endField(record, wasQuoted);
+        wasQuoted = false;
+      } else if (c == '\n' || c == '\r' || c == END) {
+        if (c == '\r' && peek() == '\n') {
+          next();
+        }
+        if (c != END) {
+          lineNumber++;
+        }
+        endField(record, wasQuoted);
+        return true;
+      } else if (c == '"' && !wasQuoted && isBlank(field)) {
+        field.setLength(0);
+        quoted = true;
+        wasQuoted = true;
+      } else if (!wasQuoted || !Character.isWhitespace(c)) {
+        // Whitespace after a closing quote is dropped
+        field.append((char) c);
+      }
+      c = next();
+    }
+  }
+
+  /**
+   * Gets the line the last record read started on
+   *
+   * @return The line number, counting from 1
+   */
+  public long getLineNumber() {
+    return recordLineNumber;
+  }
+
+  @Override
+  public void close() throws FileReadException {
+    try {
+      reader.close();
+    } catch (IOException e) {
+      throw new FileReadException("Error closing CSV file", e);
+    }
+  }
+
+  private void endField(List<String> record, boolean wasQuoted) {
+    String value = field.toString();
+    record.add(wasQuoted ? value : value.trim());
+    field.setLength(0);
+  }
+
+  private static boolean isBlank(StringBuilder text) {
+    for (int i = 0; i < text.length(); i++) {
+      if (!Character.isWhitespace(text.charAt(i))) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  private int next() throws FileReadException {
+    if (position == limit && !fill()) {
+      return END;
+    }
+    return buffer[position++];
+  }
+
+  private int peek() throws FileReadException {
+    if (position == limit && !fill()) {
+      return END;
+    }
+    return buffer[position];
+  }
+
+  private boolean fill() throws FileReadException {
+    try {
+      int read;
+      do {
+        read = reader.read(buffer, 0, buffer.length);
+      } while (read == 0);
+      if (read == END) {
+        return false;
+      }
+      position = 0;
+      limit = read;
+      if (!started) {
+        started = true;
+        // Skip a byte order mark left by spreadsheet programs
+        if (buffer[0] == '\uFEFF') {
+          position = 1;
+          return position < limit || fill();
+        }
+      }
+      return true;
+    } catch (IOException e) {
+      throw new FileReadException("Error reading CSV file", e);
+    }
+  }
+}
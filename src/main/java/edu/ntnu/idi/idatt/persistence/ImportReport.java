@@ -0,0 +1,123 @@
+package edu.ntnu.idi.idatt.persistence;
+
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * The outcome of a bulk import: how much was read, how fast, and which
+ * rows were rejected.
+ */
+public class ImportReport {
+  private final long bytes;
+  private final long lines;
+  private final long importedRows;
+  private final long rejectedRows;
+  private final List<RejectedRow> rejections;
+  private final long elapsedNanos;
+
+  /**
+   * A row that could not be imported
+   */
+  public static class RejectedRow {
+    private final long lineNumber;
+    private final String reason;
+
+    public RejectedRow(long lineNumber, String reason) {
+      this.lineNumber = lineNumber;
+      this.reason = reason;
+    }
+
+    /**
+     * Gets the line the row is on
+     *
+     * @return The line number, counting from 1
+     */
+    public long getLineNumber() {
+      return lineNumber;
+    }
+
+    public String getReason() {
+      return reason;
+    }
+
+    @Override
+    public String toString() {
+      return "Line " + lineNumber + ": " + reason;
+    }
+  }
+
+  /**
+   * Creates a report
+   *
+   * @param bytes        Size of the imported file
+   * @param lines        Number of lines in the file
+   * @param importedRows Number of rows imported
+   * @param rejectedRows Number of rows rejected
+   * @param rejections   The rejected rows, in file order; may be limited to
+   *                     the first rejections
+   * @param elapsedNanos Time the import took
+   */
+  public ImportReport(long bytes, long lines, long importedRows, long rejectedRows,
+      List<RejectedRow> rejections, long elapsedNanos) {
+    this.bytes = bytes;
+    this.lines = lines;
+    this.importedRows = importedRows;
+    this.rejectedRows = rejectedRows;
+    this.rejections = Collections.unmodifiableList(rejections);
+    this.elapsedNanos = elapsedNanos;
+  }
+
+  public long getBytes() {
+    return bytes;
+  }
+
+  public long getLines() {
+    return lines;
+  }
+
+  public long getImportedRows() {
+    return importedRows;
+  }
+
+  public long getRejectedRows() {
+    return rejectedRows;
+  }
+
+  /**
+   * Gets the rejected rows, in file order. Very large imports keep only the
+   * first rejections; {@link #getRejectedRows()} has the full count.
+   *
+   * @return The rejected rows
+   */
+  public List<RejectedRow> getRejections() {
+    return rejections;
+  }
+
+  public long getElapsedNanos() {
+    return elapsedNanos;
+  }
+
+  /**
+   * Gets the read throughput
+   *
+   * @return Megabytes of input per second
+   */
+  public double getMegabytesPerSecond() {
+    return elapsedNanos == 0 ? 0 : bytes / (1024.0 * 1024.0) / (elapsedNanos / 1e9);
+  }
+
+  /**
+   * Gets the row throughput
+   *
+   * @return Imported rows per second
+   */
+  public double getRowsPerSecond() {
+    return elapsedNanos == 0 ? 0 : importedRows / (elapsedNanos / 1e9);
+  }
+
+  @Override
+  public String toString() {
+    return String.format("Imported %d rows, rejected %d, from %d lines in %.1f ms (%.1f MB/s, %.0f rows/s)",
+        importedRows, rejectedRows, lines, elapsedNanos / 1e6, getMegabytesPerSecond(), getRowsPerSecond());
+  }
+}
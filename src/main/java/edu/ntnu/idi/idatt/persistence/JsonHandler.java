@@ -1,21 +1,28 @@
 
 package edu.ntnu.idi.idatt.persistence;
 
-import java.io.FileReader;
+import java.io.BufferedWriter;
 import java.io.IOException;
 import java.io.Reader;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
 import com.google.gson.Gson;
 import com.google.gson.GsonBuilder;
+import com.google.gson.JsonIOException;
 import com.google.gson.JsonSyntaxException;
+import com.google.gson.stream.JsonWriter;
 
 import edu.ntnu.idi.idatt.exceptions.FileReadException;
 import edu.ntnu.idi.idatt.exceptions.FileWriteException;
+import edu.ntnu.idi.idatt.model.BoardConfig;
 
 /**
  * Utility class for reading and writing objects to/from JSON files using GSON
@@ -25,21 +32,39 @@ public class JsonHandler {
   private static final Gson gson = new GsonBuilder()
       .setPrettyPrinting()
       .serializeNulls()
+      .registerTypeAdapter(BoardConfig.class, new BoardConfigTypeAdapter())
       .create();
+  private static final int BUFFER_SIZE = 64 * 1024;
 
   /**
    * Writes an object to a JSON file
    *
    * @param object   The object to write
    * @param filePath The path where the JSON file will be saved
-   * @throws IOException If there's an error writing to the file
+   * @throws FileWriteException If there's an error writing to the file
    */
   public static void writeToJson(Object object, String filePath) throws FileWriteException {
+    writeToJson(object, filePath, false);
+  }
+
+  /**
+   * Writes an object to a JSON file.
+   * The object is streamed straight to a temporary file next to the target,
+   * which then replaces the target in one atomic rename. Readers therefore
+   * see either the old file or the complete new one, never a partial write,
+   * and the target keeps its permissions.
+   *
+   * @param object   The object to write
+   * @param filePath The path where the JSON file will be saved
+   * @param sync     Whether to force the data to disk before the rename
+   * @throws FileWriteException If there's an error writing to the file
+   */
+  public static void writeToJson(Object object, String filePath, boolean sync) throws FileWriteException {
     if (object == null) {
       throw new FileWriteException("Cannot serialize null object");
     }
 
-    Path path = Paths.get(filePath);
+    Path path = Paths.get(filePath).toAbsolutePath();
     // Create directories if they don't exist
     try {
       Files.createDirectories(path.getParent());
@@ -48,6 +73,28 @@ public class JsonHandler {
       throw new FileWriteException("Failed to create directories for JSON file", e);
     }
 
+    Path tempPath = null;
+    try {
+      tempPath = AtomicFileWriter.createTempFile(path);
+      try (FileChannel channel = FileChannel.open(tempPath, StandardOpenOption.WRITE);
+          JsonWriter writer = gson.newJsonWriter(
+              new BufferedWriter(Channels.newWriter(channel, StandardCharsets.UTF_8), BUFFER_SIZE))) {
+        gson.toJson(object, object.getClass(), writer);
+        writer.flush();
+        if (sync) {
+          channel.force(true);
+        }
+      }
+      AtomicFileWriter.moveIntoPlace(tempPath, path);
+      tempPath = null;
+    } catch (IOException | JsonIOException e) {
+      LOGGER.log(Level.SEVERE, "Failed to write JSON file: " + path, e);
+      throw new FileWriteException("Error writing JSON file: " + filePath, e);
+    } finally {
+      if (tempPath != null) {
+        AtomicFileWriter.deleteQuietly(tempPath);
+      }
+    }
   }
 
   /**
@@ -72,7 +119,7 @@ public class JsonHandler {
       throw new FileReadException("File not found: " + filePath);
     }
 
-    try (Reader reader = new FileReader(filePath)) {
+    try (Reader reader = Files.newBufferedReader(path, StandardCharsets.UTF_8)) {
       T result = gson.fromJson(reader, classOfT);
       if (result == null) {
         throw new IOException("Failed to deserialize JSON content");
@@ -0,0 +1,556 @@
+package edu.ntnu.idi.idatt.persistence;
+
+import java.io.IOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import edu.ntnu.idi.idatt.exceptions.FileReadException;
+import edu.ntnu.idi.idatt.exceptions.FileWriteException;
+import edu.ntnu.idi.idatt.model.Player;
+
+/**
+ * A persistent roster of players, keyed by name.
+ * <p>
+ * The roster lives in memory in a hash index and on disk in an append-only
+ * log. Saving a player appends one small record to the log, so its cost
+ * does not depend on the size of the roster. Each save of an existing
+ * player leaves an old record behind; once the log holds more than twice
+ * as many records as there are players, it is compacted on a background
+ * thread into one record per player.
+ * </p>
+ * <p>
+ * Records are a type byte followed by the name and, for saves, the piece
+ * type, each stored as a length and UTF-8 bytes. A record cut short by a
+ * crash is dropped the next time the log is opened; anything else that
+ * does not parse makes the log fail to open rather than be cut off. The
+ * roster can be exported to and imported from the players CSV format read
+ * by {@link CsvHandler}.
+ * </p>
+ */
+public class PlayerRosterStore implements AutoCloseable {
+  private static final Logger LOGGER = Logger.getLogger(PlayerRosterStore.class.getName());
+
+  /** Where the players made with "Create Player" are saved */
+  public static final String DEFAULT_PATH = "data/players/roster.log";
+
+  private static final int MAGIC = 0x534C5052; // "SLPR"
+  private static final short FORMAT_VERSION = 1;
+  private static final int HEADER_SIZE = 4 + 2;
+
+  private static final byte RECORD_PUT = 1;
+  private static final byte RECORD_REMOVE = 2;
+
+  /** Logs smaller than this are never compacted */
+  private static final int MIN_COMPACTION_RECORDS = 1024;
+  private static final int BATCH_SIZE = 64 * 1024;
+
+  private final Path logFile;
+  private final Map<String, String> index;
+  private FileChannel channel;
+  private long recordCount;
+
+  private ExecutorService compactor;
+  private boolean compacting;
+  private boolean compactionScheduled;
+  // Records appended while a compaction is writing its snapshot
+  private final List<ByteBuffer> pendingRecords = new ArrayList<>();
+  private long pendingRecordCount;
+  private boolean closed;
+
+  private PlayerRosterStore(Path logFile, Map<String, String> index, FileChannel channel,
+      long recordCount) {
+    this.logFile = logFile;
+    this.index = index;
+    this.channel = channel;
+    this.recordCount = recordCount;
+  }
+
+  /**
+   * Opens a roster, creating an empty one if the log file does not exist
+   *
+   * @param filePath The path of the log file
+   * @return The roster
+   * @throws FileReadException If the log could not be read or is not a roster
+   *                           log
+   */
+  public static PlayerRosterStore open(String filePath) throws FileReadException {
+    Path path = Paths.get(filePath).toAbsolutePath();
+    Map<String, String> index = new LinkedHashMap<>();
+    FileChannel channel = null;
+    try {
+      Files.createDirectories(path.getParent());
+      channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.READ,
+          StandardOpenOption.WRITE);
+      long recordCount = 0;
+      if (channel.size() == 0) {
+        ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE).putInt(MAGIC).putShort(FORMAT_VERSION);
+        writeFully(channel, header.flip());
+      } else {
+        recordCount = readLog(channel, index, filePath);
+      }
+      channel.position(channel.size());
+      return new PlayerRosterStore(path, index, channel, recordCount);
+    } catch (IOException e) {
+      closeQuietly(channel);
+      throw new FileReadException("Error opening player roster: " + filePath, e);
+    } catch (FileReadException e) {
+      closeQuietly(channel);
+      throw e;
+    }
+  }
+
+  /**
+   * Saves a player, replacing the piece type if the name is already in the
+   * roster
+   *
+   * @param name      The name of the player
+   * @param pieceType The piece type of the player
+   * @throws FileWriteException If the record could not be written
+   */
+  public synchronized void put(String name, String pieceType) throws FileWriteException {
+    if (name == null || name.isBlank()) {
+      throw new IllegalArgumentException("Name cannot be empty");
+    }
+    if (pieceType == null) {
+      throw new IllegalArgumentException("Piece type cannot be null");
+    }
+    if (pieceType.equals(index.get(name))) {
+      return;
+    }
+    append(encodeRecord(RECORD_PUT, name, pieceType));
+    index.put(name, pieceType);
+  }
+
+  /**
+   * Saves a player
+   *
+   * @param player The player to save
+   * @throws FileWriteException If the record could not be written
+   */
+  public void put(Player player) throws FileWriteException {
+    put(player.getName(), player.getPieceType());
+  }
+
+  /**
+   * Saves several players, in order. The records are written in large
+   * batches rather than one write per player.
+   *
+   * @param players The players to save
+   * @throws FileWriteException If a record could not be written
+   */
+  public synchronized void putAll(List<Player> players) throws FileWriteException {
+    for (Player player : players) {
+      if (player.getName() == null || player.getName().isBlank() || player.getPieceType() == null) {
+        throw new IllegalArgumentException("Every player needs a name and a piece type");
+      }
+    }
+    ByteBuffer batch = ByteBuffer.allocate(BATCH_SIZE);
+    int batchStart = 0;
+    for (int i = 0; i < players.size(); i++) {
+      Player player = players.get(i);
+      ByteBuffer record = encodeRecord(RECORD_PUT, player.getName(), player.getPieceType());
+      if (record.remaining() > batch.remaining()) {
+        appendBatch(batch.flip(), players, batchStart, i);
+        batch = ByteBuffer.allocate(Math.max(BATCH_SIZE, record.remaining()));
+        batchStart = i;
+      }
+      batch.put(record);
+    }
+    appendBatch(batch.flip(), players, batchStart, players.size());
+  }
+
+  /**
+   * Removes a player from the roster
+   *
+   * @param name The name of the player
+   * @return True if the player was in the roster
+   * @throws FileWriteException If the record could not be written
+   */
+  public synchronized boolean remove(String name) throws FileWriteException {
+    if (!index.containsKey(name)) {
+      return false;
+    }
+    append(encodeRecord(RECORD_REMOVE, name, null));
+    index.remove(name);
+    return true;
+  }
+
+  /**
+   * Gets the piece type of a player
+   *
+   * @param name The name of the player
+   * @return The piece type, or null if the player is not in the roster
+   */
+  public synchronized String getPieceType(String name) {
+    return index.get(name);
+  }
+
+  public synchronized boolean contains(String name) {
+    return index.containsKey(name);
+  }
+
+  public synchronized int size() {
+    return index.size();
+  }
+
+  /**
+   * Gets the number of records in the log, including replaced ones
+   *
+   * @return The number of records
+   */
+  public synchronized long getRecordCount() {
+    return recordCount;
+  }
+
+  /**
+   * Gets every player in the roster, in the order they were first saved
+   *
+   * @return New player objects, all on tile 1
+   */
+  public synchronized List<Player> getPlayers() {
+    List<Player> players = new ArrayList<>(index.size());
+    for (Map.Entry<String, String> entry : index.entrySet()) {
+      players.add(new Player(entry.getKey(), entry.getValue(), 1));
+    }
+    return players;
+  }
+
+  /**
+   * Forces all saved records to the storage device
+   *
+   * @throws FileWriteException If the log could not be synced
+   */
+  public synchronized void sync() throws FileWriteException {
+    ensureOpen();
+    try {
+      channel.force(false);
+    } catch (IOException e) {
+      throw new FileWriteException("Error syncing player roster: " + logFile, e);
+    }
+  }
+
+  /**
+   * Writes the roster to a players CSV file, replacing the file atomically
+   *
+   * @param filePath The path of the CSV file
+   * @throws FileWriteException If the file could not be written
+   */
+  public void exportToCsv(String filePath) throws FileWriteException {
+    Map<String, String> snapshot;
+    synchronized (this) {
+      snapshot = new LinkedHashMap<>(index);
+    }
+    StringBuilder csv = new StringBuilder();
+    for (Map.Entry<String, String> entry : snapshot.entrySet()) {
+      csv.append(CsvHandler.toCsvLine(entry.getKey(), entry.getValue())).append(System.lineSeparator());
+    }
+    try {
+      AtomicFileWriter.write(StandardCharsets.UTF_8.encode(csv.toString()), Paths.get(filePath), false);
+    } catch (IOException e) {
+      throw new FileWriteException("Error writing to file: " + filePath, e);
+    }
+  }
+
+  /**
+   * Saves every player in a players CSV file into the roster
+   *
+   * @param filePath The path of the CSV file
+   * @return The number of players read from the file
+   * @throws FileReadException  If the file could not be read
+   * @throws FileWriteException If the players could not be saved
+   */
+  public int importFromCsv(String filePath) throws FileReadException, FileWriteException {
+    List<Player> players = CsvHandler.loadPlayersFromCsv(filePath);
+    putAll(players);
+    return players.size();
+  }
+
+  /**
+   * Rewrites the log with one record per player. Saves made while the
+   * compaction runs are kept.
+   *
+   * @throws FileWriteException If the new log could not be written
+   */
+  public void compact() throws FileWriteException {
+    Map<String, String> snapshot;
+    synchronized (this) {
+      ensureOpen();
+      if (compacting) {
+        return;
+      }
+      compacting = true;
+      compactionScheduled = false;
+      pendingRecords.clear();
+      pendingRecordCount = 0;
+      snapshot = new LinkedHashMap<>(index);
+    }
+
+    Path temp = null;
+    try {
+      temp = AtomicFileWriter.createTempFile(logFile);
+      try (FileChannel out = FileChannel.open(temp, StandardOpenOption.WRITE)) {
+        ByteBuffer buffer = ByteBuffer.allocate(BATCH_SIZE);
+        buffer.putInt(MAGIC).putShort(FORMAT_VERSION);
+        for (Map.Entry<String, String> entry : snapshot.entrySet()) {
+          ByteBuffer record = encodeRecord(RECORD_PUT, entry.getKey(), entry.getValue());
+          if (record.remaining() > buffer.remaining()) {
+            writeFully(out, buffer.flip());
+            buffer.clear();
+          }
+          if (record.remaining() > buffer.remaining()) {
+            writeFully(out, record);
+          } else {
+            buffer.put(record);
+          }
+        }
+        writeFully(out, buffer.flip());
+      }
+
+      synchronized (this) {
+        // The tail is written through its own channel, which is closed
+        // before the move, as some platforms cannot replace an open file
+        try (FileChannel out = FileChannel.open(temp, StandardOpenOption.WRITE, StandardOpenOption.APPEND)) {
+          for (ByteBuffer record : pendingRecords) {
+            writeFully(out, record.duplicate());
+          }
+          out.force(false);
+        }
+        channel.close();
+        try {
+          AtomicFileWriter.moveIntoPlace(temp, logFile);
+          temp = null;
+          recordCount = snapshot.size() + pendingRecordCount;
+        } finally {
+          // After a failed move this reopens the old log, which is intact
+          channel = FileChannel.open(logFile, StandardOpenOption.WRITE, StandardOpenOption.APPEND);
+        }
+      }
+    } catch (IOException e) {
+      throw new FileWriteException("Error compacting player roster: " + logFile, e);
+    } finally {
+      synchronized (this) {
+        compacting = false;
+        pendingRecords.clear();
+        pendingRecordCount = 0;
+      }
+      if (temp != null) {
+        AtomicFileWriter.deleteQuietly(temp);
+      }
+    }
+  }
+
+  /**
+   * Waits for a running compaction and closes the log
+   */
+  @Override
+  public void close() throws FileWriteException {
+    ExecutorService executor;
+    synchronized (this) {
+      if (closed) {
+        return;
+      }
+      executor = compactor;
+    }
+    if (executor != null) {
+      executor.shutdown();
+      try {
+        executor.awaitTermination(1, TimeUnit.MINUTES);
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+      }
+    }
+    synchronized (this) {
+      closed = true;
+      try {
+        channel.close();
+      } catch (IOException e) {
+        throw new FileWriteException("Error closing player roster: " + logFile, e);
+      }
+    }
+  }
+
+  /**
+   * Appends a record and starts a background compaction when the log has
+   * grown to more than twice the size of the roster
+   */
+  private void append(ByteBuffer record) throws FileWriteException {
+    ensureOpen();
+    try {
+      writeFully(channel, record.duplicate());
+    } catch (IOException e) {
+      throw new FileWriteException("Error writing player roster: " + logFile, e);
+    }
+    recordCount++;
+    if (compacting) {
+      pendingRecords.add(record);
+      pendingRecordCount++;
+    } else if (recordCount > MIN_COMPACTION_RECORDS && recordCount > 2L * index.size()) {
+      scheduleCompaction();
+    }
+  }
+
+  /**
+   * Appends a batch of put records and applies them to the index
+   */
+  private void appendBatch(ByteBuffer batch, List<Player> players, int from, int to)
+      throws FileWriteException {
+    if (from == to) {
+      return;
+    }
+    ensureOpen();
+    try {
+      writeFully(channel, batch.duplicate());
+    } catch (IOException e) {
+      throw new FileWriteException("Error writing player roster: " + logFile, e);
+    }
+    for (int i = from; i < to; i++) {
+      index.put(players.get(i).getName(), players.get(i).getPieceType());
+    }
+    recordCount += to - from;
+    if (compacting) {
+      pendingRecords.add(batch);
+      pendingRecordCount += to - from;
+    } else if (recordCount > MIN_COMPACTION_RECORDS && recordCount > 2L * index.size()) {
+      scheduleCompaction();
+    }
+  }
+
+  private void scheduleCompaction() {
+    if (compactionScheduled) {
+      return;
+    }
+    compactionScheduled = true;
+    if (compactor == null) {
+      compactor = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "player-roster-compactor");
+        thread.setDaemon(true);
+        return thread;
+      });
+    }
+    compactor.execute(() -> {
+      try {
+        compact();
+      } catch (FileWriteException | IllegalStateException e) {
+        LOGGER.log(Level.WARNING, "Background compaction of the player roster failed", e);
+      }
+    });
+  }
+
+  private void ensureOpen() {
+    if (closed) {
+      throw new IllegalStateException("Player roster is closed");
+    }
+  }
+
+  /**
+   * Replays the log into the index and returns the number of records.
+   * A record that runs past the end of the log was cut short by a crash and
+   * is truncated away. The log is read into the heap rather than mapped,
+   * since a mapped file cannot be truncated on every platform.
+   */
+  private static long readLog(FileChannel channel, Map<String, String> index, String filePath)
+      throws IOException, FileReadException {
+    long size = channel.size();
+    if (size > Integer.MAX_VALUE) {
+      throw new FileReadException("Player roster is too large: " + filePath);
+    }
+    ByteBuffer buffer = ByteBuffer.allocate((int) size);
+    while (buffer.hasRemaining() && channel.read(buffer, buffer.position()) >= 0) {
+      // Keep reading until the whole log is in the buffer
+    }
+    buffer.flip();
+    if (size < HEADER_SIZE || buffer.getInt() != MAGIC) {
+      throw new FileReadException("Not a player roster: " + filePath);
+    }
+    short version = buffer.getShort();
+    if (version != FORMAT_VERSION) {
+      throw new FileReadException("Unsupported player roster version: " + version);
+    }
+
+    long recordCount = 0;
+    int goodPosition = buffer.position();
+    try {
+      while (buffer.hasRemaining()) {
+        byte type = buffer.get();
+        if (type != RECORD_PUT && type != RECORD_REMOVE) {
+          throw new FileReadException("Player roster is corrupt at byte " + goodPosition + ": " + filePath);
+        }
+        String name = getString(buffer, goodPosition, filePath);
+        if (type == RECORD_PUT) {
+          index.put(name, getString(buffer, goodPosition, filePath));
+        } else {
+          index.remove(name);
+        }
+        recordCount++;
+        goodPosition = buffer.position();
+      }
+    } catch (BufferUnderflowException e) {
+      LOGGER.warning("Dropping incomplete record at the end of " + filePath);
+      channel.truncate(goodPosition);
+    }
+    return recordCount;
+  }
+
+  private static ByteBuffer encodeRecord(byte type, String name, String pieceType) {
+    byte[] nameBytes = name.getBytes(StandardCharsets.UTF_8);
+    byte[] pieceBytes = pieceType == null ? null : pieceType.getBytes(StandardCharsets.UTF_8);
+    ByteBuffer record = ByteBuffer.allocate(1 + 4 + nameBytes.length
+        + (pieceBytes == null ? 0 : 4 + pieceBytes.length));
+    record.put(type);
+    record.putInt(nameBytes.length).put(nameBytes);
+    if (pieceBytes != null) {
+      record.putInt(pieceBytes.length).put(pieceBytes);
+    }
+    return record.flip();
+  }
+
+  /**
+   * Reads a string of a record. A length running past the end of the log
+   * is an underflow, as that is what a cut short record looks like; a
+   * negative length can only be corruption.
+   */
+  private static String getString(ByteBuffer buffer, int recordStart, String filePath)
+      throws FileReadException {
+    int length = buffer.getInt();
+    if (length < 0) {
+      throw new FileReadException("Player roster is corrupt at byte " + recordStart + ": " + filePath);
+    }
+    if (length > buffer.remaining()) {
+      throw new BufferUnderflowException();
+    }
+    byte[] bytes = new byte[length];
+    buffer.get(bytes);
+    return new String(bytes, StandardCharsets.UTF_8);
+  }
+
+  private static void writeFully(FileChannel channel, ByteBuffer data) throws IOException {
+    while (data.hasRemaining()) {
+      channel.write(data);
+    }
+  }
+
+  private static void closeQuietly(FileChannel channel) {
+    if (channel != null) {
+      try {
+        channel.close();
+      } catch (IOException e) {
+        LOGGER.log(Level.FINE, "Failed to close " + channel, e);
+      }
+    }
+  }
+}
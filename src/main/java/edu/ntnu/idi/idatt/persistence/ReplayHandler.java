@@ -0,0 +1,291 @@
+package edu.ntnu.idi.idatt.persistence;
+
+import java.io.IOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.FileTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.Stream;
+
+import edu.ntnu.idi.idatt.controller.GameController;
+import edu.ntnu.idi.idatt.exceptions.FileReadException;
+import edu.ntnu.idi.idatt.exceptions.FileWriteException;
+import edu.ntnu.idi.idatt.model.ReplayTimeline;
+
+/**
+ * Saves and loads recorded games for replaying.
+ * <p>
+ * A replay file starts with a checkpoint of the game, written by
+ * {@link CheckpointHandler}, which gives the board to replay on. It is
+ * followed by the recorded {@link ReplayTimeline}: the players, then every
+ * frame as the current player index, the move counter and the pieces that
+ * moved, each as a player index and a tile. Only the changes are stored;
+ * keyframes are rebuilt when the replay is loaded.
+ * </p>
+ * <p>
+ * Layout, all numbers big-endian: magic, format version, checkpoint length,
+ * checkpoint, keyframe interval, players (name, piece type), frame count
+ * and frames.
+ * </p>
+ */
+public class ReplayHandler {
+  /** Where finished games are saved for replaying */
+  public static final String REPLAY_DIRECTORY = "data/replays";
+  /** Number of replays kept in a replay directory; older ones are deleted */
+  public static final int MAX_SAVED_REPLAYS = 50;
+  /** File name ending of replay files */
+  public static final String REPLAY_EXTENSION = ".replay";
+
+  private static final int MAGIC = 0x534C5250; // "SLRP"
+  private static final short FORMAT_VERSION = 1;
+
+  /**
+   * A loaded replay: the game it was recorded from and its frames
+   */
+  public static class Replay {
+    private final GameController game;
+    private final ReplayTimeline timeline;
+
+    /**
+     * Creates a replay
+     *
+     * @param game     A game with the board the replay was recorded on
+     * @param timeline The recorded frames
+     */
+    public Replay(GameController game, ReplayTimeline timeline) {
+      if (game == null || timeline == null) {
+        throw new IllegalArgumentException("Game and timeline cannot be null");
+      }
+      this.game = game;
+      this.timeline = timeline;
+    }
+
+    public GameController getGame() {
+      return game;
+    }
+
+    public ReplayTimeline getTimeline() {
+      return timeline;
+    }
+  }
+
+  /**
+   * Encodes a recorded game. Must be called from the thread that runs the
+   * game, so neither the game nor the recording changes while it is encoded.
+   *
+   * @param game     The game the recording was made from
+   * @param timeline The recording
+   * @return A buffer ready to be read, holding the replay
+   */
+  public static ByteBuffer encode(GameController game, ReplayTimeline timeline) {
+    if (game == null || timeline == null) {
+      throw new IllegalArgumentException("Game and timeline cannot be null");
+    }
+    ByteBuffer checkpoint = CheckpointHandler.encode(game);
+    int playerCount = timeline.getPlayerCount();
+    byte[][] names = new byte[playerCount][];
+    byte[][] pieceTypes = new byte[playerCount][];
+    int size = 4 + 2 + 4 + checkpoint.remaining() + 4 + 4 + 4;
+    for (int i = 0; i < playerCount; i++) {
+      names[i] = BinaryStrings.toBytes(timeline.getPlayerName(i));
+      pieceTypes[i] = BinaryStrings.toBytes(timeline.getPieceType(i));
+      size += BinaryStrings.stringSize(names[i]) + BinaryStrings.stringSize(pieceTypes[i]);
+    }
+    int frameCount = timeline.getFrameCount();
+    for (int frame = 0; frame < frameCount; frame++) {
+      size += 12 + timeline.getChangeCount(frame) * 8;
+    }
+
+    ByteBuffer buffer = ByteBuffer.allocate(size);
+    buffer.putInt(MAGIC);
+    buffer.putShort(FORMAT_VERSION);
+    buffer.putInt(checkpoint.remaining());
+    buffer.put(checkpoint);
+    buffer.putInt(timeline.getKeyframeInterval());
+    buffer.putInt(playerCount);
+    for (int i = 0; i < playerCount; i++) {
+      BinaryStrings.putString(buffer, names[i]);
+      BinaryStrings.putString(buffer, pieceTypes[i]);
+    }
+    buffer.putInt(frameCount);
+    for (int frame = 0; frame < frameCount; frame++) {
+      int changeCount = timeline.getChangeCount(frame);
+      buffer.putInt(timeline.getCurrentPlayerIndex(frame));
+      buffer.putInt(timeline.getMoveCounter(frame));
+      buffer.putInt(changeCount);
+      for (int change = 0; change < changeCount; change++) {
+        buffer.putInt(timeline.getChangedPlayer(frame, change));
+        buffer.putInt(timeline.getChangedTile(frame, change));
+      }
+    }
+    return buffer.flip();
+  }
+
+  /**
+   * Decodes a replay
+   *
+   * @param buffer The replay, positioned at its first byte
+   * @return The replay
+   * @throws FileReadException If the buffer does not hold a valid replay
+   */
+  public static Replay decode(ByteBuffer buffer) throws FileReadException {
+    try {
+      if (buffer.getInt() != MAGIC) {
+        throw new FileReadException("Not a game replay");
+      }
+      short version = buffer.getShort();
+      if (version != FORMAT_VERSION) {
+        throw new FileReadException("Unsupported replay version: " + version);
+      }
+      int checkpointLength = buffer.getInt();
+      if (checkpointLength < 0 || checkpointLength > buffer.remaining()) {
+        throw new FileReadException("Replay is corrupt: invalid checkpoint length " + checkpointLength);
+      }
+      ByteBuffer checkpoint = buffer.slice(buffer.position(), checkpointLength);
+      buffer.position(buffer.position() + checkpointLength);
+      GameController game = CheckpointHandler.decode(checkpoint);
+
+      int keyframeInterval = buffer.getInt();
+      int playerCount = buffer.getInt();
+      // Every player takes at least 8 bytes, which bounds a corrupt count
+      if (playerCount < 0 || playerCount > buffer.remaining() / 8) {
+        throw new FileReadException("Replay is corrupt: invalid player count " + playerCount);
+      }
+      String[] names = new String[playerCount];
+      String[] pieceTypes = new String[playerCount];
+      for (int i = 0; i < playerCount; i++) {
+        names[i] = BinaryStrings.getString(buffer, "Replay");
+        pieceTypes[i] = BinaryStrings.getString(buffer, "Replay");
+      }
+      ReplayTimeline timeline = new ReplayTimeline(names, pieceTypes, keyframeInterval);
+
+      int frameCount = buffer.getInt();
+      if (frameCount < 0 || frameCount > buffer.remaining() / 12) {
+        throw new FileReadException("Replay is corrupt: invalid frame count " + frameCount);
+      }
+      int[] tileIds = new int[playerCount];
+      for (int frame = 0; frame < frameCount; frame++) {
+        int currentPlayerIndex = buffer.getInt();
+        int moveCounter = buffer.getInt();
+        int changeCount = buffer.getInt();
+        for (int change = 0; change < changeCount; change++) {
+          int player = buffer.getInt();
+          if (player < 0 || player >= playerCount) {
+            throw new FileReadException("Replay is corrupt: invalid player " + player);
+          }
+          tileIds[player] = buffer.getInt();
+        }
+        timeline.append(tileIds, currentPlayerIndex, moveCounter);
+      }
+      return new Replay(game, timeline);
+    } catch (BufferUnderflowException e) {
+      throw new FileReadException("Replay is truncated", e);
+    } catch (IllegalArgumentException | IndexOutOfBoundsException e) {
+      throw new FileReadException("Replay is corrupt: " + e.getMessage(), e);
+    }
+  }
+
+  /**
+   * Writes an encoded replay to a file, replacing any earlier file. Lets the
+   * caller encode on the game's thread and write on another.
+   *
+   * @param replay   The replay, as returned by {@link #encode}
+   * @param filePath The path of the replay file
+   * @throws FileWriteException If the file could not be written
+   */
+  public static void writeReplay(ByteBuffer replay, String filePath) throws FileWriteException {
+    try {
+      AtomicFileWriter.write(replay, Paths.get(filePath), false);
+    } catch (IOException e) {
+      throw new FileWriteException("Error writing replay: " + filePath, e);
+    }
+  }
+
+  /**
+   * Deletes the oldest replays in a directory, by last modified time, so it
+   * holds at most a given number. Other files are left alone.
+   *
+   * @param directory The replay directory
+   * @param keep      The number of replays to keep
+   * @return The number of replays deleted
+   * @throws FileWriteException If the directory could not be listed or a
+   *                            replay could not be deleted
+   */
+  public static int deleteOldReplays(String directory, int keep) throws FileWriteException {
+    if (keep < 0) {
+      throw new IllegalArgumentException("Replays to keep cannot be negative");
+    }
+    Path path = Paths.get(directory);
+    if (!Files.isDirectory(path)) {
+      return 0;
+    }
+    List<Path> replays = new ArrayList<>();
+    try (Stream<Path> files = Files.list(path)) {
+      files.filter(file -> file.getFileName().toString().endsWith(REPLAY_EXTENSION))
+          .filter(Files::isRegularFile)
+          .forEach(replays::add);
+    } catch (IOException e) {
+      throw new FileWriteException("Error listing replays: " + directory, e);
+    }
+    if (replays.size() <= keep) {
+      return 0;
+    }
+    List<FileTime> modified = new ArrayList<>(replays.size());
+    try {
+      for (Path replay : replays) {
+        modified.add(Files.getLastModifiedTime(replay));
+      }
+    } catch (IOException e) {
+      throw new FileWriteException("Error reading replay times: " + directory, e);
+    }
+    List<Integer> oldestFirst = new ArrayList<>(replays.size());
+    for (int i = 0; i < replays.size(); i++) {
+      oldestFirst.add(i);
+    }
+    oldestFirst.sort(Comparator.<Integer, FileTime>comparing(modified::get)
+        .thenComparing(i -> replays.get(i).getFileName().toString()));
+
+    int deleted = 0;
+    for (int i = 0; i < replays.size() - keep; i++) {
+      Path replay = replays.get(oldestFirst.get(i));
+      try {
+        Files.deleteIfExists(replay);
+        deleted++;
+      } catch (IOException e) {
+        throw new FileWriteException("Error deleting replay: " + replay, e);
+      }
+    }
+    return deleted;
+  }
+
+  /**
+   * Loads a replay from a file
+   *
+   * @param filePath The path of the replay file
+   * @return The replay
+   * @throws FileReadException If the file could not be read or is not a valid
+   *                           replay
+   */
+  public static Replay loadReplay(String filePath) throws FileReadException {
+    Path path = Paths.get(filePath);
+    if (!Files.exists(path)) {
+      throw new FileReadException("File not found: " + filePath);
+    }
+    try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+      ByteBuffer buffer = ByteBuffer.allocate((int) channel.size());
+      while (buffer.hasRemaining() && channel.read(buffer) >= 0) {
+        // Keep reading until the whole file is in the buffer
+      }
+      return decode(buffer.flip());
+    } catch (IOException e) {
+      throw new FileReadException("Error reading replay: " + filePath, e);
+    }
+  }
+}
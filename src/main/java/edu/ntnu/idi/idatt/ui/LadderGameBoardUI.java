@@ -2,26 +2,46 @@ package edu.ntnu.idi.idatt.ui;
 
 import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.logging.Level;
+import java.util.logging.Logger;
 
+import edu.ntnu.idi.idatt.controller.AutoPlayer;
 import edu.ntnu.idi.idatt.controller.LadderGameController;
 import edu.ntnu.idi.idatt.exceptions.FileWriteException;
 import edu.ntnu.idi.idatt.exceptions.InitializeLadderGameException;
 import edu.ntnu.idi.idatt.exceptions.LadderGameException;
+import edu.ntnu.idi.idatt.factory.LadderGameFactory;
 import edu.ntnu.idi.idatt.model.LadderBoard;
 import edu.ntnu.idi.idatt.model.LadderGameActions;
-import edu.ntnu.idi.idatt.model.LadderGameTile;
+import edu.ntnu.idi.idatt.model.GameStateSnapshot;
 import edu.ntnu.idi.idatt.model.Player;
+import edu.ntnu.idi.idatt.model.ReplayTimeline;
 import edu.ntnu.idi.idatt.observer.GameEvent;
 import edu.ntnu.idi.idatt.observer.GameObserver;
+import edu.ntnu.idi.idatt.observer.GameStateDiff;
+import edu.ntnu.idi.idatt.persistence.AsyncPersistenceService;
+import edu.ntnu.idi.idatt.persistence.ReplayHandler;
 import edu.ntnu.idi.idatt.ui.components.AnimationManager;
+import edu.ntnu.idi.idatt.ui.components.AutoPlayControls;
+import edu.ntnu.idi.idatt.ui.components.BoardCanvas;
+import edu.ntnu.idi.idatt.ui.components.BoardGeometry;
+import edu.ntnu.idi.idatt.ui.components.BoardViewport;
+import edu.ntnu.idi.idatt.ui.components.ConnectionLayer;
 import edu.ntnu.idi.idatt.ui.components.GameAlert;
 import edu.ntnu.idi.idatt.ui.components.GamePiece;
 import edu.ntnu.idi.idatt.ui.components.InfoTable;
+import edu.ntnu.idi.idatt.ui.components.TextureAtlas;
+import edu.ntnu.idi.idatt.ui.components.PerformanceOverlay;
+import edu.ntnu.idi.idatt.ui.components.LadderBoardRenderer;
 import edu.ntnu.idi.idatt.ui.components.PlayerSelectionModal;
+import edu.ntnu.idi.idatt.ui.components.PulseEventCoalescer;
+import javafx.animation.AnimationTimer;
 import javafx.application.Platform;
-import javafx.geometry.Bounds;
 import javafx.geometry.Insets;
 import javafx.geometry.Pos;
 import javafx.scene.Scene;
@@ -30,11 +50,12 @@ import javafx.scene.control.Alert.AlertType;
 import javafx.scene.control.Label;
 import javafx.scene.layout.BorderPane;
 import javafx.scene.layout.GridPane;
+import javafx.scene.layout.Region;
 import javafx.scene.layout.StackPane;
 import javafx.scene.layout.VBox;
 import javafx.scene.paint.Color;
-import javafx.scene.shape.Line;
 import javafx.stage.Stage;
+import javafx.util.Duration;
 
 /**
  * The LadderGameBoard class represents the UI for the Snakes and
@@ -42,8 +63,22 @@ import javafx.stage.Stage;
  * Implements GameObserver to receive updates from the game model.
  */
 public class LadderGameBoardUI implements GameObserver {
+  private static final Logger LOGGER = Logger.getLogger(LadderGameBoardUI.class.getName());
 
   private static final int TILE_SIZE = 80;
+  private static final int TILE_GAP = 2;
+  /** Boards with more tiles than this are drawn on a canvas */
+  public static final int CANVAS_TILE_THRESHOLD = 400;
+  /** Boards with more tiles than this are shown in a zoomable viewport */
+  public static final int VIEWPORT_TILE_THRESHOLD = 2500;
+  // Largest canvas side, tiles shrink to keep big boards within it
+  private static final double MAX_CANVAS_SIZE = 4096;
+  private static final double MIN_CANVAS_TILE_SIZE = 8;
+  private static final int MOVE_MILLIS = 500;
+  private static final int STEP_MILLIS = 150;
+  // Animation times while the game plays itself at fast speed
+  private static final int FAST_STEP_MILLIS = 15;
+  private static final int FAST_MOVE_MILLIS = 60;
 
   // UI components
   private final Map<Integer, StackPane> tilesMap = new HashMap<>();
@@ -53,6 +88,22 @@ public class LadderGameBoardUI implements GameObserver {
   private BorderPane root;
   private GamePiece gamePiece;
   private AnimationManager animationManager;
+  private PerformanceOverlay performanceOverlay;
+  private final PulseEventCoalescer eventCoalescer;
+  private BoardCanvas boardCanvas;
+  private boolean canvasRendering;
+  private BoardViewport boardViewport;
+  private LadderBoardRenderer viewportRenderer;
+  // The roll behind the move being reported, to find the tile walked to
+  private int lastDiceValue;
+  private int moveMillis = MOVE_MILLIS;
+
+  // Auto-play, and the per-frame snapshot sampling used at instant speed
+  private AutoPlayer autoPlayer;
+  private AutoPlayControls autoPlayControls;
+  private AnimationTimer snapshotSampler;
+  private long sampledVersion;
+  private int[] shownTileIds;
 
   // Game controller manages all game logic
   private final LadderGameController gameController;
@@ -63,45 +114,9 @@ public class LadderGameBoardUI implements GameObserver {
   public LadderGameBoardUI() {
     // Initialize the game controller
     this.gameController = new LadderGameController();
-
-    // Set up callbacks from controller to UI
-    setupControllerCallbacks();
-  }
-
-  /**
-   * Sets up callbacks from the GameController to update the UI
-   */
-  private void setupControllerCallbacks() {
-
-    // Handle dice roll results with UI feedback
-    gameController.setOnDiceRolled((diceValue, message, oldPosition, newPosition) -> {
-      if (infoTable != null) {
-        infoTable.updateDiceDisplay(diceValue);
-      }
-
-      if (gameInfoLabel != null) {
-        gameInfoLabel.setText(message);
-      }
-    });
-
-    // Handle detailed player movement for animation
-    gameController.setOnPlayerMovement((player, oldPosition, newPosition, checkVictory) -> {
-      animatePlayerMove(player, oldPosition, newPosition, checkVictory);
-    });
-
-    // Handle game won event
-    gameController.setOnGameWon(() -> {
-      Player winner = gameController.getCurrentPlayer();
-      String victoryMessage = winner.getName() + " has won the game!";
-      gameInfoLabel.setText(victoryMessage);
-
-      if (infoTable != null) {
-        infoTable.setRollEnabled(false);
-      }
-
-      // Show victory alert with game options
-      showGameOverAlert("Game Over", victoryMessage);
-    });
+    // Dice rolls, moves and wins reach the view only as events, merged per
+    // frame and handled in applyEvents
+    this.eventCoalescer = new PulseEventCoalescer(this::applyEvents);
   }
 
   /**
@@ -116,6 +131,22 @@ public class LadderGameBoardUI implements GameObserver {
    */
   public Scene createGameScene(String boardType, Stage primaryStage, List<Player> players)
       throws LadderGameException, FileWriteException {
+    Optional<LadderBoard> loadedBoard = LadderGameFactory.tryCreateBoard(boardType);
+    return createGameScene(loadedBoard.orElseGet(gameController::getLadderBoard), primaryStage, players);
+  }
+
+  /**
+   * Creates a game scene on a board that has already been loaded off the
+   * JavaFX thread, so no file is read while the scene is built
+   *
+   * @param board        the board to play on
+   * @param primaryStage the primary stage
+   * @param players      the list of players for the game (1-5 players)
+   * @return the created game scene
+   * @throws LadderGameException if there's an issue creating the game board
+   */
+  public Scene createGameScene(LadderBoard board, Stage primaryStage, List<Player> players)
+      throws LadderGameException {
     root = new BorderPane();
     root.setStyle("-fx-background-color: #F0EFEB;");
     root.setPadding(new Insets(20));
@@ -124,8 +155,9 @@ public class LadderGameBoardUI implements GameObserver {
     gameController.registerObserver(this, "PLAYER_MOVED", "TURN_CHANGED", "GAME_WON", "DICE_ROLLED");
 
     // Load board and set up players using the controller
-    gameController.loadBoard(boardType);
+    gameController.loadBoard(board);
     gameController.setupGame(players);
+    gameController.startRecording();
 
     // Get board from controller for UI setup
     LadderBoard gameBoard = gameController.getGameBoard();
@@ -136,23 +168,40 @@ public class LadderGameBoardUI implements GameObserver {
       showAlert("Maximum 5 players supported. Only the first 5 players will be used.");
     }
 
-    // Initialize GamePiece with players
-    gamePiece = new GamePiece(TILE_SIZE, gamePlayers);
+    // Initialize GamePiece with players, on the atlas shared by this game's
+    // pieces and dice
+    TextureAtlas atlas = TextureAtlas.forPlayers(TILE_SIZE, gamePlayers);
+    gamePiece = new GamePiece(TILE_SIZE, gamePlayers, atlas);
 
-    // Create and set up the game board UI
-    GridPane boardGrid = createGameBoardUI(gameBoard);
+    int tileCount = gameBoard.getRows() * gameBoard.getColumns();
+    boolean useViewport = tileCount > VIEWPORT_TILE_THRESHOLD;
+    boolean useCanvas = !useViewport && (canvasRendering || tileCount > CANVAS_TILE_THRESHOLD);
     GridPane gameBoardPane = new GridPane();
-    gameBoardPane.getChildren().add(boardGrid);
-
-    // Add padding around the board
-    BorderPane.setMargin(boardGrid, new Insets(20));
+    if (useViewport) {
+      boardViewport = createBoardViewport(gameBoard, gamePlayers);
+    } else if (useCanvas) {
+      boardCanvas = createBoardCanvas(gameBoard, gamePlayers);
+      gameBoardPane.getChildren().add(boardCanvas);
+    } else {
+      // Create and set up the game board UI, with the snakes and ladders on
+      // a layer of their own over the tiles
+      GridPane boardGrid = createGameBoardUI(gameBoard);
+      ConnectionLayer connectionLayer = new ConnectionLayer(gameBoard,
+          new BoardGeometry(gameBoard.getRows(), gameBoard.getColumns(), TILE_SIZE, TILE_GAP));
+      ConnectionLayer.styleTiles(gameBoard, tilesMap);
+      gameBoardPane.getChildren().add(new StackPane(boardGrid, connectionLayer));
+    }
 
     // Create InfoTable instance with roll action delegate to controller
-    infoTable = new InfoTable();
+    infoTable = new InfoTable(atlas);
     VBox controlPanel = infoTable.createControlPanel(() -> {
       infoTable.setRollEnabled(false); // Disable roll button during turn
       gameController.rollDiceAndMove();
     });
+    autoPlayer = new AutoPlayer(gameController, Platform::runLater);
+    autoPlayer.setOnFinished(() -> Platform.runLater(this::onAutoPlayFinished));
+    autoPlayControls = new AutoPlayControls(this::setAutoPlaySpeed);
+    controlPanel.getChildren().add(autoPlayControls.getContainer());
     root.setRight(controlPanel);
 
     // Get references to UI components from InfoTable
@@ -160,35 +209,42 @@ public class LadderGameBoardUI implements GameObserver {
     this.gameInfoLabel = infoTable.getGameInfoLabel();
 
     // Initialize the AnimationManager
-    this.animationManager = new AnimationManager(root, gamePiece, tilesMap, infoTable, TILE_SIZE);
+    this.animationManager = new AnimationManager(root, gamePiece, tilesMap, infoTable, TILE_SIZE, STEP_MILLIS);
+    animationManager.setPathResolver((player, from, to) -> resolveMovePath(gameBoard, from, to));
 
     // Set initial text for labels
     Player currentPlayer = gameController.getCurrentPlayer();
     statusLabel.setText(currentPlayer.getName() + "'s turn");
     gameInfoLabel.setText("Game started: " + gameBoard.getName() + "\n" + gameBoard.getDescription());
 
-    // Setup player pieces on the board
-    gamePiece.setupPlayerPieces(tilesMap.get(1));
+    // Setup player pieces on the board, the canvas and viewport draw them
+    // themselves
+    if (boardCanvas == null && boardViewport == null) {
+      gamePiece.setupPlayerPieces(tilesMap.get(1));
+    }
 
     Scene scene = new Scene(root);
+    performanceOverlay = new PerformanceOverlay(scene, root, animationManager::getQueueDepth);
 
     scene.getStylesheets().add(getClass().getResource("/edu/ntnu/idi/idatt/view/styles.css").toExternalForm());
 
     primaryStage.setTitle("Snakes and Ladders - " + gameBoard.getName());
 
-    Platform.runLater(() -> {
-      gameBoardPane.setAlignment(Pos.CENTER);
-      boardGrid.setAlignment(Pos.CENTER);
+    gameBoardPane.setAlignment(Pos.CENTER);
+    if (boardViewport != null) {
+      boardViewport.follow(currentPlayer.getTileId());
+      root.setCenter(boardViewport);
+    } else {
       root.setCenter(gameBoardPane);
-      drawSnakesAndLadders(gameBoardPane, gameBoard);
-    });
+    }
 
     return scene;
   }
 
   /**
    * Implementation of the GameObserver interface's update method.
-   * Handles different types of game events.
+   * Events are collected and applied together once per frame by
+   * {@link #applyEvents(GameStateDiff)}.
    * 
    * 
    * @param event The game event to handle
@@ -198,73 +254,81 @@ public class LadderGameBoardUI implements GameObserver {
     if (event == null)
       return;
 
-    // Process events based on their type using rule-based switch
-    switch (event.getType()) {
-      case "DICE_ROLLED" -> Platform.runLater(() -> {
-        if (infoTable != null && event.getData() instanceof Integer) {
-          infoTable.updateDiceDisplay((Integer) event.getData());
-        }
-      });
-
-      case "PLAYER_MOVED" -> Platform.runLater(() -> {
-        if (event.getData() instanceof Map) {
-          @SuppressWarnings("unchecked")
-          Map<String, Object> data = (Map<String, Object>) event.getData();
-          Player player = (Player) data.get("player");
-          int oldPosition = (Integer) data.get("from");
-          int newPosition = (Integer) data.get("to");
-          boolean checkVictory = (Boolean) data.getOrDefault("checkVictory", false);
-
-          // Use the existing animation system
-          animatePlayerMove(player, oldPosition, newPosition, checkVictory);
-        }
-      });
+    long start = System.nanoTime();
+    eventCoalescer.update(event);
+    if (performanceOverlay != null) {
+      performanceOverlay.recordUpdate(System.nanoTime() - start);
+    }
+  }
 
-      case "TURN_CHANGED" -> Platform.runLater(() -> {
-        if (statusLabel != null && event.getData() instanceof Player) {
-          Player player = (Player) event.getData();
-          statusLabel.setText(player.getName() + "'s turn");
-        }
-      });
+  /**
+   * Applies the events of one frame to the view, on the JavaFX thread
+   *
+   * @param diff The events, merged
+   */
+  private void applyEvents(GameStateDiff diff) {
+    long start = System.nanoTime();
+    Integer diceValue = diff.getDiceValue();
+    if (diceValue != null) {
+      lastDiceValue = diceValue;
+      if (infoTable != null) {
+        infoTable.updateDiceDisplay(diceValue);
+      }
+    }
 
-      case "GAME_WON" -> Platform.runLater(() -> {
-        if (event.getData() instanceof Player winner) {
-          String victoryMessage = winner.getName() + " has won the game!";
+    // Use the existing animation system for each player's merged move
+    GameStateDiff.Move lastMove = null;
+    for (GameStateDiff.Move move : diff.getMoves()) {
+      animatePlayerMove(move.getPlayer(), move.getFrom(), move.getTo(), move.isCheckVictory());
+      lastMove = move;
+    }
+    if (gameInfoLabel != null && diceValue != null && lastMove != null) {
+      LadderBoard board = gameController.getLadderBoard();
+      int landed = Math.min(lastMove.getFrom() + diceValue, board.getRows() * board.getColumns());
+      gameInfoLabel.setText(gameController.createMovementMessage(lastMove.getPlayer(), diceValue,
+          lastMove.getFrom(), landed, lastMove.getTo()));
+    }
 
-          if (gameInfoLabel != null) {
-            gameInfoLabel.setText(victoryMessage);
-          }
+    if (statusLabel != null && diff.getCurrentPlayer() != null) {
+      statusLabel.setText(diff.getCurrentPlayer().getName() + "'s turn");
+    }
 
-          if (infoTable != null) {
-            infoTable.setRollEnabled(false);
+    // Process the other events based on their type using rule-based switch
+    for (GameEvent event : diff.getOtherEvents()) {
+      switch (event.getType()) {
+        case "GAME_WON" -> {
+          if (event.getData() instanceof Player winner) {
+            showVictory(winner);
           }
-
-          // Show victory alert
-          showGameOverAlert("Game Over", victoryMessage);
         }
-      });
 
-      case "LADDER_CLIMBED", "SNAKE_SLIDE", "WORMHOLE_TELEPORT" -> {
-        if (event.getData() instanceof Map) {
-          @SuppressWarnings("unchecked")
-          Map<String, Object> data = (Map<String, Object>) event.getData();
-          handleSpecialTileEvent(event.getType(), data);
+        case "LADDER_CLIMBED", "SNAKE_SLIDE", "WORMHOLE_TELEPORT" -> {
+          if (event.getData() instanceof Map) {
+            @SuppressWarnings("unchecked")
+            Map<String, Object> data = (Map<String, Object>) event.getData();
+            handleSpecialTileEvent(event.getType(), data);
+          }
         }
-      }
 
-      case "BOARD_LOADED" -> Platform.runLater(() -> {
-        if (event.getData() instanceof LadderBoard board) {
-          if (gameInfoLabel != null) {
+        case "BOARD_LOADED" -> {
+          if (event.getData() instanceof LadderBoard board && gameInfoLabel != null) {
             gameInfoLabel.setText("Board loaded: " + board.getName() + "\n" + board.getDescription());
           }
         }
-      });
 
-      case "ERROR" -> Platform.runLater(() -> {
-        if (event.getData() != null) {
-          showAlert(event.getData().toString());
+        case "ERROR" -> {
+          if (event.getData() != null) {
+            showAlert(event.getData().toString());
+          }
         }
-      });
+
+        default -> {
+          // Not shown by this view
+        }
+      }
+    }
+    if (performanceOverlay != null) {
+      performanceOverlay.recordApply(System.nanoTime() - start);
     }
   }
 
@@ -278,30 +342,28 @@ public class LadderGameBoardUI implements GameObserver {
     if (gameInfoLabel == null)
       return;
 
-    Platform.runLater(() -> {
-      Player player = (Player) data.get("player");
-      int from = (Integer) data.get("from");
-      int to = (Integer) data.get("to");
-
-      String message;
-      message = switch (eventType) {
-        case "LADDER_CLIMBED" -> player.getName() + " climbed a ladder from " + from + " to " + to;
-        case "SNAKE_SLIDE" -> player.getName() + " slid down a snake from " + from + " to " + to;
-        case "WORMHOLE_TELEPORT" -> {
-          int movement = (Integer) data.get("movement");
-          if (movement > 0) {
-            yield player.getName() + " was teleported forward " + movement + " spaces by a wormhole!";
-          } else if (movement < 0) {
-            yield player.getName() + " was teleported backward " + Math.abs(movement) + " spaces by a wormhole!";
-          } else {
-            yield player.getName() + " entered a wormhole but came out in the same place!";
-          }
+    Player player = (Player) data.get("player");
+    int from = (Integer) data.get("from");
+    int to = (Integer) data.get("to");
+
+    String message;
+    message = switch (eventType) {
+      case "LADDER_CLIMBED" -> player.getName() + " climbed a ladder from " + from + " to " + to;
+      case "SNAKE_SLIDE" -> player.getName() + " slid down a snake from " + from + " to " + to;
+      case "WORMHOLE_TELEPORT" -> {
+        int movement = (Integer) data.get("movement");
+        if (movement > 0) {
+          yield player.getName() + " was teleported forward " + movement + " spaces by a wormhole!";
+        } else if (movement < 0) {
+          yield player.getName() + " was teleported backward " + Math.abs(movement) + " spaces by a wormhole!";
+        } else {
+          yield player.getName() + " entered a wormhole but came out in the same place!";
         }
-        default -> "";
-      };
+      }
+      default -> "";
+    };
 
-      gameInfoLabel.setText(message);
-    });
+    gameInfoLabel.setText(message);
   }
 
   /**
@@ -361,8 +423,10 @@ public class LadderGameBoardUI implements GameObserver {
 
     GridPane gridPane = new GridPane();
     gridPane.setAlignment(Pos.CENTER);
-    gridPane.setHgap(2);
-    gridPane.setVgap(2);
+    gridPane.setHgap(TILE_GAP);
+    gridPane.setVgap(TILE_GAP);
+    // Keep the tiles where the connection layer expects them
+    gridPane.setMaxSize(Region.USE_PREF_SIZE, Region.USE_PREF_SIZE);
 
     // Create tiles in a snake-like pattern
     for (int row = 0; row < rows; row++) {
@@ -398,89 +462,31 @@ public class LadderGameBoardUI implements GameObserver {
   }
 
   /**
-   * Draws snakes and ladders on the grid based on the loaded board configuration
+   * Creates a canvas for boards too large for one node per tile. Tiles
+   * shrink so the canvas stays within {@link #MAX_CANVAS_SIZE}.
+   *
+   * @throws LadderGameException If the board has invalid dimensions
    */
-  private void drawSnakesAndLadders(GridPane gridPane, LadderBoard gameBoard) {
-    // Draw ladders and snakes after all tiles are created
-    javafx.application.Platform.runLater(() -> {
-      for (int i = 1; i <= gameBoard.getRows() * gameBoard.getColumns(); i++) {
-        LadderGameTile tile = gameBoard.getTile(i);
-        // Add action graphics to the tile
-        if (tile.hasAction()) {
-          drawConnection(tile, gridPane);
-        }
-      }
-    });
+  private BoardCanvas createBoardCanvas(LadderBoard gameBoard, List<Player> players) throws LadderGameException {
+    int rows = gameBoard.getRows();
+    int cols = gameBoard.getColumns();
+
+    if (rows <= 0 || cols <= 0) {
+      throw new LadderGameException("Invalid board dimensions: " + rows + "x" + cols);
+    }
+
+    double tileSize = Math.max(MIN_CANVAS_TILE_SIZE, Math.min(TILE_SIZE, MAX_CANVAS_SIZE / Math.max(rows, cols)));
+    return new BoardCanvas(gameBoard, players, tileSize);
   }
 
   /**
-   * Draws a connection (snake, ladder, or wormhole) between two tiles
+   * Creates a zoomable viewport for boards too large to draw whole, which
+   * only draws the tiles in view
    */
-  private void drawConnection(LadderGameTile tile, GridPane pane) {
-    StackPane startTile = tilesMap.get(tile.getNumber());
-    StackPane endTile;
-
-    if (tile.hasLadder()) {
-      endTile = tilesMap.get(tile.getLadder().getNumber());
-    } else if (tile.hasSnake()) {
-      endTile = tilesMap.get(tile.getSnake().getNumber());
-    } else if (tile.hasWormhole()) {
-      endTile = tilesMap.get(tile.getWormhole().getNumber());
-    } else {
-      return; // No connection to draw
-    }
-
-    Bounds startBounds = startTile.localToScene(startTile.getBoundsInLocal());
-    Bounds endBounds = endTile.localToScene(endTile.getBoundsInLocal());
-
-    // Calculate center points
-    double startX = startBounds.getMinX() + startBounds.getWidth() / 2;
-    double startY = startBounds.getMinY() + startBounds.getHeight() / 2;
-    double endX = endBounds.getMinX() + endBounds.getWidth() / 2;
-    double endY = endBounds.getMinY() + endBounds.getHeight() / 2;
-
-    // Adjust start and end positions based on connection type
-    if (tile.hasLadder()) {
-      startY += startBounds.getHeight() * 0.3; // Start from lower part of tile
-      endY -= endBounds.getHeight() * 0.3; // End at upper part of tile
-    } else if (tile.hasSnake()) {
-      startY -= startBounds.getHeight() * 0.3; // Start from upper part of tile
-      endX += startBounds.getWidth() * 0.2; // Offset horizontally for visual interest
-      endY += endBounds.getHeight() * 0.3; // End at lower part of tile
-    } else if (tile.hasWormhole()) {
-      // Create a slight curve for wormholes
-      startX += startBounds.getWidth() * 0.1;
-    }
-
-    // Style based on type
-    if (tile.hasLadder()) {
-      // Style the ladder starting tile with green background
-      Line line = new Line(startX, startY, endX, endY);
-
-      startTile.setStyle("-fx-background-color:rgb(37, 111, 37);"); // Light green background for ladder start
-      endTile.setStyle("-fx-background-color:rgb(15, 42, 20);"); // Dark green background for ladder end
-      line.setStroke(Color.GREEN);
-      line.getStrokeDashArray().addAll(5.0, 5.0);
-      root.getChildren().add(line);
-      line.toBack();
-
-    } else if (tile.hasSnake()) {
-      Line line = new Line(startX, startY, endX, endY);
-
-      startTile.setStyle("-fx-background-color:rgb(111, 37, 37);"); // Light red background for snake head
-      endTile.setStyle("-fx-background-color:rgb(42, 15, 15);"); // Dark red background for snake tail
-      line.setStroke(Color.RED);
-      line.setStrokeWidth(2);
-      root.getChildren().add(line);
-      line.toBack();
-
-    } else if (tile.hasWormhole()) {
-      // Make wormholes purple with a distinct dashed pattern
-      startTile.setStyle("-fx-background-color:rgb(75, 0, 130);"); // Purple background for wormhole entrance
-    }
-
-    // Add the line to the root pane
-    pane.toBack();
+  private BoardViewport createBoardViewport(LadderBoard gameBoard, List<Player> players) {
+    BoardGeometry geometry = new BoardGeometry(gameBoard.getRows(), gameBoard.getColumns(), TILE_SIZE, TILE_GAP);
+    viewportRenderer = new LadderBoardRenderer(gameBoard, players, geometry);
+    return new BoardViewport(geometry, viewportRenderer, Color.web("#F0EFEB"));
   }
 
   /**
@@ -505,6 +511,33 @@ public class LadderGameBoardUI implements GameObserver {
     return tile;
   }
 
+  /**
+   * Gets the tiles a piece walks through: one tile at a time up to where the
+   * roll lands, then straight along any snake, ladder or wormhole
+   *
+   * @param board The board played on
+   * @param from  The tile the move starts on
+   * @param to    The tile the move ends on
+   * @return The tiles visited, starting with from and ending with to
+   */
+  private List<Integer> resolveMovePath(LadderBoard board, int from, int to) {
+    int landed = to;
+    if (lastDiceValue > 0) {
+      landed = Math.min(from + lastDiceValue, board.getRows() * board.getColumns());
+    }
+    if (landed < from) {
+      return List.of(from, to);
+    }
+    List<Integer> path = new ArrayList<>(landed - from + 2);
+    for (int position = from; position <= landed; position++) {
+      path.add(position);
+    }
+    if (landed != to) {
+      path.add(to);
+    }
+    return path;
+  }
+
   /**
    * Animates the player movement from one tile to another.
    * Delegates to the AnimationManager component.
@@ -515,9 +548,16 @@ public class LadderGameBoardUI implements GameObserver {
    * @param checkVictory whether to check for victory after animation
    */
   private void animatePlayerMove(Player player, int fromPosition, int toPosition, boolean checkVictory) {
-    List<Player> players = gameController.getPlayers();
-    animationManager.animatePlayerMove(player, players, fromPosition, toPosition, checkVictory);
-    infoTable.setRollEnabled(true);
+    if (boardViewport != null) {
+      boardViewport.requestRedraw();
+      boardViewport.follow(toPosition);
+    } else if (boardCanvas != null) {
+      boardCanvas.animatePiece(player, fromPosition, toPosition, Duration.millis(moveMillis), null);
+    } else {
+      List<Player> players = gameController.getPlayers();
+      animationManager.animatePlayerMove(player, players, fromPosition, toPosition, checkVictory);
+    }
+    infoTable.setRollEnabled(!isAutoPlaying());
   }
 
   /**
@@ -528,7 +568,16 @@ public class LadderGameBoardUI implements GameObserver {
    *                                       properly
    */
   public void resetGame() throws InitializeLadderGameException {
+    stopAutoPlay();
+    // Moves not yet shown are covered by placing the pieces again
+    eventCoalescer.discardPending();
     List<Player> players = gameController.getPlayers();
+    if (boardCanvas != null || boardViewport != null) {
+      resetCanvasGame();
+      return;
+    }
+    // Drop moves still playing, the pieces are placed again below
+    animationManager.interrupt();
     // Clear all player pieces from board
     for (Player player : players) {
       int oldPosition = player.getTileId();
@@ -547,6 +596,7 @@ public class LadderGameBoardUI implements GameObserver {
     } catch (Exception e) {
       throw new InitializeLadderGameException("Error while resetting game state.", e);
     }
+    gameController.startRecording();
 
     // Update the UI after reset
     Player currentPlayer = gameController.getCurrentPlayer();
@@ -569,6 +619,219 @@ public class LadderGameBoardUI implements GameObserver {
     infoTable.setRollEnabled(true);
   }
 
+  /**
+   * Resets the game when the board is drawn on a canvas or in a viewport,
+   * where pieces are drawn from the players' positions
+   *
+   * @throws InitializeLadderGameException if the game state cannot be reset
+   */
+  private void resetCanvasGame() throws InitializeLadderGameException {
+    try {
+      gameController.resetGame();
+    } catch (Exception e) {
+      throw new InitializeLadderGameException("Error while resetting game state.", e);
+    }
+    gameController.startRecording();
+    if (boardViewport != null) {
+      boardViewport.requestRedraw();
+      boardViewport.follow(1);
+    } else {
+      boardCanvas.markAllDirty();
+    }
+
+    Player currentPlayer = gameController.getCurrentPlayer();
+    if (currentPlayer != null) {
+      gameInfoLabel.setText(currentPlayer.getName() + "'s turn");
+      statusLabel.setText(currentPlayer.getName() + "'s turn");
+    }
+    infoTable.setRollEnabled(true);
+  }
+
+  /**
+   * Shows that a player has won and stops the rolling
+   *
+   * @param winner The player who won
+   */
+  private void showVictory(Player winner) {
+    String victoryMessage = winner.getName() + " has won the game!";
+
+    if (gameInfoLabel != null) {
+      gameInfoLabel.setText(victoryMessage);
+    }
+
+    if (infoTable != null) {
+      infoTable.setRollEnabled(false);
+    }
+
+    saveReplay();
+
+    // Show victory alert
+    showGameOverAlert("Game Over", victoryMessage);
+  }
+
+  /**
+   * Saves the recording of a finished game, so it can be watched from the
+   * games menu. Recording starts again when the game is reset.
+   */
+  private void saveReplay() {
+    ReplayTimeline recording = gameController.getRecording();
+    if (recording == null) {
+      return;
+    }
+    gameController.stopRecording();
+    AsyncPersistenceService.getShared()
+        .saveFinishedGame(gameController, recording, ReplayHandler.REPLAY_DIRECTORY)
+        .exceptionally(error -> {
+          LOGGER.log(Level.WARNING, "Failed to save replay", error);
+          return null;
+        });
+  }
+
+  private boolean isAutoPlaying() {
+    return autoPlayer != null && autoPlayer.isRunning();
+  }
+
+  /**
+   * Lets the game play itself at a speed, or hands it back to the players.
+   * At instant speed the controller's events are muted and the board shows
+   * the latest snapshot once per frame instead of animating each move.
+   *
+   * @param speed The speed to play at, or null to stop auto-play
+   */
+  public void setAutoPlaySpeed(AutoPlayer.Speed speed) {
+    stopAutoPlay();
+    if (speed == null || autoPlayer.isGameOver()) {
+      autoPlayControls.showOff();
+      infoTable.setRollEnabled(!autoPlayer.isGameOver());
+      return;
+    }
+
+    infoTable.setRollEnabled(false);
+    if (speed == AutoPlayer.Speed.FAST) {
+      animationManager.setStepMillis(FAST_STEP_MILLIS);
+      moveMillis = FAST_MOVE_MILLIS;
+    } else if (speed == AutoPlayer.Speed.INSTANT) {
+      animationManager.skipToEnd();
+      startSnapshotSampler();
+    }
+    autoPlayer.start(speed);
+  }
+
+  /**
+   * Stops auto-play and puts the board back in step with the game
+   */
+  private void stopAutoPlay() {
+    if (autoPlayer == null) {
+      return;
+    }
+    boolean sampling = snapshotSampler != null;
+    autoPlayer.stop();
+    if (sampling) {
+      stopSnapshotSampler();
+    }
+    animationManager.setStepMillis(STEP_MILLIS);
+    moveMillis = MOVE_MILLIS;
+  }
+
+  /**
+   * Called on the JavaFX thread once auto-play has won the game
+   */
+  private void onAutoPlayFinished() {
+    boolean sampling = snapshotSampler != null;
+    stopAutoPlay();
+    autoPlayControls.showOff();
+    // At instant speed the game won event was muted
+    if (sampling && autoPlayer.isGameOver()) {
+      showVictory(gameController.getCurrentPlayer());
+    }
+  }
+
+  private void startSnapshotSampler() {
+    List<Player> players = gameController.getPlayers();
+    shownTileIds = new int[players.size()];
+    for (int i = 0; i < shownTileIds.length; i++) {
+      shownTileIds[i] = players.get(i).getTileId();
+    }
+    sampledVersion = gameController.getSnapshot().getVersion();
+    snapshotSampler = new AnimationTimer() {
+      @Override
+      public void handle(long now) {
+        showSnapshot(gameController.getSnapshot());
+      }
+    };
+    snapshotSampler.start();
+  }
+
+  private void stopSnapshotSampler() {
+    snapshotSampler.stop();
+    snapshotSampler = null;
+    // Show the final state, then go back to reading the players
+    showSnapshot(gameController.getSnapshot());
+    if (boardCanvas != null) {
+      boardCanvas.clearSnapshot();
+    } else if (boardViewport != null) {
+      viewportRenderer.setSnapshot(null);
+      boardViewport.requestRedraw();
+    }
+  }
+
+  /**
+   * Shows a snapshot of the game, redrawing only the tiles whose pieces
+   * changed since the last one shown
+   *
+   * @param snapshot The snapshot to show
+   */
+  private void showSnapshot(GameStateSnapshot snapshot) {
+    if (snapshot.getVersion() == sampledVersion) {
+      return;
+    }
+    sampledVersion = snapshot.getVersion();
+
+    if (boardViewport != null) {
+      viewportRenderer.setSnapshot(snapshot);
+      boardViewport.requestRedraw();
+      int current = snapshot.getCurrentPlayerIndex();
+      if (current >= 0 && current < snapshot.getPlayerCount()) {
+        boardViewport.follow(snapshot.getTileId(current));
+      }
+    } else if (boardCanvas != null) {
+      boardCanvas.showSnapshot(snapshot);
+    } else {
+      Set<Integer> changedTiles = new HashSet<>();
+      for (int i = 0; i < snapshot.getPlayerCount() && i < shownTileIds.length; i++) {
+        if (shownTileIds[i] != snapshot.getTileId(i)) {
+          changedTiles.add(shownTileIds[i]);
+          changedTiles.add(snapshot.getTileId(i));
+          shownTileIds[i] = snapshot.getTileId(i);
+        }
+      }
+      for (int position : changedTiles) {
+        StackPane tile = tilesMap.get(position);
+        if (tile != null) {
+          gamePiece.showSnapshotPieces(position, tile, snapshot);
+        }
+      }
+    }
+
+    String currentName = snapshot.getCurrentPlayerName();
+    if (currentName != null) {
+      statusLabel.setText(currentName + "'s turn");
+    }
+  }
+
+  /**
+   * Sets whether the board is drawn on a single canvas instead of one node
+   * per tile. Boards with more than {@link #CANVAS_TILE_THRESHOLD} tiles
+   * always use the canvas, and boards with more than
+   * {@link #VIEWPORT_TILE_THRESHOLD} a zoomable viewport. Takes effect for
+   * the next scene created.
+   *
+   * @param canvasRendering true to draw the board on a canvas
+   */
+  public void setCanvasRendering(boolean canvasRendering) {
+    this.canvasRendering = canvasRendering;
+  }
+
   public BorderPane getRoot() {
     return root;
   }
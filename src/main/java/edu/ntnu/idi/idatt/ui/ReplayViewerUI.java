@@ -0,0 +1,167 @@
+package edu.ntnu.idi.idatt.ui;
+
+import edu.ntnu.idi.idatt.model.GameStateSnapshot;
+import edu.ntnu.idi.idatt.model.ReplayTimeline;
+import edu.ntnu.idi.idatt.persistence.ReplayHandler;
+import edu.ntnu.idi.idatt.ui.components.SpectatorWall;
+import edu.ntnu.idi.idatt.ui.pages.GamesMenu;
+import javafx.animation.AnimationTimer;
+import javafx.geometry.Insets;
+import javafx.geometry.Pos;
+import javafx.scene.Scene;
+import javafx.scene.control.Button;
+import javafx.scene.control.Label;
+import javafx.scene.control.Slider;
+import javafx.scene.layout.BorderPane;
+import javafx.scene.layout.HBox;
+import javafx.scene.layout.Priority;
+import javafx.stage.Stage;
+
+/**
+ * Plays back a recorded game, with a slider to jump to any turn.
+ * <p>
+ * The board is drawn with the same tile layout as the game boards, on a
+ * {@link SpectatorWall} holding just this game. Moving the slider only
+ * changes which frame is wanted; the frame is built from the
+ * {@link ReplayTimeline} and drawn when the board next refreshes, so
+ * dragging across a thousand turns draws one frame per refresh, not a
+ * thousand.
+ * </p>
+ */
+public class ReplayViewerUI {
+  private static final double REFRESH_RATE = 60;
+  private static final long PLAY_STEP_NANOS = 400_000_000L;
+
+  private final ReplayHandler.Replay replay;
+  private final ReplayTimeline timeline;
+  private SpectatorWall wall;
+  private Slider slider;
+  private Label frameLabel;
+  private Button playButton;
+  private AnimationTimer player;
+  private boolean playing;
+  private long lastStep;
+  private int wantedFrame;
+  private int builtFrame = -1;
+  private GameStateSnapshot builtSnapshot;
+
+  /**
+   * Creates a viewer for a replay
+   *
+   * @param replay The replay, as loaded by {@link ReplayHandler}
+   */
+  public ReplayViewerUI(ReplayHandler.Replay replay) {
+    if (replay == null) {
+      throw new IllegalArgumentException("Replay cannot be null");
+    }
+    this.replay = replay;
+    this.timeline = replay.getTimeline();
+  }
+
+  public Scene createReplayScene(Stage primaryStage) {
+    if (timeline.getFrameCount() == 0) {
+      throw new IllegalArgumentException("Replay has no frames");
+    }
+    wall = new SpectatorWall();
+    wall.setRefreshRate(REFRESH_RATE);
+    String boardName = replay.getGame().getGameBoard().getName();
+    wall.addBoard(boardName == null ? "Replay" : boardName, replay.getGame().getGameBoard(), this::getWantedSnapshot);
+
+    int lastFrame = timeline.getFrameCount() - 1;
+    slider = new Slider(0, lastFrame, 0);
+    slider.setBlockIncrement(1);
+    slider.setMajorTickUnit(Math.max(1, lastFrame / 10.0));
+    slider.setShowTickMarks(true);
+    slider.valueProperty().addListener((obs, oldValue, newValue) -> showFrame(newValue.intValue()));
+    HBox.setHgrow(slider, Priority.ALWAYS);
+
+    Button firstButton = new Button("|<");
+    firstButton.setOnAction(e -> slider.setValue(0));
+    Button previousButton = new Button("<");
+    previousButton.setOnAction(e -> slider.setValue(Math.max(0, wantedFrame - 1)));
+    Button nextButton = new Button(">");
+    nextButton.setOnAction(e -> slider.setValue(Math.min(lastFrame, wantedFrame + 1)));
+    Button lastButton = new Button(">|");
+    lastButton.setOnAction(e -> slider.setValue(lastFrame));
+    playButton = new Button("Play");
+    playButton.setOnAction(e -> setPlaying(!playing));
+
+    player = new AnimationTimer() {
+      @Override
+      public void handle(long now) {
+        if (now - lastStep < PLAY_STEP_NANOS) {
+          return;
+        }
+        lastStep = now;
+        if (wantedFrame >= lastFrame) {
+          setPlaying(false);
+        } else {
+          slider.setValue(wantedFrame + 1);
+        }
+      }
+    };
+
+    frameLabel = new Label();
+    frameLabel.setMinWidth(220);
+    frameLabel.setStyle("-fx-text-fill: #ffffff;");
+    showFrame(0);
+
+    HBox controls = new HBox(8, firstButton, previousButton, playButton, nextButton, lastButton, slider, frameLabel);
+    controls.setAlignment(Pos.CENTER_LEFT);
+    controls.setPadding(new Insets(8, 12, 12, 12));
+
+    Button backButton = new Button("Back to Menu");
+    backButton.setStyle("-fx-padding: 8 16; -fx-background-radius: 4; -fx-cursor: hand; " +
+        "-fx-background-color: #f44336; -fx-text-fill: white;");
+    backButton.setOnAction(e -> {
+      setPlaying(false);
+      wall.stop();
+      primaryStage.setScene(new GamesMenu().createGamesMenuScene(primaryStage));
+    });
+    HBox header = new HBox(16, backButton);
+    header.setPadding(new Insets(8, 12, 0, 12));
+
+    BorderPane root = new BorderPane(wall);
+    root.setTop(header);
+    root.setBottom(controls);
+    root.setStyle("-fx-background-color: #1e2024;");
+    return new Scene(root);
+  }
+
+  /**
+   * Asks for a frame to be shown. Only the label is updated now; the board
+   * picks up the frame on its next refresh.
+   */
+  private void showFrame(int frame) {
+    wantedFrame = frame;
+    int currentPlayer = timeline.getCurrentPlayerIndex(frame);
+    String turn = currentPlayer < 0 ? "" : " - " + timeline.getPlayerName(currentPlayer) + "'s turn";
+    frameLabel.setText("Move " + frame + " of " + (timeline.getFrameCount() - 1) + turn);
+  }
+
+  /**
+   * Gives the board the wanted frame, building it only when it has changed
+   */
+  private GameStateSnapshot getWantedSnapshot() {
+    if (builtFrame != wantedFrame) {
+      builtSnapshot = timeline.getFrame(wantedFrame);
+      builtFrame = wantedFrame;
+    }
+    return builtSnapshot;
+  }
+
+  private void setPlaying(boolean playing) {
+    this.playing = playing;
+    if (playing) {
+      if (wantedFrame >= timeline.getFrameCount() - 1) {
+        slider.setValue(0);
+      }
+      lastStep = 0;
+      player.start();
+      playButton.setText("Pause");
+    } else {
+      player.stop();
+      playButton.setText("Play");
+    }
+  }
+}
@@ -2,22 +2,41 @@ package edu.ntnu.idi.idatt.ui;
 
 import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.logging.Level;
+import java.util.logging.Logger;
 
+import edu.ntnu.idi.idatt.controller.AutoPlayer;
 import edu.ntnu.idi.idatt.controller.TreasureGameController;
 import edu.ntnu.idi.idatt.model.GameActions;
+import edu.ntnu.idi.idatt.model.GameStateSnapshot;
 import edu.ntnu.idi.idatt.model.Player;
+import edu.ntnu.idi.idatt.model.ReplayTimeline;
 import edu.ntnu.idi.idatt.model.TreasureBoard;
 import edu.ntnu.idi.idatt.model.TreasureBoardConfig;
 import edu.ntnu.idi.idatt.model.TreasureGameActions;
 import edu.ntnu.idi.idatt.model.TreasureGameTile;
 import edu.ntnu.idi.idatt.observer.GameEvent;
 import edu.ntnu.idi.idatt.observer.GameObserver;
+import edu.ntnu.idi.idatt.observer.GameStateDiff;
+import edu.ntnu.idi.idatt.persistence.AsyncPersistenceService;
+import edu.ntnu.idi.idatt.persistence.ReplayHandler;
 import edu.ntnu.idi.idatt.ui.components.AnimationManager;
+import edu.ntnu.idi.idatt.ui.components.AutoPlayControls;
+import edu.ntnu.idi.idatt.ui.components.BoardGeometry;
+import edu.ntnu.idi.idatt.ui.components.BoardViewport;
 import edu.ntnu.idi.idatt.ui.components.GameAlert;
 import edu.ntnu.idi.idatt.ui.components.GamePiece;
 import edu.ntnu.idi.idatt.ui.components.InfoTable;
+import edu.ntnu.idi.idatt.ui.components.TextureAtlas;
+import edu.ntnu.idi.idatt.ui.components.PerformanceOverlay;
+import edu.ntnu.idi.idatt.ui.components.PulseEventCoalescer;
+import edu.ntnu.idi.idatt.ui.components.TreasureBoardRenderer;
+import javafx.animation.AnimationTimer;
+import javafx.application.Platform;
 import javafx.geometry.Insets;
 import javafx.geometry.Pos;
 import javafx.scene.Node;
@@ -31,9 +50,12 @@ import javafx.scene.layout.BackgroundSize;
 import javafx.scene.layout.BorderPane;
 import javafx.scene.layout.GridPane;
 import javafx.scene.layout.StackPane;
+import javafx.scene.layout.VBox;
+import javafx.scene.paint.Color;
 import javafx.stage.Stage;
 
 public class TreasureGameBoardUI implements GameObserver {
+  private static final Logger LOGGER = Logger.getLogger(TreasureGameBoardUI.class.getName());
 
   private BorderPane root;
   private TreasureGameController controller;
@@ -42,20 +64,56 @@ public class TreasureGameBoardUI implements GameObserver {
   private AnimationManager animationManager;
   private GameActions gameActions;
   private final int TILE_SIZE = 60;
+  private final int TILE_GAP = 5;
+  private static final int STEP_MILLIS = 100;
+  private static final int FAST_STEP_MILLIS = 15;
+  /** Boards with more tiles than this are shown in a zoomable viewport */
+  public static final int VIEWPORT_TILE_THRESHOLD = 2500;
   private final Map<Integer, StackPane> tilesMap = new HashMap<>();
-  private final TreasureBoardConfig config = new TreasureBoardConfig();
+  private final TreasureBoardConfig config;
+  private BoardViewport boardViewport;
+  private PerformanceOverlay performanceOverlay;
+  private TreasureBoardRenderer viewportRenderer;
+  private AutoPlayer autoPlayer;
+  private AutoPlayControls autoPlayControls;
+  // Shows the game once per frame while auto-play runs at instant speed
+  private AnimationTimer snapshotSampler;
+  private long sampledVersion;
+  private int[] shownTileIds;
+  private final PulseEventCoalescer eventCoalescer;
+
+  /**
+   * Creates the UI for the standard treasure board
+   */
+  public TreasureGameBoardUI() {
+    this(new TreasureBoardConfig());
+  }
+
+  /**
+   * Creates the UI for a treasure board with its own layout
+   *
+   * @param config The layout of the board
+   */
+  public TreasureGameBoardUI(TreasureBoardConfig config) {
+    if (config == null) {
+      throw new IllegalArgumentException("Config cannot be null");
+    }
+    this.config = config;
+    this.eventCoalescer = new PulseEventCoalescer(this::applyEvents);
+  }
 
   public Scene createGameScene(String boardType, Stage primaryStage, List<Player> players) {
-    // Create controller with a 10x10 board
-    controller = new TreasureGameController();
+    // Create controller for the board in the config
+    controller = new TreasureGameController(config);
     controller.registerObserver(this); // Register this UI as observer for all events
 
-    // Create custom board based on the hardcoded layout
+    // Create the board from the config's layout
     TreasureBoard board = createCustomBoard();
     controller.loadBoard(board);
 
     // Setup the game with players - this initializes currentPlayer and positions
     controller.setupGame(players);
+    controller.startRecording();
 
     // Create game actions for handling restart, new game, exit
     gameActions = new TreasureGameActions(this);
@@ -64,23 +122,37 @@ public class TreasureGameBoardUI implements GameObserver {
     root = new BorderPane();
     root.setPadding(new Insets(20));
 
-    // Create board layout FIRST
-    GridPane boardGrid = createBoardGrid();
-    root.setCenter(boardGrid);
+    // Create board layout FIRST. Boards too large for one node per tile
+    // are drawn in a viewport that only draws the tiles in view.
+    if (config.getTileCount() > VIEWPORT_TILE_THRESHOLD) {
+      BoardGeometry geometry = new BoardGeometry(config.ROWS, config.COLUMNS, TILE_SIZE, TILE_GAP, false);
+      viewportRenderer = new TreasureBoardRenderer(config, controller.getPlayers(), geometry);
+      boardViewport = new BoardViewport(geometry, viewportRenderer, Color.web("#fbcc74"));
+      Player firstPlayer = controller.getCurrentPlayer();
+      if (firstPlayer != null) {
+        boardViewport.follow(firstPlayer.getTileId());
+      }
+      root.setCenter(boardViewport);
+    } else {
+      GridPane boardGrid = createBoardGrid();
+      root.setCenter(boardGrid);
+    }
     root.setStyle("-fx-background-color: #fbcc74;");
 
-    // Initialize GamePiece AFTER tiles are created
-    gamePiece = new GamePiece(TILE_SIZE, players);
+    // Initialize GamePiece AFTER tiles are created, on the atlas shared by
+    // this game's pieces and dice
+    TextureAtlas atlas = TextureAtlas.forPlayers(TILE_SIZE, players);
+    gamePiece = new GamePiece(TILE_SIZE, players, atlas);
 
     // Initialize AnimationManager
-    animationManager = new AnimationManager(root, gamePiece, tilesMap, infoTable, TILE_SIZE, 100);
+    animationManager = new AnimationManager(root, gamePiece, tilesMap, infoTable, TILE_SIZE, STEP_MILLIS);
 
     // NOW set up player pieces on the board
     setupPlayerPiecesOnBoard(players);
 
     // Create info panel with move counter
-    infoTable = new InfoTable();
-    root.setRight(infoTable.createControlPanel(() -> {
+    infoTable = new InfoTable(atlas);
+    VBox controlPanel = infoTable.createControlPanel(() -> {
       // Roll dice and start step movement
       if (!controller.isMoving()) {
         int diceValue = controller.rollDiceAndMove();
@@ -95,12 +167,17 @@ public class TreasureGameBoardUI implements GameObserver {
         // Set callback for when a step is complete
         controller.setOnStepComplete(() -> {
           // If movement is complete, re-enable roll button
-          if (!controller.isMoving()) {
+          if (!controller.isMoving() && !isAutoPlaying()) {
             infoTable.setRollEnabled(true);
           }
         });
       }
-    }));
+    });
+    autoPlayer = new AutoPlayer(controller, Platform::runLater);
+    autoPlayer.setOnFinished(() -> Platform.runLater(this::onAutoPlayFinished));
+    autoPlayControls = new AutoPlayControls(this::setAutoPlaySpeed);
+    controlPanel.getChildren().add(autoPlayControls.getContainer());
+    root.setRight(controlPanel);
 
     // Initialize player turn display
     if (!players.isEmpty()) {
@@ -109,6 +186,7 @@ public class TreasureGameBoardUI implements GameObserver {
 
     // Create scene
     Scene scene = new Scene(root);
+    performanceOverlay = new PerformanceOverlay(scene, root, animationManager::getQueueDepth);
 
     // Setup keyboard handlers for manual movement
     setupKeyboardHandlers(scene);
@@ -256,6 +334,12 @@ public class TreasureGameBoardUI implements GameObserver {
   }
 
   public void resetGame() {
+    stopAutoPlay();
+    if (autoPlayControls != null) {
+      autoPlayControls.showOff();
+    }
+    // Moves not yet shown are covered by redrawing the pieces
+    eventCoalescer.discardPending();
     // Clear all tiles first
     for (StackPane tile : tilesMap.values()) {
       clearTile(tile);
@@ -263,9 +347,17 @@ public class TreasureGameBoardUI implements GameObserver {
 
     // Reset the controller (this will reset player positions)
     controller.resetGame();
+    controller.startRecording();
 
     // Re-setup player pieces on the board
     setupPlayerPiecesOnBoard(controller.getPlayers());
+    if (boardViewport != null) {
+      boardViewport.requestRedraw();
+      Player firstPlayer = controller.getCurrentPlayer();
+      if (firstPlayer != null) {
+        boardViewport.follow(firstPlayer.getTileId());
+      }
+    }
 
     // Update UI elements
     if (infoTable != null) {
@@ -299,94 +391,272 @@ public class TreasureGameBoardUI implements GameObserver {
     return controller;
   }
 
+  /**
+   * Handles the controller's events. A found treasure is handled at once,
+   * since a dug-up tile passes the turn on; the other events are collected
+   * and applied together once per frame by {@link #applyEvents(GameStateDiff)}.
+   *
+   * @param event The game event to handle
+   */
   @Override
   public void update(GameEvent event) {
-    String eventType = event.getType();
-    Object data = event.getData();
-
-    switch (eventType) {
-      case "DICE_ROLLED" -> {
-        int diceValue = (Integer) data;
-        if (infoTable != null) {
-          infoTable.updateDiceDisplay(diceValue);
-        }
+    if (event == null) {
+      return;
+    }
+    long start = System.nanoTime();
+    if ("TREASURE_FOUND".equals(event.getType())) {
+      handleTreasureFound(event.getData());
+    } else {
+      eventCoalescer.update(event);
+    }
+    if (performanceOverlay != null) {
+      performanceOverlay.recordUpdate(System.nanoTime() - start);
+    }
+  }
+
+  private void handleTreasureFound(Object data) {
+    @SuppressWarnings("unchecked")
+    Map<String, Object> treasureData = (Map<String, Object>) data;
+    Player finder = (Player) treasureData.get("player");
+
+    // Check if realTreasure exists and safely unbox it
+    Object realTreasureObj = treasureData.get("realTreasure");
+    boolean realTreasure = realTreasureObj != null ? (Boolean) realTreasureObj : true;
+
+    if (realTreasure) {
+      showTreasureFound(finder);
+    } else {
+      // Show just dirt message
+      if (infoTable != null) {
+        infoTable.getGameInfoLabel().setText(
+            finder.getName() + " dug up nothing but dirt.");
+      }
+      // Continue the game after a short delay
+      controller.switchToNextPlayer();
+    }
+  }
+
+  /**
+   * Shows that a player dug up the Star of Africa and won the game
+   *
+   * @param finder The winner
+   */
+  private void showTreasureFound(Player finder) {
+    saveReplay();
+    new GameAlert().showGameAlert(
+        "Star of Africa Found!",
+        finder.getName() + " dug up the Star of Africa and won the game!",
+        gameActions);
+  }
+
+  /**
+   * Saves the recording of a finished game, so it can be watched from the
+   * games menu. Recording starts again when the game is reset.
+   */
+  private void saveReplay() {
+    ReplayTimeline recording = controller.getRecording();
+    if (recording == null) {
+      return;
+    }
+    controller.stopRecording();
+    AsyncPersistenceService.getShared()
+        .saveFinishedGame(controller, recording, ReplayHandler.REPLAY_DIRECTORY)
+        .exceptionally(error -> {
+          LOGGER.log(Level.WARNING, "Failed to save replay", error);
+          return null;
+        });
+  }
+
+  private boolean isAutoPlaying() {
+    return autoPlayer != null && autoPlayer.isRunning();
+  }
+
+  /**
+   * Lets the game play itself at a speed, or hands it back to the players.
+   * At instant speed the controller's events are muted and the board shows
+   * the latest snapshot once per frame instead of animating each step.
+   *
+   * @param speed The speed to play at, or null to stop auto-play
+   */
+  public void setAutoPlaySpeed(AutoPlayer.Speed speed) {
+    stopAutoPlay();
+    if (speed == null || autoPlayer.isGameOver()) {
+      autoPlayControls.showOff();
+      infoTable.setRollEnabled(!autoPlayer.isGameOver() && !controller.isMoving());
+      return;
+    }
+
+    infoTable.setRollEnabled(false);
+    if (speed == AutoPlayer.Speed.FAST) {
+      animationManager.setStepMillis(FAST_STEP_MILLIS);
+    } else if (speed == AutoPlayer.Speed.INSTANT) {
+      animationManager.skipToEnd();
+      startSnapshotSampler();
+    }
+    autoPlayer.start(speed);
+  }
+
+  /**
+   * Stops auto-play and puts the board back in step with the game
+   */
+  private void stopAutoPlay() {
+    if (autoPlayer == null) {
+      return;
+    }
+    boolean sampling = snapshotSampler != null;
+    autoPlayer.stop();
+    if (sampling) {
+      stopSnapshotSampler();
+    }
+    animationManager.setStepMillis(STEP_MILLIS);
+  }
+
+  /**
+   * Called on the JavaFX thread once auto-play has won the game
+   */
+  private void onAutoPlayFinished() {
+    boolean sampling = snapshotSampler != null;
+    stopAutoPlay();
+    autoPlayControls.showOff();
+    // At instant speed the treasure found event was muted
+    if (sampling && autoPlayer.isGameOver()) {
+      showTreasureFound(controller.getCurrentPlayer());
+    }
+  }
+
+  private void startSnapshotSampler() {
+    List<Player> players = controller.getPlayers();
+    shownTileIds = new int[players.size()];
+    for (int i = 0; i < shownTileIds.length; i++) {
+      shownTileIds[i] = players.get(i).getTileId();
+    }
+    sampledVersion = controller.getSnapshot().getVersion();
+    snapshotSampler = new AnimationTimer() {
+      @Override
+      public void handle(long now) {
+        showSnapshot(controller.getSnapshot());
       }
-      case "MOVE_COUNTER_UPDATED" -> {
-        int moveCounter = (Integer) data;
-        if (infoTable != null) {
-          infoTable.updateMoveCounter(moveCounter);
+    };
+    snapshotSampler.start();
+  }
+
+  private void stopSnapshotSampler() {
+    snapshotSampler.stop();
+    snapshotSampler = null;
+    // Show the final state, then go back to reading the players
+    showSnapshot(controller.getSnapshot());
+    if (viewportRenderer != null) {
+      viewportRenderer.setSnapshot(null);
+      boardViewport.requestRedraw();
+    }
+  }
+
+  /**
+   * Draws the pieces where a snapshot puts them, touching only the tiles
+   * whose pieces changed since the last snapshot shown
+   */
+  private void showSnapshot(GameStateSnapshot snapshot) {
+    if (snapshot.getVersion() == sampledVersion) {
+      return;
+    }
+    sampledVersion = snapshot.getVersion();
+
+    if (boardViewport != null) {
+      viewportRenderer.setSnapshot(snapshot);
+      boardViewport.requestRedraw();
+      int current = snapshot.getCurrentPlayerIndex();
+      if (current >= 0 && current < snapshot.getPlayerCount()) {
+        boardViewport.follow(snapshot.getTileId(current));
+      }
+    } else {
+      Set<Integer> changedTiles = new HashSet<>();
+      for (int i = 0; i < snapshot.getPlayerCount() && i < shownTileIds.length; i++) {
+        if (shownTileIds[i] != snapshot.getTileId(i)) {
+          changedTiles.add(shownTileIds[i]);
+          changedTiles.add(snapshot.getTileId(i));
+          shownTileIds[i] = snapshot.getTileId(i);
         }
       }
-      case "PLAYER_MOVED" -> {
-        @SuppressWarnings("unchecked")
-        Map<String, Object> moveData = (Map<String, Object>) data;
-        Player player = (Player) moveData.get("player");
-        int fromPosition = (Integer) moveData.get("from");
-        int toPosition = (Integer) moveData.get("to");
-
-        // Animate player movement
-        if (animationManager != null) {
-          animationManager.animatePlayerMove(
-              player,
-              controller.getPlayers(),
-              fromPosition,
-              toPosition,
-              controller.checkVictory(player));
+      for (int position : changedTiles) {
+        StackPane tile = tilesMap.get(position);
+        if (tile != null) {
+          gamePiece.showSnapshotPieces(position, tile, snapshot);
         }
       }
-      case "TREASURE_FOUND" -> {
-        @SuppressWarnings("unchecked")
-        Map<String, Object> treasureData = (Map<String, Object>) data;
-        Player finder = (Player) treasureData.get("player");
+    }
 
-        // Check if realTreasure exists and safely unbox it
-        Object realTreasureObj = treasureData.get("realTreasure");
-        boolean realTreasure = realTreasureObj != null ? (Boolean) realTreasureObj : true;
+    String currentName = snapshot.getCurrentPlayerName();
+    if (currentName != null) {
+      infoTable.getStatusLabel().setText(currentName + "'s turn");
+    }
+  }
 
-        if (realTreasure) {
-          // Show real treasure found message - Star of Africa
-          new GameAlert().showGameAlert(
-              "Star of Africa Found!",
-              finder.getName() + " dug up the Star of Africa and won the game!",
-              gameActions);
-        } else {
-          // Show just dirt message
+  /**
+   * Applies the events of one frame to the view, on the JavaFX thread
+   *
+   * @param diff The events, merged
+   */
+  private void applyEvents(GameStateDiff diff) {
+    long start = System.nanoTime();
+    if (infoTable != null && diff.getDiceValue() != null) {
+      infoTable.updateDiceDisplay(diff.getDiceValue());
+    }
+    if (infoTable != null && diff.getMoveCounter() != null) {
+      infoTable.updateMoveCounter(diff.getMoveCounter());
+    }
+
+    // Animate each player's merged movement, the viewport just draws the
+    // piece again
+    for (GameStateDiff.Move move : diff.getMoves()) {
+      if (boardViewport != null) {
+        boardViewport.requestRedraw();
+        boardViewport.follow(move.getTo());
+      } else if (animationManager != null) {
+        animationManager.animatePlayerMove(
+            move.getPlayer(),
+            controller.getPlayers(),
+            move.getFrom(),
+            move.getTo(),
+            controller.checkVictory(move.getPlayer()));
+      }
+    }
+
+    for (GameEvent event : diff.getOtherEvents()) {
+      switch (event.getType()) {
+        case "TREASURE_TILE" -> {
+          @SuppressWarnings("unchecked")
+          Map<String, Object> treasureTileData = (Map<String, Object>) event.getData();
+          Player nearTreasure = (Player) treasureTileData.get("player");
+          int movesLeft = (Integer) treasureTileData.get("movesLeft");
+
+          // Just update the info label to show the player has found a treasure but has
+          // moves left
           if (infoTable != null) {
             infoTable.getGameInfoLabel().setText(
-                finder.getName() + " dug up nothing but dirt.");
+                nearTreasure.getName() + " found a treasure but has " +
+                    movesLeft + " moves left. Move to another tile or use all moves to win!");
           }
-          // Continue the game after a short delay
-          controller.switchToNextPlayer();
         }
-      }
-      case "TREASURE_TILE" -> {
-        @SuppressWarnings("unchecked")
-        Map<String, Object> treasureTileData = (Map<String, Object>) data;
-        Player nearTreasure = (Player) treasureTileData.get("player");
-        int movesLeft = (Integer) treasureTileData.get("movesLeft");
-
-        // Just update the info label to show the player has found a treasure but has
-        // moves left
-        if (infoTable != null) {
-          infoTable.getGameInfoLabel().setText(
-              nearTreasure.getName() + " found a treasure but has " +
-                  movesLeft + " moves left. Move to another tile or use all moves to win!");
+        case "GAME_WON" -> {
+          Player winner = (Player) event.getData();
+          saveReplay();
+          new GameAlert().showGameAlert(
+              "Game Over",
+              winner.getName() + " has won the game by finding the treasure!",
+              gameActions);
         }
-      }
-      case "TURN_CHANGED" -> {
-        Player currentPlayer = (Player) data;
-        if (infoTable != null) {
-          infoTable.getStatusLabel().setText(currentPlayer.getName() + "'s turn");
-          infoTable.setRollEnabled(true); // Re-enable roll button
+        default -> {
+          // Not shown by this view
         }
       }
-      case "GAME_WON" -> {
-        Player winner = (Player) data;
-        new GameAlert().showGameAlert(
-            "Game Over",
-            winner.getName() + " has won the game by finding the treasure!",
-            gameActions);
-      }
+    }
+
+    if (diff.getCurrentPlayer() != null && infoTable != null) {
+      infoTable.getStatusLabel().setText(diff.getCurrentPlayer().getName() + "'s turn");
+      infoTable.setRollEnabled(!isAutoPlaying()); // Re-enable roll button
+    }
+    if (performanceOverlay != null) {
+      performanceOverlay.recordApply(System.nanoTime() - start);
     }
   }
 
@@ -397,7 +667,7 @@ public class TreasureGameBoardUI implements GameObserver {
    */
   private void setupKeyboardHandlers(Scene scene) {
     scene.setOnKeyPressed(event -> {
-      if (!controller.isMoving()) {
+      if (!controller.isMoving() || isAutoPlaying()) {
         return; // Only handle movement if we've rolled the dice
       }
 
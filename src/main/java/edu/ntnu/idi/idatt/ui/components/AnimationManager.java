@@ -1,11 +1,17 @@
 package edu.ntnu.idi.idatt.ui.components;
 
+import java.util.ArrayDeque;
 import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 
 import edu.ntnu.idi.idatt.model.Player;
-import javafx.animation.TranslateTransition;
+import javafx.animation.Interpolator;
+import javafx.animation.KeyFrame;
+import javafx.animation.KeyValue;
+import javafx.animation.Timeline;
 import javafx.geometry.Bounds;
 import javafx.scene.Node;
 import javafx.scene.image.ImageView;
@@ -17,9 +23,51 @@ import javafx.util.Duration;
  * Manages animations in the Snakes and Ladders game.
  * Responsible for animating player movement between tiles and handling
  * animation completion events.
+ * <p>
+ * A move walks its path tile by tile on one reusable {@link Timeline}, with
+ * one key frame per tile. Moves that arrive while another is playing are
+ * queued and played in order, and the moving piece and its container are
+ * created once and reused, so a move allocates no nodes.
+ * </p>
  */
 public class AnimationManager {
 
+  /**
+   * Works out the tiles a move passes through
+   */
+  @FunctionalInterface
+  public interface PathResolver {
+    /**
+     * Gets the path of a move
+     *
+     * @param player The player moving
+     * @param from   The starting position
+     * @param to     The ending position
+     * @return The tiles visited, starting with from and ending with to
+     */
+    List<Integer> resolvePath(Player player, int from, int to);
+  }
+
+  /**
+   * A move waiting to be played
+   */
+  private static class Move {
+    final Player player;
+    final List<Player> players;
+    final int from;
+    final int to;
+
+    Move(Player player, List<Player> players, int from, int to) {
+      this.player = player;
+      this.players = players;
+      this.from = from;
+      this.to = to;
+    }
+  }
+
+  // Jumps along a snake, ladder or wormhole take this many steps' time
+  private static final int JUMP_STEPS = 3;
+
   private final int TILE_SIZE;
   private final BorderPane root;
   private final GamePiece gamePiece;
@@ -27,6 +75,13 @@ public class AnimationManager {
   private final InfoTable infoTable;
   private int millis = 500;
 
+  private final Timeline timeline = new Timeline();
+  private final StackPane animationPane = new StackPane();
+  private final Map<Player, ImageView> pieceViews = new HashMap<>();
+  private final Deque<Move> queue = new ArrayDeque<>();
+  private PathResolver pathResolver = (player, from, to) -> List.of(from, to);
+  private Move currentMove;
+
   /**
    * Creates a new AnimationManager.
    *
@@ -43,6 +98,7 @@ public class AnimationManager {
     this.tilesMap = tilesMap;
     this.infoTable = infoTable;
     this.TILE_SIZE = tileSize;
+    setUpAnimationPane();
   }
 
   /**
@@ -53,6 +109,7 @@ public class AnimationManager {
    * @param tilesMap  Map of tile positions to StackPane UI elements
    * @param infoTable The InfoTable for UI updates
    * @param tileSize  The size of each tile
+   * @param millis    The time one step of a move takes
    */
   public AnimationManager(BorderPane root, GamePiece gamePiece,
       Map<Integer, StackPane> tilesMap, InfoTable infoTable, int tileSize, int millis) {
@@ -62,12 +119,51 @@ public class AnimationManager {
     this.tilesMap = tilesMap;
     this.infoTable = infoTable;
     this.TILE_SIZE = tileSize;
+    setUpAnimationPane();
+  }
+
+  private void setUpAnimationPane() {
+    animationPane.setMaxSize(TILE_SIZE * 0.5, TILE_SIZE * 0.5);
+    animationPane.setManaged(false);
+    animationPane.setMouseTransparent(true);
+    animationPane.setVisible(false);
+    timeline.setOnFinished(e -> finishCurrentMove());
+  }
+
+  /**
+   * Sets how the tiles a move passes through are found. By default a move
+   * goes straight from its start to its end.
+   *
+   * @param pathResolver The path resolver
+   */
+  public void setPathResolver(PathResolver pathResolver) {
+    if (pathResolver == null) {
+      throw new IllegalArgumentException("Path resolver cannot be null");
+    }
+    this.pathResolver = pathResolver;
+  }
+
+  /**
+   * Sets the time one step of a move takes, for example to compress
+   * animations while a game plays itself
+   *
+   * @param millis The time in milliseconds
+   */
+  public void setStepMillis(int millis) {
+    if (millis <= 0) {
+      throw new IllegalArgumentException("Step time must be positive");
+    }
+    this.millis = millis;
+  }
+
+  public int getStepMillis() {
+    return millis;
   }
 
   /**
    * Animates player movement from one tile to another.
    * This is purely a UI function that visualizes movement decided by the
-   * controller.
+   * controller. If another move is playing, this one is queued.
    *
    * @param player       The player being moved
    * @param players      All players in the game for checking overlapping
@@ -78,69 +174,173 @@ public class AnimationManager {
    */
   public void animatePlayerMove(Player player, List<Player> players,
       int fromPosition, int toPosition, boolean checkVictory) {
-    int playerIndex = players.indexOf(player);
+    queue.addLast(new Move(player, players, fromPosition, toPosition));
+    if (currentMove == null) {
+      playNextMove();
+    }
+  }
 
-    // Get tiles for animation
-    StackPane fromTile = tilesMap.get(fromPosition);
-    StackPane toTile = tilesMap.get(toPosition);
+  /**
+   * Checks whether a move is playing or queued
+   *
+   * @return true if the pieces are moving
+   */
+  public boolean isAnimating() {
+    return currentMove != null;
+  }
 
-    // Remove player from old position
-    removePlayerFromTile(fromTile);
+  /**
+   * Gets the number of moves playing or waiting to be played
+   *
+   * @return The number of moves
+   */
+  public int getQueueDepth() {
+    return queue.size() + (currentMove != null ? 1 : 0);
+  }
 
-    // Check if other players were on the same tile and add them back
-    for (Player otherPlayer : players) {
-      if (otherPlayer != player && otherPlayer.getTileId() == fromPosition) {
-        gamePiece.addPlayerToTile(otherPlayer, fromPosition, fromTile);
-      }
+  /**
+   * Finishes the playing move and all queued moves at once, leaving every
+   * piece on the tile it ends on
+   */
+  public void skipToEnd() {
+    timeline.stop();
+    if (currentMove != null) {
+      landPiece(currentMove);
+    }
+    while (!queue.isEmpty()) {
+      Move move = queue.pollFirst();
+      liftPiece(move);
+      landPiece(move);
     }
+    currentMove = null;
+    animationPane.setVisible(false);
+  }
 
-    // Create animating piece using GamePiece
-    ImageView playerPiece = gamePiece.createAnimationPiece(playerIndex);
-    if (playerPiece == null) {
-      // Skip animation if piece creation fails, but still handle the move
-      gamePiece.addPlayerToTile(player, toPosition, toTile);
+  /**
+   * Stops the playing move and drops the queued moves without placing their
+   * pieces, for when the board is about to be redrawn, such as on a reset
+   */
+  public void interrupt() {
+    timeline.stop();
+    queue.clear();
+    currentMove = null;
+    animationPane.setVisible(false);
+  }
 
-      // Re-enable roll button
-      infoTable.setRollEnabled(true);
+  private void playNextMove() {
+    currentMove = queue.pollFirst();
+    if (currentMove == null) {
+      animationPane.setVisible(false);
       return;
     }
+    Move move = currentMove;
 
-    // Create animation container
-    StackPane animationPane = new StackPane(playerPiece);
-    animationPane.setMaxSize(TILE_SIZE * 0.5, TILE_SIZE * 0.5);
+    // Get tiles for animation
+    StackPane fromTile = tilesMap.get(move.from);
+    StackPane toTile = tilesMap.get(move.to);
+    ImageView playerPiece = getPieceView(move);
+    if (fromTile == null || toTile == null || playerPiece == null) {
+      // Skip animation if the piece cannot be shown, but still handle the move
+      liftPiece(move);
+      finishCurrentMove();
+      if (infoTable != null) {
+        infoTable.setRollEnabled(true);
+      }
+      return;
+    }
 
-    // Get coordinates
-    Bounds fromBounds = fromTile.localToScene(fromTile.getBoundsInLocal());
-    Bounds toBounds = toTile.localToScene(toTile.getBoundsInLocal());
+    liftPiece(move);
+
+    List<Integer> path = pathResolver.resolvePath(move.player, move.from, move.to);
+    if (path == null || path.isEmpty()) {
+      path = List.of(move.from, move.to);
+    }
 
-    // Add to scene
-    root.getChildren().add(animationPane);
+    // One key frame per tile on the path
+    List<KeyFrame> frames = new ArrayList<>(path.size());
+    double time = 0;
+    int previous = path.get(0);
+    for (int i = 0; i < path.size(); i++) {
+      int position = path.get(i);
+      StackPane tile = tilesMap.get(position);
+      if (tile == null) {
+        continue;
+      }
+      if (i > 0) {
+        time += Math.abs(position - previous) == 1 ? millis : millis * JUMP_STEPS;
+      }
+      previous = position;
+      Bounds bounds = tile.localToScene(tile.getBoundsInLocal());
+      double x = bounds.getMinX() + (bounds.getWidth() - playerPiece.getFitWidth()) / 2;
+      double y = bounds.getMinY() + (bounds.getHeight() - playerPiece.getFitHeight()) / 2;
+      frames.add(new KeyFrame(Duration.millis(time),
+          new KeyValue(animationPane.translateXProperty(), x, Interpolator.EASE_BOTH),
+          new KeyValue(animationPane.translateYProperty(), y, Interpolator.EASE_BOTH)));
+    }
 
-    // Set start position
-    double startX = fromBounds.getMinX() + (fromBounds.getWidth() - playerPiece.getFitWidth()) / 2;
-    double startY = fromBounds.getMinY() + (fromBounds.getHeight() - playerPiece.getFitHeight()) / 2;
-    animationPane.setTranslateX(startX);
-    animationPane.setTranslateY(startY);
+    animationPane.getChildren().setAll(playerPiece);
+    if (animationPane.getParent() != root) {
+      root.getChildren().add(animationPane);
+    }
+    animationPane.toFront();
+    animationPane.setVisible(true);
 
-    // Set end position
-    double endX = toBounds.getMinX() + (toBounds.getWidth() - playerPiece.getFitWidth()) / 2;
-    double endY = toBounds.getMinY() + (toBounds.getHeight() - playerPiece.getFitHeight()) / 2;
+    timeline.stop();
+    timeline.getKeyFrames().setAll(frames);
+    timeline.playFromStart();
+  }
 
-    // Create animation
-    TranslateTransition transition = new TranslateTransition(Duration.millis(millis), animationPane);
-    transition.setToX(endX);
-    transition.setToY(endY);
+  private ImageView getPieceView(Move move) {
+    ImageView view = pieceViews.get(move.player);
+    if (view == null) {
+      int playerIndex = move.players.indexOf(move.player);
+      if (playerIndex < 0) {
+        return null;
+      }
+      view = gamePiece.createAnimationPiece(playerIndex);
+      if (view != null) {
+        pieceViews.put(move.player, view);
+      }
+    }
+    return view;
+  }
 
-    // When animation completes
-    transition.setOnFinished(e -> {
-      root.getChildren().remove(animationPane);
+  private void finishCurrentMove() {
+    if (currentMove != null) {
+      landPiece(currentMove);
+    }
+    playNextMove();
+  }
 
-      // Add player to new position using GamePiece
-      gamePiece.addPlayerToTile(player, toPosition, toTile);
+  /**
+   * Takes a piece off the tile it leaves, keeping the other players there
+   */
+  private void liftPiece(Move move) {
+    StackPane fromTile = tilesMap.get(move.from);
+    if (fromTile == null) {
+      return;
+    }
+    // Remove player from old position
+    removePlayerFromTile(fromTile);
 
-    });
+    // Check if other players were on the same tile and add them back
+    for (Player otherPlayer : move.players) {
+      if (otherPlayer != move.player && otherPlayer.getTileId() == move.from) {
+        gamePiece.addPlayerToTile(otherPlayer, move.from, fromTile);
+        break;
+      }
+    }
+  }
 
-    transition.play();
+  /**
+   * Puts a piece on the tile its move ends on
+   */
+  private void landPiece(Move move) {
+    StackPane toTile = tilesMap.get(move.to);
+    if (toTile != null) {
+      // Add player to new position using GamePiece
+      gamePiece.addPlayerToTile(move.player, move.to, toTile);
+    }
   }
 
   /**
@@ -165,4 +365,4 @@ public class AnimationManager {
     // Remove only the player containers
     tile.getChildren().removeAll(nodesToRemove);
   }
-}
\ No newline at end of file
+}
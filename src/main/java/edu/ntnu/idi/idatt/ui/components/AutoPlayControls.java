@@ -0,0 +1,74 @@
+package edu.ntnu.idi.idatt.ui.components;
+
+import java.util.function.Consumer;
+
+import edu.ntnu.idi.idatt.controller.AutoPlayer;
+import javafx.geometry.Pos;
+import javafx.scene.control.ChoiceBox;
+import javafx.scene.control.Label;
+import javafx.scene.layout.HBox;
+import javafx.util.StringConverter;
+
+/**
+ * A choice of auto-play speed, with "Off" to play by hand
+ */
+public class AutoPlayControls {
+  private final HBox container;
+  private final ChoiceBox<AutoPlayer.Speed> speedChoice;
+  private boolean updating;
+
+  /**
+   * Creates the controls
+   *
+   * @param onSpeedChanged Called with the chosen speed, or null for off
+   */
+  public AutoPlayControls(Consumer<AutoPlayer.Speed> onSpeedChanged) {
+    speedChoice = new ChoiceBox<>();
+    // null stands for "Off"
+    speedChoice.getItems().add(null);
+    speedChoice.getItems().addAll(AutoPlayer.Speed.values());
+    speedChoice.setConverter(new StringConverter<>() {
+      @Override
+      public String toString(AutoPlayer.Speed speed) {
+        if (speed == null) {
+          return "Off";
+        }
+        return switch (speed) {
+          case REAL_TIME -> "Real time";
+          case FAST -> "Fast";
+          case INSTANT -> "Instant";
+        };
+      }
+
+      @Override
+      public AutoPlayer.Speed fromString(String text) {
+        return null;
+      }
+    });
+    speedChoice.setValue(null);
+    speedChoice.valueProperty().addListener((observable, oldSpeed, newSpeed) -> {
+      if (!updating && onSpeedChanged != null) {
+        onSpeedChanged.accept(newSpeed);
+      }
+    });
+
+    Label label = new Label("Auto-play:");
+    label.setStyle("-fx-font-size: 14px;");
+    container = new HBox(8, label, speedChoice);
+    container.setAlignment(Pos.CENTER);
+  }
+
+  /**
+   * Shows auto-play as off without notifying the listener, for when a game
+   * finishes on its own
+   */
+  public void showOff() {
+    updating = true;
+    speedChoice.setValue(null);
+    updating = false;
+  }
+
+  public HBox getContainer() {
+    return container;
+  }
+}
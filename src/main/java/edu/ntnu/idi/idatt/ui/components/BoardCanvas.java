@@ -0,0 +1,400 @@
+package edu.ntnu.idi.idatt.ui.components;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import edu.ntnu.idi.idatt.model.GameStateSnapshot;
+import edu.ntnu.idi.idatt.model.LadderBoard;
+import edu.ntnu.idi.idatt.model.LadderGameTile;
+import edu.ntnu.idi.idatt.model.Player;
+import javafx.animation.AnimationTimer;
+import javafx.animation.Interpolator;
+import javafx.animation.KeyFrame;
+import javafx.animation.KeyValue;
+import javafx.animation.Timeline;
+import javafx.beans.property.DoubleProperty;
+import javafx.beans.property.SimpleDoubleProperty;
+import javafx.geometry.Rectangle2D;
+import javafx.geometry.VPos;
+import javafx.scene.canvas.Canvas;
+import javafx.scene.canvas.GraphicsContext;
+import javafx.scene.paint.Color;
+import javafx.scene.text.Font;
+import javafx.scene.text.FontWeight;
+import javafx.scene.text.TextAlignment;
+import javafx.util.Duration;
+
+/**
+ * Draws a Snakes and Ladders board, its snakes, ladders and player pieces
+ * onto a single {@link Canvas}.
+ * <p>
+ * The board is one node however many tiles it has, so layout and CSS passes
+ * cost the same on a 100x100 board as on a 10x10 one. Changes mark regions
+ * of the canvas dirty, and at most once per frame only those regions are
+ * cleared and drawn again: a move repaints the two tiles involved, and a
+ * moving piece repaints the small area it leaves and enters.
+ * </p>
+ * <p>
+ * Tiles and lines are placed by {@link BoardGeometry}, like the node-based
+ * board: tile 1 in the bottom row, rows alternating direction.
+ * </p>
+ */
+public final class BoardCanvas extends Canvas {
+  private static final double GAP = 2;
+  private static final double CORNER_RADIUS = 6;
+  private static final double MIN_TEXT_TILE_SIZE = 24;
+
+  private static final Color BACKGROUND = Color.web("#F0EFEB");
+  private static final Color TILE_COLOR = Color.web("#0f172a");
+  private static final Color LADDER_START_COLOR = Color.rgb(37, 111, 37);
+  private static final Color LADDER_END_COLOR = Color.rgb(15, 42, 20);
+  private static final Color SNAKE_HEAD_COLOR = Color.rgb(111, 37, 37);
+  private static final Color SNAKE_TAIL_COLOR = Color.rgb(42, 15, 15);
+  private static final Color WORMHOLE_COLOR = Color.rgb(75, 0, 130);
+
+  private final LadderBoard board;
+  private final List<Player> players;
+  private final int rows;
+  private final int columns;
+  private final double tileSize;
+  private final Color[] tileColors;
+  private final BoardGeometry geometry;
+  private final List<BoardGeometry.Connection> connections;
+  private final Font numberFont;
+
+  // Pieces being animated, drawn at a position instead of on their tile
+  private final Map<Player, double[]> floatingPieces = new HashMap<>();
+  private final PieceColors pieceColors = new PieceColors();
+  private final List<Rectangle2D> dirtyRegions = new ArrayList<>();
+  private final AnimationTimer repaintTimer;
+  private boolean repaintScheduled;
+  // When set, pieces are drawn where this snapshot puts them
+  private GameStateSnapshot snapshot;
+
+  /**
+   * Creates a canvas for a board
+   *
+   * @param board    The board to draw
+   * @param players  The players whose pieces are drawn
+   * @param tileSize The size of each tile in pixels
+   */
+  public BoardCanvas(LadderBoard board, List<Player> players, double tileSize) {
+    if (board == null || players == null) {
+      throw new IllegalArgumentException("Board and players cannot be null");
+    }
+    if (tileSize <= 0) {
+      throw new IllegalArgumentException("Tile size must be positive");
+    }
+    this.board = board;
+    this.players = players;
+    this.rows = board.getRows();
+    this.columns = board.getColumns();
+    this.tileSize = tileSize;
+    this.tileColors = computeTileColors(board);
+    this.numberFont = Font.font("Inter", FontWeight.MEDIUM, Math.min(14, tileSize * 0.18));
+
+    this.geometry = new BoardGeometry(rows, columns, tileSize, GAP);
+    this.connections = geometry.computeConnections(board);
+
+    setWidth(geometry.getWidth());
+    setHeight(geometry.getHeight());
+
+    repaintTimer = new AnimationTimer() {
+      @Override
+      public void handle(long now) {
+        repaintDirtyRegions();
+      }
+    };
+    markAllDirty();
+  }
+
+  /**
+   * Works out each tile's color, in tile order so a tile that both ends and
+   * starts a connection gets the same color as on the node-based board
+   *
+   * @param board The board
+   * @return The colors, indexed by tile number
+   */
+  static Color[] computeTileColors(LadderBoard board) {
+    int tileCount = board.getRows() * board.getColumns();
+    Color[] tileColors = new Color[tileCount + 1];
+    for (int number = 1; number <= tileCount; number++) {
+      if (tileColors[number] == null) {
+        tileColors[number] = TILE_COLOR;
+      }
+      LadderGameTile tile = board.getTile(number);
+      if (tile == null || !tile.hasAction()) {
+        continue;
+      }
+      if (tile.hasLadder()) {
+        tileColors[number] = LADDER_START_COLOR;
+        tileColors[tile.getLadder().getNumber()] = LADDER_END_COLOR;
+      } else if (tile.hasSnake()) {
+        tileColors[number] = SNAKE_HEAD_COLOR;
+        tileColors[tile.getSnake().getNumber()] = SNAKE_TAIL_COLOR;
+      } else if (tile.hasWormhole()) {
+        tileColors[number] = WORMHOLE_COLOR;
+      }
+    }
+    return tileColors;
+  }
+
+  /**
+   * Gets the left edge of a tile on the canvas
+   *
+   * @param number The tile number
+   * @return The x coordinate
+   */
+  public double getTileX(int number) {
+    return geometry.getTileX(number);
+  }
+
+  /**
+   * Gets the top edge of a tile on the canvas
+   *
+   * @param number The tile number
+   * @return The y coordinate
+   */
+  public double getTileY(int number) {
+    return geometry.getTileY(number);
+  }
+
+  public double getTileCenterX(int number) {
+    return getTileX(number) + tileSize / 2;
+  }
+
+  public double getTileCenterY(int number) {
+    return getTileY(number) + tileSize / 2;
+  }
+
+  public double getTileSize() {
+    return tileSize;
+  }
+
+  /**
+   * Marks a tile to be drawn again on the next frame
+   *
+   * @param number The tile number
+   */
+  public void markTileDirty(int number) {
+    if (number < 1 || number > rows * columns) {
+      return;
+    }
+    markDirty(new Rectangle2D(getTileX(number), getTileY(number), tileSize, tileSize));
+  }
+
+  /**
+   * Marks the whole board to be drawn again on the next frame
+   */
+  public void markAllDirty() {
+    dirtyRegions.clear();
+    markDirty(new Rectangle2D(0, 0, getWidth(), getHeight()));
+  }
+
+  /**
+   * Marks a region of the canvas to be drawn again on the next frame
+   *
+   * @param region The region, in canvas coordinates
+   */
+  public void markDirty(Rectangle2D region) {
+    dirtyRegions.add(region);
+    if (!repaintScheduled) {
+      repaintScheduled = true;
+      repaintTimer.start();
+    }
+  }
+
+  /**
+   * Draws the dirty regions now instead of on the next frame
+   */
+  public void repaintDirtyRegions() {
+    repaintTimer.stop();
+    repaintScheduled = false;
+    if (dirtyRegions.isEmpty()) {
+      return;
+    }
+    List<Rectangle2D> regions = new ArrayList<>(dirtyRegions);
+    dirtyRegions.clear();
+    GraphicsContext gc = getGraphicsContext2D();
+    for (Rectangle2D region : regions) {
+      repaint(gc, region);
+    }
+  }
+
+  /**
+   * Clears a region and draws everything that overlaps it, clipped to it
+   */
+  private void repaint(GraphicsContext gc, Rectangle2D region) {
+    gc.save();
+    gc.beginPath();
+    gc.rect(region.getMinX(), region.getMinY(), region.getWidth(), region.getHeight());
+    gc.clip();
+
+    gc.setFill(BACKGROUND);
+    gc.fillRect(region.getMinX(), region.getMinY(), region.getWidth(), region.getHeight());
+
+    // Only the cells under the region are visited
+    double cell = tileSize + GAP;
+    int firstColumn = Math.max(0, (int) (region.getMinX() / cell));
+    int lastColumn = Math.min(columns - 1, (int) (region.getMaxX() / cell));
+    int firstRow = Math.max(0, (int) (region.getMinY() / cell));
+    int lastRow = Math.min(rows - 1, (int) (region.getMaxY() / cell));
+    for (int gridRow = firstRow; gridRow <= lastRow; gridRow++) {
+      for (int column = firstColumn; column <= lastColumn; column++) {
+        drawTile(gc, geometry.getTileNumber(gridRow, column));
+      }
+    }
+
+    for (BoardGeometry.Connection connection : connections) {
+      if (connection.getBounds().intersects(region)) {
+        BoardPainter.drawConnection(gc, connection.getType(), connection.getStartX(), connection.getStartY(),
+            connection.getEndX(), connection.getEndY());
+      }
+    }
+
+    for (int gridRow = firstRow; gridRow <= lastRow; gridRow++) {
+      for (int column = firstColumn; column <= lastColumn; column++) {
+        drawPieces(gc, geometry.getTileNumber(gridRow, column));
+      }
+    }
+    for (Map.Entry<Player, double[]> entry : floatingPieces.entrySet()) {
+      double[] position = entry.getValue();
+      drawPiece(gc, entry.getKey(), position[0], position[1], tileSize * 0.15);
+    }
+    gc.restore();
+  }
+
+  private void drawTile(GraphicsContext gc, int number) {
+    double x = getTileX(number);
+    double y = getTileY(number);
+    gc.setFill(tileColors[number]);
+    gc.fillRoundRect(x, y, tileSize, tileSize, CORNER_RADIUS * 2, CORNER_RADIUS * 2);
+
+    if (tileSize >= MIN_TEXT_TILE_SIZE) {
+      gc.setFill(Color.WHITE);
+      gc.setFont(numberFont);
+      gc.setTextAlign(TextAlignment.CENTER);
+      gc.setTextBaseline(VPos.CENTER);
+      gc.fillText(String.valueOf(number), x + tileSize / 2, y + tileSize / 2);
+    }
+  }
+
+  /**
+   * Draws the pieces resting on a tile, spread out when they share it
+   */
+  private void drawPieces(GraphicsContext gc, int number) {
+    int count = 0;
+    for (Player player : players) {
+      if (isOnTile(player, number)) {
+        count++;
+      }
+    }
+    if (count == 0) {
+      return;
+    }
+    double radius = tileSize * (count == 1 ? 0.18 : 0.12);
+    double spread = count == 1 ? 0 : tileSize * 0.2;
+    double centerX = getTileCenterX(number);
+    double centerY = getTileCenterY(number);
+    int index = 0;
+    for (Player player : players) {
+      if (isOnTile(player, number)) {
+        double angle = 2 * Math.PI * index / count - Math.PI / 2;
+        drawPiece(gc, player, centerX + spread * Math.cos(angle), centerY + spread * Math.sin(angle), radius);
+        index++;
+      }
+    }
+  }
+
+  private boolean isOnTile(Player player, int number) {
+    if (snapshot != null) {
+      int index = players.indexOf(player);
+      return index >= 0 && index < snapshot.getPlayerCount() && snapshot.getTileId(index) == number;
+    }
+    Integer tileId = player.getTileId();
+    return tileId != null && tileId == number && !floatingPieces.containsKey(player);
+  }
+
+  private void drawPiece(GraphicsContext gc, Player player, double centerX, double centerY, double radius) {
+    BoardPainter.drawPiece(gc, pieceColors.get(player.getPieceType(), players.indexOf(player)),
+        centerX, centerY, radius, 2);
+  }
+
+  /**
+   * Draws the pieces where a snapshot puts them instead of reading the
+   * players, repainting only the tiles whose pieces changed. Used while a
+   * game is played too fast to draw every move.
+   *
+   * @param next The snapshot to show
+   */
+  public void showSnapshot(GameStateSnapshot next) {
+    for (int i = 0; i < next.getPlayerCount(); i++) {
+      int previous = snapshot != null && i < snapshot.getPlayerCount()
+          ? snapshot.getTileId(i)
+          : players.get(i).getTileId();
+      if (previous != next.getTileId(i)) {
+        markTileDirty(previous);
+        markTileDirty(next.getTileId(i));
+      }
+    }
+    snapshot = next;
+  }
+
+  /**
+   * Goes back to drawing pieces where the players are
+   */
+  public void clearSnapshot() {
+    snapshot = null;
+    markAllDirty();
+  }
+
+  /**
+   * Animates a piece from one tile to another, repainting only the area
+   * around the moving piece each frame
+   *
+   * @param player     The player whose piece moves
+   * @param from       The tile the piece leaves
+   * @param to         The tile the piece lands on
+   * @param duration   How long the move takes
+   * @param onFinished Called once the piece has landed, may be null
+   */
+  public void animatePiece(Player player, int from, int to, Duration duration, Runnable onFinished) {
+    double startX = getTileCenterX(from);
+    double startY = getTileCenterY(from);
+    double endX = getTileCenterX(to);
+    double endY = getTileCenterY(to);
+    double[] position = { startX, startY };
+    floatingPieces.put(player, position);
+    markTileDirty(from);
+
+    DoubleProperty progress = new SimpleDoubleProperty();
+    progress.addListener((observable, oldValue, newValue) -> {
+      markDirty(pieceBounds(position));
+      double t = newValue.doubleValue();
+      position[0] = startX + (endX - startX) * t;
+      position[1] = startY + (endY - startY) * t;
+      markDirty(pieceBounds(position));
+    });
+    Timeline timeline = new Timeline(
+        new KeyFrame(duration, new KeyValue(progress, 1, Interpolator.EASE_BOTH)));
+    timeline.setOnFinished(e -> {
+      floatingPieces.remove(player);
+      markDirty(pieceBounds(position));
+      markTileDirty(to);
+      if (onFinished != null) {
+        onFinished.run();
+      }
+    });
+    timeline.play();
+  }
+
+  /**
+   * Gets the area a floating piece covers, including its outline
+   */
+  private Rectangle2D pieceBounds(double[] position) {
+    double extent = tileSize * 0.15 + 2;
+    return new Rectangle2D(position[0] - extent, position[1] - extent, extent * 2, extent * 2);
+  }
+}
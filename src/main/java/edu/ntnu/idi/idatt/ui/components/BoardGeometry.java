@@ -0,0 +1,266 @@
+package edu.ntnu.idi.idatt.ui.components;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import edu.ntnu.idi.idatt.model.LadderBoard;
+import edu.ntnu.idi.idatt.model.LadderGameTile;
+import javafx.geometry.Rectangle2D;
+
+/**
+ * Where the tiles of a Snakes and Ladders board and the lines between them
+ * are, in board coordinates: the origin is the top left corner of the board,
+ * and nothing depends on where the board is shown or how big the window is.
+ * <p>
+ * Ladder boards are laid out with tile 1 in the bottom row and rows
+ * alternating direction. Treasure boards are laid out row by row from the
+ * top left. There is a gap between neighbouring tiles.
+ * </p>
+ */
+public final class BoardGeometry {
+
+  /**
+   * The kind of line drawn between two tiles
+   */
+  public enum ConnectionType {
+    LADDER,
+    SNAKE
+  }
+
+  /**
+   * A snake or ladder line between two tiles, in board coordinates
+   */
+  public static final class Connection {
+    private final ConnectionType type;
+    private final int startTile;
+    private final int endTile;
+    private final double startX;
+    private final double startY;
+    private final double endX;
+    private final double endY;
+    private final Rectangle2D bounds;
+
+    private Connection(ConnectionType type, int startTile, int endTile,
+        double startX, double startY, double endX, double endY) {
+      this.type = type;
+      this.startTile = startTile;
+      this.endTile = endTile;
+      this.startX = startX;
+      this.startY = startY;
+      this.endX = endX;
+      this.endY = endY;
+      // Padded by the line width so clipped repaints do not leave edges behind
+      this.bounds = new Rectangle2D(Math.min(startX, endX) - 2, Math.min(startY, endY) - 2,
+          Math.abs(endX - startX) + 4, Math.abs(endY - startY) + 4);
+    }
+
+    public ConnectionType getType() {
+      return type;
+    }
+
+    public int getStartTile() {
+      return startTile;
+    }
+
+    public int getEndTile() {
+      return endTile;
+    }
+
+    public double getStartX() {
+      return startX;
+    }
+
+    public double getStartY() {
+      return startY;
+    }
+
+    public double getEndX() {
+      return endX;
+    }
+
+    public double getEndY() {
+      return endY;
+    }
+
+    public Rectangle2D getBounds() {
+      return bounds;
+    }
+  }
+
+  private final int rows;
+  private final int columns;
+  private final double tileSize;
+  private final double gap;
+  private final boolean serpentine;
+
+  /**
+   * Creates the geometry of a ladder board, with tile 1 in the bottom row
+   * and rows alternating direction
+   *
+   * @param rows     The number of rows
+   * @param columns  The number of columns
+   * @param tileSize The size of each tile
+   * @param gap      The space between neighbouring tiles
+   */
+  public BoardGeometry(int rows, int columns, double tileSize, double gap) {
+    this(rows, columns, tileSize, gap, true);
+  }
+
+  /**
+   * Creates the geometry of a board
+   *
+   * @param rows       The number of rows
+   * @param columns    The number of columns
+   * @param tileSize   The size of each tile
+   * @param gap        The space between neighbouring tiles
+   * @param serpentine true for a ladder board layout, false for tiles row by
+   *                   row from the top left
+   */
+  public BoardGeometry(int rows, int columns, double tileSize, double gap, boolean serpentine) {
+    if (rows <= 0 || columns <= 0) {
+      throw new IllegalArgumentException("Invalid board dimensions: " + rows + "x" + columns);
+    }
+    if (tileSize <= 0 || gap < 0) {
+      throw new IllegalArgumentException("Tile size must be positive and gap cannot be negative");
+    }
+    this.rows = rows;
+    this.columns = columns;
+    this.tileSize = tileSize;
+    this.gap = gap;
+    this.serpentine = serpentine;
+  }
+
+  /**
+   * Gets the column a tile is drawn in
+   *
+   * @param number The tile number
+   * @return The column, counting from the left
+   */
+  public int getColumn(int number) {
+    if (!serpentine) {
+      return (number - 1) % columns;
+    }
+    int row = (number - 1) / columns;
+    int position = (number - 1) % columns;
+    int gridRow = rows - 1 - row;
+    return gridRow % 2 == 0 ? columns - 1 - position : position;
+  }
+
+  /**
+   * Gets the row a tile is drawn in
+   *
+   * @param number The tile number
+   * @return The row, counting from the top
+   */
+  public int getGridRow(int number) {
+    if (!serpentine) {
+      return (number - 1) / columns;
+    }
+    return rows - 1 - (number - 1) / columns;
+  }
+
+  /**
+   * Gets the tile drawn in a cell
+   *
+   * @param gridRow The row, counting from the top
+   * @param column  The column, counting from the left
+   * @return The tile number
+   */
+  public int getTileNumber(int gridRow, int column) {
+    if (!serpentine) {
+      return gridRow * columns + column + 1;
+    }
+    int row = rows - 1 - gridRow;
+    int position = gridRow % 2 == 0 ? columns - 1 - column : column;
+    return row * columns + position + 1;
+  }
+
+  /**
+   * Gets the left edge of a tile
+   *
+   * @param number The tile number
+   * @return The x coordinate
+   */
+  public double getTileX(int number) {
+    return getColumn(number) * (tileSize + gap);
+  }
+
+  /**
+   * Gets the top edge of a tile
+   *
+   * @param number The tile number
+   * @return The y coordinate
+   */
+  public double getTileY(int number) {
+    return getGridRow(number) * (tileSize + gap);
+  }
+
+  public double getTileCenterX(int number) {
+    return getTileX(number) + tileSize / 2;
+  }
+
+  public double getTileCenterY(int number) {
+    return getTileY(number) + tileSize / 2;
+  }
+
+  public double getWidth() {
+    return columns * (tileSize + gap) - gap;
+  }
+
+  public double getHeight() {
+    return rows * (tileSize + gap) - gap;
+  }
+
+  public int getRows() {
+    return rows;
+  }
+
+  public int getColumns() {
+    return columns;
+  }
+
+  public double getTileSize() {
+    return tileSize;
+  }
+
+  public double getGap() {
+    return gap;
+  }
+
+  /**
+   * Works out the snake and ladder lines of a board, in tile order. Ladders
+   * run from the lower part of their start tile to the upper part of their
+   * end tile, and snakes the other way, ending a little to the side.
+   *
+   * @param board The board
+   * @return The lines, which cannot be modified
+   */
+  public List<Connection> computeConnections(LadderBoard board) {
+    if (board == null) {
+      throw new IllegalArgumentException("Board cannot be null");
+    }
+    List<Connection> connections = new ArrayList<>();
+    int tileCount = rows * columns;
+    for (int number = 1; number <= tileCount; number++) {
+      LadderGameTile tile = board.getTile(number);
+      if (tile == null) {
+        continue;
+      }
+      double startX = getTileCenterX(number);
+      double startY = getTileCenterY(number);
+      if (tile.hasLadder()) {
+        int end = tile.getLadder().getNumber();
+        connections.add(new Connection(ConnectionType.LADDER, number, end,
+            startX, startY + tileSize * 0.3,
+            getTileCenterX(end), getTileCenterY(end) - tileSize * 0.3));
+      } else if (tile.hasSnake()) {
+        int end = tile.getSnake().getNumber();
+        connections.add(new Connection(ConnectionType.SNAKE, number, end,
+            startX, startY - tileSize * 0.3,
+            getTileCenterX(end) + tileSize * 0.2, getTileCenterY(end) + tileSize * 0.3));
+      }
+    }
+    return Collections.unmodifiableList(connections);
+  }
+}
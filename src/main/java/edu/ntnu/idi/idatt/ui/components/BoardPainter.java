@@ -0,0 +1,58 @@
+package edu.ntnu.idi.idatt.ui.components;
+
+import javafx.scene.canvas.GraphicsContext;
+import javafx.scene.paint.Color;
+
+/**
+ * Draws the snake and ladder lines and the player pieces of the canvas
+ * board views, so every view draws them the same way
+ */
+final class BoardPainter {
+
+  private BoardPainter() {
+  }
+
+  /**
+   * Draws a snake or ladder line: ladders dashed green, snakes solid red
+   *
+   * @param gc     The context to draw on
+   * @param type   The kind of line
+   * @param startX The x coordinate of the start
+   * @param startY The y coordinate of the start
+   * @param endX   The x coordinate of the end
+   * @param endY   The y coordinate of the end
+   */
+  static void drawConnection(GraphicsContext gc, BoardGeometry.ConnectionType type,
+      double startX, double startY, double endX, double endY) {
+    if (type == BoardGeometry.ConnectionType.LADDER) {
+      gc.setStroke(Color.GREEN);
+      gc.setLineWidth(1);
+      gc.setLineDashes(5, 5);
+    } else {
+      gc.setStroke(Color.RED);
+      gc.setLineWidth(2);
+      gc.setLineDashes();
+    }
+    gc.strokeLine(startX, startY, endX, endY);
+    gc.setLineDashes();
+  }
+
+  /**
+   * Draws a player piece: a filled circle with a beige outline
+   *
+   * @param gc        The context to draw on
+   * @param color     The piece color
+   * @param centerX   The x coordinate of the center
+   * @param centerY   The y coordinate of the center
+   * @param radius    The radius
+   * @param lineWidth The width of the outline
+   */
+  static void drawPiece(GraphicsContext gc, Color color, double centerX, double centerY, double radius,
+      double lineWidth) {
+    gc.setFill(color);
+    gc.fillOval(centerX - radius, centerY - radius, radius * 2, radius * 2);
+    gc.setStroke(Color.BEIGE);
+    gc.setLineWidth(lineWidth);
+    gc.strokeOval(centerX - radius, centerY - radius, radius * 2, radius * 2);
+  }
+}
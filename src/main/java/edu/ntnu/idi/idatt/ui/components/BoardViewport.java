@@ -0,0 +1,370 @@
+package edu.ntnu.idi.idatt.ui.components;
+
+import javafx.animation.AnimationTimer;
+import javafx.geometry.Rectangle2D;
+import javafx.scene.canvas.Canvas;
+import javafx.scene.canvas.GraphicsContext;
+import javafx.scene.input.MouseButton;
+import javafx.scene.layout.Region;
+import javafx.scene.paint.Color;
+import javafx.scene.shape.Rectangle;
+
+/**
+ * A pannable, zoomable window onto a board too large to show whole.
+ * <p>
+ * The view is a single {@link Canvas} the size of the viewport, not of the
+ * board, and each frame only the tiles inside the view are drawn. Zoomed
+ * out, tiles are drawn with less detail, and once they would be only a few
+ * pixels wide neighbouring tiles are merged into blocks, so the number of
+ * shapes drawn depends on the size of the viewport and never on the size of
+ * the board.
+ * </p>
+ * <p>
+ * Drag to pan, scroll to zoom around the mouse and double-click to go back
+ * to following the piece set with {@link #follow(int)}.
+ * </p>
+ */
+public final class BoardViewport extends Region {
+
+  /**
+   * How much of a tile is drawn
+   */
+  public enum DetailLevel {
+    /** Tiles with their numbers and pieces spread out */
+    FULL,
+    /** Tiles without numbers */
+    SIMPLE,
+    /** Blocks of tiles, each drawn as its first tile */
+    OVERVIEW
+  }
+
+  /**
+   * Draws what is on a board
+   */
+  public interface BoardRenderer {
+    /**
+     * Draws a tile, or at {@link DetailLevel#OVERVIEW} a block of tiles
+     *
+     * @param gc     Where to draw
+     * @param number The tile number
+     * @param x      The left edge on screen
+     * @param y      The top edge on screen
+     * @param size   The width and height on screen
+     * @param detail How much to draw
+     */
+    void drawTile(GraphicsContext gc, int number, double x, double y, double size, DetailLevel detail);
+
+    /**
+     * Draws what lies over the tiles, such as lines and pieces. Use
+     * {@link BoardViewport#getVisibleBounds()} to skip what is out of view.
+     *
+     * @param gc       Where to draw
+     * @param viewport The viewport, to convert board coordinates to screen
+     * @param detail   How much to draw
+     */
+    void drawOverlay(GraphicsContext gc, BoardViewport viewport, DetailLevel detail);
+  }
+
+  private static final double DEFAULT_VIEW_SIZE = 720;
+  // Tiles smaller than this on screen lose their numbers
+  private static final double FULL_DETAIL_TILE_PIXELS = 24;
+  // Tiles smaller than this on screen are merged into blocks
+  private static final double OVERVIEW_TILE_PIXELS = 6;
+  private static final double MAX_ZOOM = 4;
+  private static final double ZOOM_STEP = 1.15;
+  // Share of the distance to the followed tile covered each frame
+  private static final double FOLLOW_EASING = 0.2;
+
+  private final BoardGeometry geometry;
+  private final BoardRenderer renderer;
+  private final Canvas canvas = new Canvas();
+  private final Color background;
+  private final AnimationTimer timer;
+  private boolean timerRunning;
+  private boolean redrawRequested;
+
+  private double zoom = 1;
+  // The board coordinates at the top left of the view
+  private double viewX;
+  private double viewY;
+  private int followedTile = -1;
+  private boolean following = true;
+  private double dragX;
+  private double dragY;
+
+  /**
+   * Creates a viewport onto a board
+   *
+   * @param geometry   Where the board's tiles are
+   * @param renderer   Draws the tiles and what lies over them
+   * @param background The color behind the tiles
+   */
+  public BoardViewport(BoardGeometry geometry, BoardRenderer renderer, Color background) {
+    if (geometry == null || renderer == null || background == null) {
+      throw new IllegalArgumentException("Geometry, renderer and background cannot be null");
+    }
+    this.geometry = geometry;
+    this.renderer = renderer;
+    this.background = background;
+    getChildren().add(canvas);
+
+    Rectangle clip = new Rectangle();
+    clip.widthProperty().bind(widthProperty());
+    clip.heightProperty().bind(heightProperty());
+    setClip(clip);
+
+    timer = new AnimationTimer() {
+      @Override
+      public void handle(long now) {
+        onFrame();
+      }
+    };
+    setUpMouseHandlers();
+  }
+
+  private void setUpMouseHandlers() {
+    setOnMousePressed(event -> {
+      dragX = event.getX();
+      dragY = event.getY();
+    });
+    setOnMouseDragged(event -> {
+      following = false;
+      viewX -= (event.getX() - dragX) / zoom;
+      viewY -= (event.getY() - dragY) / zoom;
+      dragX = event.getX();
+      dragY = event.getY();
+      clampView();
+      requestRedraw();
+    });
+    setOnScroll(event -> {
+      double factor = event.getDeltaY() > 0 ? ZOOM_STEP : 1 / ZOOM_STEP;
+      zoomAt(zoom * factor, event.getX(), event.getY());
+      event.consume();
+    });
+    setOnMouseClicked(event -> {
+      if (event.getButton() == MouseButton.PRIMARY && event.getClickCount() == 2) {
+        setFollowing(true);
+      }
+    });
+  }
+
+  /**
+   * Zooms keeping the board point under a screen point in place
+   *
+   * @param newZoom The zoom wanted, limited to between showing the whole
+   *                board and {@link #MAX_ZOOM}
+   * @param screenX The x coordinate to zoom around
+   * @param screenY The y coordinate to zoom around
+   */
+  public void zoomAt(double newZoom, double screenX, double screenY) {
+    double clamped = Math.max(getMinZoom(), Math.min(MAX_ZOOM, newZoom));
+    double boardX = viewX + screenX / zoom;
+    double boardY = viewY + screenY / zoom;
+    zoom = clamped;
+    viewX = boardX - screenX / zoom;
+    viewY = boardY - screenY / zoom;
+    clampView();
+    requestRedraw();
+  }
+
+  /**
+   * Gets the zoom at which the whole board fits the view
+   *
+   * @return The smallest zoom allowed
+   */
+  public double getMinZoom() {
+    if (getWidth() <= 0 || getHeight() <= 0) {
+      return 1;
+    }
+    return Math.min(1, Math.min(getWidth() / geometry.getWidth(), getHeight() / geometry.getHeight()));
+  }
+
+  public double getZoom() {
+    return zoom;
+  }
+
+  /**
+   * Keeps a tile in view, usually the tile of the piece that last moved.
+   * The view glides to it unless the user has panned away.
+   *
+   * @param tileNumber The tile to follow
+   */
+  public void follow(int tileNumber) {
+    followedTile = tileNumber;
+    if (following) {
+      startTimer();
+    }
+  }
+
+  /**
+   * Sets whether the view follows the tile set with {@link #follow(int)}
+   *
+   * @param following true to follow
+   */
+  public void setFollowing(boolean following) {
+    this.following = following;
+    if (following) {
+      startTimer();
+    }
+  }
+
+  public boolean isFollowing() {
+    return following;
+  }
+
+  /**
+   * Draws the view again on the next frame
+   */
+  public void requestRedraw() {
+    redrawRequested = true;
+    startTimer();
+  }
+
+  private void startTimer() {
+    if (!timerRunning) {
+      timerRunning = true;
+      timer.start();
+    }
+  }
+
+  private void onFrame() {
+    boolean moving = following && followedTile > 0 && stepTowardFollowedTile();
+    if (redrawRequested || moving) {
+      redrawRequested = false;
+      redraw();
+    }
+    if (!moving) {
+      timer.stop();
+      timerRunning = false;
+    }
+  }
+
+  /**
+   * Moves the view part of the way toward centring the followed tile
+   *
+   * @return true if the view moved and has further to go
+   */
+  private boolean stepTowardFollowedTile() {
+    double targetX = geometry.getTileCenterX(followedTile) - getWidth() / zoom / 2;
+    double targetY = geometry.getTileCenterY(followedTile) - getHeight() / zoom / 2;
+    double oldX = viewX;
+    double oldY = viewY;
+    viewX += (targetX - viewX) * FOLLOW_EASING;
+    viewY += (targetY - viewY) * FOLLOW_EASING;
+    clampView();
+    double moved = Math.abs(viewX - oldX) + Math.abs(viewY - oldY);
+    // Stop once the view moves less than half a pixel a frame
+    return moved * zoom >= 0.5;
+  }
+
+  /**
+   * Keeps the board in view, centring it along an axis where it is smaller
+   * than the view
+   */
+  private void clampView() {
+    double visibleWidth = getWidth() / zoom;
+    double visibleHeight = getHeight() / zoom;
+    if (geometry.getWidth() <= visibleWidth) {
+      viewX = (geometry.getWidth() - visibleWidth) / 2;
+    } else {
+      viewX = Math.max(0, Math.min(geometry.getWidth() - visibleWidth, viewX));
+    }
+    if (geometry.getHeight() <= visibleHeight) {
+      viewY = (geometry.getHeight() - visibleHeight) / 2;
+    } else {
+      viewY = Math.max(0, Math.min(geometry.getHeight() - visibleHeight, viewY));
+    }
+  }
+
+  /**
+   * Draws the tiles in view and what lies over them
+   */
+  private void redraw() {
+    GraphicsContext gc = canvas.getGraphicsContext2D();
+    gc.setFill(background);
+    gc.fillRect(0, 0, canvas.getWidth(), canvas.getHeight());
+
+    double cell = geometry.getTileSize() + geometry.getGap();
+    DetailLevel detail = getDetailLevel();
+    // Zoomed far out, one block stands for several tiles each way
+    int stride = 1;
+    if (detail == DetailLevel.OVERVIEW) {
+      stride = (int) Math.ceil(OVERVIEW_TILE_PIXELS / (cell * zoom));
+    }
+
+    Rectangle2D visible = getVisibleBounds();
+    int firstColumn = Math.max(0, (int) (visible.getMinX() / cell));
+    int lastColumn = Math.min(geometry.getColumns() - 1, (int) (visible.getMaxX() / cell));
+    int firstRow = Math.max(0, (int) (visible.getMinY() / cell));
+    int lastRow = Math.min(geometry.getRows() - 1, (int) (visible.getMaxY() / cell));
+    firstColumn -= firstColumn % stride;
+    firstRow -= firstRow % stride;
+
+    double size = (stride * cell - geometry.getGap()) * zoom;
+    for (int gridRow = firstRow; gridRow <= lastRow; gridRow += stride) {
+      for (int column = firstColumn; column <= lastColumn; column += stride) {
+        int number = geometry.getTileNumber(gridRow, column);
+        renderer.drawTile(gc, number, toScreenX(column * cell), toScreenY(gridRow * cell), size, detail);
+      }
+    }
+    renderer.drawOverlay(gc, this, detail);
+  }
+
+  /**
+   * Gets how much detail tiles are drawn with at the current zoom
+   *
+   * @return The detail level
+   */
+  public DetailLevel getDetailLevel() {
+    double tilePixels = getScreenTileSize();
+    if (tilePixels < OVERVIEW_TILE_PIXELS) {
+      return DetailLevel.OVERVIEW;
+    }
+    return tilePixels < FULL_DETAIL_TILE_PIXELS ? DetailLevel.SIMPLE : DetailLevel.FULL;
+  }
+
+  /**
+   * Gets the part of the board in view
+   *
+   * @return The visible area, in board coordinates
+   */
+  public Rectangle2D getVisibleBounds() {
+    return new Rectangle2D(viewX, viewY, Math.max(0, getWidth() / zoom), Math.max(0, getHeight() / zoom));
+  }
+
+  public double toScreenX(double boardX) {
+    return (boardX - viewX) * zoom;
+  }
+
+  public double toScreenY(double boardY) {
+    return (boardY - viewY) * zoom;
+  }
+
+  public double getScreenTileSize() {
+    return geometry.getTileSize() * zoom;
+  }
+
+  public BoardGeometry getGeometry() {
+    return geometry;
+  }
+
+  @Override
+  protected double computePrefWidth(double height) {
+    return Math.min(geometry.getWidth(), DEFAULT_VIEW_SIZE);
+  }
+
+  @Override
+  protected double computePrefHeight(double width) {
+    return Math.min(geometry.getHeight(), DEFAULT_VIEW_SIZE);
+  }
+
+  @Override
+  protected void layoutChildren() {
+    // The canvas is as big as the view, however big the board is
+    canvas.setWidth(getWidth());
+    canvas.setHeight(getHeight());
+    zoom = Math.max(getMinZoom(), zoom);
+    clampView();
+    requestRedraw();
+  }
+}
@@ -0,0 +1,118 @@
+package edu.ntnu.idi.idatt.ui.components;
+
+import java.util.List;
+import java.util.Map;
+
+import edu.ntnu.idi.idatt.model.LadderBoard;
+import edu.ntnu.idi.idatt.model.LadderGameTile;
+import javafx.scene.Group;
+import javafx.scene.layout.Pane;
+import javafx.scene.layout.StackPane;
+import javafx.scene.shape.Line;
+import javafx.scene.transform.Scale;
+
+/**
+ * Draws the snakes and ladders of a node-based board on a layer of its own,
+ * laid over the tiles.
+ * <p>
+ * The lines are created once, in board coordinates from
+ * {@link BoardGeometry}, and never measured from the tiles on screen. The
+ * layer is placed over the board grid and keeps the board's size, so moving
+ * or resizing the window moves the lines with the tiles for free. If the
+ * layer itself is resized, a single {@link Scale} on the lines fits them to
+ * it instead of working the lines out again.
+ * </p>
+ * <p>
+ * Lines and the tiles they join are styled through CSS classes in
+ * styles.css rather than inline styles.
+ * </p>
+ */
+public final class ConnectionLayer extends Pane {
+  private static final String[] TILE_STYLE_CLASSES = {
+      "ladder-start-tile", "ladder-end-tile", "snake-head-tile", "snake-tail-tile", "wormhole-tile"
+  };
+
+  private final BoardGeometry geometry;
+  private final Group lines = new Group();
+  private final Scale scale = new Scale(1, 1, 0, 0);
+
+  /**
+   * Creates the layer for a board
+   *
+   * @param board    The board whose snakes and ladders are drawn
+   * @param geometry Where the board's tiles are
+   */
+  public ConnectionLayer(LadderBoard board, BoardGeometry geometry) {
+    if (board == null || geometry == null) {
+      throw new IllegalArgumentException("Board and geometry cannot be null");
+    }
+    this.geometry = geometry;
+
+    for (BoardGeometry.Connection connection : geometry.computeConnections(board)) {
+      Line line = new Line(connection.getStartX(), connection.getStartY(),
+          connection.getEndX(), connection.getEndY());
+      line.getStyleClass().addAll("connection-line",
+          connection.getType() == BoardGeometry.ConnectionType.LADDER ? "ladder-line" : "snake-line");
+      lines.getChildren().add(line);
+    }
+    lines.getTransforms().add(scale);
+    // Keep the lines from growing the layer's bounds
+    lines.setManaged(false);
+    getChildren().add(lines);
+    getStyleClass().add("connection-layer");
+
+    setPickOnBounds(false);
+    setMouseTransparent(true);
+    setPrefSize(geometry.getWidth(), geometry.getHeight());
+    setMaxSize(USE_PREF_SIZE, USE_PREF_SIZE);
+  }
+
+  /**
+   * Marks the tiles that start or end a snake, ladder or wormhole with a CSS
+   * class. Tiles are handled in order, so a tile that both ends one
+   * connection and starts another is styled as the start.
+   *
+   * @param board    The board
+   * @param tilesMap The tile nodes by tile number
+   */
+  public static void styleTiles(LadderBoard board, Map<Integer, StackPane> tilesMap) {
+    int tileCount = board.getRows() * board.getColumns();
+    for (int number = 1; number <= tileCount; number++) {
+      LadderGameTile tile = board.getTile(number);
+      if (tile == null || !tile.hasAction()) {
+        continue;
+      }
+      if (tile.hasLadder()) {
+        setTileStyle(tilesMap.get(number), "ladder-start-tile");
+        setTileStyle(tilesMap.get(tile.getLadder().getNumber()), "ladder-end-tile");
+      } else if (tile.hasSnake()) {
+        setTileStyle(tilesMap.get(number), "snake-head-tile");
+        setTileStyle(tilesMap.get(tile.getSnake().getNumber()), "snake-tail-tile");
+      } else if (tile.hasWormhole()) {
+        setTileStyle(tilesMap.get(number), "wormhole-tile");
+      }
+    }
+  }
+
+  private static void setTileStyle(StackPane tile, String styleClass) {
+    if (tile == null) {
+      return;
+    }
+    tile.getStyleClass().removeAll(List.of(TILE_STYLE_CLASSES));
+    tile.getStyleClass().add(styleClass);
+  }
+
+  @Override
+  protected void layoutChildren() {
+    if (getWidth() <= 0 || getHeight() <= 0) {
+      return;
+    }
+    // One transform fits the board coordinates to the layer's size
+    scale.setX(getWidth() / geometry.getWidth());
+    scale.setY(getHeight() / geometry.getHeight());
+  }
+
+  public BoardGeometry getGeometry() {
+    return geometry;
+  }
+}
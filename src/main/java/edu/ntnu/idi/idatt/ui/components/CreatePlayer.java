@@ -2,9 +2,10 @@ package edu.ntnu.idi.idatt.ui.components;
 
 import java.util.List;
 
-import edu.ntnu.idi.idatt.exceptions.FileWriteException;
 import edu.ntnu.idi.idatt.model.Player;
-import edu.ntnu.idi.idatt.persistence.CsvHandler;
+import edu.ntnu.idi.idatt.persistence.AsyncPersistenceService;
+import edu.ntnu.idi.idatt.persistence.PlayerRosterStore;
+import javafx.application.Platform;
 import javafx.geometry.Insets;
 import javafx.scene.Scene;
 import javafx.scene.control.Alert;
@@ -84,7 +85,7 @@ public class CreatePlayer {
             (int) (color.getBlue() * 255));
 
         Player player = new Player(nameInput.getText(), colorHex, 0);
-        savePlayersToCsv(List.of(player));
+        savePlayers(List.of(player));
 
         window.close();
       } catch (Exception ex) {
@@ -110,20 +111,20 @@ public class CreatePlayer {
   }
 
   /**
-   * Opens a file chooser dialog to save sample players to a CSV file
+   * Saves players to the player roster on the I/O thread, showing an alert
+   * if saving fails
    */
-  private static void savePlayersToCsv(List<Player> players) {
-
-    String savePath = "data/players/players.csv";
-    try {
-      CsvHandler.savePlayersToCsv(players, savePath);
-
-    } catch (FileWriteException e) {
-      Alert alert = new Alert(Alert.AlertType.ERROR);
-      alert.setTitle("Error");
-      alert.setHeaderText("Save Failed");
-      alert.setContentText("Failed to save players: " + e.getMessage());
-      alert.showAndWait();
-    }
+  private static void savePlayers(List<Player> players) {
+    AsyncPersistenceService.getShared().saveToRoster(players, PlayerRosterStore.DEFAULT_PATH)
+        .whenCompleteAsync((result, error) -> {
+          if (error != null) {
+            Throwable cause = error.getCause() != null ? error.getCause() : error;
+            Alert alert = new Alert(Alert.AlertType.ERROR);
+            alert.setTitle("Error");
+            alert.setHeaderText("Save Failed");
+            alert.setContentText("Failed to save players: " + cause.getMessage());
+            alert.showAndWait();
+          }
+        }, Platform::runLater);
   }
 }
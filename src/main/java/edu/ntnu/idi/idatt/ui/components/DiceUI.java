@@ -1,8 +1,10 @@
 package edu.ntnu.idi.idatt.ui.components;
 
 import javafx.geometry.Pos;
+import javafx.scene.Node;
 import javafx.scene.control.Button;
 import javafx.scene.control.Label;
+import javafx.scene.image.ImageView;
 import javafx.scene.layout.HBox;
 import javafx.scene.layout.VBox;
 
@@ -12,13 +14,23 @@ import javafx.scene.layout.VBox;
 public class DiceUI {
   private HBox diceContainer;
   private Button rollButton;
+  // Reused for every roll, only the atlas region or text changes
+  private ImageView dieView;
+  private Label diceLabel;
+  private final TextureAtlas atlas;
   private final String rollButtonStyle = "-fx-padding: 8 16; -fx-background-radius: 4; -fx-cursor: hand; " +
                                         "-fx-background-color: #1976d2; -fx-text-fill: white;";
 
   /**
    * Creates a new DiceView
+   *
+   * @param atlas The game scene's atlas, which holds the die faces
    */
-  public DiceUI() {
+  public DiceUI(TextureAtlas atlas) {
+    if (atlas == null) {
+      throw new IllegalArgumentException("Atlas cannot be null");
+    }
+    this.atlas = atlas;
     diceContainer = new HBox(10);
     rollButton = new Button("Roll Dice");
 
@@ -58,16 +70,36 @@ public class DiceUI {
   }
 
   /**
-   * Displays a dice value in the dice container
+   * Displays a dice value in the dice container. Values from 1 to 6 are
+   * shown as a die face from the scene's {@link TextureAtlas}, larger
+   * totals of several dice as a number.
    * 
    * @param value The value to display
    */
   public void displayDiceValue(int value) {
-    diceContainer.getChildren().clear();
-    Label diceLabel = new Label(Integer.toString(value));
-    diceLabel.setStyle("-fx-font-size: 24px; -fx-font-weight: bold;");
-    diceContainer.getChildren().add(diceLabel);
+    if (value >= 1 && value <= 6) {
+      if (dieView == null) {
+        dieView = atlas.createDieView(value);
+      } else {
+        dieView.setViewport(atlas.getDieRegion(value));
+      }
+      showDiceNode(dieView);
+    } else {
+      if (diceLabel == null) {
+        diceLabel = new Label();
+        diceLabel.setStyle("-fx-font-size: 24px; -fx-font-weight: bold;");
+      }
+      diceLabel.setText(Integer.toString(value));
+      showDiceNode(diceLabel);
+    }
   }
+
+  private void showDiceNode(Node node) {
+    if (diceContainer.getChildren().size() != 1 || diceContainer.getChildren().get(0) != node) {
+      diceContainer.getChildren().setAll(node);
+    }
+  }
+
   /**
    * Gets the dice container
    * 
@@ -2,11 +2,10 @@ package edu.ntnu.idi.idatt.ui.components;
 
 import java.util.List;
 
+import edu.ntnu.idi.idatt.model.GameStateSnapshot;
 import edu.ntnu.idi.idatt.model.Player;
 import javafx.geometry.Insets;
-import javafx.scene.SnapshotParameters;
 import javafx.scene.image.ImageView;
-import javafx.scene.image.WritableImage;
 import javafx.scene.layout.StackPane;
 import javafx.scene.paint.Color;
 import javafx.scene.shape.Circle;
@@ -17,6 +16,7 @@ import javafx.scene.shape.Circle;
 public class GamePiece {
   private final int tileSize;
   private final List<Player> players;
+  private TextureAtlas atlas;
 
   // Default colors if hex parsing fails
   private static final Color[] DEFAULT_COLORS = {
@@ -28,10 +28,15 @@ public class GamePiece {
    *
    * @param tileSize the size of each tile
    * @param players  the list of players
+   * @param atlas    the game scene's atlas, drawn at the same tile size
    */
-  public GamePiece(int tileSize, List<Player> players) {
+  public GamePiece(int tileSize, List<Player> players, TextureAtlas atlas) {
+    if (atlas == null) {
+      throw new IllegalArgumentException("Atlas cannot be null");
+    }
     this.tileSize = tileSize;
     this.players = players;
+    this.atlas = atlas;
   }
 
   /**
@@ -86,10 +91,19 @@ public class GamePiece {
    * @return The parsed Color object
    */
   private Color getPlayerColor(Player player, int playerIndex) {
-    // Debug the color value we're trying to parse
-
-    String colorHex = player.getPieceType();
+    return parseColor(player.getPieceType(), playerIndex);
+  }
 
+  /**
+   * Parses a piece type as a hex color, so every renderer colors a player's
+   * piece the same way
+   *
+   * @param colorHex    The piece type, with or without a leading '#'
+   * @param playerIndex Fallback index for default color
+   * @return The parsed Color object, or a default color if the piece type is
+   *         not a color
+   */
+  public static Color parseColor(String colorHex, int playerIndex) {
     // If null or empty, use default
     if (colorHex == null || colorHex.isEmpty()) {
       return getDefaultColor(playerIndex);
@@ -101,10 +115,9 @@ public class GamePiece {
         colorHex = "#" + colorHex;
       }
 
-      Color parsedColor = Color.web(colorHex);
-      return parsedColor;
-    } catch (Exception e) {
-      // Log the error and use default
+      return Color.web(colorHex);
+    } catch (IllegalArgumentException e) {
+      // Not a color, use default
       return getDefaultColor(playerIndex);
     }
   }
@@ -144,7 +157,7 @@ public class GamePiece {
    * @param playerIndex The index of the player
    * @return A default color
    */
-  private Color getDefaultColor(int playerIndex) {
+  private static Color getDefaultColor(int playerIndex) {
     return DEFAULT_COLORS[playerIndex % DEFAULT_COLORS.length];
   }
 
@@ -240,7 +253,41 @@ public class GamePiece {
   }
 
   /**
-   * Creates an ImageView for a player piece for animation
+   * Shows the pieces a snapshot places on a tile, for views that follow a
+   * game through snapshots instead of events
+   *
+   * @param position The board position of the tile
+   * @param tile     The tile
+   * @param snapshot The game state to show
+   */
+  public void showSnapshotPieces(int position, StackPane tile, GameStateSnapshot snapshot) {
+    preserveLabels(tile);
+
+    int playerCount = 0;
+    for (int i = 0; i < snapshot.getPlayerCount(); i++) {
+      if (snapshot.getTileId(i) == position) {
+        playerCount++;
+      }
+    }
+    if (playerCount == 0) {
+      return;
+    }
+
+    StackPane playerContainer = new StackPane();
+    playerContainer.setMaxSize(tileSize, tileSize);
+    int currentIndex = 0;
+    for (int i = 0; i < snapshot.getPlayerCount() && i < players.size(); i++) {
+      if (snapshot.getTileId(i) == position) {
+        addPlayerPieceToContainer(playerContainer, players.get(i), currentIndex, playerCount);
+        currentIndex++;
+      }
+    }
+    tile.getChildren().add(playerContainer);
+  }
+
+  /**
+   * Creates an ImageView for a player piece for animation. The view shows
+   * a region of the scene's {@link TextureAtlas}, so no snapshot is taken.
    *
    * @param playerIndex the index of the player
    * @return the created ImageView or null if creation fails
@@ -248,38 +295,15 @@ public class GamePiece {
   public ImageView createAnimationPiece(int playerIndex) {
     Player player = players.get(playerIndex);
 
-    try {
-      // Use the same color method to ensure consistency
-      Color pieceColor = getPlayerColor(player, playerIndex);
-
-      // Create a shape equivalent to what would be displayed on the board
-      Circle circle = new Circle(tileSize * 0.15);
-      circle.setFill(pieceColor);
-      circle.setStroke(Color.BLACK);
-      circle.setStrokeWidth(1);
-
-      // Create a StackPane with transparent background
-      StackPane shapeContainer = new StackPane(circle);
-      shapeContainer.setPrefSize(tileSize * 0.35, tileSize * 0.35);
-      shapeContainer.setBackground(javafx.scene.layout.Background.EMPTY);
-
-      // Create snapshot parameters with transparent background
-      SnapshotParameters params = new javafx.scene.SnapshotParameters();
-      params.setFill(javafx.scene.paint.Color.TRANSPARENT);
-
-      // Take a snapshot
-      WritableImage snapshot = shapeContainer.snapshot(params, null);
-
-      // Create an ImageView from the snapshot
-      ImageView shapeView = new javafx.scene.image.ImageView(snapshot);
-      shapeView.setFitWidth(tileSize * 0.35);
-      shapeView.setFitHeight(tileSize * 0.35);
-
-      return shapeView;
-    } catch (Exception e) {
-
-      return null;
+    // Use the same color method to ensure consistency
+    Color pieceColor = getPlayerColor(player, playerIndex);
+    ImageView shapeView = atlas.createPieceView(pieceColor);
+    if (shapeView == null) {
+      // The player's color changed since the atlas was drawn
+      atlas = atlas.withPieceColors(List.of(pieceColor));
+      shapeView = atlas.createPieceView(pieceColor);
     }
+    return shapeView;
   }
 
   /**
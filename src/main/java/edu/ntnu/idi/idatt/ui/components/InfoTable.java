@@ -15,13 +15,15 @@ public class InfoTable {
 
   /**
    * Creates a new InfoTable
+   *
+   * @param atlas The game scene's atlas, which holds the die faces
    */
-  public InfoTable() {
+  public InfoTable(TextureAtlas atlas) {
     statusLabel = new Label();
     gameInfoLabel = new Label();
     moveCounterLabel = new Label();
     moveCounterLabel.setVisible(false);
-    diceView = new DiceUI();
+    diceView = new DiceUI(atlas);
   }
 
   /**
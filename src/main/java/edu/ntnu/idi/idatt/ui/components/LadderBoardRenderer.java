@@ -0,0 +1,222 @@
+package edu.ntnu.idi.idatt.ui.components;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import edu.ntnu.idi.idatt.model.GameStateSnapshot;
+import edu.ntnu.idi.idatt.model.LadderBoard;
+import edu.ntnu.idi.idatt.model.Player;
+import javafx.geometry.Rectangle2D;
+import javafx.geometry.VPos;
+import javafx.scene.canvas.GraphicsContext;
+import javafx.scene.paint.Color;
+import javafx.scene.text.Font;
+import javafx.scene.text.FontWeight;
+import javafx.scene.text.TextAlignment;
+
+/**
+ * Draws a Snakes and Ladders board in a {@link BoardViewport}, with the same
+ * colors as {@link BoardCanvas}
+ */
+public class LadderBoardRenderer implements BoardViewport.BoardRenderer {
+  private static final double CORNER_RADIUS = 6;
+  // Pieces stay visible however far the view is zoomed out
+  private static final double MIN_PIECE_RADIUS = 3;
+  // Width and height of the square regions connections are kept in, in tiles
+  private static final int REGION_TILES = 16;
+
+  private final List<Player> players;
+  private final PieceColors pieceColors = new PieceColors();
+  private final BoardGeometry geometry;
+  private final Color[] tileColors;
+  private final List<BoardGeometry.Connection> connections;
+  private final double regionSize;
+  private final int regionColumns;
+  private final int regionRows;
+  // The indexes of the connections crossing each region, row by row
+  private final int[][] regions;
+  // The frame each connection was last looked at in, so one crossing
+  // several visible regions is drawn once
+  private final int[] seenInFrame;
+  private final int[] visibleConnections;
+  private int frame;
+  // When set, pieces are drawn where this snapshot puts them
+  private GameStateSnapshot snapshot;
+  private Font numberFont;
+
+  /**
+   * Creates a renderer for a board
+   *
+   * @param board    The board to draw
+   * @param players  The players whose pieces are drawn
+   * @param geometry Where the board's tiles are
+   */
+  public LadderBoardRenderer(LadderBoard board, List<Player> players, BoardGeometry geometry) {
+    if (board == null || players == null || geometry == null) {
+      throw new IllegalArgumentException("Board, players and geometry cannot be null");
+    }
+    this.players = players;
+    this.geometry = geometry;
+    this.tileColors = BoardCanvas.computeTileColors(board);
+    this.connections = geometry.computeConnections(board);
+
+    this.regionSize = REGION_TILES * (geometry.getTileSize() + geometry.getGap());
+    this.regionColumns = Math.max(1, (int) Math.ceil(geometry.getWidth() / regionSize));
+    this.regionRows = Math.max(1, (int) Math.ceil(geometry.getHeight() / regionSize));
+    this.regions = bucketConnections();
+    this.seenInFrame = new int[connections.size()];
+    this.visibleConnections = new int[connections.size()];
+  }
+
+  /**
+   * Puts each connection in every region its bounds cross
+   */
+  private int[][] bucketConnections() {
+    List<List<Integer>> buckets = new ArrayList<>(regionColumns * regionRows);
+    for (int i = 0; i < regionColumns * regionRows; i++) {
+      buckets.add(new ArrayList<>());
+    }
+    for (int index = 0; index < connections.size(); index++) {
+      Rectangle2D bounds = connections.get(index).getBounds();
+      int lastColumn = getRegionColumn(bounds.getMaxX());
+      int lastRow = getRegionRow(bounds.getMaxY());
+      for (int row = getRegionRow(bounds.getMinY()); row <= lastRow; row++) {
+        for (int column = getRegionColumn(bounds.getMinX()); column <= lastColumn; column++) {
+          buckets.get(row * regionColumns + column).add(index);
+        }
+      }
+    }
+    int[][] result = new int[buckets.size()][];
+    for (int i = 0; i < result.length; i++) {
+      result[i] = buckets.get(i).stream().mapToInt(Integer::intValue).toArray();
+    }
+    return result;
+  }
+
+  private int getRegionColumn(double x) {
+    return Math.max(0, Math.min(regionColumns - 1, (int) Math.floor(x / regionSize)));
+  }
+
+  private int getRegionRow(double y) {
+    return Math.max(0, Math.min(regionRows - 1, (int) Math.floor(y / regionSize)));
+  }
+
+  /**
+   * Finds the connections whose bounds meet an area of the board, looking
+   * only at the regions the area covers
+   *
+   * @param area The area, in board coordinates
+   * @return The number of connections found, whose indexes are at the start
+   *         of {@link #visibleConnections} in list order
+   */
+  int findConnections(Rectangle2D area) {
+    frame++;
+    int found = 0;
+    int lastColumn = getRegionColumn(area.getMaxX());
+    int lastRow = getRegionRow(area.getMaxY());
+    for (int row = getRegionRow(area.getMinY()); row <= lastRow; row++) {
+      for (int column = getRegionColumn(area.getMinX()); column <= lastColumn; column++) {
+        for (int index : regions[row * regionColumns + column]) {
+          if (seenInFrame[index] != frame) {
+            seenInFrame[index] = frame;
+            if (connections.get(index).getBounds().intersects(area)) {
+              visibleConnections[found++] = index;
+            }
+          }
+        }
+      }
+    }
+    // Overlapping lines are drawn in the same order wherever the view is
+    Arrays.sort(visibleConnections, 0, found);
+    return found;
+  }
+
+  /**
+   * Sets a snapshot to draw the pieces from instead of the players
+   *
+   * @param snapshot The snapshot, or null to read the players
+   */
+  public void setSnapshot(GameStateSnapshot snapshot) {
+    this.snapshot = snapshot;
+  }
+
+  @Override
+  public void drawTile(GraphicsContext gc, int number, double x, double y, double size,
+      BoardViewport.DetailLevel detail) {
+    if (number < 1 || number >= tileColors.length) {
+      return;
+    }
+    gc.setFill(tileColors[number]);
+    if (detail == BoardViewport.DetailLevel.OVERVIEW) {
+      gc.fillRect(x, y, size, size);
+      return;
+    }
+    double arc = Math.min(CORNER_RADIUS * 2, size / 4);
+    gc.fillRoundRect(x, y, size, size, arc, arc);
+    if (detail == BoardViewport.DetailLevel.FULL) {
+      gc.setFill(Color.WHITE);
+      gc.setFont(getNumberFont(Math.min(14, size * 0.18)));
+      gc.setTextAlign(TextAlignment.CENTER);
+      gc.setTextBaseline(VPos.CENTER);
+      gc.fillText(String.valueOf(number), x + size / 2, y + size / 2);
+    }
+  }
+
+  @Override
+  public void drawOverlay(GraphicsContext gc, BoardViewport viewport, BoardViewport.DetailLevel detail) {
+    Rectangle2D visible = viewport.getVisibleBounds();
+    if (detail != BoardViewport.DetailLevel.OVERVIEW) {
+      int found = findConnections(visible);
+      for (int i = 0; i < found; i++) {
+        BoardGeometry.Connection connection = connections.get(visibleConnections[i]);
+        BoardPainter.drawConnection(gc, connection.getType(),
+            viewport.toScreenX(connection.getStartX()), viewport.toScreenY(connection.getStartY()),
+            viewport.toScreenX(connection.getEndX()), viewport.toScreenY(connection.getEndY()));
+      }
+    }
+
+    double tileSize = viewport.getScreenTileSize();
+    boolean spread = detail == BoardViewport.DetailLevel.FULL;
+    double radius = Math.max(MIN_PIECE_RADIUS, tileSize * (spread ? 0.12 : 0.18));
+    for (int i = 0; i < players.size(); i++) {
+      int tileId = getTileId(i);
+      if (tileId < 1) {
+        continue;
+      }
+      double centerX = geometry.getTileCenterX(tileId);
+      double centerY = geometry.getTileCenterY(tileId);
+      if (!visible.contains(centerX, centerY)) {
+        continue;
+      }
+      double x = viewport.toScreenX(centerX);
+      double y = viewport.toScreenY(centerY);
+      if (spread) {
+        // Spread out pieces sharing a tile, by player order
+        double angle = 2 * Math.PI * i / players.size() - Math.PI / 2;
+        x += tileSize * 0.2 * Math.cos(angle);
+        y += tileSize * 0.2 * Math.sin(angle);
+      }
+      BoardPainter.drawPiece(gc, pieceColors.get(players.get(i).getPieceType(), i), x, y, radius,
+          detail == BoardViewport.DetailLevel.OVERVIEW ? 1 : 2);
+    }
+  }
+
+  /**
+   * Gets the font for tile numbers, made again only when the zoom changes it
+   */
+  private Font getNumberFont(double fontSize) {
+    if (numberFont == null || numberFont.getSize() != fontSize) {
+      numberFont = Font.font("Inter", FontWeight.MEDIUM, fontSize);
+    }
+    return numberFont;
+  }
+
+  private int getTileId(int playerIndex) {
+    if (snapshot != null) {
+      return playerIndex < snapshot.getPlayerCount() ? snapshot.getTileId(playerIndex) : -1;
+    }
+    Integer tileId = players.get(playerIndex).getTileId();
+    return tileId == null ? -1 : tileId;
+  }
+}
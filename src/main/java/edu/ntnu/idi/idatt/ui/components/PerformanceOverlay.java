@@ -0,0 +1,199 @@
+package edu.ntnu.idi.idatt.ui.components;
+
+import java.util.function.IntSupplier;
+
+import javafx.animation.AnimationTimer;
+import javafx.scene.Node;
+import javafx.scene.Parent;
+import javafx.scene.Scene;
+import javafx.scene.control.Label;
+import javafx.scene.input.KeyCode;
+import javafx.scene.input.KeyEvent;
+import javafx.scene.layout.Pane;
+import javafx.scene.layout.VBox;
+
+/**
+ * A panel over a game scene showing how much the UI costs: frame rate,
+ * frame and pulse times, time spent handling game events, the number of
+ * nodes in the scene and how many moves are waiting to be animated.
+ * <p>
+ * Press F3 to show or hide it. Times are kept in {@link RollingHistogram}s
+ * over the last few seconds. The pulse time is the CSS and layout part of
+ * each pulse, taken from the scene's pulse listeners. While hidden the
+ * overlay only records event handling times, which costs two clock reads
+ * per event, and the labels are refreshed a few times a second rather than
+ * every frame.
+ * </p>
+ */
+public final class PerformanceOverlay {
+  private static final int WINDOW = 240;
+  private static final long REFRESH_NANOS = 500_000_000L;
+  private static final double NANOS_PER_MILLI = 1_000_000.0;
+
+  private final VBox panel = new VBox(2);
+  private final Label fpsLabel = new Label();
+  private final Label frameLabel = new Label();
+  private final Label pulseLabel = new Label();
+  private final Label updateLabel = new Label();
+  private final Label applyLabel = new Label();
+  private final Label nodesLabel = new Label();
+  private final Label queueLabel = new Label();
+
+  private final RollingHistogram frameTimes = new RollingHistogram(WINDOW);
+  private final RollingHistogram pulseTimes = new RollingHistogram(WINDOW);
+  private final RollingHistogram updateTimes = new RollingHistogram(WINDOW);
+  private final RollingHistogram applyTimes = new RollingHistogram(WINDOW);
+  private final AnimationTimer frameTimer;
+  private final Scene scene;
+  private final IntSupplier queueDepth;
+  private final Runnable pulseStart = this::onPulseStart;
+  private final Runnable pulseEnd = this::onPulseEnd;
+  private long lastFrame;
+  private long lastRefresh;
+  private long pulseStartNanos;
+
+  /**
+   * Creates an overlay for a scene and adds it, hidden, on top of a pane of
+   * the scene
+   *
+   * @param scene      The scene to measure
+   * @param host       The pane the overlay is drawn in
+   * @param queueDepth Gives the number of moves waiting to be animated, may
+   *                   be null
+   */
+  public PerformanceOverlay(Scene scene, Pane host, IntSupplier queueDepth) {
+    if (scene == null || host == null) {
+      throw new IllegalArgumentException("Scene and host cannot be null");
+    }
+    this.scene = scene;
+    this.queueDepth = queueDepth;
+
+    panel.getChildren().addAll(fpsLabel, frameLabel, pulseLabel, updateLabel, applyLabel, nodesLabel, queueLabel);
+    panel.setStyle("-fx-background-color: rgba(0, 0, 0, 0.7); -fx-padding: 8; -fx-background-radius: 6;");
+    for (Node label : panel.getChildren()) {
+      label.setStyle("-fx-text-fill: #7CFC00; -fx-font-family: monospace; -fx-font-size: 12px;");
+    }
+    panel.setManaged(false);
+    panel.setMouseTransparent(true);
+    panel.setVisible(false);
+    panel.relocate(10, 10);
+    host.getChildren().add(panel);
+
+    frameTimer = new AnimationTimer() {
+      @Override
+      public void handle(long now) {
+        onFrame(now);
+      }
+    };
+
+    scene.addEventFilter(KeyEvent.KEY_PRESSED, event -> {
+      if (event.getCode() == KeyCode.F3) {
+        setShowing(!isShowing());
+        event.consume();
+      }
+    });
+  }
+
+  /**
+   * Shows or hides the overlay. Frame and pulse times are only measured
+   * while it is shown.
+   *
+   * @param showing true to show the overlay
+   */
+  public void setShowing(boolean showing) {
+    if (showing == isShowing()) {
+      return;
+    }
+    panel.setVisible(showing);
+    if (showing) {
+      frameTimes.clear();
+      pulseTimes.clear();
+      lastFrame = 0;
+      scene.addPreLayoutPulseListener(pulseStart);
+      scene.addPostLayoutPulseListener(pulseEnd);
+      frameTimer.start();
+      panel.toFront();
+    } else {
+      frameTimer.stop();
+      scene.removePreLayoutPulseListener(pulseStart);
+      scene.removePostLayoutPulseListener(pulseEnd);
+    }
+  }
+
+  public boolean isShowing() {
+    return panel.isVisible();
+  }
+
+  /**
+   * Records the time a view spent in its update(GameEvent) handler
+   *
+   * @param nanos The time in nanoseconds
+   */
+  public void recordUpdate(long nanos) {
+    updateTimes.record(Math.max(0, nanos));
+  }
+
+  /**
+   * Records the time a view spent applying a frame's merged events
+   *
+   * @param nanos The time in nanoseconds
+   */
+  public void recordApply(long nanos) {
+    applyTimes.record(Math.max(0, nanos));
+  }
+
+  private void onPulseStart() {
+    pulseStartNanos = System.nanoTime();
+  }
+
+  private void onPulseEnd() {
+    if (pulseStartNanos != 0) {
+      pulseTimes.record(System.nanoTime() - pulseStartNanos);
+    }
+  }
+
+  private void onFrame(long now) {
+    if (lastFrame != 0) {
+      frameTimes.record(now - lastFrame);
+    }
+    lastFrame = now;
+    if (now - lastRefresh >= REFRESH_NANOS) {
+      lastRefresh = now;
+      refreshLabels();
+    }
+  }
+
+  private void refreshLabels() {
+    double meanFrame = frameTimes.getMean();
+    fpsLabel.setText(String.format("FPS      %6.1f", meanFrame == 0 ? 0 : 1_000_000_000.0 / meanFrame));
+    frameLabel.setText(describe("Frame", frameTimes));
+    pulseLabel.setText(describe("Pulse", pulseTimes));
+    updateLabel.setText(describe("update()", updateTimes));
+    applyLabel.setText(describe("Apply", applyTimes));
+    nodesLabel.setText(String.format("Nodes    %6d", countNodes(scene.getRoot())));
+    queueLabel.setText(String.format("Queued   %6d", queueDepth == null ? 0 : queueDepth.getAsInt()));
+  }
+
+  private static String describe(String name, RollingHistogram histogram) {
+    return String.format("%-8s %6.2f ms mean, %6.2f p95, %6.2f max", name,
+        histogram.getMean() / NANOS_PER_MILLI,
+        histogram.getPercentile(0.95) / NANOS_PER_MILLI,
+        histogram.getMax() / NANOS_PER_MILLI);
+  }
+
+  /**
+   * Counts a node and all nodes below it
+   */
+  private static int countNodes(Node node) {
+    if (node == null) {
+      return 0;
+    }
+    int count = 1;
+    if (node instanceof Parent parent) {
+      for (Node child : parent.getChildrenUnmodifiable()) {
+        count += countNodes(child);
+      }
+    }
+    return count;
+  }
+}
@@ -0,0 +1,35 @@
+package edu.ntnu.idi.idatt.ui.components;
+
+import java.util.Arrays;
+import java.util.Objects;
+
+import javafx.scene.paint.Color;
+
+/**
+ * Remembers the color of each player's piece, so renderers that repaint
+ * every frame parse a piece type only when it changes
+ */
+final class PieceColors {
+  private String[] pieceTypes = new String[0];
+  private Color[] colors = new Color[0];
+
+  /**
+   * Gets the color of a player's piece
+   *
+   * @param pieceType   The player's piece type
+   * @param playerIndex The player's index, which picks the default color
+   * @return The color, as {@link GamePiece#parseColor} gives it
+   */
+  Color get(String pieceType, int playerIndex) {
+    if (playerIndex >= colors.length) {
+      int length = Math.max(playerIndex + 1, colors.length * 2);
+      pieceTypes = Arrays.copyOf(pieceTypes, length);
+      colors = Arrays.copyOf(colors, length);
+    }
+    if (colors[playerIndex] == null || !Objects.equals(pieceTypes[playerIndex], pieceType)) {
+      pieceTypes[playerIndex] = pieceType;
+      colors[playerIndex] = GamePiece.parseColor(pieceType, playerIndex);
+    }
+    return colors[playerIndex];
+  }
+}
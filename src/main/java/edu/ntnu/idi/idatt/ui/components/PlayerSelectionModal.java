@@ -4,13 +4,13 @@ import java.io.File;
 import java.util.ArrayList;
 import java.util.List;
 
-import edu.ntnu.idi.idatt.exceptions.FileReadException;
-import edu.ntnu.idi.idatt.exceptions.FileWriteException;
 import edu.ntnu.idi.idatt.exceptions.LadderGameException;
 import edu.ntnu.idi.idatt.model.Player;
-import edu.ntnu.idi.idatt.persistence.CsvHandler;
+import edu.ntnu.idi.idatt.persistence.AsyncPersistenceService;
+import edu.ntnu.idi.idatt.persistence.PlayerRosterStore;
 import edu.ntnu.idi.idatt.ui.LadderGameBoardUI;
 import edu.ntnu.idi.idatt.ui.TreasureGameBoardUI;
+import javafx.application.Platform;
 import javafx.geometry.Pos;
 import javafx.scene.Scene;
 import javafx.scene.control.Button;
@@ -74,48 +74,83 @@ public class PlayerSelectionModal {
   }
 
   /**
-   * Loads player pieces from the CSV file
+   * Loads player pieces from the CSV file, then the players saved with
+   * "Create Player"
    */
   private void loadPlayerPieces() {
-    try {
-      List<Player> csvPlayers = CsvHandler.loadPlayersFromCsv("src/main/resources/players/players.csv");
-
-      for (Player player : csvPlayers) {
-        availablePieces.add(new PlayerConfig(player.getName(), player.getPieceType()));
-      }
+    loadPlayerPieces("src/main/resources/players/players.csv", () -> loadRosterPieces(this::refreshSelectors));
+  }
 
-      if (availablePieces.isEmpty()) {
-        // Fallback option if CSV is empty
+  /**
+   * Adds the players in the player roster on the I/O thread, skipping names
+   * that are already available
+   *
+   * @param onLoaded Called on the JavaFX thread once the players are added
+   */
+  private void loadRosterPieces(Runnable onLoaded) {
+    AsyncPersistenceService.getShared().loadRoster(PlayerRosterStore.DEFAULT_PATH)
+        .whenCompleteAsync((rosterPlayers, error) -> {
+          if (error == null) {
+            for (Player player : rosterPlayers) {
+              if (availablePieces.stream().noneMatch(piece -> piece.name.equals(player.getName()))) {
+                availablePieces.add(new PlayerConfig(player.getName(), player.getPieceType()));
+              }
+            }
+          }
+          onLoaded.run();
+        }, Platform::runLater);
+  }
 
-        availablePieces.add(new PlayerConfig("Sindre", "#ffffff"));
-        availablePieces.add(new PlayerConfig("Stian", "#000000"));
-      }
-    } catch (FileReadException e) {
-      availablePieces.add(new PlayerConfig("Sindre", "#ffffff"));
-      availablePieces.add(new PlayerConfig("Stian", "#000000"));
-    }
+  /**
+   * Loads player pieces from a CSV file on the I/O thread and adds them once
+   * they are read, falling back to the default pieces if the file is empty
+   * or cannot be read
+   *
+   * @param path     The path to the CSV file
+   * @param onLoaded Called on the JavaFX thread once the pieces are added
+   */
+  private void loadPlayerPieces(String path, Runnable onLoaded) {
+    AsyncPersistenceService.getShared().loadPlayers(path)
+        .whenCompleteAsync((csvPlayers, error) -> {
+          if (error == null) {
+            for (Player player : csvPlayers) {
+              availablePieces.add(new PlayerConfig(player.getName(), player.getPieceType()));
+            }
+          }
+
+          if (availablePieces.isEmpty()) {
+            // Fallback option if CSV is empty or unreadable
+            availablePieces.add(new PlayerConfig("Sindre", "#ffffff"));
+            availablePieces.add(new PlayerConfig("Stian", "#000000"));
+          }
+          onLoaded.run();
+        }, Platform::runLater);
   }
 
   /**
-   * Loads player pieces from the CSV file
+   * Fills the piece selectors with the available pieces and selects a
+   * default piece for each visible player
    */
-  private void loadPlayerPieces(String path) {
-    try {
-      List<Player> csvPlayers = CsvHandler.loadPlayersFromCsv(path);
+  private void refreshSelectors() {
+    // Clear existing items in all combo boxes
+    for (ComboBox<String> selector : playerSelectors) {
+      selector.getItems().clear();
+    }
 
-      for (Player player : csvPlayers) {
-        availablePieces.add(new PlayerConfig(player.getName(), player.getPieceType()));
+    // Add the loaded pieces to all combo boxes
+    for (PlayerConfig piece : availablePieces) {
+      for (ComboBox<String> selector : playerSelectors) {
+        selector.getItems().add(piece.name);
       }
+    }
 
-      if (availablePieces.isEmpty()) {
-        // Fallback option if CSV is empty
-
-        availablePieces.add(new PlayerConfig("Sindre", "#ffffff"));
-        availablePieces.add(new PlayerConfig("Stian", "#000000"));
-      }
-    } catch (FileReadException e) {
-      availablePieces.add(new PlayerConfig("Sindre", "#ffffff"));
-      availablePieces.add(new PlayerConfig("Stian", "#000000"));
+    // Set default selections for visible player selectors
+    if (playerCountSpinner == null) {
+      return;
+    }
+    int playerCount = playerCountSpinner.getValue();
+    for (int i = 0; i < playerCount && i < availablePieces.size() && i < playerSelectors.size(); i++) {
+      playerSelectors.get(i).setValue(availablePieces.get(i).name);
     }
   }
 
@@ -381,20 +416,37 @@ public class PlayerSelectionModal {
   }
 
   private void startGame(List<Player> players) {
-    try {
-      if (boardType.equals("treasure")) {
-        TreasureGameBoardUI gameBoard = new TreasureGameBoardUI();
-        Scene gameScene = gameBoard.createGameScene(boardType, primaryStage, players);
-        primaryStage.setScene(gameScene);
-        primaryStage.setTitle("Star of Africa - " + boardType);
-      } else {
-        LadderGameBoardUI gameBoard = new LadderGameBoardUI();
-        Scene gameScene = gameBoard.createGameScene(boardType, primaryStage, players);
-        primaryStage.setScene(gameScene);
-        primaryStage.setTitle("Snakes and Ladders - " + boardType);
-      }
-    } catch (FileWriteException | LadderGameException e) {
-      showAlert("Error starting game: " + e.getMessage());
+    if (boardType.equals("treasure")) {
+      AsyncPersistenceService.getShared().loadTreasureBoard()
+          .whenCompleteAsync((config, error) -> {
+            if (error != null) {
+              Throwable cause = error.getCause() != null ? error.getCause() : error;
+              showAlert("Error starting game: " + cause.getMessage());
+              return;
+            }
+            TreasureGameBoardUI gameBoard = new TreasureGameBoardUI(config);
+            Scene gameScene = gameBoard.createGameScene(boardType, primaryStage, players);
+            primaryStage.setScene(gameScene);
+            primaryStage.setTitle("Star of Africa - " + boardType);
+          }, Platform::runLater);
+    } else {
+      // Read the board off the JavaFX thread, then build the scene on it
+      AsyncPersistenceService.getShared().loadLadderBoard(boardType)
+          .whenCompleteAsync((board, error) -> {
+            if (error != null) {
+              Throwable cause = error.getCause() != null ? error.getCause() : error;
+              showAlert("Error starting game: " + cause.getMessage());
+              return;
+            }
+            try {
+              LadderGameBoardUI gameBoard = new LadderGameBoardUI();
+              Scene gameScene = gameBoard.createGameScene(board, primaryStage, players);
+              primaryStage.setScene(gameScene);
+              primaryStage.setTitle("Snakes and Ladders - " + boardType);
+            } catch (LadderGameException e) {
+              showAlert("Error starting game: " + e.getMessage());
+            }
+          }, Platform::runLater);
     }
   }
 
@@ -409,30 +461,10 @@ public class PlayerSelectionModal {
 
     File selectedFile = fileChooser.showOpenDialog(primaryStage);
     if (selectedFile != null) {
-
-      loadPlayerPieces(selectedFile.getAbsolutePath());
-      // updatePlayerSelectionPanel(playerCountSpinner.getValue());
-      // Clear existing items in all combo boxes
-      for (ComboBox<String> selector : playerSelectors) {
-        selector.getItems().clear();
-      }
-
-      // Add the newly loaded pieces to all combo boxes
-      for (PlayerConfig piece : availablePieces) {
-        for (ComboBox<String> selector : playerSelectors) {
-          selector.getItems().add(piece.name);
-        }
-      }
-
-      // Set default selections for visible player selectors
-      int playerCount = playerCountSpinner.getValue();
-      for (int i = 0; i < playerCount && i < availablePieces.size(); i++) {
-        playerSelectors.get(i).setValue(availablePieces.get(i).name);
-      }
-
-      // Show success message
-      showAlert("Players loaded successfully from " + selectedFile.getName());
-
+      loadPlayerPieces(selectedFile.getAbsolutePath(), () -> {
+        refreshSelectors();
+        showAlert("Players loaded successfully from " + selectedFile.getName());
+      });
     }
   }
 }
@@ -0,0 +1,102 @@
+package edu.ntnu.idi.idatt.ui.components;
+
+import java.util.function.Consumer;
+
+import edu.ntnu.idi.idatt.observer.GameEvent;
+import edu.ntnu.idi.idatt.observer.GameObserver;
+import edu.ntnu.idi.idatt.observer.GameStateDiff;
+import javafx.animation.AnimationTimer;
+import javafx.application.Platform;
+
+/**
+ * Collects a view's game events and hands them over once per JavaFX pulse,
+ * merged into one {@link GameStateDiff}.
+ * <p>
+ * However many events arrive between two frames, the view does its work
+ * once, on the JavaFX thread, so the cost of keeping the view up to date
+ * does not grow with the rate of events. Events may come from any thread.
+ * </p>
+ */
+public class PulseEventCoalescer implements GameObserver {
+  private final Consumer<GameStateDiff> applier;
+  // Made on the JavaFX thread when first needed, so a view can be created
+  // before the JavaFX toolkit is running
+  private AnimationTimer pulse;
+  private final Object lock = new Object();
+  private GameStateDiff pending = new GameStateDiff();
+  private boolean scheduled;
+
+  /**
+   * Creates a coalescer
+   *
+   * @param applier Applies the merged events to the view, on the JavaFX
+   *                thread
+   */
+  public PulseEventCoalescer(Consumer<GameStateDiff> applier) {
+    if (applier == null) {
+      throw new IllegalArgumentException("Applier cannot be null");
+    }
+    this.applier = applier;
+  }
+
+  @Override
+  public void update(GameEvent event) {
+    if (event == null) {
+      return;
+    }
+    boolean schedule;
+    synchronized (lock) {
+      pending.add(event);
+      schedule = !scheduled;
+      scheduled = true;
+    }
+    if (schedule) {
+      if (Platform.isFxApplicationThread()) {
+        startPulse();
+      } else {
+        Platform.runLater(this::startPulse);
+      }
+    }
+  }
+
+  private void startPulse() {
+    if (pulse == null) {
+      pulse = new AnimationTimer() {
+        @Override
+        public void handle(long now) {
+          flush();
+        }
+      };
+    }
+    pulse.start();
+  }
+
+  /**
+   * Drops the events collected so far, for when the view is about to be
+   * redrawn from the game's state, such as on a reset
+   */
+  public void discardPending() {
+    synchronized (lock) {
+      pending = new GameStateDiff();
+    }
+  }
+
+  /**
+   * Applies the events collected so far now instead of on the next pulse.
+   * Must be called on the JavaFX thread.
+   */
+  public void flush() {
+    if (pulse != null) {
+      pulse.stop();
+    }
+    GameStateDiff diff;
+    synchronized (lock) {
+      diff = pending;
+      pending = new GameStateDiff();
+      scheduled = false;
+    }
+    if (!diff.isEmpty()) {
+      applier.accept(diff);
+    }
+  }
+}
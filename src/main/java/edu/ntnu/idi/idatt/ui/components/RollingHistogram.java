@@ -0,0 +1,146 @@
+package edu.ntnu.idi.idatt.ui.components;
+
+import java.util.Arrays;
+
+/**
+ * A histogram of the most recent samples of a measurement, such as frame
+ * times in nanoseconds.
+ * <p>
+ * The samples live in a fixed ring buffer, so recording never allocates and
+ * old samples fall out as new ones arrive. Alongside the buffer the samples
+ * are counted in buckets by powers of two, which gives percentiles in a
+ * fixed number of steps, to within a factor of two.
+ * </p>
+ */
+public class RollingHistogram {
+  // One bucket per bit length of a non-negative long, plus one for zero
+  private static final int BUCKETS = 64;
+
+  private final long[] samples;
+  private final int[] bucketCounts = new int[BUCKETS];
+  private int next;
+  private int count;
+  private long sum;
+  private long latest;
+
+  /**
+   * Creates a histogram
+   *
+   * @param windowSize The number of recent samples kept
+   * @throws IllegalArgumentException if the window size is not positive
+   */
+  public RollingHistogram(int windowSize) {
+    if (windowSize <= 0) {
+      throw new IllegalArgumentException("Window size must be positive");
+    }
+    this.samples = new long[windowSize];
+  }
+
+  /**
+   * Records a sample, dropping the oldest one if the window is full
+   *
+   * @param value The sample
+   * @throws IllegalArgumentException if the sample is negative
+   */
+  public synchronized void record(long value) {
+    if (value < 0) {
+      throw new IllegalArgumentException("Samples cannot be negative");
+    }
+    if (count == samples.length) {
+      long oldest = samples[next];
+      sum -= oldest;
+      bucketCounts[bucketOf(oldest)]--;
+    } else {
+      count++;
+    }
+    samples[next] = value;
+    next = (next + 1) % samples.length;
+    sum += value;
+    bucketCounts[bucketOf(value)]++;
+    latest = value;
+  }
+
+  private static int bucketOf(long value) {
+    return 64 - Long.numberOfLeadingZeros(value);
+  }
+
+  /**
+   * Gets the number of samples in the window
+   *
+   * @return The number of samples
+   */
+  public synchronized int getCount() {
+    return count;
+  }
+
+  /**
+   * Gets the mean of the samples in the window
+   *
+   * @return The mean, or 0 if there are no samples
+   */
+  public synchronized double getMean() {
+    return count == 0 ? 0 : (double) sum / count;
+  }
+
+  /**
+   * Gets the largest sample in the window
+   *
+   * @return The largest sample, or 0 if there are no samples
+   */
+  public synchronized long getMax() {
+    long max = 0;
+    for (int i = 0; i < count; i++) {
+      max = Math.max(max, samples[i]);
+    }
+    return max;
+  }
+
+  /**
+   * Gets the most recent sample
+   *
+   * @return The sample, or 0 if there are no samples
+   */
+  public synchronized long getLatest() {
+    return latest;
+  }
+
+  /**
+   * Gets a value at least as large as the given share of the samples. The
+   * value is the top of a power-of-two bucket, so it is at most twice the
+   * exact percentile, and never more than the largest sample.
+   *
+   * @param percentile The share of samples, between 0 and 1
+   * @return The value, or 0 if there are no samples
+   * @throws IllegalArgumentException if the percentile is outside 0 to 1
+   */
+  public synchronized long getPercentile(double percentile) {
+    if (percentile < 0 || percentile > 1) {
+      throw new IllegalArgumentException("Percentile must be between 0 and 1");
+    }
+    if (count == 0) {
+      return 0;
+    }
+    long wanted = Math.max(1, (long) Math.ceil(percentile * count));
+    long seen = 0;
+    for (int bucket = 0; bucket < BUCKETS; bucket++) {
+      seen += bucketCounts[bucket];
+      if (seen >= wanted) {
+        // Bucket b holds values below 2^b
+        long top = bucket == 0 ? 0 : (1L << bucket) - 1;
+        return Math.min(top, getMax());
+      }
+    }
+    return getMax();
+  }
+
+  /**
+   * Removes all samples
+   */
+  public synchronized void clear() {
+    Arrays.fill(bucketCounts, 0);
+    next = 0;
+    count = 0;
+    sum = 0;
+    latest = 0;
+  }
+}
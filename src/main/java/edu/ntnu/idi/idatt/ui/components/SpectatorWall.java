@@ -0,0 +1,422 @@
+package edu.ntnu.idi.idatt.ui.components;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Supplier;
+
+import edu.ntnu.idi.idatt.controller.GameController;
+import edu.ntnu.idi.idatt.model.AbstractBoard;
+import edu.ntnu.idi.idatt.model.BoardDamageTracker;
+import edu.ntnu.idi.idatt.model.GameStateSnapshot;
+import edu.ntnu.idi.idatt.model.IntList;
+import edu.ntnu.idi.idatt.model.LadderBoard;
+import edu.ntnu.idi.idatt.model.TreasureBoard;
+import javafx.animation.AnimationTimer;
+import javafx.geometry.Rectangle2D;
+import javafx.geometry.VPos;
+import javafx.scene.canvas.Canvas;
+import javafx.scene.canvas.GraphicsContext;
+import javafx.scene.image.Image;
+import javafx.scene.layout.Region;
+import javafx.scene.paint.Color;
+import javafx.scene.text.Font;
+import javafx.scene.text.FontWeight;
+import javafx.scene.text.TextAlignment;
+
+/**
+ * A grid of miniature boards, one per game, for watching many live games
+ * side by side.
+ * <p>
+ * Every board is drawn on one shared {@link Canvas}, and every piece is
+ * copied from one shared {@link TextureAtlas}, so the wall is a handful of
+ * nodes however many boards it shows. Each board only reads its game's
+ * {@link GameStateSnapshot}, which is safe while the game is played on
+ * another thread.
+ * </p>
+ * <p>
+ * The wall refreshes at a capped rate rather than on every game event. On a
+ * refresh a board whose snapshot has not changed costs one version check,
+ * and a board whose pieces moved redraws only the tiles that a
+ * {@link BoardDamageTracker} reports as damaged.
+ * </p>
+ */
+public final class SpectatorWall extends Region {
+  /** Refreshes per second when none is set */
+  public static final double DEFAULT_REFRESH_RATE = 15;
+
+  private static final double PREF_WIDTH = 1280;
+  private static final double PREF_HEIGHT = 800;
+  private static final double ATLAS_TILE_SIZE = 48;
+  private static final double CELL_GAP = 12;
+  private static final double TITLE_HEIGHT = 18;
+  private static final double TILE_GAP_SHARE = 0.08;
+  private static final double PIECE_SCALE = 0.7;
+  private static final Color BACKGROUND_COLOR = Color.rgb(30, 32, 36);
+  private static final Color CELL_COLOR = Color.rgb(48, 52, 58);
+  private static final Color TITLE_COLOR = Color.rgb(230, 230, 230);
+  private static final Font TITLE_FONT = Font.font("Inter", FontWeight.MEDIUM, 11);
+
+  private final Canvas canvas = new Canvas();
+  private final List<MiniBoard> boards = new ArrayList<>();
+  private final List<Color> atlasColors = new ArrayList<>();
+  private final AnimationTimer refresher;
+  private TextureAtlas atlas;
+  private long refreshIntervalNanos;
+  private long lastRefresh;
+  private boolean layoutChanged = true;
+
+  /**
+   * A game on the wall, with where and how its board is drawn
+   */
+  private static final class MiniBoard {
+    private final String title;
+    // The controller or snapshot source the board was added with
+    private final Object source;
+    private final Supplier<GameStateSnapshot> snapshots;
+    private final PieceColors pieceColors = new PieceColors();
+    private final int rows;
+    private final int columns;
+    private final boolean serpentine;
+    private final Color[] tileColors;
+    private final BoardDamageTracker damage;
+    private BoardGeometry geometry;
+    private double x;
+    private double y;
+    private double width;
+    private GameStateSnapshot snapshot = GameStateSnapshot.EMPTY;
+
+    private MiniBoard(String title, Object source, Supplier<GameStateSnapshot> snapshots, int rows,
+        int columns, boolean serpentine, Color[] tileColors) {
+      this.title = title;
+      this.source = source;
+      this.snapshots = snapshots;
+      this.rows = rows;
+      this.columns = columns;
+      this.serpentine = serpentine;
+      this.tileColors = tileColors;
+      this.damage = new BoardDamageTracker(rows * columns);
+    }
+  }
+
+  /**
+   * Creates an empty wall refreshing {@link #DEFAULT_REFRESH_RATE} times a
+   * second. The wall refreshes while it is in a scene.
+   */
+  public SpectatorWall() {
+    setRefreshRate(DEFAULT_REFRESH_RATE);
+    getChildren().add(canvas);
+    setPrefSize(PREF_WIDTH, PREF_HEIGHT);
+
+    refresher = new AnimationTimer() {
+      @Override
+      public void handle(long now) {
+        if (now - lastRefresh >= refreshIntervalNanos) {
+          lastRefresh = now;
+          refresh();
+        }
+      }
+    };
+    sceneProperty().addListener((obs, oldScene, newScene) -> {
+      if (newScene == null) {
+        refresher.stop();
+      } else {
+        refresher.start();
+      }
+    });
+  }
+
+  /**
+   * Adds a game to the wall. Ladder and treasure games are supported.
+   *
+   * @param title      The title shown above the board
+   * @param controller The game's controller
+   * @throws IllegalArgumentException if the controller is null or its board
+   *                                  cannot be shown
+   */
+  public void addBoard(String title, GameController controller) {
+    if (controller == null) {
+      throw new IllegalArgumentException("Controller cannot be null");
+    }
+    addBoard(title, controller.getGameBoard(), controller::getSnapshot, controller);
+  }
+
+  /**
+   * Adds a board whose pieces are placed by any source of snapshots, such
+   * as a recorded game. The source is asked for a snapshot once per refresh.
+   *
+   * @param title     The title shown above the board
+   * @param board     The board, a ladder or treasure board
+   * @param snapshots Gives the state to show
+   * @throws IllegalArgumentException if the source is null or the board
+   *                                  cannot be shown
+   */
+  public void addBoard(String title, AbstractBoard<?> board, Supplier<GameStateSnapshot> snapshots) {
+    if (snapshots == null) {
+      throw new IllegalArgumentException("Snapshot source cannot be null");
+    }
+    addBoard(title, board, snapshots, snapshots);
+  }
+
+  private void addBoard(String title, AbstractBoard<?> board, Supplier<GameStateSnapshot> snapshots,
+      Object source) {
+    MiniBoard miniBoard;
+    if (board instanceof LadderBoard ladderBoard) {
+      miniBoard = new MiniBoard(title, source, snapshots, ladderBoard.getRows(), ladderBoard.getColumns(), true,
+          BoardCanvas.computeTileColors(ladderBoard));
+    } else if (board instanceof TreasureBoard treasureBoard) {
+      int tileCount = treasureBoard.getRows() * treasureBoard.getColumns();
+      Color[] tileColors = new Color[tileCount + 1];
+      for (int number = 1; number <= tileCount; number++) {
+        if (treasureBoard.getTile(number) != null) {
+          tileColors[number] = TreasureBoardRenderer.getTileColor(treasureBoard.getTile(number).getTileType());
+        }
+      }
+      miniBoard = new MiniBoard(title, source, snapshots, treasureBoard.getRows(), treasureBoard.getColumns(),
+          false, tileColors);
+    } else {
+      throw new IllegalArgumentException("Board cannot be shown on the wall");
+    }
+    boards.add(miniBoard);
+    layoutChanged = true;
+    requestLayout();
+  }
+
+  /**
+   * Removes a game from the wall. Games sharing its board stay.
+   *
+   * @param controller The controller the game was added with
+   * @return true if the game was on the wall
+   */
+  public boolean removeBoard(GameController controller) {
+    return removeSource(controller);
+  }
+
+  /**
+   * Removes a board added with a snapshot source
+   *
+   * @param snapshots The source the board was added with
+   * @return true if the board was on the wall
+   */
+  public boolean removeBoard(Supplier<GameStateSnapshot> snapshots) {
+    return removeSource(snapshots);
+  }
+
+  private boolean removeSource(Object source) {
+    if (source == null) {
+      return false;
+    }
+    boolean removed = boards.removeIf(miniBoard -> miniBoard.source == source);
+    if (removed) {
+      layoutChanged = true;
+      requestLayout();
+    }
+    return removed;
+  }
+
+  public int getBoardCount() {
+    return boards.size();
+  }
+
+  /**
+   * Sets how many times a second the wall looks for changes
+   *
+   * @param refreshesPerSecond The rate
+   * @throws IllegalArgumentException if the rate is not positive
+   */
+  public void setRefreshRate(double refreshesPerSecond) {
+    if (refreshesPerSecond <= 0) {
+      throw new IllegalArgumentException("Refresh rate must be positive");
+    }
+    this.refreshIntervalNanos = (long) (1_000_000_000L / refreshesPerSecond);
+  }
+
+  /**
+   * Stops refreshing, for when the wall is thrown away while still in a
+   * scene
+   */
+  public void stop() {
+    refresher.stop();
+  }
+
+  @Override
+  protected void layoutChildren() {
+    double width = getWidth();
+    double height = getHeight();
+    if (canvas.getWidth() != width || canvas.getHeight() != height) {
+      canvas.setWidth(width);
+      canvas.setHeight(height);
+      layoutChanged = true;
+    }
+    if (layoutChanged) {
+      layoutBoards(width, height);
+      refresh();
+    }
+  }
+
+  /**
+   * Splits the wall into one cell per board, as close to square as the
+   * wall's shape allows, and fits each board in its cell
+   */
+  private void layoutBoards(double width, double height) {
+    int count = boards.size();
+    if (count == 0 || width <= 0 || height <= 0) {
+      return;
+    }
+    int gridColumns = Math.max(1, (int) Math.ceil(Math.sqrt(count * width / height)));
+    int gridRows = (int) Math.ceil((double) count / gridColumns);
+    double cellWidth = (width - CELL_GAP * (gridColumns + 1)) / gridColumns;
+    double cellHeight = (height - CELL_GAP * (gridRows + 1)) / gridRows;
+
+    for (int i = 0; i < count; i++) {
+      MiniBoard board = boards.get(i);
+      double cellX = CELL_GAP + (i % gridColumns) * (cellWidth + CELL_GAP);
+      double cellY = CELL_GAP + (i / gridColumns) * (cellHeight + CELL_GAP);
+      double boardHeight = Math.max(1, cellHeight - TITLE_HEIGHT);
+      double step = Math.max(1, Math.min(cellWidth / board.columns, boardHeight / board.rows));
+      double gap = Math.floor(step * TILE_GAP_SHARE);
+      board.geometry = new BoardGeometry(board.rows, board.columns, step - gap, gap, board.serpentine);
+      board.x = cellX;
+      board.y = cellY;
+      board.width = cellWidth;
+      board.damage.markAll();
+    }
+  }
+
+  /**
+   * Checks every board for a new snapshot and redraws what changed
+   */
+  private void refresh() {
+    GraphicsContext gc = canvas.getGraphicsContext2D();
+    if (layoutChanged) {
+      gc.setFill(BACKGROUND_COLOR);
+      gc.fillRect(0, 0, canvas.getWidth(), canvas.getHeight());
+      layoutChanged = false;
+    }
+    // Boards are only laid out once the wall has a size
+    if (boards.isEmpty() || boards.get(boards.size() - 1).geometry == null) {
+      return;
+    }
+
+    boolean atlasChanged = false;
+    for (MiniBoard board : boards) {
+      GameStateSnapshot snapshot = board.snapshots.get();
+      boolean changed = board.damage.update(snapshot);
+      if (changed) {
+        board.snapshot = snapshot;
+        atlasChanged |= addAtlasColors(board);
+      }
+      if (changed || board.damage.isFullRepaint()) {
+        drawTitle(gc, board);
+      }
+    }
+    if (atlasChanged || atlas == null) {
+      atlas = new TextureAtlas(ATLAS_TILE_SIZE, atlasColors);
+      for (MiniBoard board : boards) {
+        board.damage.markAll();
+      }
+    }
+
+    for (MiniBoard board : boards) {
+      if (!board.damage.hasDamage()) {
+        continue;
+      }
+      if (board.damage.isFullRepaint()) {
+        drawBoard(gc, board);
+      } else {
+        IntList damagedTiles = board.damage.getDamagedTiles();
+        for (int i = 0; i < damagedTiles.size(); i++) {
+          drawTile(gc, board, damagedTiles.getInt(i));
+        }
+      }
+      board.damage.clear();
+    }
+  }
+
+  /**
+   * Adds the piece colors of a board's snapshot that the atlas does not
+   * have yet
+   *
+   * @return true if a color was added
+   */
+  private boolean addAtlasColors(MiniBoard board) {
+    GameStateSnapshot snapshot = board.snapshot;
+    boolean added = false;
+    for (int i = 0; i < snapshot.getPlayerCount(); i++) {
+      Color color = board.pieceColors.get(snapshot.getPieceType(i), i);
+      if (!atlasColors.contains(color)) {
+        atlasColors.add(color);
+        added = true;
+      }
+    }
+    return added;
+  }
+
+  private void drawTitle(GraphicsContext gc, MiniBoard board) {
+    gc.setFill(BACKGROUND_COLOR);
+    gc.fillRect(board.x, board.y, board.width, TITLE_HEIGHT);
+    String currentPlayer = board.snapshot.getCurrentPlayerName();
+    String text = currentPlayer == null ? board.title : board.title + " - " + currentPlayer + "'s turn";
+    gc.setFill(TITLE_COLOR);
+    gc.setFont(TITLE_FONT);
+    gc.setTextAlign(TextAlignment.LEFT);
+    gc.setTextBaseline(VPos.CENTER);
+    gc.fillText(text, board.x, board.y + TITLE_HEIGHT / 2, board.width);
+  }
+
+  private void drawBoard(GraphicsContext gc, MiniBoard board) {
+    BoardGeometry geometry = board.geometry;
+    gc.setFill(CELL_COLOR);
+    gc.fillRect(board.x, board.y + TITLE_HEIGHT, geometry.getWidth(), geometry.getHeight());
+    int tileCount = board.rows * board.columns;
+    for (int number = 1; number <= tileCount; number++) {
+      drawTile(gc, board, number);
+    }
+  }
+
+  /**
+   * Draws a tile and the pieces on it, over whatever was there before
+   */
+  private void drawTile(GraphicsContext gc, MiniBoard board, int number) {
+    BoardGeometry geometry = board.geometry;
+    double size = geometry.getTileSize();
+    double gap = geometry.getGap();
+    double x = board.x + geometry.getTileX(number);
+    double y = board.y + TITLE_HEIGHT + geometry.getTileY(number);
+
+    gc.setFill(CELL_COLOR);
+    gc.fillRect(x - gap / 2, y - gap / 2, size + gap, size + gap);
+    Color tileColor = board.tileColors[number];
+    if (tileColor != null) {
+      gc.setFill(tileColor);
+      gc.fillRect(x, y, size, size);
+    }
+
+    GameStateSnapshot snapshot = board.snapshot;
+    int onTile = 0;
+    for (int i = 0; i < snapshot.getPlayerCount(); i++) {
+      if (snapshot.getTileId(i) == number) {
+        onTile++;
+      }
+    }
+    if (onTile == 0) {
+      return;
+    }
+    // Several pieces on one tile share it side by side
+    int perRow = (int) Math.ceil(Math.sqrt(onTile));
+    double slot = size / perRow;
+    double pieceSize = Math.max(1, slot * PIECE_SCALE);
+    Image image = atlas.getImage();
+    int drawn = 0;
+    for (int i = 0; i < snapshot.getPlayerCount(); i++) {
+      if (snapshot.getTileId(i) != number) {
+        continue;
+      }
+      Rectangle2D region = atlas.getPieceRegion(board.pieceColors.get(snapshot.getPieceType(i), i));
+      double pieceX = x + (drawn % perRow) * slot + (slot - pieceSize) / 2;
+      double pieceY = y + (drawn / perRow) * slot + (slot - pieceSize) / 2;
+      gc.drawImage(image, region.getMinX(), region.getMinY(), region.getWidth(), region.getHeight(),
+          pieceX, pieceY, pieceSize, pieceSize);
+      drawn++;
+    }
+  }
+}
@@ -0,0 +1,225 @@
+package edu.ntnu.idi.idatt.ui.components;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import edu.ntnu.idi.idatt.model.Player;
+import javafx.geometry.Rectangle2D;
+import javafx.scene.SnapshotParameters;
+import javafx.scene.canvas.Canvas;
+import javafx.scene.canvas.GraphicsContext;
+import javafx.scene.image.Image;
+import javafx.scene.image.ImageView;
+import javafx.scene.paint.Color;
+
+/**
+ * One image holding every player piece and die face used in a game.
+ * <p>
+ * Each game scene draws and snapshots one atlas, at the scene's tile size,
+ * and hands it to the components that show pieces and dice. Moves and dice
+ * rolls then only point an {@link ImageView} at a region of it, so they cost
+ * no snapshot and no extra render pass.
+ * </p>
+ * <p>
+ * Must be used on the JavaFX application thread.
+ * </p>
+ */
+public class TextureAtlas {
+  /** Size of a die face in pixels */
+  public static final double DIE_SIZE = 48;
+
+  private static final double PIECE_IMAGE_SCALE = 0.35;
+  private static final double PIECE_RADIUS_SCALE = 0.15;
+  private static final double PADDING = 2;
+
+  private final double tileSize;
+  private final double pieceSize;
+  private final Image image;
+  private final Map<Color, Rectangle2D> pieceRegions = new LinkedHashMap<>();
+  private final Rectangle2D[] dieRegions = new Rectangle2D[7];
+
+  /**
+   * Draws an atlas
+   *
+   * @param tileSize    The size of a board tile, which pieces are scaled to
+   * @param pieceColors The colors to draw a piece for
+   */
+  public TextureAtlas(double tileSize, List<Color> pieceColors) {
+    if (tileSize <= 0) {
+      throw new IllegalArgumentException("Tile size must be positive");
+    }
+    this.tileSize = tileSize;
+    this.pieceSize = Math.ceil(tileSize * PIECE_IMAGE_SCALE);
+
+    List<Color> colors = new ArrayList<>();
+    for (Color color : pieceColors) {
+      if (!colors.contains(color)) {
+        colors.add(color);
+      }
+    }
+
+    // Pieces on the first row, die faces on the second
+    double piecesWidth = colors.size() * (pieceSize + PADDING);
+    double diceWidth = 6 * (DIE_SIZE + PADDING);
+    Canvas canvas = new Canvas(Math.max(piecesWidth, diceWidth), pieceSize + PADDING + DIE_SIZE);
+    GraphicsContext gc = canvas.getGraphicsContext2D();
+
+    double x = 0;
+    for (Color color : colors) {
+      drawPiece(gc, color, x);
+      pieceRegions.put(color, new Rectangle2D(x, 0, pieceSize, pieceSize));
+      x += pieceSize + PADDING;
+    }
+    double y = pieceSize + PADDING;
+    for (int face = 1; face <= 6; face++) {
+      double dieX = (face - 1) * (DIE_SIZE + PADDING);
+      drawDie(gc, face, dieX, y);
+      dieRegions[face] = new Rectangle2D(dieX, y, DIE_SIZE, DIE_SIZE);
+    }
+
+    SnapshotParameters params = new SnapshotParameters();
+    params.setFill(Color.TRANSPARENT);
+    this.image = canvas.snapshot(params, null);
+  }
+
+  /**
+   * Draws an atlas with a piece for each player
+   *
+   * @param tileSize The size of a board tile
+   * @param players  The players of the game
+   * @return The atlas
+   */
+  public static TextureAtlas forPlayers(double tileSize, List<Player> players) {
+    List<Color> colors = new ArrayList<>();
+    for (int i = 0; i < players.size(); i++) {
+      colors.add(GamePiece.parseColor(players.get(i).getPieceType(), i));
+    }
+    return new TextureAtlas(tileSize, colors);
+  }
+
+  /**
+   * Gets an atlas that also has pieces of the given colors
+   *
+   * @param pieceColors The colors that are needed
+   * @return This atlas if it has every color, or else a new one at the same
+   *         tile size with the colors added
+   */
+  public TextureAtlas withPieceColors(List<Color> pieceColors) {
+    if (pieceRegions.keySet().containsAll(pieceColors)) {
+      return this;
+    }
+    List<Color> colors = new ArrayList<>(pieceRegions.keySet());
+    colors.addAll(pieceColors);
+    return new TextureAtlas(tileSize, colors);
+  }
+
+  private void drawPiece(GraphicsContext gc, Color color, double x) {
+    double radius = tileSize * PIECE_RADIUS_SCALE;
+    double centerX = x + pieceSize / 2;
+    double centerY = pieceSize / 2;
+    gc.setFill(color);
+    gc.fillOval(centerX - radius, centerY - radius, radius * 2, radius * 2);
+    gc.setStroke(Color.BLACK);
+    gc.setLineWidth(1);
+    gc.strokeOval(centerX - radius, centerY - radius, radius * 2, radius * 2);
+  }
+
+  private void drawDie(GraphicsContext gc, int face, double x, double y) {
+    gc.setFill(Color.WHITE);
+    gc.fillRoundRect(x + 1, y + 1, DIE_SIZE - 2, DIE_SIZE - 2, 10, 10);
+    gc.setStroke(Color.web("#333333"));
+    gc.setLineWidth(1.5);
+    gc.strokeRoundRect(x + 1, y + 1, DIE_SIZE - 2, DIE_SIZE - 2, 10, 10);
+
+    double low = DIE_SIZE * 0.27;
+    double mid = DIE_SIZE * 0.5;
+    double high = DIE_SIZE * 0.73;
+    boolean odd = face % 2 == 1;
+    List<double[]> pips = new ArrayList<>();
+    if (odd) {
+      pips.add(new double[] { mid, mid });
+    }
+    if (face >= 2) {
+      pips.add(new double[] { low, low });
+      pips.add(new double[] { high, high });
+    }
+    if (face >= 4) {
+      pips.add(new double[] { high, low });
+      pips.add(new double[] { low, high });
+    }
+    if (face == 6) {
+      pips.add(new double[] { low, mid });
+      pips.add(new double[] { high, mid });
+    }
+
+    double radius = DIE_SIZE * 0.08;
+    gc.setFill(Color.web("#333333"));
+    for (double[] pip : pips) {
+      gc.fillOval(x + pip[0] - radius, y + pip[1] - radius, radius * 2, radius * 2);
+    }
+  }
+
+  /**
+   * Gets the region of a piece
+   *
+   * @param color The piece's color
+   * @return The region, or null if the atlas has no piece of that color
+   */
+  public Rectangle2D getPieceRegion(Color color) {
+    return pieceRegions.get(color);
+  }
+
+  /**
+   * Gets the region of a die face
+   *
+   * @param face The face, from 1 to 6
+   * @return The region
+   */
+  public Rectangle2D getDieRegion(int face) {
+    if (face < 1 || face > 6) {
+      throw new IllegalArgumentException("Die face must be between 1 and 6");
+    }
+    return dieRegions[face];
+  }
+
+  /**
+   * Creates a view of a piece
+   *
+   * @param color The piece's color
+   * @return The view, or null if the atlas has no piece of that color
+   */
+  public ImageView createPieceView(Color color) {
+    Rectangle2D region = getPieceRegion(color);
+    if (region == null) {
+      return null;
+    }
+    ImageView view = new ImageView(image);
+    view.setViewport(region);
+    view.setFitWidth(pieceSize);
+    view.setFitHeight(pieceSize);
+    return view;
+  }
+
+  /**
+   * Creates a view of a die face. Change the face shown with
+   * {@link ImageView#setViewport} and {@link #getDieRegion(int)}.
+   *
+   * @param face The face, from 1 to 6
+   * @return The view
+   */
+  public ImageView createDieView(int face) {
+    ImageView view = new ImageView(image);
+    view.setViewport(getDieRegion(face));
+    return view;
+  }
+
+  public Image getImage() {
+    return image;
+  }
+
+  public double getTileSize() {
+    return tileSize;
+  }
+}
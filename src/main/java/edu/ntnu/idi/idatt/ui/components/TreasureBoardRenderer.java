@@ -0,0 +1,141 @@
+package edu.ntnu.idi.idatt.ui.components;
+
+import java.util.List;
+
+import edu.ntnu.idi.idatt.model.GameStateSnapshot;
+import edu.ntnu.idi.idatt.model.Player;
+import edu.ntnu.idi.idatt.model.TreasureBoardConfig;
+import javafx.geometry.Rectangle2D;
+import javafx.scene.canvas.GraphicsContext;
+import javafx.scene.paint.Color;
+
+/**
+ * Draws a treasure board in a {@link BoardViewport}, with the same colors as
+ * the tiles of the node-based board
+ */
+public class TreasureBoardRenderer implements BoardViewport.BoardRenderer {
+  private static final Color PATH_COLOR = Color.rgb(124, 75, 54, 0.75);
+  private static final Color TREASURE_COLOR = Color.rgb(212, 162, 25);
+  private static final Color START_COLOR = Color.rgb(148, 80, 24);
+  private static final Color START_BORDER_COLOR = Color.rgb(212, 175, 25);
+  private static final Color OTHER_COLOR = Color.WHITE;
+  private static final double CORNER_RADIUS = 6;
+  private static final double MIN_PIECE_RADIUS = 3;
+
+  private final TreasureBoardConfig config;
+  private final List<Player> players;
+  private final PieceColors pieceColors = new PieceColors();
+  private final BoardGeometry geometry;
+  // When set, pieces are drawn where this snapshot puts them
+  private GameStateSnapshot snapshot;
+
+  /**
+   * Creates a renderer for a board
+   *
+   * @param config   The layout of the board
+   * @param players  The players whose pieces are drawn
+   * @param geometry Where the board's tiles are, laid out row by row
+   */
+  public TreasureBoardRenderer(TreasureBoardConfig config, List<Player> players, BoardGeometry geometry) {
+    if (config == null || players == null || geometry == null) {
+      throw new IllegalArgumentException("Config, players and geometry cannot be null");
+    }
+    this.config = config;
+    this.players = players;
+    this.geometry = geometry;
+  }
+
+  /**
+   * Sets a snapshot to draw the pieces from instead of the players
+   *
+   * @param snapshot The snapshot, or null to read the players
+   */
+  public void setSnapshot(GameStateSnapshot snapshot) {
+    this.snapshot = snapshot;
+  }
+
+  @Override
+  public void drawTile(GraphicsContext gc, int number, double x, double y, double size,
+      BoardViewport.DetailLevel detail) {
+    int row = (number - 1) / config.COLUMNS;
+    int column = (number - 1) % config.COLUMNS;
+    if (row >= config.ROWS) {
+      return;
+    }
+    int tileType = config.STANDARD_LAYOUT[row][column];
+    if (tileType == 0) {
+      return;
+    }
+    if (detail == BoardViewport.DetailLevel.OVERVIEW) {
+      gc.setFill(tileType == 1 ? PATH_COLOR : getColor(tileType));
+      gc.fillRect(x, y, size, size);
+      return;
+    }
+    double arc = Math.min(CORNER_RADIUS * 2, size / 4);
+    if (tileType == 1) {
+      // Paths are drawn as a smaller tile in the middle
+      double small = size / 2;
+      gc.setFill(PATH_COLOR);
+      gc.fillRoundRect(x + small / 2, y + small / 2, small, small, small / 2, small / 2);
+      return;
+    }
+    gc.setFill(getColor(tileType));
+    gc.fillRoundRect(x, y, size, size, arc, arc);
+    if (tileType == 3) {
+      gc.setStroke(START_BORDER_COLOR);
+      gc.setLineWidth(1);
+      gc.strokeRoundRect(x, y, size, size, arc, arc);
+    }
+  }
+
+  /**
+   * Gets the color a tile type is drawn with when the whole tile is filled,
+   * as on an overview of the board
+   *
+   * @param tileType The type from the board's layout
+   * @return The color, or null for tiles that are not drawn
+   */
+  static Color getTileColor(int tileType) {
+    if (tileType == 0) {
+      return null;
+    }
+    return tileType == 1 ? PATH_COLOR : getColor(tileType);
+  }
+
+  private static Color getColor(int tileType) {
+    return switch (tileType) {
+      case 2 -> TREASURE_COLOR;
+      case 3 -> START_COLOR;
+      default -> OTHER_COLOR;
+    };
+  }
+
+  @Override
+  public void drawOverlay(GraphicsContext gc, BoardViewport viewport, BoardViewport.DetailLevel detail) {
+    Rectangle2D visible = viewport.getVisibleBounds();
+    double radius = Math.max(MIN_PIECE_RADIUS, viewport.getScreenTileSize() * 0.18);
+    for (int i = 0; i < players.size(); i++) {
+      int tileId = getTileId(i);
+      if (tileId < 1) {
+        continue;
+      }
+      double centerX = geometry.getTileCenterX(tileId);
+      double centerY = geometry.getTileCenterY(tileId);
+      if (!visible.contains(centerX, centerY)) {
+        continue;
+      }
+      double x = viewport.toScreenX(centerX);
+      double y = viewport.toScreenY(centerY);
+      BoardPainter.drawPiece(gc, pieceColors.get(players.get(i).getPieceType(), i), x, y, radius,
+          detail == BoardViewport.DetailLevel.OVERVIEW ? 1 : 2);
+    }
+  }
+
+  private int getTileId(int playerIndex) {
+    if (snapshot != null) {
+      return playerIndex < snapshot.getPlayerCount() ? snapshot.getTileId(playerIndex) : -1;
+    }
+    Integer tileId = players.get(playerIndex).getTileId();
+    return tileId == null ? -1 : tileId;
+  }
+}
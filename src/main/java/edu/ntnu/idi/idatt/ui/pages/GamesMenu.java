@@ -1,14 +1,29 @@
 package edu.ntnu.idi.idatt.ui.pages;
 
+import java.io.File;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import edu.ntnu.idi.idatt.controller.BoardCatalog;
+import edu.ntnu.idi.idatt.persistence.AsyncPersistenceService;
+import edu.ntnu.idi.idatt.persistence.ReplayHandler;
+import edu.ntnu.idi.idatt.model.BoardCatalogEntry;
+import edu.ntnu.idi.idatt.ui.ReplayViewerUI;
 import edu.ntnu.idi.idatt.ui.components.PlayerSelectionModal;
+import javafx.application.Platform;
 import javafx.geometry.Insets;
 import javafx.scene.Scene;
+import javafx.scene.control.Alert;
 import javafx.scene.control.Button;
 import javafx.scene.control.Label;
+import javafx.scene.control.ListCell;
+import javafx.scene.control.ListView;
 import javafx.scene.layout.VBox;
+import javafx.stage.FileChooser;
 import javafx.stage.Stage;
 
 public class GamesMenu {
+  private static final Logger LOGGER = Logger.getLogger(GamesMenu.class.getName());
 
   private VBox root;
 
@@ -46,6 +61,16 @@ public class GamesMenu {
     wormholeButton.setOnMouseEntered(e -> wormholeButton.setStyle(primaryButtonStyle.replace("#1976d2", "#1565c0")));
     wormholeButton.setOnMouseExited(e -> wormholeButton.setStyle(primaryButtonStyle));
 
+    // Finished games are saved as replays that can be watched again
+    Button replayButton = new Button("Watch replay");
+    replayButton.setStyle(primaryButtonStyle);
+    replayButton.setOnAction(e -> openReplay(primaryStage));
+
+    // Computer-played games on a spectator wall
+    Button spectateButton = new Button("Watch computer games");
+    spectateButton.setStyle(primaryButtonStyle);
+    spectateButton.setOnAction(e -> openSpectatorWall(primaryStage));
+
     // Back button
     Button backButton = new Button("Back to Menu");
     String destructiveButtonStyle = "-fx-padding: 8 16; -fx-background-radius: 4; -fx-cursor: hand; " +
@@ -77,7 +102,21 @@ public class GamesMenu {
         "-fx-padding: 16; -fx-spacing: 8;");
     VBox.setMargin(buttonContainer, new Insets(16, 0, 0, 0)); // For margin-top
 
-    buttonContainer.getChildren().addAll(treasureButton, standardButton, wormholeButton, backButton);
+    // List every board in the catalog, so custom boards can be played too
+    Label boardsLabel = new Label("All boards");
+    boardsLabel.setStyle("-fx-font-size: 16px; -fx-font-weight: bold; -fx-text-fill: #000000;");
+    ListView<BoardCatalogEntry> boardList = createBoardList();
+    Button playBoardButton = new Button("Play selected board");
+    playBoardButton.setStyle(primaryButtonStyle);
+    playBoardButton.disableProperty().bind(boardList.getSelectionModel().selectedItemProperty().isNull());
+    playBoardButton.setOnAction(e -> {
+      BoardCatalogEntry entry = boardList.getSelectionModel().getSelectedItem();
+      PlayerSelectionModal playerModal = new PlayerSelectionModal(entry.getBoardName(), primaryStage);
+      playerModal.showModal();
+    });
+
+    buttonContainer.getChildren().addAll(treasureButton, standardButton, wormholeButton,
+        boardsLabel, boardList, playBoardButton, replayButton, spectateButton, backButton);
     root.getChildren().addAll(titleLabel, buttonContainer);
 
     // Create scene without stylesheet
@@ -85,6 +124,93 @@ public class GamesMenu {
     return scene;
   }
 
+  /**
+   * Creates a list of the boards in the board catalog. Only the catalog
+   * index and changed files are read; boards are parsed when played. The
+   * catalog is read on the I/O thread and the list is filled once it is
+   * ready.
+   */
+  private ListView<BoardCatalogEntry> createBoardList() {
+    BoardCatalog catalog = BoardCatalog.createDefault();
+    ListView<BoardCatalogEntry> boardList = new ListView<>();
+    boardList.setPlaceholder(new Label("Loading boards..."));
+    AsyncPersistenceService.getShared().loadCatalog(catalog)
+        .whenCompleteAsync((entries, error) -> {
+          if (error != null) {
+            LOGGER.log(Level.WARNING, "Failed to refresh the board catalog", error);
+            entries = catalog.getEntries();
+          }
+          boardList.setPlaceholder(new Label("No boards found"));
+          boardList.getItems().setAll(entries);
+        }, Platform::runLater);
+    boardList.setPrefHeight(160);
+    boardList.setCellFactory(list -> new ListCell<>() {
+      @Override
+      protected void updateItem(BoardCatalogEntry entry, boolean empty) {
+        super.updateItem(entry, empty);
+        if (empty || entry == null) {
+          setText(null);
+          setTooltip(null);
+        } else {
+          setText(entry.toString());
+          String description = entry.getDescription() == null ? "" : entry.getDescription() + "\n";
+          setTooltip(new javafx.scene.control.Tooltip(description + entry.getLadderCount() + " ladders, "
+              + entry.getSnakeCount() + " snakes, " + entry.getWormholeCount() + " wormholes"));
+        }
+      }
+    });
+    return boardList;
+  }
+
+  /**
+   * Lets the user pick a saved replay and shows it once it has been read on
+   * the I/O thread
+   */
+  private void openReplay(Stage primaryStage) {
+    FileChooser fileChooser = new FileChooser();
+    fileChooser.setTitle("Watch Replay");
+    fileChooser.getExtensionFilters().add(
+        new FileChooser.ExtensionFilter("Replay Files", "*.replay"));
+    File replayDirectory = new File(ReplayHandler.REPLAY_DIRECTORY);
+    if (replayDirectory.isDirectory()) {
+      fileChooser.setInitialDirectory(replayDirectory);
+    }
+
+    File selectedFile = fileChooser.showOpenDialog(primaryStage);
+    if (selectedFile == null) {
+      return;
+    }
+    AsyncPersistenceService.getShared().loadReplay(selectedFile.getAbsolutePath())
+        .whenCompleteAsync((replay, error) -> {
+          if (error != null) {
+            LOGGER.log(Level.WARNING, "Failed to load replay", error);
+            Alert alert = new Alert(Alert.AlertType.ERROR, "Could not open " + selectedFile.getName());
+            alert.setHeaderText("Replay could not be loaded");
+            alert.showAndWait();
+            return;
+          }
+          primaryStage.setScene(new ReplayViewerUI(replay).createReplayScene(primaryStage));
+        }, Platform::runLater);
+  }
+
+  /**
+   * Shows computer-played games on a spectator wall once the standard
+   * board has been read on the I/O thread
+   */
+  private void openSpectatorWall(Stage primaryStage) {
+    AsyncPersistenceService.getShared().loadLadderBoard("standard")
+        .whenCompleteAsync((board, error) -> {
+          if (error != null) {
+            LOGGER.log(Level.WARNING, "Failed to load the board for the spectator wall", error);
+            Alert alert = new Alert(Alert.AlertType.ERROR, "The standard board could not be loaded");
+            alert.setHeaderText("Games could not be started");
+            alert.showAndWait();
+            return;
+          }
+          primaryStage.setScene(new SpectatorPage().createDemoScene(primaryStage, board));
+        }, Platform::runLater);
+  }
+
   private Button createGameButton(String name, String description, Stage primaryStage, String boardType) {
     Button button = new Button(name);
 
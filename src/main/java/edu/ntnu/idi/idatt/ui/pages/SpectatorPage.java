@@ -0,0 +1,135 @@
+package edu.ntnu.idi.idatt.ui.pages;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import edu.ntnu.idi.idatt.controller.AutoPlayer;
+import edu.ntnu.idi.idatt.controller.GameSessionHost;
+import edu.ntnu.idi.idatt.model.LadderBoard;
+import edu.ntnu.idi.idatt.model.Player;
+import edu.ntnu.idi.idatt.ui.components.SpectatorWall;
+import javafx.animation.Animation;
+import javafx.animation.KeyFrame;
+import javafx.animation.Timeline;
+import javafx.geometry.Insets;
+import javafx.scene.Scene;
+import javafx.scene.control.Button;
+import javafx.scene.control.Label;
+import javafx.scene.layout.BorderPane;
+import javafx.scene.layout.HBox;
+import javafx.stage.Stage;
+import javafx.util.Duration;
+
+/**
+ * A page for watching many computer-played games at once, each running as
+ * a session of a {@link GameSessionHost} and shown as a miniature board on
+ * a {@link SpectatorWall}
+ */
+public class SpectatorPage {
+  private static final Logger LOGGER = Logger.getLogger(SpectatorPage.class.getName());
+
+  /** Ladder games played on the demo wall */
+  public static final int DEMO_LADDER_GAMES = 9;
+  /** Treasure games played on the demo wall */
+  public static final int DEMO_TREASURE_GAMES = 3;
+  private static final int DEMO_TURN_MILLIS = 300;
+  private static final String[] DEMO_COLORS = { "#FF0000", "#0000FF", "#00AA00", "#FFC0CB" };
+
+  private SpectatorWall wall;
+  private GameSessionHost demoHost;
+  private Timeline demoTurns;
+
+  /**
+   * Creates a scene of computer-played games, run by a session host of its
+   * own. Every game plays a turn every {@value #DEMO_TURN_MILLIS} ms on the
+   * host's threads and starts over a turn after it is won. The host is
+   * closed when the user goes back to the games menu.
+   *
+   * @param primaryStage The stage the scene is shown on
+   * @param board        The board the ladder games are played on, shared by
+   *                     every game
+   * @return The scene
+   */
+  public Scene createDemoScene(Stage primaryStage, LadderBoard board) {
+    if (board == null) {
+      throw new IllegalArgumentException("Board cannot be null");
+    }
+    List<Player> players = new ArrayList<>();
+    for (int i = 0; i < DEMO_COLORS.length; i++) {
+      players.add(new Player("Computer " + (i + 1), DEMO_COLORS[i], 1));
+    }
+    demoHost = new GameSessionHost();
+    Map<Long, AutoPlayer> autoPlayers = new HashMap<>();
+    for (int i = 0; i < DEMO_LADDER_GAMES + DEMO_TREASURE_GAMES; i++) {
+      long sessionId = i < DEMO_LADDER_GAMES
+          ? demoHost.createLadderSession(board, players)
+          : demoHost.createTreasureSession(players);
+      autoPlayers.put(sessionId, new AutoPlayer(demoHost.getSession(sessionId).getController()));
+    }
+
+    wall = new SpectatorWall();
+    autoPlayers.keySet().stream().sorted().forEach(sessionId ->
+        wall.addBoard("Game " + sessionId, demoHost.getSession(sessionId).getController()));
+
+    // Turns are played on the host's threads; the wall reads the snapshots
+    demoTurns = new Timeline(new KeyFrame(Duration.millis(DEMO_TURN_MILLIS), e -> {
+      for (Map.Entry<Long, AutoPlayer> entry : autoPlayers.entrySet()) {
+        AutoPlayer autoPlayer = entry.getValue();
+        demoHost.submit(entry.getKey(), controller -> {
+          if (autoPlayer.isGameOver()) {
+            controller.resetGame();
+          } else {
+            autoPlayer.playTurn();
+          }
+          return null;
+        }).exceptionally(error -> {
+          LOGGER.log(Level.WARNING, "Demo game turn failed", error);
+          return null;
+        });
+      }
+    }));
+    demoTurns.setCycleCount(Animation.INDEFINITE);
+    demoTurns.play();
+
+    return createScene("Watching " + wall.getBoardCount() + " computer games", () -> {
+      stopDemo();
+      primaryStage.setScene(new GamesMenu().createGamesMenuScene(primaryStage));
+    });
+  }
+
+  /**
+   * Stops the demo games and closes their host
+   */
+  private void stopDemo() {
+    demoTurns.stop();
+    wall.stop();
+    demoHost.close();
+  }
+
+  private Scene createScene(String title, Runnable onBack) {
+    Label titleLabel = new Label(title);
+    titleLabel.setStyle("-fx-font-size: 18px; -fx-font-weight: bold; -fx-text-fill: #ffffff;");
+
+    Button backButton = new Button("Back to Menu");
+    backButton.setStyle("-fx-padding: 8 16; -fx-background-radius: 4; -fx-cursor: hand; " +
+        "-fx-background-color: #f44336; -fx-text-fill: white;");
+    backButton.setOnAction(e -> onBack.run());
+
+    HBox header = new HBox(16, backButton, titleLabel);
+    header.setStyle("-fx-alignment: center-left; -fx-background-color: #1e2024;");
+    header.setPadding(new Insets(8, 12, 0, 12));
+
+    BorderPane root = new BorderPane(wall);
+    root.setTop(header);
+    root.setStyle("-fx-background-color: #1e2024;");
+    return new Scene(root);
+  }
+
+  public SpectatorWall getWall() {
+    return wall;
+  }
+}
@@ -0,0 +1,158 @@
+package edu.ntnu.idi.idatt.controller;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import edu.ntnu.idi.idatt.model.Player;
+
+class AutoPlayerTest {
+
+  private LadderGameController controller;
+
+  @BeforeEach
+  void setUp() {
+    controller = new LadderGameController();
+    List<Player> players = new ArrayList<>();
+    players.add(new Player("Player1", "#FF0000", 1));
+    players.add(new Player("Player2", "#0000FF", 1));
+    controller.setupGame(players);
+  }
+
+  // POSITIVE TESTS
+
+  @Test
+  void runTurnsShouldPlayUntilGameIsWon() {
+    AutoPlayer autoPlayer = new AutoPlayer(controller);
+
+    long turns = autoPlayer.runTurns(100_000);
+
+    assertTrue(turns > 0 && turns < 100_000, "A ladder game should end");
+    assertTrue(autoPlayer.isGameOver());
+    int lastTile = controller.getLadderBoard().getRows() * controller.getLadderBoard().getColumns();
+    int winnerTile = controller.getCurrentPlayer().getTileId();
+    assertEquals(lastTile, winnerTile);
+    assertFalse(autoPlayer.playTurn(), "No turns should be played after the game is won");
+  }
+
+  @Test
+  void runTurnsShouldStopAtMaxTurns() {
+    AutoPlayer autoPlayer = new AutoPlayer(controller);
+
+    assertEquals(1, autoPlayer.runTurns(1));
+    assertEquals(1, autoPlayer.getTurnsPlayed());
+    assertEquals(1, controller.getCurrentPlayerIndex(), "The turn should pass to the next player");
+  }
+
+  @Test
+  void instantSpeedShouldMuteEventsAndPublishSnapshots() throws InterruptedException {
+    AtomicInteger events = new AtomicInteger();
+    controller.registerObserver(event -> events.incrementAndGet());
+    CountDownLatch finished = new CountDownLatch(1);
+    AutoPlayer autoPlayer = new AutoPlayer(controller);
+    autoPlayer.setOnFinished(finished::countDown);
+    long versionBefore = controller.getSnapshot().getVersion();
+
+    autoPlayer.start(AutoPlayer.Speed.INSTANT);
+
+    assertTrue(finished.await(10, TimeUnit.SECONDS), "The game should be played to the end");
+    assertEquals(0, events.get(), "Observers should not be told about instant turns");
+    assertFalse(controller.isEventsMuted(), "Events should be unmuted once the game is won");
+    assertFalse(autoPlayer.isRunning());
+    assertTrue(controller.getSnapshot().getVersion() > versionBefore);
+  }
+
+  @Test
+  void fastSpeedShouldNotifyObserversOnTurnExecutor() throws InterruptedException {
+    AtomicInteger events = new AtomicInteger();
+    controller.registerObserver(event -> events.incrementAndGet());
+    List<String> turnThreads = new ArrayList<>();
+    AutoPlayer autoPlayer = new AutoPlayer(controller, turn -> {
+      synchronized (turnThreads) {
+        turnThreads.add(Thread.currentThread().getName());
+      }
+      turn.run();
+    });
+
+    autoPlayer.start(AutoPlayer.Speed.FAST);
+    long deadline = System.currentTimeMillis() + 5_000;
+    while (autoPlayer.getTurnsPlayed() < 2 && autoPlayer.isRunning() && System.currentTimeMillis() < deadline) {
+      Thread.sleep(10);
+    }
+    autoPlayer.stop();
+
+    assertTrue(autoPlayer.getTurnsPlayed() >= 2);
+    assertTrue(events.get() > 0, "Observers should be told about timed turns");
+    synchronized (turnThreads) {
+      assertFalse(turnThreads.isEmpty(), "Timed turns should run on the turn executor");
+    }
+    assertFalse(autoPlayer.isRunning());
+  }
+
+  @Test
+  void treasureGameShouldPassTurnsOn() {
+    TreasureGameController treasureController = new TreasureGameController();
+    List<Player> players = new ArrayList<>();
+    players.add(new Player("Player1", "#FF0000", 1));
+    players.add(new Player("Player2", "#0000FF", 1));
+    treasureController.setupGame(players);
+    AutoPlayer autoPlayer = new AutoPlayer(treasureController);
+
+    long turns = autoPlayer.runTurns(50);
+
+    assertTrue(turns > 0);
+    assertFalse(treasureController.isMoving(), "Every step of a turn should be played");
+  }
+
+  // NEGATIVE TESTS
+
+  @Test
+  void turnQueuedBeforeRestartShouldBeDropped() throws InterruptedException {
+    List<Runnable> queued = new ArrayList<>();
+    AutoPlayer autoPlayer = new AutoPlayer(controller, turn -> {
+      synchronized (queued) {
+        queued.add(turn);
+        queued.notifyAll();
+      }
+    });
+
+    autoPlayer.start(AutoPlayer.Speed.FAST);
+    Runnable staleTurn;
+    synchronized (queued) {
+      long deadline = System.currentTimeMillis() + 5_000;
+      while (queued.isEmpty() && System.currentTimeMillis() < deadline) {
+        queued.wait(100);
+      }
+      assertFalse(queued.isEmpty(), "A timed turn should be queued");
+      staleTurn = queued.get(0);
+    }
+    autoPlayer.stop();
+    autoPlayer.start(AutoPlayer.Speed.REAL_TIME);
+    staleTurn.run();
+    autoPlayer.stop();
+
+    assertEquals(0, autoPlayer.getTurnsPlayed(), "A turn from a stopped run should not be played");
+  }
+
+  @Test
+  void constructorShouldRejectNullArguments() {
+    assertThrows(IllegalArgumentException.class, () -> new AutoPlayer(null));
+    assertThrows(IllegalArgumentException.class, () -> new AutoPlayer(controller, null));
+  }
+
+  @Test
+  void startShouldRejectNullSpeed() {
+    AutoPlayer autoPlayer = new AutoPlayer(controller);
+
+    assertThrows(IllegalArgumentException.class, () -> autoPlayer.start(null));
+  }
+}
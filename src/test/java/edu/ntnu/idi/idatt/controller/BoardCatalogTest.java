@@ -0,0 +1,202 @@
+package edu.ntnu.idi.idatt.controller;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import edu.ntnu.idi.idatt.exceptions.FileReadException;
+import edu.ntnu.idi.idatt.model.BoardCatalogEntry;
+import edu.ntnu.idi.idatt.model.BoardConfig;
+import edu.ntnu.idi.idatt.model.TreasureBoardConfig;
+import edu.ntnu.idi.idatt.persistence.BinaryBoardHandler;
+import edu.ntnu.idi.idatt.persistence.JsonHandler;
+
+class BoardCatalogTest {
+
+  @TempDir
+  Path tempDir;
+
+  private Path boardsDirectory;
+  private Path indexFile;
+  private BoardCatalog catalog;
+
+  @BeforeEach
+  void setUp() throws Exception {
+    boardsDirectory = Files.createDirectory(tempDir.resolve("boards"));
+    indexFile = tempDir.resolve("catalog.json");
+    catalog = new BoardCatalog(boardsDirectory, indexFile);
+
+    BoardConfig config = new BoardConfig("Alpha", "First board", 10, 9);
+    config.addLadder(3, 22);
+    config.addLadder(11, 26);
+    config.addSnake(17, 7);
+    config.addWormhole(5);
+    JsonHandler.writeToJson(config, boardsDirectory.resolve("alpha.json").toString());
+    JsonHandler.writeToJson(new BoardConfig("Beta", null, 5, 5),
+        boardsDirectory.resolve("beta.json").toString());
+  }
+
+  // POSITIVE TESTS
+
+  @Test
+  void refreshShouldSummarizeBoards() throws Exception {
+    assertTrue(catalog.refresh(), "First refresh should find new boards");
+
+    BoardCatalogEntry alpha = catalog.getEntry("alpha");
+    assertEquals("Alpha", alpha.getName(), "Display name should be read");
+    assertEquals("First board", alpha.getDescription(), "Description should be read");
+    assertEquals(10, alpha.getRows(), "Rows should be read");
+    assertEquals(9, alpha.getColumns(), "Columns should be read");
+    assertEquals(2, alpha.getLadderCount(), "Ladders should be counted");
+    assertEquals(1, alpha.getSnakeCount(), "Snakes should be counted");
+    assertEquals(1, alpha.getWormholeCount(), "Wormholes should be counted");
+    assertNotEquals(0, alpha.getContentHash(), "A content hash should be computed");
+    assertEquals(2, catalog.getEntries().size(), "Both boards should be listed");
+    assertEquals("Alpha", catalog.getEntries().get(0).getName(), "Entries should be sorted by name");
+  }
+
+  @Test
+  void refreshShouldListBinaryBoards() throws Exception {
+    BoardConfig config = new BoardConfig("Gamma", "Binary board", 6, 6);
+    config.addLadder(2, 20);
+    config.addSnake(30, 4);
+    BinaryBoardHandler.writeBoard(config, boardsDirectory.resolve("gamma.slb").toString());
+    BinaryBoardHandler.writeBoard(new BoardConfig("Alpha Binary", null, 10, 9),
+        boardsDirectory.resolve("alpha.slb").toString());
+
+    catalog.refresh();
+
+    BoardCatalogEntry gamma = catalog.getEntry("gamma");
+    assertEquals("Gamma", gamma.getName(), "Binary boards should be summarized");
+    assertEquals(1, gamma.getLadderCount(), "Ladders should be counted");
+    assertEquals(1, gamma.getSnakeCount(), "Snakes should be counted");
+    assertEquals(Files.size(boardsDirectory.resolve("gamma.slb")), gamma.getFileSize());
+    assertEquals("Alpha Binary", catalog.getEntry("alpha").getName(),
+        "The binary file should win over a JSON file with the same name");
+    assertEquals(3, catalog.size(), "Each board should be listed once");
+  }
+
+  @Test
+  void refreshShouldLeaveOutTreasureBoards() throws Exception {
+    BinaryBoardHandler.writeTreasureBoard(new TreasureBoardConfig(), "Treasure", null,
+        boardsDirectory.resolve("treasure.slb").toString());
+    catalog.refresh();
+
+    assertNull(catalog.getEntry("treasure"), "Treasure boards are not ladder boards");
+    assertFalse(catalog.refresh(), "A treasure board should not count as a change");
+  }
+
+  @Test
+  void refreshShouldNotReopenUnchangedTreasureBoards() throws Exception {
+    Path treasure = boardsDirectory.resolve("treasure.slb");
+    BinaryBoardHandler.writeTreasureBoard(new TreasureBoardConfig(), "Treasure", null, treasure.toString());
+    catalog.refresh();
+    // Same size and time, but no longer a treasure board; only a reopen would notice
+    FileTime modified = Files.getLastModifiedTime(treasure);
+    Files.write(treasure, new byte[(int) Files.size(treasure)]);
+    Files.setLastModifiedTime(treasure, modified);
+
+    BoardCatalog reloaded = new BoardCatalog(boardsDirectory, indexFile);
+    reloaded.load();
+
+    assertFalse(reloaded.refresh(), "A known treasure board should not be read again");
+    assertNull(reloaded.getEntry("treasure"), "The treasure board should stay left out");
+  }
+
+  @Test
+  void contentHashShouldCoverWholeFile() throws Exception {
+    catalog.refresh();
+    long hash = catalog.getEntry("beta").getContentHash();
+    Path beta = boardsDirectory.resolve("beta.json");
+    Files.writeString(beta, Files.readString(beta) + "\n\n");
+    Files.setLastModifiedTime(beta, FileTime.fromMillis(System.currentTimeMillis() + 10_000));
+
+    catalog.refresh();
+
+    assertNotEquals(hash, catalog.getEntry("beta").getContentHash(),
+        "Bytes after the board object should change the hash");
+  }
+
+  @Test
+  void refreshShouldSaveIndexForNextLoad() throws Exception {
+    catalog.refresh();
+
+    BoardCatalog reloaded = new BoardCatalog(boardsDirectory, indexFile);
+    reloaded.load();
+
+    assertTrue(Files.exists(indexFile), "Index file should be written");
+    assertEquals(2, reloaded.size(), "Loaded index should hold both boards");
+    assertEquals(2, reloaded.getEntry("alpha").getLadderCount(), "Loaded entries should be complete");
+    assertFalse(reloaded.refresh(), "Unchanged boards should not be read again");
+  }
+
+  @Test
+  void refreshShouldPickUpChangedAndRemovedBoards() throws Exception {
+    catalog.refresh();
+    BoardConfig changed = new BoardConfig("Alpha 2", "Changed", 8, 8);
+    Path alphaPath = boardsDirectory.resolve("alpha.json");
+    JsonHandler.writeToJson(changed, alphaPath.toString());
+    Files.setLastModifiedTime(alphaPath, FileTime.fromMillis(System.currentTimeMillis() + 10_000));
+    Files.delete(boardsDirectory.resolve("beta.json"));
+
+    assertTrue(catalog.refresh(), "Changes should be detected");
+
+    assertEquals("Alpha 2", catalog.getEntry("alpha").getName(), "Changed board should be summarized again");
+    assertNull(catalog.getEntry("beta"), "Removed board should be dropped");
+  }
+
+  @Test
+  void displayNameShouldFallBackToBoardName() throws Exception {
+    JsonHandler.writeToJson(new BoardConfig(null, null, 3, 3),
+        boardsDirectory.resolve("nameless.json").toString());
+
+    catalog.refresh();
+
+    assertEquals("nameless", catalog.getEntry("nameless").getName(), "Board name should be used");
+  }
+
+  // NEGATIVE TESTS
+
+  @Test
+  void refreshShouldSkipInvalidBoardFiles() throws Exception {
+    Files.writeString(boardsDirectory.resolve("broken.json"), "{\"rows\": \"many\"");
+
+    catalog.refresh();
+
+    assertNull(catalog.getEntry("broken"), "Invalid boards should be skipped");
+    assertEquals(2, catalog.size(), "Valid boards should still be listed");
+  }
+
+  @Test
+  void loadShouldIgnoreCorruptIndex() throws Exception {
+    Files.writeString(indexFile, "not json");
+
+    catalog.load();
+
+    assertEquals(0, catalog.size(), "A corrupt index should leave the catalog empty");
+  }
+
+  @Test
+  void refreshShouldThrowForMissingDirectory() {
+    BoardCatalog missing = new BoardCatalog(tempDir.resolve("missing"), indexFile);
+
+    assertThrows(FileReadException.class, missing::refresh,
+        "A missing boards directory should be reported");
+  }
+
+  @Test
+  void constructorShouldRejectNullPaths() {
+    assertThrows(IllegalArgumentException.class, () -> new BoardCatalog(null, indexFile),
+        "Null directory should be rejected");
+  }
+}
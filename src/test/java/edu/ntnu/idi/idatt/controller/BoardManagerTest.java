@@ -2,19 +2,102 @@ package edu.ntnu.idi.idatt.controller;
 
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.Arrays;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 
+import edu.ntnu.idi.idatt.exceptions.FileReadException;
 import edu.ntnu.idi.idatt.exceptions.FileWriteException;
+import edu.ntnu.idi.idatt.model.BoardConfig;
+import edu.ntnu.idi.idatt.model.TreasureBoardConfig;
+import edu.ntnu.idi.idatt.persistence.BinaryBoardHandler;
+import edu.ntnu.idi.idatt.persistence.JsonHandler;
 
 public class BoardManagerTest {
+  private static final String TEST_BOARD = "board-manager-test";
+
+  @TempDir
+  Path tempDir;
+
+  @BeforeEach
+  public void setUp() {
+    BoardManager.setBoardsDirectory(tempDir);
+  }
+
+  @AfterEach
+  public void tearDown() {
+    BoardManager.setBoardsDirectory(null);
+  }
 
   @Test
   public void createBoardTest() throws FileWriteException {
     BoardManager.createStandardBoard();
-    Path boardPath = BoardManager.getBoardsDirectory().resolve("standard.json");
+    Path boardPath = tempDir.resolve("standard.json");
     assertTrue(Files.exists(boardPath));
   }
 
+  @Test
+  public void convertBetweenJsonAndBinaryTest() throws Exception {
+    BoardConfig config = new BoardConfig("Conversion", "Converted board", 4, 4);
+    config.addLadder(2, 10);
+    config.addSnake(15, 3);
+    config.addWormhole(7);
+    Path jsonPath = BoardManager.getBoardsDirectory().resolve(TEST_BOARD + BoardManager.JSON_EXTENSION);
+    JsonHandler.writeToJson(config, jsonPath.toString());
+
+    Path binaryPath = BoardManager.convertToBinary(TEST_BOARD);
+    assertTrue(Files.exists(binaryPath));
+    assertEquals(binaryPath, BoardManager.getBoardFile(TEST_BOARD));
+
+    Files.delete(jsonPath);
+    BoardManager.convertToJson(TEST_BOARD);
+    BoardConfig roundTrip = BoardManager.loadBoard(TEST_BOARD);
+
+    assertEquals("Conversion", roundTrip.getName());
+    assertEquals(10, roundTrip.getLadderEnd(0));
+    assertEquals(3, roundTrip.getSnakeTail(0));
+    assertEquals(7, roundTrip.getWormholeStart(0));
+  }
+
+  @Test
+  public void loadTreasureBoardShouldCreateStandardBoardTest() throws Exception {
+    TreasureBoardConfig config = BoardManager.loadTreasureBoard();
+
+    assertEquals(10, config.ROWS);
+    assertEquals(95, config.findStartPosition());
+    assertTrue(Files.exists(tempDir.resolve(BoardManager.TREASURE_BOARD + BoardManager.BINARY_EXTENSION)));
+  }
+
+  @Test
+  public void loadTreasureBoardShouldReadCustomBoardTest() throws Exception {
+    byte[] layout = new byte[12 * 14];
+    Arrays.fill(layout, (byte) 1);
+    layout[layout.length - 1] = 3;
+    BinaryBoardHandler.writeTreasureBoard(new TreasureBoardConfig(12, 14, layout), "Large", null,
+        tempDir.resolve(BoardManager.TREASURE_BOARD + BoardManager.BINARY_EXTENSION).toString());
+
+    TreasureBoardConfig config = BoardManager.loadTreasureBoard();
+
+    assertEquals(12, config.ROWS);
+    assertEquals(14, config.COLUMNS);
+    assertEquals(12 * 14, config.findStartPosition());
+  }
+
+  @Test
+  public void getBoardFileShouldFallBackToJsonTest() {
+    assertEquals(BoardManager.getBoardsDirectory().resolve(TEST_BOARD + BoardManager.JSON_EXTENSION),
+        BoardManager.getBoardFile(TEST_BOARD));
+  }
+
+  @Test
+  public void convertMissingBoardTest() {
+    assertThrows(FileReadException.class, () -> BoardManager.convertToBinary(TEST_BOARD));
+    assertThrows(FileReadException.class, () -> BoardManager.convertToJson(TEST_BOARD));
+  }
 }
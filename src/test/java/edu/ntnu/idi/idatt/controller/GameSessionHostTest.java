@@ -0,0 +1,266 @@
+package edu.ntnu.idi.idatt.controller;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import edu.ntnu.idi.idatt.model.LadderBoard;
+import edu.ntnu.idi.idatt.model.Player;
+
+class GameSessionHostTest {
+
+  private GameSessionHost host;
+  private LadderBoard board;
+  private List<Player> players;
+
+  @BeforeEach
+  void setUp() {
+    host = new GameSessionHost(8);
+    board = new LadderBoard(10, 9);
+    players = new ArrayList<>();
+    players.add(new Player("Player1", "#FF0000", 1));
+    players.add(new Player("Player2", "#0000FF", 1));
+  }
+
+  @AfterEach
+  void tearDown() {
+    host.close();
+  }
+
+  // POSITIVE TESTS
+
+  @Test
+  void shardCountShouldBeRoundedUpToPowerOfTwo() {
+    assertEquals(8, new GameSessionHost(5).getShardCount(), "5 shards should round up to 8");
+    assertEquals(1, new GameSessionHost(1).getShardCount(), "1 shard should stay 1");
+  }
+
+  @Test
+  void createSessionShouldRegisterSession() {
+    long id = host.createLadderSession(board, players);
+
+    GameSession session = host.getSession(id);
+    assertNotNull(session, "Session should be registered");
+    assertEquals(id, session.getId(), "Session id should match");
+    assertEquals(1, host.getSessionCount(), "Host should have one session");
+  }
+
+  @Test
+  void sessionsShouldNotSharePlayerObjects() {
+    long first = host.createLadderSession(board, players);
+    long second = host.createLadderSession(board, players);
+
+    Player a = host.getSession(first).getController().getCurrentPlayer();
+    Player b = host.getSession(second).getController().getCurrentPlayer();
+    assertNotSame(a, b, "Each session should get its own player copies");
+    assertNotSame(players.get(0), a, "Session players should be copies of the input");
+  }
+
+  @Test
+  void executeShouldRouteCommandToSession() {
+    long first = host.createLadderSession(board, players);
+    long second = host.createTreasureSession(players);
+
+    int roll = host.rollDiceAndMove(first);
+    assertTrue(roll >= 2 && roll <= 12, "Ladder sessions roll two dice");
+
+    Player moved = host.execute(first, c -> c.getPlayers().get(0));
+    assertTrue(moved.getTileId() > 1, "First player of the ladder session should have moved");
+
+    int treasureRoll = host.rollDiceAndMove(second);
+    assertTrue(treasureRoll >= 1 && treasureRoll <= 6, "Treasure sessions roll one die");
+  }
+
+  @Test
+  void concurrentCommandsForOneSessionShouldBeSerialized() {
+    long id = host.createLadderSession(board, players);
+    int[] counter = new int[1];
+    List<CompletableFuture<Integer>> futures = new ArrayList<>();
+
+    for (int i = 0; i < 5_000; i++) {
+      futures.add(host.submit(id, c -> counter[0]++));
+    }
+    CompletableFuture.allOf(futures.toArray(new CompletableFuture<?>[0])).join();
+
+    assertEquals(5_000, counter[0], "Commands for one session should never overlap");
+  }
+
+  @Test
+  void commandsShouldRunForManySessionsInParallel() {
+    List<Long> ids = new ArrayList<>();
+    for (int i = 0; i < 200; i++) {
+      ids.add(host.createLadderSession(board, players));
+    }
+    List<CompletableFuture<Integer>> futures = new ArrayList<>();
+    for (int round = 0; round < 20; round++) {
+      for (long id : ids) {
+        futures.add(host.submit(id, GameController::rollDiceAndMove));
+      }
+    }
+    CompletableFuture.allOf(futures.toArray(new CompletableFuture<?>[0])).join();
+
+    for (CompletableFuture<Integer> future : futures) {
+      int roll = future.join();
+      assertTrue(roll >= 2 && roll <= 12, "Every roll should complete with a valid value");
+    }
+  }
+
+  @Test
+  void resetGameShouldResetSession() {
+    long id = host.createLadderSession(board, players);
+    host.rollDiceAndMove(id);
+
+    host.resetGame(id);
+
+    int position = host.execute(id, c -> c.getPlayers().get(0).getTileId());
+    assertEquals(1, position, "Players should be back on the first tile");
+  }
+
+  @Test
+  void retireSessionShouldRemoveSession() {
+    long id = host.createLadderSession(board, players);
+
+    assertTrue(host.retireSession(id), "Retiring a live session should succeed");
+    assertNull(host.getSession(id), "Retired session should be gone");
+    assertEquals(0, host.getSessionCount(), "Host should be empty");
+  }
+
+  @Test
+  void retireIdleSessionsShouldRemoveAllIdleSessions() {
+    host.createLadderSession(board, players);
+    host.createTreasureSession(players);
+
+    assertEquals(2, host.retireIdleSessions(-1), "Every session is idle for a negative threshold");
+    assertEquals(0, host.getSessionCount(), "Host should be empty");
+  }
+
+  @Test
+  void concurrentRetiringShouldTakeEachSessionOffTheEstimateOnce() throws Exception {
+    List<Long> ids = new ArrayList<>();
+    for (int i = 0; i < 2000; i++) {
+      ids.add(host.createLadderSession(board, players));
+    }
+
+    Thread retirer = new Thread(() -> ids.forEach(host::retireSession));
+    retirer.start();
+    int retiredIdle = host.retireIdleSessions(-1);
+    retirer.join();
+
+    assertEquals(0, host.getSessionCount(), "Host should be empty");
+    assertTrue(retiredIdle <= ids.size(), "No session should be retired twice");
+    for (GameSessionHost.ShardStats shard : host.getShardStats()) {
+      assertEquals(0, shard.getEstimatedBytes(), "Estimate should return to zero, not below");
+    }
+  }
+
+  @Test
+  void shardStatsShouldReportSessionsMemoryAndCommands() {
+    long id = host.createLadderSession(board, players);
+    host.rollDiceAndMove(id);
+    host.rollDiceAndMove(id);
+
+    List<GameSessionHost.ShardStats> stats = host.getShardStats();
+    assertEquals(host.getShardCount(), stats.size(), "There should be one entry per shard");
+
+    int sessions = 0;
+    long commands = 0;
+    long bytes = 0;
+    for (GameSessionHost.ShardStats shard : stats) {
+      sessions += shard.getLiveSessions();
+      commands += shard.getCommandsProcessed();
+      bytes += shard.getEstimatedBytes();
+    }
+    assertEquals(1, sessions, "One live session should be reported");
+    assertEquals(2, commands, "Both commands should be counted");
+    assertTrue(bytes > 0, "Memory estimate should be positive");
+  }
+
+  @Test
+  void hostShouldSustainFiftyThousandLiveSessions() {
+    int count = 50_000;
+    for (int i = 0; i < count; i++) {
+      host.createLadderSession(board, players);
+    }
+
+    assertEquals(count, host.getSessionCount(), "All sessions should be live");
+    for (GameSessionHost.ShardStats shard : host.getShardStats()) {
+      assertTrue(shard.getLiveSessions() > count / host.getShardCount() / 2,
+          "Sessions should be spread evenly over the shards");
+    }
+  }
+
+  @Test
+  void checkpointShouldResumeSessionElsewhere(@TempDir Path tempDir) throws Exception {
+    long id = host.createLadderSession(board, players);
+    host.rollDiceAndMove(id);
+    int position = host.execute(id, c -> c.getPlayers().get(0).getTileId());
+    String path = tempDir.resolve("session.bin").toString();
+
+    host.saveCheckpoint(id, path);
+    long resumed = host.resumeSession(path);
+
+    int resumedPosition = host.execute(resumed, c -> c.getPlayers().get(0).getTileId());
+    assertEquals(position, resumedPosition, "Resumed session should continue from the saved position");
+    assertEquals(1, host.execute(resumed, GameController::getCurrentPlayerIndex),
+        "Resumed session should keep the turn");
+  }
+
+  // NEGATIVE TESTS
+
+  @Test
+  void executeShouldThrowForUnknownSession() {
+    assertThrows(IllegalArgumentException.class, () -> host.rollDiceAndMove(42),
+        "Unknown session ids should be rejected");
+  }
+
+  @Test
+  void movePlayerInDirectionShouldRejectLadderSession() {
+    long id = host.createLadderSession(board, players);
+
+    assertThrows(IllegalArgumentException.class, () -> host.movePlayerInDirection(id, "UP"),
+        "Ladder sessions have no directional movement");
+  }
+
+  @Test
+  void retireSessionShouldReturnFalseForUnknownSession() {
+    assertFalse(host.retireSession(42), "Retiring an unknown session should return false");
+  }
+
+  @Test
+  void submitAfterCloseShouldCompleteExceptionally() {
+    long id = host.createLadderSession(board, players);
+    host.close();
+
+    CompletableFuture<Integer> result = host.submit(id, GameController::getCurrentPlayerIndex);
+
+    CompletionException e = assertThrows(CompletionException.class, result::join);
+    assertTrue(e.getCause() instanceof IllegalStateException, "Closed host should fail the command");
+  }
+
+  @Test
+  void createSessionShouldRejectEmptyPlayerList() {
+    assertThrows(IllegalArgumentException.class,
+        () -> host.createLadderSession(board, new ArrayList<>()),
+        "A session without players should be rejected");
+  }
+
+  @Test
+  void constructorShouldRejectZeroShards() {
+    assertThrows(IllegalArgumentException.class, () -> new GameSessionHost(0),
+        "Zero shards should be rejected");
+  }
+}
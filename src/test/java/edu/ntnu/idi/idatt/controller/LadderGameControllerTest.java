@@ -8,6 +8,7 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.junit.jupiter.api.Assertions.fail;
 import org.junit.jupiter.api.BeforeEach;
@@ -15,6 +16,7 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.ValueSource;
 
+import edu.ntnu.idi.idatt.model.GameStateSnapshot;
 import edu.ntnu.idi.idatt.model.LadderBoard;
 import edu.ntnu.idi.idatt.model.Player;
 
@@ -156,8 +158,115 @@ class LadderGameControllerTest {
     }
   }
 
+  @Test
+  void winningMoveShouldSendGameWonEventOnce() {
+    List<Object> winners = new ArrayList<>();
+    controller.registerObserver(event -> winners.add(event.getData()), "GAME_WON");
+
+    new AutoPlayer(controller).runTurns(100_000);
+
+    assertEquals(1, winners.size(), "A won game should be reported once");
+    assertSame(controller.getCurrentPlayer(), winners.get(0), "The winner should be sent with the event");
+  }
+
+  @Test
+  void setupGameShouldPublishSnapshot() {
+    GameStateSnapshot snapshot = controller.getSnapshot();
+
+    assertEquals(2, snapshot.getPlayerCount(), "Snapshot should contain both players");
+    assertEquals(1, snapshot.getTileId(0), "Players should start on tile 1");
+    assertEquals(0, snapshot.getCurrentPlayerIndex(), "First player should be current");
+  }
+
+  @Test
+  void rollDiceAndMoveShouldPublishNewerSnapshot() {
+    GameStateSnapshot before = controller.getSnapshot();
+
+    controller.rollDiceAndMove();
+    GameStateSnapshot after = controller.getSnapshot();
+
+    assertTrue(after.getVersion() > before.getVersion(), "A newer snapshot should be published");
+    assertEquals(player1.getTileId(), after.getTileId(0), "Snapshot should hold the new position");
+    assertEquals(1, before.getTileId(0), "Older snapshot should be unchanged");
+  }
+
+  @Test
+  void undoLastMoveShouldRestorePositionAndTurn() {
+    controller.rollDiceAndMove();
+    assertEquals(1, controller.getCurrentPlayerIndex(), "Turn should pass after a roll");
+
+    assertTrue(controller.undoLastMove(), "The roll should be undoable");
+
+    assertEquals(1, player1.getTileId(), "Player should be back on the first tile");
+    assertEquals(0, controller.getCurrentPlayerIndex(), "Turn should be given back");
+    assertEquals(1, controller.getSnapshot().getTileId(0), "Snapshot should show the undone state");
+  }
+
+  @Test
+  void redoMoveShouldReapplyUndoneMove() {
+    controller.rollDiceAndMove();
+    int position = player1.getTileId();
+    controller.undoLastMove();
+
+    assertTrue(controller.redoMove(), "The undone roll should be redoable");
+
+    assertEquals(position, player1.getTileId(), "Player should be back on the rolled tile");
+    assertEquals(1, controller.getCurrentPlayerIndex(), "Turn should pass again");
+  }
+
+  @Test
+  void turnHistoryShouldRecordRoll() {
+    int roll = controller.rollDiceAndMove();
+
+    assertEquals(1, controller.getTurnHistory().size(), "One move should be recorded");
+    assertEquals(roll, controller.getTurnHistory().getRoll(0), "The roll should be recorded");
+    assertEquals(player1.getTileId(), controller.getTurnHistory().getResolved(0),
+        "The final tile should be recorded");
+  }
+
+  @Test
+  void removingCurrentLastPlayerShouldKeepSnapshotReadable() {
+    controller.rollDiceAndMove();
+
+    controller.removePlayer(player2);
+
+    GameStateSnapshot snapshot = controller.getSnapshot();
+    assertEquals(1, snapshot.getPlayerCount(), "Snapshot should hold the remaining player");
+    assertEquals("Player1", snapshot.getCurrentPlayerName(), "Turn should wrap to the remaining player");
+  }
+
+  @Test
+  void boardConstructorShouldPlayOnGivenBoard() {
+    LadderBoard board = new LadderBoard(5, 4);
+
+    LadderGameController boardController = new LadderGameController(board);
+
+    assertSame(board, boardController.getLadderBoard(), "Controller should use the given board");
+  }
+
   // NEGATIVE TESTS
 
+  @Test
+  void boardConstructorShouldRejectNullBoard() {
+    assertThrows(IllegalArgumentException.class, () -> new LadderGameController(null),
+        "A null board should be rejected");
+  }
+
+  @Test
+  void undoLastMoveShouldReturnFalseWithoutMoves() {
+    assertFalse(controller.undoLastMove(), "Nothing should be undoable before the first roll");
+    assertFalse(controller.redoMove(), "Nothing should be redoable before the first undo");
+  }
+
+  @Test
+  void resetGameShouldClearTurnHistory() {
+    controller.rollDiceAndMove();
+
+    controller.resetGame();
+
+    assertFalse(controller.undoLastMove(), "Moves before a reset should not be undoable");
+  }
+
   @Test
   void checkVictoryShouldReturnFalseWhenPlayerNotAtLastTile() {
     // Place player not at last tile
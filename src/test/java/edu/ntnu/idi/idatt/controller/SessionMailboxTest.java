@@ -0,0 +1,168 @@
+package edu.ntnu.idi.idatt.controller;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+
+import org.junit.jupiter.api.AfterEach;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class SessionMailboxTest {
+
+  private ExecutorService executor;
+  private SessionMailbox mailbox;
+
+  @BeforeEach
+  void setUp() {
+    executor = Executors.newVirtualThreadPerTaskExecutor();
+    mailbox = new SessionMailbox(executor);
+  }
+
+  @AfterEach
+  void tearDown() {
+    executor.shutdownNow();
+  }
+
+  // POSITIVE TESTS
+
+  @Test
+  void submitShouldCompleteWithCommandResult() {
+    assertEquals(42, mailbox.submit(() -> 42).join(), "Future should hold the command result");
+  }
+
+  @Test
+  void commandsShouldRunInSubmissionOrder() {
+    List<Integer> order = new ArrayList<>();
+    CompletableFuture<?> last = null;
+    for (int i = 0; i < 500; i++) {
+      int value = i;
+      last = mailbox.submit(() -> order.add(value));
+    }
+    last.join();
+
+    for (int i = 0; i < 500; i++) {
+      assertEquals(i, order.get(i), "Commands should run in the order they were submitted");
+    }
+  }
+
+  @Test
+  void commandsFromManyThreadsShouldBeSerialized() throws InterruptedException {
+    int[] counter = new int[1];
+    int threads = 8;
+    int perThread = 2_000;
+    List<CompletableFuture<?>> futures = new ArrayList<>();
+    List<Thread> submitters = new ArrayList<>();
+
+    for (int t = 0; t < threads; t++) {
+      Thread submitter = new Thread(() -> {
+        for (int i = 0; i < perThread; i++) {
+          CompletableFuture<?> future = mailbox.submit(() -> counter[0]++);
+          synchronized (futures) {
+            futures.add(future);
+          }
+        }
+      });
+      submitters.add(submitter);
+      submitter.start();
+    }
+    for (Thread submitter : submitters) {
+      submitter.join();
+    }
+    CompletableFuture.allOf(futures.toArray(new CompletableFuture<?>[0])).join();
+
+    assertEquals(threads * perThread, counter[0], "No increment should be lost");
+    assertEquals(0, mailbox.getPendingCount(), "Mailbox should be empty");
+  }
+
+  // NEGATIVE TESTS
+
+  @Test
+  void failingCommandShouldCompleteExceptionallyAndNotBlockLaterCommands() {
+    CompletableFuture<Object> failed = mailbox.submit(() -> {
+      throw new IllegalStateException("boom");
+    });
+    CompletableFuture<String> next = mailbox.submit(() -> "still running");
+
+    CompletionException e = assertThrows(CompletionException.class, failed::join);
+    assertTrue(e.getCause() instanceof IllegalStateException, "Cause should be the command's exception");
+    assertEquals("still running", next.join(), "Later commands should still run");
+  }
+
+  @Test
+  void submitAfterExecutorShutdownShouldCompleteExceptionally() {
+    executor.shutdown();
+
+    CompletableFuture<Integer> result = mailbox.submit(() -> 42);
+
+    CompletionException e = assertThrows(CompletionException.class, result::join);
+    assertTrue(e.getCause() instanceof IllegalStateException, "Closed mailbox should fail the command");
+  }
+
+  @Test
+  void queuedCommandsShouldStillRunAfterExecutorShutdown() {
+    CountDownLatch release = new CountDownLatch(1);
+    mailbox.submit(() -> {
+      try {
+        release.await();
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+      }
+      return null;
+    });
+    List<CompletableFuture<Integer>> queued = new ArrayList<>();
+    for (int i = 0; i < 200; i++) {
+      int value = i;
+      queued.add(mailbox.submit(() -> value));
+    }
+
+    executor.shutdown();
+    release.countDown();
+
+    for (int i = 0; i < queued.size(); i++) {
+      assertEquals(i, queued.get(i).join(), "Commands queued before shutdown should run");
+    }
+  }
+
+  @Test
+  void commandsAcceptedBeforeRejectionShouldRunAndLaterOnesShouldFail() {
+    List<Runnable> captured = new ArrayList<>();
+    boolean[] rejecting = {false};
+    SessionMailbox manual = new SessionMailbox(task -> {
+      if (rejecting[0]) {
+        throw new RejectedExecutionException("closed");
+      }
+      captured.add(task);
+    });
+    List<CompletableFuture<Integer>> nested = new ArrayList<>();
+    CompletableFuture<Integer> first = manual.submit(() -> {
+      nested.add(manual.submit(() -> 2));
+      return 1;
+    });
+
+    rejecting[0] = true;
+    captured.get(0).run();
+
+    assertEquals(1, first.join(), "The drained command should run");
+    assertEquals(2, nested.get(0).join(), "A command accepted before the rejection should not fail");
+
+    CompletableFuture<Integer> late = manual.submit(() -> 3);
+    CompletionException e = assertThrows(CompletionException.class, late::join);
+    assertTrue(e.getCause() instanceof IllegalStateException, "Closed mailbox should fail new commands");
+    assertEquals(0, manual.getPendingCount(), "Failed commands should not stay queued");
+  }
+
+  @Test
+  void constructorShouldRejectNullExecutor() {
+    assertThrows(IllegalArgumentException.class, () -> new SessionMailbox(null),
+        "Null executor should be rejected");
+  }
+}
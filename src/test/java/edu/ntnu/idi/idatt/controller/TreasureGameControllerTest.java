@@ -13,6 +13,7 @@ import static org.junit.jupiter.api.Assertions.fail;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import edu.ntnu.idi.idatt.model.GameStateSnapshot;
 import edu.ntnu.idi.idatt.model.Player;
 import edu.ntnu.idi.idatt.model.TreasureBoard;
 import edu.ntnu.idi.idatt.model.TreasureBoardConfig;
@@ -114,6 +115,15 @@ class TreasureGameControllerTest {
         assertSame(player1, controller.getCurrentPlayer(), "First player should be current after wrapping around");
     }
 
+    @Test
+    void switchToNextPlayerShouldKeepCurrentPlayerIndexInSync() {
+        controller.switchToNextPlayer();
+
+        assertEquals(1, controller.getCurrentPlayerIndex(), "Index should follow the current player");
+        assertSame(controller.getPlayers().get(controller.getCurrentPlayerIndex()), controller.getCurrentPlayer(),
+                "Current player should match the player at the current index");
+    }
+
     @Test
     void setupGameShouldInitializePlayersAtStartPosition() {
         // Create new players
@@ -229,6 +239,41 @@ class TreasureGameControllerTest {
         assertEquals(config.findStartPosition(), player2.getTileId(), "Player 2 should be at start position");
     }
 
+    @Test
+    void snapshotShouldTrackMoveCounterAndSteps() {
+        player1.setTileId(95);
+        int roll = controller.rollDiceAndMove();
+        assertEquals(roll, controller.getSnapshot().getMoveCounter(), "Snapshot should hold the roll");
+
+        assertTrue(controller.movePlayerInDirection("UP"), "Moving up from the start should work");
+        GameStateSnapshot snapshot = controller.getSnapshot();
+        assertEquals(85, snapshot.getTileId(0), "Snapshot should hold the new position");
+        if (roll > 1) {
+            assertEquals(roll - 1, snapshot.getMoveCounter(), "Snapshot should hold the moves left");
+        }
+    }
+
+    @Test
+    void undoLastMoveShouldRestoreStepAndMoveCounter() {
+        player1.setTileId(95);
+        int roll = controller.rollDiceAndMove();
+        controller.movePlayerInDirection("UP");
+
+        assertTrue(controller.undoLastMove(), "The step should be undoable");
+        assertEquals(95, player1.getTileId(), "Player should be back where the step started");
+        assertEquals(roll, controller.getMoveCounter(), "Move counter should be restored");
+        assertEquals(0, controller.getCurrentPlayerIndex(), "Turn should be given back");
+        assertTrue(controller.isMoving(), "Player should still be moving");
+
+        assertTrue(controller.undoLastMove(), "The roll should be undoable");
+        assertEquals(0, controller.getMoveCounter(), "Move counter should be cleared");
+        assertFalse(controller.isMoving(), "Player should no longer be moving");
+
+        assertTrue(controller.redoMove(), "The roll should be redoable");
+        assertTrue(controller.redoMove(), "The step should be redoable");
+        assertEquals(85, player1.getTileId(), "Player should be back on the stepped tile");
+    }
+
     // NEGATIVE TESTS
 
     @Test
@@ -0,0 +1,134 @@
+package edu.ntnu.idi.idatt.factory;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import edu.ntnu.idi.idatt.controller.BoardManager;
+import edu.ntnu.idi.idatt.model.BoardConfig;
+import edu.ntnu.idi.idatt.model.LadderBoard;
+import edu.ntnu.idi.idatt.persistence.JsonHandler;
+
+class BoardCacheTest {
+
+  private static final String BOARD_NAME = "board-cache-test";
+  private static final String OTHER_BOARD_NAME = "board-cache-test-other";
+
+  @TempDir
+  Path tempDir;
+
+  private BoardCache cache;
+  private Path boardPath;
+  private Path otherBoardPath;
+
+  @BeforeEach
+  void setUp() throws Exception {
+    BoardManager.setBoardsDirectory(tempDir);
+    cache = new BoardCache(1);
+    boardPath = BoardManager.getBoardsDirectory().resolve(BOARD_NAME + ".json");
+    otherBoardPath = BoardManager.getBoardsDirectory().resolve(OTHER_BOARD_NAME + ".json");
+    writeBoard(boardPath, 3, 22);
+    writeBoard(otherBoardPath, 4, 30);
+  }
+
+  @AfterEach
+  void tearDown() throws Exception {
+    cache.close();
+    BoardManager.setBoardsDirectory(null);
+  }
+
+  private static void writeBoard(Path path, int ladderStart, int ladderEnd) throws Exception {
+    BoardConfig config = new BoardConfig("Cache Test", "Board used by the cache tests", 10, 9);
+    config.addLadder(ladderStart, ladderEnd);
+    JsonHandler.writeToJson(config, path.toString());
+  }
+
+  // POSITIVE TESTS
+
+  @Test
+  void getBoardShouldReturnCachedInstance() throws Exception {
+    LadderBoard first = cache.getBoard(BOARD_NAME);
+    LadderBoard second = cache.getBoard(BOARD_NAME);
+
+    assertSame(first, second, "The same compiled board should be returned");
+    assertEquals(1, cache.getHits(), "Second lookup should be a hit");
+    assertEquals(1, cache.getMisses(), "First lookup should be a miss");
+  }
+
+  @Test
+  void changedFileShouldRebuildBoard() throws Exception {
+    LadderBoard first = cache.getBoard(BOARD_NAME);
+    writeBoard(boardPath, 5, 40);
+    Files.setLastModifiedTime(boardPath, FileTime.fromMillis(System.currentTimeMillis() + 10_000));
+
+    LadderBoard second = cache.getBoard(BOARD_NAME);
+
+    assertNotSame(first, second, "A changed file should be parsed again");
+    assertTrue(second.getTile(5).hasLadder(), "The new board should have the new ladder");
+  }
+
+  @Test
+  void fullCacheShouldEvictLeastRecentlyUsedBoard() throws Exception {
+    LadderBoard first = cache.getBoard(BOARD_NAME);
+    cache.getBoard(OTHER_BOARD_NAME);
+
+    assertEquals(1, cache.size(), "Cache should not grow past its capacity");
+    assertNotSame(first, cache.getBoard(BOARD_NAME), "Evicted board should be rebuilt");
+  }
+
+  @Test
+  void invalidateShouldDropBoard() throws Exception {
+    LadderBoard first = cache.getBoard(BOARD_NAME);
+
+    cache.invalidate(BOARD_NAME);
+
+    assertNotSame(first, cache.getBoard(BOARD_NAME), "Invalidated board should be rebuilt");
+  }
+
+  @Test
+  void watcherShouldInvalidateChangedBoard() throws Exception {
+    cache.watch(BoardManager.getBoardsDirectory());
+    cache.getBoard(BOARD_NAME);
+
+    writeBoard(boardPath, 6, 50);
+
+    long deadline = System.currentTimeMillis() + 10_000;
+    while (cache.size() > 0 && System.currentTimeMillis() < deadline) {
+      Thread.sleep(20);
+    }
+    assertEquals(0, cache.size(), "The watcher should drop the changed board");
+    assertTrue(cache.getBoard(BOARD_NAME).getTile(6).hasLadder(), "The new board should be loaded");
+  }
+
+  // NEGATIVE TESTS
+
+  @Test
+  void constructorShouldRejectZeroCapacity() {
+    assertThrows(IllegalArgumentException.class, () -> new BoardCache(0),
+        "Zero capacity should be rejected");
+  }
+
+  @Test
+  void getBoardShouldRejectUnknownBoard() {
+    assertThrows(IllegalArgumentException.class, () -> cache.getBoard("no-such-board-anywhere"),
+        "Unknown boards without a file should be rejected");
+  }
+
+  @Test
+  void watchShouldRejectSecondDirectory() throws Exception {
+    cache.watch(BoardManager.getBoardsDirectory());
+
+    assertThrows(IllegalStateException.class, () -> cache.watch(BoardManager.getBoardsDirectory()),
+        "Only one directory can be watched");
+  }
+}
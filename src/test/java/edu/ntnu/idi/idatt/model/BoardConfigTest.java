@@ -8,6 +8,7 @@ import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -188,7 +189,7 @@ public class BoardConfigTest {
   }
 
   @Test
-  void listModificationShouldReflectInGetters() {
+  void setterShouldCopyList() {
     // Arrange
     List<Integer> snakeHeads = new ArrayList<>();
     snakeHeads.add(25);
@@ -199,10 +200,63 @@ public class BoardConfigTest {
     snakeHeads.add(40);
 
     // Assert
-    assertEquals(2, config.getSnakeHeads().size(),
-        "Changes to original list should be reflected when using ArrayList");
-    assertEquals(40, config.getSnakeHeads().get(1),
-        "Second snake head should be 40 after external modification");
+    assertEquals(1, config.getSnakeHeads().size(),
+        "Changes to the original list should not reach the primitive storage");
+    assertEquals(25, config.getSnakeHeads().get(0), "Copied snake head should be 25");
+  }
+
+  @Test
+  void getterListModificationShouldReflectInConfig() {
+    // Act
+    config.getSnakeHeads().add(40);
+    config.getSnakeTails().add(20);
+
+    // Assert
+    assertEquals(1, config.getSnakeCount(), "Lists returned by getters should be live views");
+    assertEquals(40, config.getSnakeHead(0), "Snake head should be 40");
+    assertEquals(20, config.getSnakeTail(0), "Snake tail should be 20");
+  }
+
+  @Test
+  void primitiveAccessorsShouldMatchListGetters() {
+    // Act
+    config.addSnake(25, 10);
+    config.addLadder(5, 15);
+    config.addWormhole(33);
+
+    // Assert
+    assertEquals(1, config.getSnakeCount(), "Should have 1 snake");
+    assertEquals(25, config.getSnakeHead(0), "Snake head should be 25");
+    assertEquals(10, config.getSnakeTail(0), "Snake tail should be 10");
+    assertEquals(1, config.getLadderCount(), "Should have 1 ladder");
+    assertEquals(5, config.getLadderStart(0), "Ladder start should be 5");
+    assertEquals(15, config.getLadderEnd(0), "Ladder end should be 15");
+    assertEquals(1, config.getWormholeCount(), "Should have 1 wormhole");
+    assertEquals(33, config.getWormholeStart(0), "Wormhole should be 33");
+  }
+
+  @Test
+  void bulkSettersShouldReplacePairs() {
+    // Act
+    config.setSnakes(new int[] { 30, 40 }, new int[] { 3, 4 });
+    config.setLadders(new int[] { 5 }, new int[] { 50 });
+    config.setWormholes(new int[] { 7, 8, 9 });
+
+    // Assert
+    assertEquals(Arrays.asList(30, 40), config.getSnakeHeads(), "Snake heads should be replaced");
+    assertEquals(Arrays.asList(3, 4), config.getSnakeTails(), "Snake tails should be replaced");
+    assertEquals(50, config.getLadderEnd(0), "Ladder should be replaced");
+    assertEquals(3, config.getWormholeCount(), "Wormholes should be replaced");
+  }
+
+  @Test
+  void bulkSettersShouldRejectUnpairedArrays() {
+    assertThrows(IllegalArgumentException.class,
+        () -> config.setSnakes(new int[] { 30, 40 }, new int[] { 3 }),
+        "Snakes without tails should be rejected");
+    assertThrows(IllegalArgumentException.class,
+        () -> config.setLadders(new int[] { 5 }, new int[0]),
+        "Ladders without ends should be rejected");
   }
 
   @ParameterizedTest
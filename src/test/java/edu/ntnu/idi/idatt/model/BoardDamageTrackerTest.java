@@ -0,0 +1,109 @@
+package edu.ntnu.idi.idatt.model;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class BoardDamageTrackerTest {
+
+  private BoardDamageTracker tracker;
+  private Player player1;
+  private Player player2;
+
+  @BeforeEach
+  void setUp() {
+    tracker = new BoardDamageTracker(100);
+    player1 = new Player("Player1", "#FF0000", 1);
+    player2 = new Player("Player2", "#0000FF", 1);
+    tracker.update(GameStateSnapshot.of(1, List.of(player1, player2), 0, 0));
+    tracker.clear();
+  }
+
+  // POSITIVE TESTS
+
+  @Test
+  void newTrackerShouldNeedFullRepaint() {
+    BoardDamageTracker fresh = new BoardDamageTracker(10);
+
+    assertTrue(fresh.isFullRepaint());
+    assertTrue(fresh.hasDamage());
+    assertTrue(fresh.isDamaged(5));
+  }
+
+  @Test
+  void shouldMarkOldAndNewTileOfMovedPiece() {
+    player1.setTileId(7);
+
+    assertTrue(tracker.update(GameStateSnapshot.of(2, List.of(player1, player2), 1, 0)));
+
+    assertEquals(List.of(1, 7), tracker.getDamagedTiles());
+    assertTrue(tracker.isDamaged(7));
+    assertFalse(tracker.isDamaged(2));
+  }
+
+  @Test
+  void shouldMarkEachTileOnce() {
+    player1.setTileId(7);
+    player2.setTileId(7);
+
+    tracker.update(GameStateSnapshot.of(2, List.of(player1, player2), 0, 0));
+
+    assertEquals(List.of(1, 7), tracker.getDamagedTiles());
+  }
+
+  @Test
+  void sameVersionShouldNotBeCompared() {
+    player1.setTileId(9);
+
+    assertFalse(tracker.update(GameStateSnapshot.of(1, List.of(player1, player2), 0, 0)));
+    assertFalse(tracker.hasDamage());
+  }
+
+  @Test
+  void shouldMarkTilesOfPlayersWhoLeft() {
+    player2.setTileId(4);
+    tracker.update(GameStateSnapshot.of(2, List.of(player1, player2), 0, 0));
+    tracker.clear();
+
+    tracker.update(GameStateSnapshot.of(3, List.of(player1), 0, 0));
+
+    assertEquals(List.of(4), tracker.getDamagedTiles());
+  }
+
+  @Test
+  void clearShouldForgetDamage() {
+    tracker.markTile(3);
+    tracker.markAll();
+
+    tracker.clear();
+
+    assertFalse(tracker.hasDamage());
+    assertFalse(tracker.isDamaged(3));
+    assertTrue(tracker.getDamagedTiles().isEmpty());
+  }
+
+  // NEGATIVE TESTS
+
+  @Test
+  void shouldIgnoreTilesOffTheBoard() {
+    tracker.markTile(0);
+    tracker.markTile(101);
+
+    assertFalse(tracker.hasDamage());
+  }
+
+  @Test
+  void constructorShouldRejectEmptyBoard() {
+    assertThrows(IllegalArgumentException.class, () -> new BoardDamageTracker(0));
+  }
+
+  @Test
+  void updateShouldRejectNullSnapshot() {
+    assertThrows(IllegalArgumentException.class, () -> tracker.update(null));
+  }
+}
@@ -0,0 +1,69 @@
+package edu.ntnu.idi.idatt.model;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import org.junit.jupiter.api.Test;
+
+public class GameStateSnapshotTest {
+
+  // POSITIVE TESTS
+
+  @Test
+  void ofShouldCapturePlayerState() {
+    List<Player> players = new ArrayList<>();
+    players.add(new Player("Alice", "#FF0000", 4));
+    players.add(new Player("Bob", "#0000FF", 9));
+
+    GameStateSnapshot snapshot = GameStateSnapshot.of(3, players, 1, 2);
+
+    assertEquals(3, snapshot.getVersion(), "Version should be kept");
+    assertEquals(2, snapshot.getPlayerCount(), "Snapshot should hold both players");
+    assertEquals("Alice", snapshot.getPlayerName(0), "First name should match");
+    assertEquals("#0000FF", snapshot.getPieceType(1), "Piece type should match");
+    assertEquals(9, snapshot.getTileId(1), "Tile id should match");
+    assertEquals(1, snapshot.getCurrentPlayerIndex(), "Current player index should match");
+    assertEquals("Bob", snapshot.getCurrentPlayerName(), "Current player name should match");
+    assertEquals(2, snapshot.getMoveCounter(), "Move counter should match");
+  }
+
+  @Test
+  void snapshotShouldNotChangeWhenPlayersMove() {
+    List<Player> players = new ArrayList<>();
+    Player alice = new Player("Alice", "#FF0000", 4);
+    players.add(alice);
+
+    GameStateSnapshot snapshot = GameStateSnapshot.of(1, players, 0, 0);
+    alice.setTileId(50);
+    players.add(new Player("Bob", "#0000FF", 1));
+
+    assertEquals(4, snapshot.getTileId(0), "Snapshot should keep the old position");
+    assertEquals(1, snapshot.getPlayerCount(), "Snapshot should keep the old player list");
+  }
+
+  // NEGATIVE TESTS
+
+  @Test
+  void emptySnapshotShouldHaveNoCurrentPlayer() {
+    GameStateSnapshot snapshot = GameStateSnapshot.of(1, new ArrayList<>(), 0, 0);
+
+    assertEquals(-1, snapshot.getCurrentPlayerIndex(), "No players means no current player");
+    assertNull(snapshot.getCurrentPlayerName(), "No players means no current player name");
+    assertEquals(0, GameStateSnapshot.EMPTY.getPlayerCount(), "EMPTY should have no players");
+  }
+
+  @Test
+  void currentPlayerPastLastPlayerShouldWrapAround() {
+    List<Player> players = new ArrayList<>();
+    players.add(new Player("Alice", "#FF0000", 1));
+    players.add(new Player("Bob", "#0000FF", 1));
+
+    // Index 2 is what a game is left with when its last player is removed
+    GameStateSnapshot snapshot = GameStateSnapshot.of(1, players, 2, 0);
+
+    assertEquals(0, snapshot.getCurrentPlayerIndex(), "Turn should wrap to the first player");
+    assertEquals("Alice", snapshot.getCurrentPlayerName(), "Current player name should not overflow");
+  }
+}
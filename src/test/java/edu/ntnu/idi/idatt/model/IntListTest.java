@@ -0,0 +1,94 @@
+package edu.ntnu.idi.idatt.model;
+
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class IntListTest {
+
+  private IntList list;
+
+  @BeforeEach
+  void setUp() {
+    list = new IntList();
+  }
+
+  // POSITIVE TESTS
+
+  @Test
+  void addIntShouldGrowList() {
+    for (int i = 0; i < 1000; i++) {
+      list.addInt(i);
+    }
+
+    assertEquals(1000, list.size(), "All values should be added");
+    assertEquals(999, list.getInt(999), "Last value should be kept");
+  }
+
+  @Test
+  void listShouldBehaveLikeListOfIntegers() {
+    list.add(1);
+    list.add(3);
+    list.add(1, 2);
+
+    assertEquals(List.of(1, 2, 3), list, "List should equal a list with the same values");
+    assertEquals(2, list.remove(1), "Removed value should be returned");
+    assertEquals(List.of(1, 3), list, "Remaining values should shift");
+    assertEquals(1, list.set(0, 5), "Replaced value should be returned");
+    assertTrue(list.contains(5), "Set value should be found");
+  }
+
+  @Test
+  void copyConstructorShouldCopyValues() {
+    List<Integer> source = Arrays.asList(4, 5, 6);
+
+    IntList copy = new IntList(source);
+
+    assertEquals(source, copy, "Copy should hold the same values");
+  }
+
+  @Test
+  void wrapShouldUseArrayAndToIntArrayShouldCopy() {
+    int[] values = { 7, 8 };
+
+    IntList wrapped = IntList.wrap(values);
+    int[] copy = wrapped.toIntArray();
+    copy[0] = 0;
+
+    assertEquals(7, wrapped.getInt(0), "Changing the copy should not change the list");
+    assertArrayEquals(new int[] { 7, 8 }, wrapped.toIntArray(), "Array should hold the values");
+  }
+
+  @Test
+  void clearShouldEmptyList() {
+    list.addInt(1);
+
+    list.clear();
+
+    assertTrue(list.isEmpty(), "List should be empty");
+  }
+
+  // NEGATIVE TESTS
+
+  @Test
+  void getIntShouldRejectIndexOutOfRange() {
+    list.addInt(1);
+
+    assertThrows(IndexOutOfBoundsException.class, () -> list.getInt(1),
+        "Index past the end should be rejected");
+    assertThrows(IndexOutOfBoundsException.class, () -> list.getInt(-1),
+        "Negative index should be rejected");
+  }
+
+  @Test
+  void addAtIndexShouldRejectIndexOutOfRange() {
+    assertThrows(IndexOutOfBoundsException.class, () -> list.add(1, 5),
+        "Index past the end should be rejected");
+  }
+}
@@ -121,4 +121,13 @@ public class LadderBoardTest {
     assertEquals(400, largeBoard.getTile(400).getNumber(),
         "Last tile should have correct number");
   }
+
+  @Test
+  void tilesShouldBeStoredInNumberOrder() {
+    LadderBoard board = new LadderBoard(4, 5);
+    for (int i = 0; i < board.getNumberOfTiles(); i++) {
+      assertEquals(i + 1, board.getTiles().get(i).getNumber(),
+          "Tile at index " + i + " should have number " + (i + 1));
+    }
+  }
 }
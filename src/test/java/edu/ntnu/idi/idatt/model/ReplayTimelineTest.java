@@ -0,0 +1,98 @@
+package edu.ntnu.idi.idatt.model;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class ReplayTimelineTest {
+
+  private Player player1;
+  private Player player2;
+  private ReplayTimeline timeline;
+
+  @BeforeEach
+  void setUp() {
+    player1 = new Player("Player1", "#FF0000", 1);
+    player2 = new Player("Player2", "#0000FF", 1);
+    timeline = ReplayTimeline.startingAt(GameStateSnapshot.of(1, List.of(player1, player2), 0, 0), 4);
+  }
+
+  // POSITIVE TESTS
+
+  @Test
+  void firstFrameShouldBeInitialState() {
+    GameStateSnapshot frame = timeline.getFrame(0);
+
+    assertEquals(1, timeline.getFrameCount());
+    assertEquals("Player1", frame.getPlayerName(0));
+    assertEquals("#0000FF", frame.getPieceType(1));
+    assertEquals(1, frame.getTileId(0));
+    assertEquals(0, frame.getCurrentPlayerIndex());
+    assertEquals(2, timeline.getChangeCount(0), "Every piece should be a change in the first frame");
+  }
+
+  @Test
+  void shouldRebuildEveryFrameAcrossKeyframes() {
+    // Player 1 moves one tile per frame, player 2 every other frame
+    for (int turn = 1; turn <= 20; turn++) {
+      int[] tiles = {1 + turn, 1 + turn / 2};
+      timeline.append(tiles, turn % 2, turn);
+    }
+
+    for (int frame = 0; frame <= 20; frame++) {
+      GameStateSnapshot snapshot = timeline.getFrame(frame);
+      assertEquals(1 + frame, snapshot.getTileId(0), "Player 1 at frame " + frame);
+      assertEquals(1 + frame / 2, snapshot.getTileId(1), "Player 2 at frame " + frame);
+      assertEquals(frame % 2, snapshot.getCurrentPlayerIndex());
+      assertEquals(frame + 1, snapshot.getVersion());
+    }
+  }
+
+  @Test
+  void shouldStoreOnlyChangedPieces() {
+    player1.setTileId(5);
+    timeline.append(GameStateSnapshot.of(2, List.of(player1, player2), 1, 0));
+
+    assertEquals(1, timeline.getChangeCount(1));
+    assertEquals(0, timeline.getChangedPlayer(1, 0));
+    assertEquals(5, timeline.getChangedTile(1, 0));
+    assertEquals(1, timeline.getCurrentPlayerIndex(1));
+  }
+
+  @Test
+  void framesShouldNotChangeWhenMoreAreAppended() {
+    timeline.append(new int[] {3, 1}, 1, 0);
+    GameStateSnapshot before = timeline.getFrame(1);
+
+    timeline.append(new int[] {3, 9}, 0, 0);
+
+    assertEquals(1, before.getTileId(1));
+    assertEquals(9, timeline.getFrame(2).getTileId(1));
+  }
+
+  // NEGATIVE TESTS
+
+  @Test
+  void getFrameShouldRejectMissingFrame() {
+    assertThrows(IllegalArgumentException.class, () -> timeline.getFrame(1));
+    assertThrows(IllegalArgumentException.class, () -> timeline.getFrame(-1));
+  }
+
+  @Test
+  void appendShouldRejectWrongPlayerCount() {
+    assertThrows(IllegalArgumentException.class, () -> timeline.append(new int[] {1}, 0, 0));
+    assertThrows(IllegalArgumentException.class,
+        () -> timeline.append(GameStateSnapshot.of(2, List.of(player1), 0, 0)));
+  }
+
+  @Test
+  void constructorShouldRejectInvalidArguments() {
+    assertThrows(IllegalArgumentException.class,
+        () -> new ReplayTimeline(new String[] {"A"}, new String[0], 4));
+    assertThrows(IllegalArgumentException.class,
+        () -> new ReplayTimeline(new String[0], new String[0], 0));
+  }
+}
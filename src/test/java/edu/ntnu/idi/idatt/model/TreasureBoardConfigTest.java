@@ -1,9 +1,11 @@
 package edu.ntnu.idi.idatt.model;
 
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -197,4 +199,25 @@ public class TreasureBoardConfigTest {
     }
     assertTrue(containsType, "Standard layout should contain tile type " + tileType);
   }
+
+  @Test
+  void customLayoutShouldUseItsOwnDimensions() {
+    byte[] layout = { 3, 1, 0, 0, 1, 2 };
+    TreasureBoardConfig custom = new TreasureBoardConfig(2, 3, layout);
+
+    assertEquals(2, custom.ROWS);
+    assertEquals(3, custom.COLUMNS);
+    assertEquals(6, custom.getTileCount());
+    assertEquals(1, custom.findStartPosition());
+    assertEquals(2, custom.getTileType(6));
+    assertEquals(0, custom.getTileType(7), "Tiles past the board should be void");
+    assertArrayEquals(new int[] { 1, 2 }, custom.getCoordinates(6));
+    assertEquals(-1, custom.getTileId(2, 0));
+  }
+
+  @Test
+  void customLayoutShouldRejectWrongSize() {
+    assertThrows(IllegalArgumentException.class, () -> new TreasureBoardConfig(2, 3, new byte[5]));
+    assertThrows(IllegalArgumentException.class, () -> new TreasureBoardConfig(0, 3, new byte[0]));
+  }
 }
@@ -0,0 +1,106 @@
+package edu.ntnu.idi.idatt.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class TurnHistoryTest {
+
+  private TurnHistory history;
+
+  @BeforeEach
+  void setUp() {
+    history = new TurnHistory(4);
+  }
+
+  private void recordRoll(int roll) {
+    history.record(0, roll, 1, 1 + roll, 1 + roll, TurnHistory.ACTION_NONE, 0, 1, 0, 0, 0, 0);
+  }
+
+  // POSITIVE TESTS
+
+  @Test
+  void recordShouldStoreAllFields() {
+    history.record(1, 5, 10, 15, 30, TurnHistory.ACTION_LADDER, 1, 0, 3, 2, 1, 2);
+
+    assertEquals(1, history.size(), "History should hold one entry");
+    assertEquals(1, history.getPlayerIndex(0), "Player index should be stored");
+    assertEquals(5, history.getRoll(0), "Roll should be stored");
+    assertEquals(10, history.getFrom(0), "Start tile should be stored");
+    assertEquals(15, history.getLanded(0), "Landed tile should be stored");
+    assertEquals(30, history.getResolved(0), "Resolved tile should be stored");
+    assertEquals(TurnHistory.ACTION_LADDER, history.getActionKind(0), "Action should be stored");
+    assertEquals(1, history.getIndexBefore(0), "Index before should be stored");
+    assertEquals(0, history.getIndexAfter(0), "Index after should be stored");
+    assertEquals(3, history.getCounterBefore(0), "Counter before should be stored");
+    assertEquals(2, history.getCounterAfter(0), "Counter after should be stored");
+    assertEquals(1, history.getFlagsBefore(0), "Flags before should be stored");
+    assertEquals(2, history.getFlagsAfter(0), "Flags after should be stored");
+  }
+
+  @Test
+  void undoAndRedoShouldMoveCursor() {
+    recordRoll(2);
+    recordRoll(3);
+
+    assertEquals(1, history.undo(), "Latest entry should be undone first");
+    assertEquals(0, history.undo(), "Then the one before it");
+    assertEquals(-1, history.undo(), "Nothing is left to undo");
+    assertEquals(0, history.redo(), "Oldest entry should be redone first");
+    assertEquals(1, history.getRedoCount(), "One entry is left to redo");
+  }
+
+  @Test
+  void recordAfterUndoShouldDropRedoEntries() {
+    recordRoll(2);
+    recordRoll(3);
+    history.undo();
+
+    recordRoll(4);
+
+    assertEquals(2, history.size(), "Undone entry should be replaced");
+    assertEquals(4, history.getRoll(1), "Newest entry should be the new move");
+    assertEquals(0, history.getRedoCount(), "Nothing should be left to redo");
+  }
+
+  @Test
+  void fullHistoryShouldDropOldestEntry() {
+    for (int roll = 1; roll <= 6; roll++) {
+      recordRoll(roll);
+    }
+
+    assertEquals(4, history.size(), "History should never exceed its capacity");
+    assertEquals(3, history.getRoll(0), "Oldest kept entry should be the third move");
+    assertEquals(6, history.getRoll(3), "Newest entry should be the last move");
+    assertEquals(4, history.getUndoCount(), "Every kept entry should be undoable");
+  }
+
+  @Test
+  void clearShouldForgetAllEntries() {
+    recordRoll(2);
+
+    history.clear();
+
+    assertEquals(0, history.size(), "History should be empty");
+    assertEquals(-1, history.undo(), "Nothing should be undoable");
+  }
+
+  // NEGATIVE TESTS
+
+  @Test
+  void constructorShouldRejectZeroCapacity() {
+    assertThrows(IllegalArgumentException.class, () -> new TurnHistory(0),
+        "Zero capacity should be rejected");
+  }
+
+  @Test
+  void getShouldRejectMissingEntry() {
+    recordRoll(2);
+
+    assertThrows(IllegalArgumentException.class, () -> history.getRoll(1),
+        "Entries past the end should be rejected");
+    assertThrows(IllegalArgumentException.class, () -> history.getRoll(-1),
+        "Negative indices should be rejected");
+  }
+}
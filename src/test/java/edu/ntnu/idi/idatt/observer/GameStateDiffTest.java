@@ -0,0 +1,108 @@
+package edu.ntnu.idi.idatt.observer;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import edu.ntnu.idi.idatt.model.Player;
+
+class GameStateDiffTest {
+
+  private GameStateDiff diff;
+  private Player player1;
+  private Player player2;
+
+  @BeforeEach
+  void setUp() {
+    diff = new GameStateDiff();
+    player1 = new Player("Player1", "#FF0000", 1);
+    player2 = new Player("Player2", "#0000FF", 1);
+  }
+
+  private GameEvent moveEvent(Player player, int from, int to) {
+    Map<String, Object> data = new HashMap<>();
+    data.put("player", player);
+    data.put("from", from);
+    data.put("to", to);
+    return new GameEvent("PLAYER_MOVED", data);
+  }
+
+  // POSITIVE TESTS
+
+  @Test
+  void shouldKeepLatestValues() {
+    diff.add(new GameEvent("DICE_ROLLED", 3));
+    diff.add(new GameEvent("DICE_ROLLED", 5));
+    diff.add(new GameEvent("MOVE_COUNTER_UPDATED", 2));
+    diff.add(new GameEvent("MOVE_COUNTER_UPDATED", 1));
+    diff.add(new GameEvent("TURN_CHANGED", player2));
+    diff.add(new GameEvent("TURN_CHANGED", player1));
+
+    assertEquals(5, diff.getDiceValue());
+    assertEquals(1, diff.getMoveCounter());
+    assertSame(player1, diff.getCurrentPlayer());
+    assertEquals(6, diff.getEventCount());
+  }
+
+  @Test
+  void shouldMergeMovesOfEachPlayer() {
+    diff.add(moveEvent(player1, 1, 2));
+    diff.add(moveEvent(player2, 1, 4));
+    diff.add(moveEvent(player1, 2, 3));
+
+    List<GameStateDiff.Move> moves = new ArrayList<>(diff.getMoves());
+
+    assertEquals(2, moves.size());
+    assertSame(player1, moves.get(0).getPlayer());
+    assertEquals(1, moves.get(0).getFrom());
+    assertEquals(3, moves.get(0).getTo());
+    assertSame(player2, moves.get(1).getPlayer());
+    assertEquals(4, moves.get(1).getTo());
+  }
+
+  @Test
+  void shouldKeepOtherEventsInOrder() {
+    GameEvent won = new GameEvent("GAME_WON", player1);
+    GameEvent error = new GameEvent("ERROR", "Something went wrong");
+
+    diff.add(won);
+    diff.add(new GameEvent("DICE_ROLLED", 2));
+    diff.add(error);
+
+    assertEquals(List.of(won, error), diff.getOtherEvents());
+  }
+
+  @Test
+  void newDiffShouldBeEmpty() {
+    assertTrue(diff.isEmpty());
+    assertNull(diff.getDiceValue());
+    assertNull(diff.getCurrentPlayer());
+    assertTrue(diff.getMoves().isEmpty());
+  }
+
+  // NEGATIVE TESTS
+
+  @Test
+  void shouldIgnoreNullEvent() {
+    diff.add(null);
+
+    assertTrue(diff.isEmpty());
+  }
+
+  @Test
+  void shouldIgnoreMalformedMove() {
+    diff.add(new GameEvent("PLAYER_MOVED", "not a move"));
+
+    assertFalse(diff.isEmpty());
+    assertTrue(diff.getMoves().isEmpty());
+  }
+}
@@ -0,0 +1,209 @@
+package edu.ntnu.idi.idatt.persistence;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import edu.ntnu.idi.idatt.controller.TreasureGameController;
+import edu.ntnu.idi.idatt.exceptions.FileReadException;
+import edu.ntnu.idi.idatt.model.Player;
+import edu.ntnu.idi.idatt.model.ReplayTimeline;
+
+class AsyncPersistenceServiceTest {
+
+  @TempDir
+  Path tempDir;
+
+  private AsyncPersistenceService service;
+
+  @BeforeEach
+  void setUp() {
+    service = new AsyncPersistenceService(1);
+  }
+
+  @AfterEach
+  void tearDown() {
+    service.close();
+  }
+
+  // POSITIVE TESTS
+
+  @Test
+  void submitShouldRunOffCallingThread() throws Exception {
+    Thread caller = Thread.currentThread();
+
+    Thread worker = service.submit(Thread::currentThread).get(5, TimeUnit.SECONDS);
+
+    assertNotEquals(caller, worker);
+    assertTrue(worker.getName().startsWith("persistence-io"));
+    assertTrue(worker.isDaemon());
+  }
+
+  @Test
+  void saveAndLoadPlayersShouldRoundTrip() throws Exception {
+    String csv = tempDir.resolve("players.csv").toString();
+    List<Player> players = new ArrayList<>(List.of(new Player("Sindre", "#FFFFFF", 1)));
+
+    var saved = service.savePlayers(players, csv);
+    // The service saves a copy, so later changes are not written
+    players.add(new Player("Stian", "#000000", 1));
+    saved.get(5, TimeUnit.SECONDS);
+
+    List<Player> loaded = service.loadPlayers(csv).get(5, TimeUnit.SECONDS);
+    assertEquals(1, loaded.size());
+    assertEquals("Sindre", loaded.get(0).getName());
+  }
+
+  @Test
+  void saveToRosterShouldKeepPlayersAcrossServices() throws Exception {
+    String roster = tempDir.resolve("roster.log").toString();
+
+    service.saveToRoster(List.of(new Player("Sindre", "#FFFFFF", 1)), roster).get(5, TimeUnit.SECONDS);
+    service.saveToRoster(List.of(new Player("Sindre", "#FF0000", 1), new Player("Stian", "#000000", 1)),
+        roster).get(5, TimeUnit.SECONDS);
+    service.close();
+
+    service = new AsyncPersistenceService(1);
+    List<Player> loaded = service.loadRoster(roster).get(5, TimeUnit.SECONDS);
+    assertEquals(2, loaded.size());
+    assertEquals("#FF0000", loaded.get(0).getPieceType(), "A saved player should be replaced");
+    assertEquals("Stian", loaded.get(1).getName());
+  }
+
+  @Test
+  void saveAndLoadReplayShouldRoundTrip() throws Exception {
+    String path = tempDir.resolve("game.replay").toString();
+    TreasureGameController game = new TreasureGameController();
+    game.setupGame(new ArrayList<>(List.of(new Player("Sindre", "#FFFFFF", 1))));
+    ReplayTimeline recording = game.startRecording();
+    game.rollDiceAndMove();
+
+    service.saveReplay(game, recording, path).get(5, TimeUnit.SECONDS);
+    ReplayTimeline loaded = service.loadReplay(path).get(5, TimeUnit.SECONDS).getTimeline();
+
+    assertEquals(recording.getFrameCount(), loaded.getFrameCount());
+    assertEquals("Sindre", loaded.getPlayerName(0));
+  }
+
+  @Test
+  void saveFinishedGameShouldCapReplayDirectory() throws Exception {
+    Path directory = Files.createDirectory(tempDir.resolve("replays"));
+    for (int i = 0; i < ReplayHandler.MAX_SAVED_REPLAYS; i++) {
+      Path old = Files.createFile(directory.resolve("old" + i + ReplayHandler.REPLAY_EXTENSION));
+      Files.setLastModifiedTime(old, FileTime.fromMillis(1_000L * (i + 1)));
+    }
+    TreasureGameController game = new TreasureGameController();
+    game.setupGame(new ArrayList<>(List.of(new Player("Sindre", "#FFFFFF", 1))));
+    ReplayTimeline recording = game.startRecording();
+    game.rollDiceAndMove();
+
+    String saved = service.saveFinishedGame(game, recording, directory.toString()).get(5, TimeUnit.SECONDS);
+
+    assertEquals(recording.getFrameCount(), service.loadReplay(saved).get(5, TimeUnit.SECONDS)
+        .getTimeline().getFrameCount());
+    try (Stream<Path> files = Files.list(directory)) {
+      assertEquals(ReplayHandler.MAX_SAVED_REPLAYS, files.count(), "The oldest replay should be deleted");
+    }
+    assertTrue(Files.notExists(directory.resolve("old0" + ReplayHandler.REPLAY_EXTENSION)));
+  }
+
+  @Test
+  void saveFinishedGameShouldKeepGamesFinishedTogether() throws Exception {
+    Path directory = tempDir.resolve("replays");
+    TreasureGameController game = new TreasureGameController();
+    game.setupGame(new ArrayList<>(List.of(new Player("Sindre", "#FFFFFF", 1))));
+    ReplayTimeline recording = game.startRecording();
+    game.rollDiceAndMove();
+
+    CompletableFuture<String> first = service.saveFinishedGame(game, recording, directory.toString());
+    CompletableFuture<String> second = service.saveFinishedGame(game, recording, directory.toString());
+
+    assertNotEquals(first.get(5, TimeUnit.SECONDS), second.get(5, TimeUnit.SECONDS),
+        "Each finished game should get a file of its own");
+    try (Stream<Path> files = Files.list(directory)) {
+      assertEquals(2, files.count(), "Both replays should be kept");
+    }
+  }
+
+  @Test
+  void operationsShouldCompleteInOrderOnOneThread() throws Exception {
+    Path csv = tempDir.resolve("players.csv");
+    Files.writeString(csv, "Sindre,#FFFFFF\n");
+
+    service.savePlayers(List.of(new Player("Stian", "#000000", 1)), csv.toString());
+    List<Player> loaded = service.loadPlayers(csv.toString()).get(5, TimeUnit.SECONDS);
+
+    assertEquals(2, loaded.size());
+  }
+
+  @Test
+  void operationsOnOneFileShouldRunInOrderOnManyThreads() throws Exception {
+    service.close();
+    service = new AsyncPersistenceService(4);
+    String csv = tempDir.resolve("players.csv").toString();
+
+    for (int i = 0; i < 20; i++) {
+      service.savePlayers(List.of(new Player("Player" + i, "#000000", 1)), csv);
+    }
+    List<Player> loaded = service.loadPlayers(csv).get(5, TimeUnit.SECONDS);
+
+    assertEquals(20, loaded.size());
+    for (int i = 0; i < 20; i++) {
+      assertEquals("Player" + i, loaded.get(i).getName());
+    }
+  }
+
+  @Test
+  void closeShouldFinishOperationsWaitingOnEarlierOnes() throws Exception {
+    service.close();
+    service = new AsyncPersistenceService(2);
+    String csv = tempDir.resolve("players.csv").toString();
+
+    service.savePlayers(List.of(new Player("Sindre", "#FFFFFF", 1)), csv);
+    var loaded = service.loadPlayers(csv);
+    service.close();
+
+    assertEquals(1, loaded.get(5, TimeUnit.SECONDS).size());
+  }
+
+  // NEGATIVE TESTS
+
+  @Test
+  void sharedServiceShouldNotClose() {
+    assertThrows(IllegalStateException.class, () -> AsyncPersistenceService.getShared().close());
+  }
+
+  @Test
+  void loadPlayersShouldFailWithFileReadException() {
+    var future = service.loadPlayers(tempDir.resolve("missing.csv").toString());
+
+    CompletionException e = assertThrows(CompletionException.class, future::join);
+    assertInstanceOf(FileReadException.class, e.getCause());
+  }
+
+  @Test
+  void constructorShouldRejectNoThreads() {
+    assertThrows(IllegalArgumentException.class, () -> new AsyncPersistenceService(0));
+  }
+
+  @Test
+  void submitShouldRejectNullTask() {
+    assertThrows(IllegalArgumentException.class, () -> service.submit(null));
+  }
+}
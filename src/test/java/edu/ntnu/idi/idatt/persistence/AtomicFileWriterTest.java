@@ -0,0 +1,85 @@
+package edu.ntnu.idi.idatt.persistence;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.PosixFilePermission;
+import java.nio.file.attribute.PosixFilePermissions;
+import java.util.Set;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class AtomicFileWriterTest {
+
+  @TempDir
+  Path tempDir;
+
+  private static ByteBuffer bytes(String text) {
+    return ByteBuffer.wrap(text.getBytes(StandardCharsets.UTF_8));
+  }
+
+  private long fileCount() throws IOException {
+    try (Stream<Path> files = Files.list(tempDir)) {
+      return files.count();
+    }
+  }
+
+  // POSITIVE TESTS
+
+  @Test
+  void writeShouldReplaceFileAndLeaveNoTemporaryFile() throws IOException {
+    Path target = tempDir.resolve("board.bin");
+    Files.writeString(target, "old content");
+    ByteBuffer data = bytes("new");
+
+    AtomicFileWriter.write(data, target, true);
+
+    assertEquals("new", Files.readString(target), "Target should hold the new content");
+    assertEquals(0, data.position(), "The caller's buffer should not be moved");
+    assertEquals(1, fileCount(), "The temporary file should be moved into place");
+  }
+
+  @Test
+  void writeShouldKeepTargetPermissions() throws IOException {
+    assumeTrue(FileSystems.getDefault().supportedFileAttributeViews().contains("posix"));
+    Path target = tempDir.resolve("shared.json");
+    Files.writeString(target, "{}");
+    Set<PosixFilePermission> shared = PosixFilePermissions.fromString("rw-r--r--");
+    Files.setPosixFilePermissions(target, shared);
+
+    AtomicFileWriter.write(bytes("{\"a\":1}"), target, false);
+
+    assertEquals(shared, Files.getPosixFilePermissions(target), "Replacing should not change permissions");
+  }
+
+  @Test
+  void createTempFileShouldNotRestrictNewFilesToOwner() throws IOException {
+    assumeTrue(FileSystems.getDefault().supportedFileAttributeViews().contains("posix"));
+    Path reference = Files.createFile(tempDir.resolve("reference"));
+
+    Path temp = AtomicFileWriter.createTempFile(tempDir.resolve("new.json"));
+
+    assertEquals(Files.getPosixFilePermissions(reference), Files.getPosixFilePermissions(temp),
+        "A file with no target should get the default permissions");
+  }
+
+  // NEGATIVE TESTS
+
+  @Test
+  void writeShouldFailWhenTargetIsDirectory() throws IOException {
+    Path target = Files.createDirectory(tempDir.resolve("taken"));
+    Files.writeString(target.resolve("child"), "x");
+
+    assertThrows(IOException.class, () -> AtomicFileWriter.write(bytes("data"), target, false),
+        "A non-empty directory cannot be replaced");
+    assertEquals(1, fileCount(), "The temporary file should be deleted after a failed write");
+  }
+}
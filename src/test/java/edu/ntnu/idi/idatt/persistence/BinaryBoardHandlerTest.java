@@ -0,0 +1,223 @@
+package edu.ntnu.idi.idatt.persistence;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import edu.ntnu.idi.idatt.exceptions.FileReadException;
+import edu.ntnu.idi.idatt.factory.LadderGameFactory;
+import edu.ntnu.idi.idatt.model.BoardConfig;
+import edu.ntnu.idi.idatt.model.LadderBoard;
+import edu.ntnu.idi.idatt.model.TreasureBoardConfig;
+
+class BinaryBoardHandlerTest {
+
+  @TempDir
+  Path tempDir;
+
+  private BoardConfig config;
+
+  @BeforeEach
+  void setUp() {
+    config = new BoardConfig("Binary Board", "A board stored in binary", 10, 9);
+    config.addSnake(17, 7);
+    config.addSnake(29, 15);
+    config.addLadder(3, 22);
+    config.addLadder(11, 26);
+    config.addLadder(21, 42);
+    config.addWormhole(5);
+  }
+
+  // POSITIVE TESTS
+
+  @Test
+  void encodeAndDecodeShouldKeepLadderBoard() throws FileReadException {
+    BoardConfig decoded = BinaryBoardHandler.decodeBoardConfig(BinaryBoardHandler.encode(config));
+
+    assertEquals("Binary Board", decoded.getName());
+    assertEquals("A board stored in binary", decoded.getDescription());
+    assertEquals(10, decoded.getRows());
+    assertEquals(9, decoded.getColumns());
+    assertArrayEquals(new int[] { 17, 29 }, decoded.getSnakeHeads().toIntArray());
+    assertArrayEquals(new int[] { 7, 15 }, decoded.getSnakeTails().toIntArray());
+    assertArrayEquals(new int[] { 3, 11, 21 }, decoded.getLadderStarts().toIntArray());
+    assertArrayEquals(new int[] { 22, 26, 42 }, decoded.getLadderEnds().toIntArray());
+    assertArrayEquals(new int[] { 5 }, decoded.getWormholeStarts().toIntArray());
+  }
+
+  @Test
+  void encodeAndDecodeShouldKeepNullStrings() throws FileReadException {
+    BoardConfig empty = new BoardConfig(null, null, 3, 3);
+
+    BoardConfig decoded = BinaryBoardHandler.decodeBoardConfig(BinaryBoardHandler.encode(empty));
+
+    assertNull(decoded.getName());
+    assertNull(decoded.getDescription());
+    assertEquals(0, decoded.getSnakeCount());
+    assertEquals(0, decoded.getLadderCount());
+    assertEquals(0, decoded.getWormholeCount());
+  }
+
+  @Test
+  void encodeAndDecodeShouldKeepTreasureLayout() throws FileReadException {
+    TreasureBoardConfig standard = new TreasureBoardConfig();
+
+    ByteBuffer buffer = BinaryBoardHandler.encode(standard, "Treasure", null);
+    assertEquals(BinaryBoardHandler.BOARD_TREASURE, BinaryBoardHandler.getBoardType(buffer));
+    TreasureBoardConfig decoded = BinaryBoardHandler.decodeTreasureBoardConfig(buffer);
+
+    assertEquals(standard.ROWS, decoded.ROWS);
+    assertEquals(standard.COLUMNS, decoded.COLUMNS);
+    for (int tileId = 1; tileId <= standard.getTileCount(); tileId++) {
+      assertEquals(standard.getTileType(tileId), decoded.getTileType(tileId));
+    }
+  }
+
+  @Test
+  void getBoardTypeShouldNotMoveBuffer() throws FileReadException {
+    ByteBuffer buffer = BinaryBoardHandler.encode(config);
+
+    assertEquals(BinaryBoardHandler.BOARD_LADDER, BinaryBoardHandler.getBoardType(buffer));
+    assertEquals(0, buffer.position());
+  }
+
+  @Test
+  void writeAndReadShouldKeepLadderBoard() throws Exception {
+    Path file = tempDir.resolve("board.slb");
+
+    BinaryBoardHandler.writeBoard(config, file.toString());
+    BoardConfig read = BinaryBoardHandler.readBoardConfig(file.toString());
+
+    assertEquals("Binary Board", read.getName());
+    assertEquals(2, read.getSnakeCount());
+    assertEquals(42, read.getLadderEnd(2));
+    try (var files = Files.list(tempDir)) {
+      assertEquals(1, files.count(), "No temporary file should be left behind");
+    }
+  }
+
+  @Test
+  void writeShouldReplaceExistingFile() throws Exception {
+    Path file = tempDir.resolve("board.slb");
+    BinaryBoardHandler.writeBoard(config, file.toString());
+
+    config.addSnake(40, 2);
+    BinaryBoardHandler.writeBoard(config, file.toString());
+
+    assertEquals(3, BinaryBoardHandler.readBoardConfig(file.toString()).getSnakeCount());
+  }
+
+  @Test
+  void writeAndReadShouldKeepTreasureBoard() throws Exception {
+    byte[] layout = {1, 2, 0, 3, 1, 2};
+    Path file = tempDir.resolve("treasure.slb");
+
+    BinaryBoardHandler.writeTreasureBoard(new TreasureBoardConfig(2, 3, layout), "Small", null, file.toString());
+    TreasureBoardConfig read = BinaryBoardHandler.readTreasureBoardConfig(file.toString());
+
+    assertEquals(2, read.ROWS);
+    assertEquals(3, read.COLUMNS);
+    assertEquals(4, read.findStartPosition(), "Layout should be kept");
+  }
+
+  @Test
+  void largeBoardShouldLoadThroughFactory() throws Exception {
+    int rows = 1000;
+    int columns = 1000;
+    BoardConfig large = new BoardConfig("Large", null, rows, columns);
+    for (int i = 0; i < 10_000; i++) {
+      int start = i * 90 + 2;
+      large.addLadder(start, start + 50);
+    }
+    large.addSnake(rows * columns - 1, 1);
+    Path file = tempDir.resolve("large.slb");
+    BinaryBoardHandler.writeBoard(large, file.toString());
+
+    LadderBoard board = LadderGameFactory.createBoardFromBinary(file);
+
+    assertEquals(rows * columns, board.getNumberOfTiles());
+    assertTrue(board.getTile(2).hasLadder());
+    assertEquals(52, board.getTile(2).getLadder().getNumber());
+    assertEquals(1, board.getTile(rows * columns - 1).getSnake().getNumber());
+  }
+
+  // NEGATIVE TESTS
+
+  @Test
+  void decodeShouldRejectWrongMagic() {
+    ByteBuffer buffer = ByteBuffer.allocate(32);
+    buffer.putInt(0x12345678);
+
+    assertThrows(FileReadException.class, () -> BinaryBoardHandler.decodeBoardConfig(buffer.flip()));
+  }
+
+  @Test
+  void decodeShouldRejectUnsupportedVersion() {
+    ByteBuffer buffer = BinaryBoardHandler.encode(config);
+    buffer.putShort(4, (short) 99);
+
+    assertThrows(FileReadException.class, () -> BinaryBoardHandler.decodeBoardConfig(buffer));
+  }
+
+  @Test
+  void decodeShouldRejectWrongBoardType() {
+    ByteBuffer buffer = BinaryBoardHandler.encode(new TreasureBoardConfig(), "Treasure", null);
+
+    assertThrows(FileReadException.class, () -> BinaryBoardHandler.decodeBoardConfig(buffer));
+  }
+
+  @Test
+  void decodeShouldRejectTruncatedBoard() {
+    ByteBuffer buffer = BinaryBoardHandler.encode(config);
+    buffer.limit(buffer.limit() - 3);
+
+    assertThrows(FileReadException.class, () -> BinaryBoardHandler.decodeBoardConfig(buffer));
+  }
+
+  @Test
+  void decodeShouldRejectTruncatedTreasureLayout() {
+    ByteBuffer buffer = BinaryBoardHandler.encode(new TreasureBoardConfig(), "Treasure", null);
+    buffer.limit(buffer.limit() - 1);
+
+    assertThrows(FileReadException.class, () -> BinaryBoardHandler.decodeTreasureBoardConfig(buffer));
+  }
+
+  @Test
+  void readShouldRejectMissingFile() {
+    assertThrows(FileReadException.class,
+        () -> BinaryBoardHandler.readBoardConfig(tempDir.resolve("missing.slb").toString()));
+  }
+
+  @Test
+  void readShouldRejectJsonFile() throws IOException {
+    Path file = tempDir.resolve("board.slb");
+    Files.writeString(file, "{\"name\": \"Not binary\"}");
+
+    assertThrows(FileReadException.class, () -> BinaryBoardHandler.readBoardConfig(file.toString()));
+  }
+
+  @Test
+  void factoryShouldRejectBoardWithInvalidTiles() throws Exception {
+    BoardConfig invalid = new BoardConfig("Invalid", null, 3, 3);
+    invalid.addLadder(2, 50);
+    Path file = tempDir.resolve("invalid.slb");
+    BinaryBoardHandler.writeBoard(invalid, file.toString());
+
+    assertThrows(FileReadException.class, () -> LadderGameFactory.createBoardFromBinary(file));
+  }
+
+  @Test
+  void encodeShouldRejectNullConfig() {
+    assertThrows(IllegalArgumentException.class, () -> BinaryBoardHandler.encode((BoardConfig) null));
+  }
+}
@@ -0,0 +1,124 @@
+package edu.ntnu.idi.idatt.persistence;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import com.google.gson.JsonSyntaxException;
+
+import edu.ntnu.idi.idatt.exceptions.FileReadException;
+import edu.ntnu.idi.idatt.exceptions.FileWriteException;
+import edu.ntnu.idi.idatt.model.BoardConfig;
+
+class BoardConfigTypeAdapterTest {
+
+  @TempDir
+  Path tempDir;
+
+  private Gson gson;
+  private BoardConfig config;
+
+  @BeforeEach
+  void setUp() {
+    gson = new GsonBuilder()
+        .registerTypeAdapter(BoardConfig.class, new BoardConfigTypeAdapter())
+        .create();
+    config = new BoardConfig("Test Board", "A board for testing", 10, 9);
+    config.addLadder(3, 22);
+    config.addSnake(17, 7);
+    config.addWormhole(5);
+  }
+
+  // POSITIVE TESTS
+
+  @Test
+  void configShouldRoundTrip() {
+    BoardConfig read = gson.fromJson(gson.toJson(config), BoardConfig.class);
+
+    assertEquals("Test Board", read.getName(), "Name should be kept");
+    assertEquals("A board for testing", read.getDescription(), "Description should be kept");
+    assertEquals(10, read.getRows(), "Rows should be kept");
+    assertEquals(9, read.getColumns(), "Columns should be kept");
+    assertEquals(List.of(3), read.getLadderStarts(), "Ladder starts should be kept");
+    assertEquals(List.of(22), read.getLadderEnds(), "Ladder ends should be kept");
+    assertEquals(List.of(17), read.getSnakeHeads(), "Snake heads should be kept");
+    assertEquals(List.of(7), read.getSnakeTails(), "Snake tails should be kept");
+    assertEquals(List.of(5), read.getWormholeStarts(), "Wormholes should be kept");
+  }
+
+  @Test
+  void outputShouldMatchReflectiveLayout() {
+    BoardConfig reflective = new Gson().fromJson(gson.toJson(config), BoardConfig.class);
+
+    assertEquals(config.getLadderEnds(), reflective.getLadderEnds(),
+        "Files written by the adapter should stay readable without it");
+    assertEquals(config.getName(), reflective.getName(), "Field names should match");
+  }
+
+  @Test
+  void readShouldSkipUnknownFieldsAndTreatNullArraysAsEmpty() {
+    String json = "{\"name\":null,\"rows\":5,\"extra\":{\"a\":[1,2]},\"wormholeStarts\":null}";
+
+    BoardConfig read = gson.fromJson(json, BoardConfig.class);
+
+    assertNull(read.getName(), "Null name should be kept");
+    assertEquals(5, read.getRows(), "Rows should be read");
+    assertTrue(read.getWormholeStarts().isEmpty(), "Null array should be empty");
+    assertTrue(read.getSnakeHeads().isEmpty(), "Missing array should be empty");
+  }
+
+  @Test
+  void largeBoardShouldRoundTripThroughJsonHandler() throws FileWriteException, FileReadException {
+    BoardConfig large = new BoardConfig("Large", "Generated", 1000, 1000);
+    for (int i = 0; i < 200_000; i++) {
+      large.addSnake(i + 2, i + 1);
+    }
+    Path path = tempDir.resolve("large.json");
+
+    JsonHandler.writeToJson(large, path.toString());
+    BoardConfig read = JsonHandler.readFromJson(path.toString(), BoardConfig.class);
+
+    assertEquals(200_000, read.getSnakeHeads().size(), "Every snake should be read");
+    assertEquals(200_001, read.getSnakeHeads().get(199_999), "Last snake head should be kept");
+  }
+
+  @Test
+  void jsonHandlerShouldReadUtf8() throws IOException, FileReadException {
+    Path path = tempDir.resolve("utf8.json");
+    Files.writeString(path, "{\"name\":\"Brett med æøå\"}", StandardCharsets.UTF_8);
+
+    BoardConfig read = JsonHandler.readFromJson(path.toString(), BoardConfig.class);
+
+    assertEquals("Brett med æøå", read.getName(), "UTF-8 names should be read correctly");
+  }
+
+  // NEGATIVE TESTS
+
+  @Test
+  void readShouldRejectUnpairedSnakes() {
+    String json = "{\"snakeHeads\":[20,30],\"snakeTails\":[10]}";
+
+    assertThrows(JsonSyntaxException.class, () -> gson.fromJson(json, BoardConfig.class),
+        "Snakes without tails should be rejected");
+  }
+
+  @Test
+  void readShouldRejectNonNumericEntries() {
+    String json = "{\"ladderStarts\":[\"three\"],\"ladderEnds\":[22]}";
+
+    assertThrows(JsonSyntaxException.class, () -> gson.fromJson(json, BoardConfig.class),
+        "Non-numeric entries should be rejected");
+  }
+}
@@ -0,0 +1,156 @@
+package edu.ntnu.idi.idatt.persistence;
+
+import java.io.BufferedWriter;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import edu.ntnu.idi.idatt.exceptions.FileReadException;
+
+class BulkCsvImporterTest {
+
+  @TempDir
+  Path tempDir;
+
+  private PlayerRosterStore store;
+
+  @BeforeEach
+  void setUp() throws FileReadException {
+    store = PlayerRosterStore.open(tempDir.resolve("roster.log").toString());
+  }
+
+  @AfterEach
+  void tearDown() throws Exception {
+    store.close();
+  }
+
+  // POSITIVE TESTS
+
+  @Test
+  void importShouldSavePlayersAndRejectMalformedRows() throws Exception {
+    Path csv = tempDir.resolve("players.csv");
+    Files.writeString(csv, String.join("\n",
+        "Alice,#FF0000",
+        "InvalidLine",
+        "\"Star, Patrick\",#FFC0CB",
+        "",
+        "Charlie,#00FF00,Extra",
+        "Bo\"b,#0000FF",
+        ",#123456",
+        "Dana,#ABCDEF\r",
+        "\"Unclosed,#000000"), StandardCharsets.UTF_8);
+
+    ImportReport report = BulkCsvImporter.importPlayers(csv.toString(), store);
+
+    assertEquals(3, report.getImportedRows());
+    assertEquals(5, report.getRejectedRows());
+    assertEquals(9, report.getLines());
+    assertEquals(Files.size(csv), report.getBytes());
+    assertEquals(2, report.getRejections().get(0).getLineNumber());
+    assertEquals(5, report.getRejections().get(1).getLineNumber());
+    assertEquals(6, report.getRejections().get(2).getLineNumber());
+    assertEquals(7, report.getRejections().get(3).getLineNumber());
+    assertEquals(9, report.getRejections().get(4).getLineNumber());
+    assertEquals("#FFC0CB", store.getPieceType("Star, Patrick"));
+    assertEquals("#ABCDEF", store.getPieceType("Dana"));
+  }
+
+  @Test
+  void parallelImportShouldKeepFileOrderAndLineNumbers() throws Exception {
+    Path csv = tempDir.resolve("large.csv");
+    int rows = 200_000;
+    try (BufferedWriter writer = Files.newBufferedWriter(csv, StandardCharsets.UTF_8)) {
+      for (int i = 0; i < rows; i++) {
+        if (i % 50_000 == 49_999) {
+          writer.write("broken row " + i);
+        } else {
+          // Every name appears twice, the later row should win
+          writer.write("Player" + (i % (rows / 2)) + ",#" + i);
+        }
+        writer.newLine();
+      }
+    }
+
+    ImportReport report = BulkCsvImporter.importPlayers(csv.toString(), store, 4);
+
+    assertEquals(rows, report.getLines());
+    assertEquals(rows - 4, report.getImportedRows());
+    assertEquals(4, report.getRejectedRows());
+    for (int i = 0; i < 4; i++) {
+      assertEquals(50_000L * (i + 1), report.getRejections().get(i).getLineNumber());
+    }
+    // Player49999 and Player99999 are only on broken rows
+    assertEquals(rows / 2 - 2, store.size());
+    assertEquals("#100000", store.getPieceType("Player0"));
+    assertEquals("#199998", store.getPieceType("Player99998"));
+    assertTrue(report.getMegabytesPerSecond() > 0);
+  }
+
+  @Test
+  void importWithMoreChunksThanWindowShouldKeepFileOrder() throws Exception {
+    // Over 6 MB gives more chunks than two threads parse ahead
+    Path csv = tempDir.resolve("many-chunks.csv");
+    int rows = 400_000;
+    try (BufferedWriter writer = Files.newBufferedWriter(csv, StandardCharsets.UTF_8)) {
+      for (int i = 0; i < rows; i++) {
+        writer.write("Player" + (i % 1000) + ",#" + i);
+        writer.newLine();
+      }
+    }
+
+    ImportReport report = BulkCsvImporter.importPlayers(csv.toString(), store, 2);
+
+    assertTrue(Files.size(csv) > 6L << 20);
+    assertEquals(rows, report.getImportedRows());
+    assertEquals(1000, store.size());
+    assertEquals("#399000", store.getPieceType("Player0"));
+    assertEquals("#399999", store.getPieceType("Player999"));
+  }
+
+  @Test
+  void importShouldHandleEmptyFile() throws Exception {
+    Path csv = tempDir.resolve("empty.csv");
+    Files.createFile(csv);
+
+    ImportReport report = BulkCsvImporter.importPlayers(csv.toString(), store);
+
+    assertEquals(0, report.getImportedRows());
+    assertEquals(0, report.getLines());
+    assertEquals(0, store.size());
+  }
+
+  @Test
+  void importShouldSkipByteOrderMark() throws Exception {
+    Path csv = tempDir.resolve("bom.csv");
+    Files.write(csv, new byte[] { (byte) 0xEF, (byte) 0xBB, (byte) 0xBF, 'A', ',', '#', '1', '\n' });
+
+    BulkCsvImporter.importPlayers(csv.toString(), store);
+
+    assertEquals("#1", store.getPieceType("A"));
+  }
+
+  // NEGATIVE TESTS
+
+  @Test
+  void importShouldRejectMissingFile() {
+    assertThrows(FileReadException.class,
+        () -> BulkCsvImporter.importPlayers(tempDir.resolve("missing.csv").toString(), store));
+  }
+
+  @Test
+  void importShouldRejectInvalidArguments() throws Exception {
+    Path csv = tempDir.resolve("players.csv");
+    Files.writeString(csv, "Alice,#FF0000\n");
+
+    assertThrows(IllegalArgumentException.class, () -> BulkCsvImporter.importPlayers(csv.toString(), null));
+    assertThrows(IllegalArgumentException.class, () -> BulkCsvImporter.importPlayers(csv.toString(), store, 0));
+  }
+}
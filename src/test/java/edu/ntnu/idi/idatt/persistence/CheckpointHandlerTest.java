@@ -0,0 +1,223 @@
+package edu.ntnu.idi.idatt.persistence;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import edu.ntnu.idi.idatt.controller.GameController;
+import edu.ntnu.idi.idatt.controller.LadderGameController;
+import edu.ntnu.idi.idatt.controller.TreasureGameController;
+import edu.ntnu.idi.idatt.exceptions.FileReadException;
+import edu.ntnu.idi.idatt.model.LadderBoard;
+import edu.ntnu.idi.idatt.model.Player;
+import edu.ntnu.idi.idatt.model.TreasureBoardConfig;
+
+class CheckpointHandlerTest {
+
+  @TempDir
+  Path tempDir;
+
+  private List<Player> players;
+
+  @BeforeEach
+  void setUp() {
+    players = new ArrayList<>();
+    players.add(new Player("Player1", "#FF0000", 1));
+    players.add(new Player("Player2", "#0000FF", 1));
+  }
+
+  private LadderGameController createLadderGame() {
+    LadderBoard board = new LadderBoard(10, 9);
+    board.setName("test board");
+    board.getTile(4).setLadder(board.getTile(25));
+    board.getTile(40).setSnake(board.getTile(3));
+    board.getTile(60).setWormhole(board.getTile(12));
+
+    LadderGameController controller = new LadderGameController();
+    controller.loadBoard(board);
+    controller.setupGame(players);
+    return controller;
+  }
+
+  // POSITIVE TESTS
+
+  @Test
+  void ladderGameShouldSurviveRoundTrip() throws FileReadException {
+    LadderGameController original = createLadderGame();
+    original.rollDiceAndMove();
+
+    GameController restored = CheckpointHandler.decode(CheckpointHandler.encode(original));
+
+    assertTrue(restored instanceof LadderGameController, "Game type should be kept");
+    LadderBoard board = ((LadderGameController) restored).getLadderBoard();
+    assertEquals("test board", board.getName(), "Board name should be kept");
+    assertEquals(25, board.getTile(4).getLadder().getNumber(), "Ladder should be kept");
+    assertEquals(3, board.getTile(40).getSnake().getNumber(), "Snake should be kept");
+    assertEquals(12, board.getTile(60).getWormhole().getNumber(), "Wormhole should be kept");
+    assertFalse(board.getTile(5).hasAction(), "Plain tiles should stay plain");
+
+    assertEquals(1, restored.getCurrentPlayerIndex(), "Turn should be kept");
+    for (int i = 0; i < players.size(); i++) {
+      Player expected = original.getPlayers().get(i);
+      Player actual = restored.getPlayers().get(i);
+      assertEquals(expected.getName(), actual.getName(), "Name should be kept");
+      assertEquals(expected.getPieceType(), actual.getPieceType(), "Piece should be kept");
+      assertEquals(expected.getTileId(), actual.getTileId(), "Position should be kept");
+    }
+  }
+
+  @Test
+  void treasureGameShouldSurviveRoundTrip() throws FileReadException {
+    TreasureGameController original = new TreasureGameController();
+    original.setupGame(players);
+    int roll = original.rollDiceAndMove();
+
+    TreasureGameController restored = (TreasureGameController) CheckpointHandler
+        .decode(CheckpointHandler.encode(original));
+
+    assertEquals(original.getGameBoard().getTreasureTileId(), restored.getGameBoard().getTreasureTileId(),
+        "Treasure location should be kept");
+    assertTrue(restored.getGameBoard().getTile(restored.getGameBoard().getTreasureTileId()).hasTreasure(),
+        "Treasure tile should hold the treasure");
+    assertEquals(roll, restored.getMoveCounter(), "Move counter should be kept");
+    assertTrue(restored.isMoving(), "Moving state should be kept");
+  }
+
+  @Test
+  void treasureLayoutShouldSurviveRoundTrip() throws FileReadException {
+    byte[] layout = {
+        2, 1, 1, 2,
+        0, 1, 0, 1,
+        0, 3, 1, 1
+    };
+    TreasureGameController original = new TreasureGameController(new TreasureBoardConfig(3, 4, layout));
+    original.setupGame(players);
+
+    TreasureGameController restored = (TreasureGameController) CheckpointHandler
+        .decode(CheckpointHandler.encode(original));
+
+    TreasureBoardConfig config = restored.getGameBoard().getConfig();
+    assertEquals(3, config.ROWS, "Rows should be kept");
+    assertEquals(4, config.COLUMNS, "Columns should be kept");
+    for (int tileId = 1; tileId <= layout.length; tileId++) {
+      assertEquals(layout[tileId - 1], config.getTileType(tileId), "Tile " + tileId + " should be kept");
+    }
+    assertEquals(10, restored.getPlayers().get(0).getTileId(), "Players should stay on the custom start");
+    assertEquals(original.getGameBoard().getTreasureTileId(), restored.getGameBoard().getTreasureTileId(),
+        "Treasure location should be kept");
+  }
+
+  @Test
+  void saveCheckpointShouldReplaceEarlierCheckpoint() throws Exception {
+    LadderGameController original = createLadderGame();
+    Path path = tempDir.resolve("game.bin");
+    CheckpointHandler.saveCheckpoint(original, path.toString());
+    original.rollDiceAndMove();
+
+    CheckpointHandler.saveCheckpoint(original, path.toString());
+
+    assertEquals(1, CheckpointHandler.loadCheckpoint(path.toString()).getCurrentPlayerIndex(),
+        "The newer checkpoint should be loaded");
+    try (Stream<Path> files = Files.list(tempDir)) {
+      assertEquals(1, files.count(), "No temporary files should be left behind");
+    }
+  }
+
+  @Test
+  void saveDurableCheckpointShouldBeLoadable() throws Exception {
+    LadderGameController original = createLadderGame();
+    original.rollDiceAndMove();
+    Path path = tempDir.resolve("game.bin");
+
+    CheckpointHandler.saveDurableCheckpoint(original, path.toString());
+
+    assertEquals(original.getPlayers().get(0).getTileId(),
+        CheckpointHandler.loadCheckpoint(path.toString()).getPlayers().get(0).getTileId(),
+        "Position should be kept");
+  }
+
+  @Test
+  void saveAndLoadCheckpointShouldUseFile() throws Exception {
+    LadderGameController original = createLadderGame();
+    original.rollDiceAndMove();
+    Path path = tempDir.resolve("checkpoints").resolve("game.bin");
+
+    CheckpointHandler.saveCheckpoint(original, path.toString());
+    GameController restored = CheckpointHandler.loadCheckpoint(path.toString());
+
+    assertTrue(Files.exists(path), "Checkpoint file should be created");
+    assertEquals(original.getPlayers().get(0).getTileId(), restored.getPlayers().get(0).getTileId(),
+        "Position should be kept");
+  }
+
+  @Test
+  void checkpointShouldBeCompact() {
+    ByteBuffer checkpoint = CheckpointHandler.encode(createLadderGame());
+
+    assertTrue(checkpoint.remaining() < 200, "A small game should take less than 200 bytes");
+  }
+
+  // NEGATIVE TESTS
+
+  @Test
+  void decodeShouldRejectWrongMagic() {
+    ByteBuffer buffer = ByteBuffer.allocate(16);
+
+    assertThrows(FileReadException.class, () -> CheckpointHandler.decode(buffer),
+        "Data without the checkpoint magic should be rejected");
+  }
+
+  @Test
+  void decodeShouldRejectTruncatedCheckpoint() {
+    ByteBuffer checkpoint = CheckpointHandler.encode(createLadderGame());
+    checkpoint.limit(checkpoint.limit() - 5);
+
+    assertThrows(FileReadException.class, () -> CheckpointHandler.decode(checkpoint),
+        "A truncated checkpoint should be rejected");
+  }
+
+  @Test
+  void decodeShouldRejectTileOffTheBoard() {
+    ByteBuffer checkpoint = CheckpointHandler.encode(createLadderGame());
+    // Magic, version, game type, "test board", rows, columns and action count
+    int firstActionTile = 4 + 2 + 1 + 4 + 10 + 4 + 4 + 4;
+    checkpoint.putInt(firstActionTile, 9999);
+
+    assertThrows(FileReadException.class, () -> CheckpointHandler.decode(checkpoint),
+        "Tiles that are not on the board should be rejected");
+  }
+
+  @Test
+  void loadCheckpointShouldThrowForMissingFile() {
+    assertThrows(FileReadException.class,
+        () -> CheckpointHandler.loadCheckpoint(tempDir.resolve("missing.bin").toString()),
+        "A missing file should be rejected");
+  }
+
+  @Test
+  void loadCheckpointShouldRejectTextFile() throws IOException {
+    Path path = tempDir.resolve("players.csv");
+    Files.writeString(path, "Player1,#FF0000\n");
+
+    assertThrows(FileReadException.class, () -> CheckpointHandler.loadCheckpoint(path.toString()),
+        "Files that are not checkpoints should be rejected");
+  }
+
+  @Test
+  void encodeShouldRejectNullController() {
+    assertThrows(IllegalArgumentException.class, () -> CheckpointHandler.encode(null),
+        "Null controller should be rejected");
+  }
+}
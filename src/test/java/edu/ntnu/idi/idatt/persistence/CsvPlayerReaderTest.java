@@ -0,0 +1,146 @@
+package edu.ntnu.idi.idatt.persistence;
+
+import java.io.StringReader;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import edu.ntnu.idi.idatt.exceptions.FileReadException;
+import edu.ntnu.idi.idatt.model.Player;
+
+class CsvPlayerReaderTest {
+
+  @TempDir
+  Path tempDir;
+
+  private static List<Player> readAll(String content) throws FileReadException {
+    List<Player> players = new ArrayList<>();
+    try (CsvPlayerReader reader = new CsvPlayerReader(new StringReader(content))) {
+      reader.forEachPlayer(players::add);
+    }
+    return players;
+  }
+
+  // POSITIVE TESTS
+
+  @Test
+  void shouldReadPlainRecords() throws FileReadException {
+    List<Player> players = readAll("Alice,#FF0000\nBob , #0000FF\n");
+
+    assertEquals(2, players.size());
+    assertEquals("Bob", players.get(1).getName(), "Unquoted fields should be trimmed");
+    assertEquals("#0000FF", players.get(1).getPieceType());
+  }
+
+  @Test
+  void shouldReadQuotedFields() throws FileReadException {
+    List<Player> players = readAll("\"Star, Patrick\",#FFC0CB\n\"The \"\"Sponge\"\"\",\"#FFFF00\"\n");
+
+    assertEquals(2, players.size());
+    assertEquals("Star, Patrick", players.get(0).getName());
+    assertEquals("The \"Sponge\"", players.get(1).getName());
+    assertEquals("#FFFF00", players.get(1).getPieceType());
+  }
+
+  @Test
+  void shouldReadLineBreakInsideQuotes() throws FileReadException {
+    try (CsvPlayerReader reader = new CsvPlayerReader(new StringReader("\"Two\nLines\",#FFFFFF\nNext,#000000"))) {
+      assertEquals("Two\nLines", reader.readPlayer().getName());
+      Player next = reader.readPlayer();
+      assertEquals("Next", next.getName());
+      assertEquals(3, reader.getLineNumber(), "Line numbers should count the line break in quotes");
+      assertNull(reader.readPlayer());
+    }
+  }
+
+  @Test
+  void shouldHandleCrlfAndMissingFinalLineBreak() throws FileReadException {
+    List<Player> players = readAll("Alice,#FF0000\r\nBob,#0000FF");
+
+    assertEquals(2, players.size());
+    assertEquals("#FF0000", players.get(0).getPieceType());
+    assertEquals("#0000FF", players.get(1).getPieceType());
+  }
+
+  @Test
+  void shouldSkipByteOrderMark() throws FileReadException {
+    List<Player> players = readAll("\uFEFFAlice,#FF0000\n");
+
+    assertEquals("Alice", players.get(0).getName());
+  }
+
+  @Test
+  void shouldSkipRecordsThatAreNotPlayers() throws FileReadException {
+    List<Player> players = readAll("\nInvalidLine\nCharlie,#00FF00,Extra\nDana,#123456,\n");
+
+    assertEquals(1, players.size());
+    assertEquals("Dana", players.get(0).getName(), "A trailing comma should be ignored");
+  }
+
+  @Test
+  void readRecordShouldReturnAllFields() throws FileReadException {
+    List<String> record = new ArrayList<>();
+    try (CsvPlayerReader reader = new CsvPlayerReader(new StringReader("a,\"b,c\",,d\n"))) {
+      assertTrue(reader.readRecord(record));
+      assertEquals(List.of("a", "b,c", "", "d"), record);
+      assertFalse(reader.readRecord(record));
+    }
+  }
+
+  @Test
+  void shouldReadRecordsSpanningBufferRefills() throws FileReadException {
+    StringBuilder content = new StringBuilder();
+    for (int i = 0; i < 20_000; i++) {
+      content.append("\"Player, ").append(i).append("\",#").append(i).append('\n');
+    }
+
+    List<Player> players = readAll(content.toString());
+
+    assertEquals(20_000, players.size());
+    assertEquals("Player, 19999", players.get(19_999).getName());
+    assertEquals("#12345", players.get(12_345).getPieceType());
+  }
+
+  @Test
+  void handlerShouldRoundTripNamesWithCommasAndQuotes() throws Exception {
+    String file = tempDir.resolve("players.csv").toString();
+    List<Player> players = List.of(
+        new Player("Star, Patrick", "#FFC0CB", 1),
+        new Player("The \"Sponge\"", "#FFFF00", 1));
+
+    CsvHandler.savePlayersToCsv(players, file);
+    CsvHandler.savePlayersToCsv(List.of(new Player("Star, Patrick", "#000000", 1)), file);
+    List<Player> loaded = CsvHandler.loadPlayersFromCsv(file);
+
+    assertEquals(2, loaded.size(), "A quoted name should be matched when saving again");
+    assertEquals("Star, Patrick", loaded.get(0).getName());
+    assertEquals("#000000", loaded.get(0).getPieceType());
+    assertEquals("The \"Sponge\"", loaded.get(1).getName());
+  }
+
+  // NEGATIVE TESTS
+
+  @Test
+  void shouldRejectUnclosedQuote() {
+    assertThrows(FileReadException.class, () -> readAll("Alice,#FF0000\n\"Bob,#0000FF\n"));
+  }
+
+  @Test
+  void openShouldRejectMissingFile() {
+    assertThrows(FileReadException.class,
+        () -> CsvPlayerReader.open(tempDir.resolve("missing.csv").toString()));
+  }
+
+  @Test
+  void constructorShouldRejectNullReader() {
+    assertThrows(IllegalArgumentException.class, () -> new CsvPlayerReader(null));
+  }
+}
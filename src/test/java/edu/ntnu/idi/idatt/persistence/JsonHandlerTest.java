@@ -2,13 +2,20 @@ package edu.ntnu.idi.idatt.persistence;
 
 import java.io.File;
 import java.io.IOException;
+import java.nio.file.FileSystems;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.nio.file.attribute.PosixFilePermission;
+import java.nio.file.attribute.PosixFilePermissions;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Set;
+import java.util.stream.Stream;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
@@ -82,6 +89,63 @@ class JsonHandlerTest {
 
   // POSITIVE TESTS
 
+  @Test
+  void writeToJson_ValidObject_ShouldRoundTrip() throws FileWriteException, FileReadException {
+    // Act
+    JsonHandler.writeToJson(testPerson, validJsonPath.toString());
+
+    // Assert
+    assertEquals(testPerson, JsonHandler.readFromJson(validJsonPath.toString(), TestPerson.class),
+        "Read object should equal the written object");
+  }
+
+  @Test
+  void writeToJson_ExistingFile_ShouldReplaceContentAndLeaveNoTempFiles()
+      throws FileWriteException, FileReadException, IOException {
+    // Arrange
+    Files.writeString(validJsonPath, "old content that is longer than the new JSON document will be");
+    TestPerson other = new TestPerson("Jane Doe", 25, Arrays.asList("Chess"));
+
+    // Act
+    JsonHandler.writeToJson(other, validJsonPath.toString(), true);
+
+    // Assert
+    assertEquals(other, JsonHandler.readFromJson(validJsonPath.toString(), TestPerson.class),
+        "File should hold only the new object");
+    try (Stream<Path> files = Files.list(tempDir)) {
+      assertTrue(files.noneMatch(file -> file.toString().endsWith(".tmp")),
+          "No temporary files should be left behind");
+    }
+  }
+
+  @Test
+  void writeToJson_ExistingFile_ShouldKeepPermissions() throws FileWriteException, IOException {
+    // Arrange
+    assumeTrue(FileSystems.getDefault().supportedFileAttributeViews().contains("posix"));
+    Files.writeString(validJsonPath, "{}");
+    Set<PosixFilePermission> shared = PosixFilePermissions.fromString("rw-r--r--");
+    Files.setPosixFilePermissions(validJsonPath, shared);
+
+    // Act
+    JsonHandler.writeToJson(testPerson, validJsonPath.toString());
+
+    // Assert
+    assertEquals(shared, Files.getPosixFilePermissions(validJsonPath),
+        "Replacing the file should not make it private");
+  }
+
+  @Test
+  void writeToJson_MissingDirectory_ShouldCreateIt() throws FileWriteException {
+    // Arrange
+    Path nestedPath = tempDir.resolve("a").resolve("b").resolve("nested.json");
+
+    // Act
+    JsonHandler.writeToJson(testPerson, nestedPath.toString());
+
+    // Assert
+    assertTrue(Files.exists(nestedPath), "File should be written in the new directory");
+  }
+
   // NEGATIVE TESTS
 
   @Test
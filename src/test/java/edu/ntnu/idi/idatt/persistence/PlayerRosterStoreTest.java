@@ -0,0 +1,229 @@
+package edu.ntnu.idi.idatt.persistence;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import edu.ntnu.idi.idatt.exceptions.FileReadException;
+import edu.ntnu.idi.idatt.model.Player;
+
+class PlayerRosterStoreTest {
+
+  @TempDir
+  Path tempDir;
+
+  private String logPath() {
+    return tempDir.resolve("roster.log").toString();
+  }
+
+  // POSITIVE TESTS
+
+  @Test
+  void putShouldAddAndReplacePlayers() throws Exception {
+    try (PlayerRosterStore store = PlayerRosterStore.open(logPath())) {
+      store.put("Sindre", "#FFFFFF");
+      store.put("Stian", "#000000");
+      store.put("Sindre", "#FF0000");
+
+      assertEquals(2, store.size());
+      assertEquals("#FF0000", store.getPieceType("Sindre"));
+      assertEquals("#000000", store.getPieceType("Stian"));
+      assertEquals(3, store.getRecordCount());
+    }
+  }
+
+  @Test
+  void putShouldSkipUnchangedPlayer() throws Exception {
+    try (PlayerRosterStore store = PlayerRosterStore.open(logPath())) {
+      store.put("Sindre", "#FFFFFF");
+      store.put("Sindre", "#FFFFFF");
+
+      assertEquals(1, store.getRecordCount());
+    }
+  }
+
+  @Test
+  void putAllShouldSaveInOrder() throws Exception {
+    try (PlayerRosterStore store = PlayerRosterStore.open(logPath())) {
+      store.putAll(List.of(new Player("Sindre", "#FFFFFF", 1), new Player("Stian", "#000000", 1),
+          new Player("Sindre", "#FF0000", 1)));
+
+      assertEquals(2, store.size());
+      assertEquals(3, store.getRecordCount());
+    }
+    try (PlayerRosterStore store = PlayerRosterStore.open(logPath())) {
+      assertEquals("#FF0000", store.getPieceType("Sindre"));
+      assertEquals("#000000", store.getPieceType("Stian"));
+    }
+  }
+
+  @Test
+  void reopenShouldReplayLog() throws Exception {
+    try (PlayerRosterStore store = PlayerRosterStore.open(logPath())) {
+      store.put("Sindre", "#FFFFFF");
+      store.put("Stian", "#000000");
+      store.put("Sindre", "#FF0000");
+      store.remove("Stian");
+      store.put("Patrick Star", "#FFC0CB");
+    }
+
+    try (PlayerRosterStore store = PlayerRosterStore.open(logPath())) {
+      assertEquals(2, store.size());
+      assertEquals("#FF0000", store.getPieceType("Sindre"));
+      assertFalse(store.contains("Stian"));
+      List<Player> players = store.getPlayers();
+      assertEquals("Sindre", players.get(0).getName());
+      assertEquals("Patrick Star", players.get(1).getName());
+    }
+  }
+
+  @Test
+  void removeShouldReportMissingPlayer() throws Exception {
+    try (PlayerRosterStore store = PlayerRosterStore.open(logPath())) {
+      store.put("Sindre", "#FFFFFF");
+
+      assertTrue(store.remove("Sindre"));
+      assertFalse(store.remove("Sindre"));
+      assertNull(store.getPieceType("Sindre"));
+    }
+  }
+
+  @Test
+  void compactShouldKeepOneRecordPerPlayer() throws Exception {
+    try (PlayerRosterStore store = PlayerRosterStore.open(logPath())) {
+      for (int i = 0; i < 10; i++) {
+        store.put("Sindre", "#00000" + i);
+        store.put("Stian", "#11111" + i);
+      }
+
+      store.compact();
+
+      assertEquals(2, store.getRecordCount());
+      store.put("Blue", "#0000FF");
+    }
+
+    try (PlayerRosterStore store = PlayerRosterStore.open(logPath())) {
+      assertEquals(3, store.size());
+      assertEquals(3, store.getRecordCount());
+      assertEquals("#000009", store.getPieceType("Sindre"));
+      assertEquals("#0000FF", store.getPieceType("Blue"));
+    }
+  }
+
+  @Test
+  void repeatedSavesShouldCompactInBackground() throws Exception {
+    try (PlayerRosterStore store = PlayerRosterStore.open(logPath())) {
+      for (int i = 0; i < 5000; i++) {
+        store.put("Player" + (i % 10), "#" + i);
+      }
+    }
+
+    try (PlayerRosterStore store = PlayerRosterStore.open(logPath())) {
+      assertEquals(10, store.size());
+      assertTrue(store.getRecordCount() < 5000, "The log should have been compacted");
+      assertEquals("#4999", store.getPieceType("Player9"));
+    }
+  }
+
+  @Test
+  void exportAndImportShouldUseCsvFormat() throws Exception {
+    Path csv = tempDir.resolve("players.csv");
+    try (PlayerRosterStore store = PlayerRosterStore.open(logPath())) {
+      store.put("Sindre", "#FFFFFF");
+      store.put("Stian", "#000000");
+      store.exportToCsv(csv.toString());
+    }
+
+    assertEquals(List.of("Sindre,#FFFFFF", "Stian,#000000"), Files.readAllLines(csv, StandardCharsets.UTF_8));
+    assertEquals(2, CsvHandler.loadPlayersFromCsv(csv.toString()).size());
+
+    try (PlayerRosterStore store = PlayerRosterStore.open(tempDir.resolve("other.log").toString())) {
+      assertEquals(2, store.importFromCsv(csv.toString()));
+      assertEquals("#000000", store.getPieceType("Stian"));
+    }
+  }
+
+  @Test
+  void openShouldDropIncompleteRecord() throws Exception {
+    try (PlayerRosterStore store = PlayerRosterStore.open(logPath())) {
+      store.put("Sindre", "#FFFFFF");
+      store.put("Stian", "#000000");
+    }
+    Path log = Path.of(logPath());
+    try (FileChannel channel = FileChannel.open(log, StandardOpenOption.WRITE)) {
+      channel.truncate(channel.size() - 3);
+    }
+
+    try (PlayerRosterStore store = PlayerRosterStore.open(logPath())) {
+      assertEquals(1, store.size());
+      store.put("Blue", "#0000FF");
+    }
+    try (PlayerRosterStore store = PlayerRosterStore.open(logPath())) {
+      assertEquals(2, store.size());
+      assertEquals("#0000FF", store.getPieceType("Blue"));
+    }
+  }
+
+  // NEGATIVE TESTS
+
+  @Test
+  void openShouldRejectOtherFile() throws IOException {
+    Files.writeString(Path.of(logPath()), "Sindre,#FFFFFF\n");
+
+    assertThrows(FileReadException.class, () -> PlayerRosterStore.open(logPath()));
+  }
+
+  @Test
+  void openShouldRejectCorruptRecordWithoutTruncating() throws Exception {
+    try (PlayerRosterStore store = PlayerRosterStore.open(logPath())) {
+      store.put("Sindre", "#FFFFFF");
+      store.put("Stian", "#000000");
+    }
+    Path log = Path.of(logPath());
+    long size = Files.size(log);
+    try (FileChannel channel = FileChannel.open(log, StandardOpenOption.WRITE)) {
+      // The name length of the first record, after the header and type byte
+      channel.write(ByteBuffer.allocate(4).putInt(-5).flip(), 4 + 2 + 1);
+    }
+
+    assertThrows(FileReadException.class, () -> PlayerRosterStore.open(logPath()));
+    assertEquals(size, Files.size(log), "A corrupt log should not be cut off");
+  }
+
+  @Test
+  void putShouldRejectInvalidPlayer() throws Exception {
+    try (PlayerRosterStore store = PlayerRosterStore.open(logPath())) {
+      assertThrows(IllegalArgumentException.class, () -> store.put("", "#FFFFFF"));
+      assertThrows(IllegalArgumentException.class, () -> store.put("Sindre", null));
+    }
+  }
+
+  @Test
+  void putShouldFailAfterClose() throws Exception {
+    PlayerRosterStore store = PlayerRosterStore.open(logPath());
+    store.close();
+
+    assertThrows(IllegalStateException.class, () -> store.put("Sindre", "#FFFFFF"));
+  }
+
+  @Test
+  void importShouldRejectMissingFile() throws Exception {
+    try (PlayerRosterStore store = PlayerRosterStore.open(logPath())) {
+      assertThrows(FileReadException.class,
+          () -> store.importFromCsv(tempDir.resolve("missing.csv").toString()));
+    }
+  }
+}
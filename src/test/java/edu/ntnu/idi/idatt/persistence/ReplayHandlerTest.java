@@ -0,0 +1,148 @@
+package edu.ntnu.idi.idatt.persistence;
+
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import edu.ntnu.idi.idatt.controller.LadderGameController;
+import edu.ntnu.idi.idatt.exceptions.FileReadException;
+import edu.ntnu.idi.idatt.model.GameStateSnapshot;
+import edu.ntnu.idi.idatt.model.LadderBoard;
+import edu.ntnu.idi.idatt.model.Player;
+import edu.ntnu.idi.idatt.model.ReplayTimeline;
+
+class ReplayHandlerTest {
+
+  @TempDir
+  Path tempDir;
+
+  private LadderGameController game;
+  private ReplayTimeline recording;
+
+  @BeforeEach
+  void setUp() {
+    List<Player> players = new ArrayList<>();
+    players.add(new Player("Player1", "#FF0000", 1));
+    players.add(new Player("Player2", "#0000FF", 1));
+
+    LadderBoard board = new LadderBoard(10, 9);
+    board.setName("replay board");
+    board.getTile(4).setLadder(board.getTile(25));
+    game = new LadderGameController();
+    game.loadBoard(board);
+    game.setupGame(players);
+    recording = game.startRecording();
+    for (int turn = 0; turn < 12; turn++) {
+      game.rollDiceAndMove();
+    }
+  }
+
+  private void assertSameFrames(ReplayTimeline expected, ReplayTimeline actual) {
+    assertEquals(expected.getFrameCount(), actual.getFrameCount(), "Frame count should be kept");
+    for (int frame = 0; frame < expected.getFrameCount(); frame++) {
+      GameStateSnapshot expectedFrame = expected.getFrame(frame);
+      GameStateSnapshot actualFrame = actual.getFrame(frame);
+      assertEquals(expectedFrame.getCurrentPlayerIndex(), actualFrame.getCurrentPlayerIndex());
+      for (int i = 0; i < expectedFrame.getPlayerCount(); i++) {
+        assertEquals(expectedFrame.getTileId(i), actualFrame.getTileId(i),
+            "Player " + i + " at frame " + frame);
+      }
+    }
+  }
+
+  // POSITIVE TESTS
+
+  @Test
+  void recordingShouldFollowTheGame() {
+    assertTrue(recording.getFrameCount() > 1, "Every move should add a frame");
+    GameStateSnapshot last = recording.getFrame(recording.getFrameCount() - 1);
+    assertEquals(game.getPlayers().get(0).getTileId(), last.getTileId(0));
+    assertEquals(game.getCurrentPlayerIndex(), last.getCurrentPlayerIndex());
+  }
+
+  @Test
+  void replayShouldSurviveRoundTrip() throws FileReadException {
+    ReplayHandler.Replay replay = ReplayHandler.decode(ReplayHandler.encode(game, recording));
+
+    assertEquals("replay board", replay.getGame().getGameBoard().getName(), "Board should be kept");
+    assertEquals("Player2", replay.getTimeline().getPlayerName(1));
+    assertSameFrames(recording, replay.getTimeline());
+  }
+
+  @Test
+  void writeAndLoadReplayShouldUseFile() throws Exception {
+    Path path = tempDir.resolve("replays").resolve("game.replay");
+
+    ReplayHandler.writeReplay(ReplayHandler.encode(game, recording), path.toString());
+    ReplayHandler.Replay replay = ReplayHandler.loadReplay(path.toString());
+
+    assertSameFrames(recording, replay.getTimeline());
+  }
+
+  @Test
+  void deleteOldReplaysShouldKeepNewestReplays() throws Exception {
+    for (int i = 0; i < 5; i++) {
+      Path replay = Files.createFile(tempDir.resolve("game" + i + ".replay"));
+      Files.setLastModifiedTime(replay, FileTime.fromMillis(1_000_000L * (i + 1)));
+    }
+    Path other = Files.createFile(tempDir.resolve("notes.txt"));
+    Files.setLastModifiedTime(other, FileTime.fromMillis(0));
+
+    int deleted = ReplayHandler.deleteOldReplays(tempDir.toString(), 3);
+
+    assertEquals(2, deleted);
+    assertFalse(Files.exists(tempDir.resolve("game0.replay")), "The oldest replay should be deleted");
+    assertFalse(Files.exists(tempDir.resolve("game1.replay")));
+    assertTrue(Files.exists(tempDir.resolve("game2.replay")), "Newer replays should be kept");
+    assertTrue(Files.exists(other), "Files that are not replays should be left alone");
+  }
+
+  @Test
+  void deleteOldReplaysShouldIgnoreMissingDirectory() throws Exception {
+    assertEquals(0, ReplayHandler.deleteOldReplays(tempDir.resolve("missing").toString(), 3));
+  }
+
+  // NEGATIVE TESTS
+
+  @Test
+  void deleteOldReplaysShouldRejectNegativeCount() {
+    assertThrows(IllegalArgumentException.class, () -> ReplayHandler.deleteOldReplays(tempDir.toString(), -1));
+  }
+
+  @Test
+  void decodeShouldRejectWrongMagic() {
+    ByteBuffer buffer = ByteBuffer.allocate(16).putInt(0x12345678).flip();
+
+    assertThrows(FileReadException.class, () -> ReplayHandler.decode(buffer));
+  }
+
+  @Test
+  void decodeShouldRejectTruncatedReplay() {
+    ByteBuffer encoded = ReplayHandler.encode(game, recording);
+    ByteBuffer truncated = encoded.slice(0, encoded.remaining() - 6);
+
+    assertThrows(FileReadException.class, () -> ReplayHandler.decode(truncated));
+  }
+
+  @Test
+  void loadReplayShouldThrowForMissingFile() {
+    assertThrows(FileReadException.class,
+        () -> ReplayHandler.loadReplay(tempDir.resolve("missing.replay").toString()));
+  }
+
+  @Test
+  void encodeShouldRejectMissingRecording() {
+    assertThrows(IllegalArgumentException.class, () -> ReplayHandler.encode(game, null));
+  }
+}
@@ -0,0 +1,134 @@
+package edu.ntnu.idi.idatt.ui.components;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+import edu.ntnu.idi.idatt.model.LadderBoard;
+
+class BoardGeometryTest {
+
+  // POSITIVE TESTS
+
+  @ParameterizedTest
+  @CsvSource({ "10, 9", "3, 4", "5, 5", "1, 6", "7, 1" })
+  void serpentineTileNumbersShouldRoundTrip(int rows, int columns) {
+    BoardGeometry geometry = new BoardGeometry(rows, columns, 10, 2);
+
+    for (int number = 1; number <= rows * columns; number++) {
+      int gridRow = geometry.getGridRow(number);
+      int column = geometry.getColumn(number);
+      assertTrue(gridRow >= 0 && gridRow < rows, "Row of tile " + number + " should be on the board");
+      assertTrue(column >= 0 && column < columns, "Column of tile " + number + " should be on the board");
+      assertEquals(number, geometry.getTileNumber(gridRow, column), "Tile " + number + " should round trip");
+    }
+  }
+
+  @ParameterizedTest
+  @CsvSource({ "10, 9", "3, 4", "5, 5", "1, 6", "7, 1" })
+  void rowMajorTileNumbersShouldRoundTrip(int rows, int columns) {
+    BoardGeometry geometry = new BoardGeometry(rows, columns, 10, 2, false);
+
+    for (int number = 1; number <= rows * columns; number++) {
+      assertEquals(number, geometry.getTileNumber(geometry.getGridRow(number), geometry.getColumn(number)),
+          "Tile " + number + " should round trip");
+    }
+  }
+
+  @ParameterizedTest
+  @CsvSource({ "10, 9", "3, 4", "5, 5" })
+  void serpentineTilesShouldFollowEachOther(int rows, int columns) {
+    BoardGeometry geometry = new BoardGeometry(rows, columns, 10, 2);
+
+    assertEquals(rows - 1, geometry.getGridRow(1), "Tile 1 should be in the bottom row");
+    assertEquals(0, geometry.getGridRow(rows * columns), "The last tile should be in the top row");
+    for (int number = 1; number < rows * columns; number++) {
+      int rowStep = Math.abs(geometry.getGridRow(number + 1) - geometry.getGridRow(number));
+      int columnStep = Math.abs(geometry.getColumn(number + 1) - geometry.getColumn(number));
+      assertEquals(1, rowStep + columnStep, "Tile " + (number + 1) + " should be next to tile " + number);
+    }
+  }
+
+  @Test
+  void rowMajorLayoutShouldStartTopLeft() {
+    BoardGeometry geometry = new BoardGeometry(3, 4, 10, 2, false);
+
+    assertEquals(0, geometry.getGridRow(1));
+    assertEquals(0, geometry.getColumn(1));
+    assertEquals(1, geometry.getGridRow(5));
+    assertEquals(0, geometry.getColumn(5));
+    assertEquals(2, geometry.getGridRow(12));
+    assertEquals(3, geometry.getColumn(12));
+  }
+
+  @Test
+  void tilePositionsShouldIncludeGap() {
+    BoardGeometry geometry = new BoardGeometry(3, 4, 10, 2, false);
+
+    assertEquals(24, geometry.getTileX(3), 0.0001);
+    assertEquals(12, geometry.getTileY(5), 0.0001);
+    assertEquals(29, geometry.getTileCenterX(3), 0.0001);
+    assertEquals(46, geometry.getWidth(), 0.0001);
+    assertEquals(34, geometry.getHeight(), 0.0001);
+  }
+
+  @Test
+  void computeConnectionsShouldPlaceLadderAndSnakeEnds() {
+    LadderBoard board = new LadderBoard(4, 5);
+    board.getTile(2).setLadder(board.getTile(14));
+    board.getTile(17).setSnake(board.getTile(6));
+    BoardGeometry geometry = new BoardGeometry(4, 5, 10, 2);
+
+    List<BoardGeometry.Connection> connections = geometry.computeConnections(board);
+
+    assertEquals(2, connections.size(), "One line per snake and ladder");
+    BoardGeometry.Connection ladder = connections.get(0);
+    assertEquals(BoardGeometry.ConnectionType.LADDER, ladder.getType());
+    assertEquals(2, ladder.getStartTile());
+    assertEquals(14, ladder.getEndTile());
+    assertEquals(geometry.getTileCenterX(2), ladder.getStartX(), 0.0001);
+    assertEquals(geometry.getTileCenterY(2) + 3, ladder.getStartY(), 0.0001);
+    assertEquals(geometry.getTileCenterX(14), ladder.getEndX(), 0.0001);
+    assertEquals(geometry.getTileCenterY(14) - 3, ladder.getEndY(), 0.0001);
+
+    BoardGeometry.Connection snake = connections.get(1);
+    assertEquals(BoardGeometry.ConnectionType.SNAKE, snake.getType());
+    assertEquals(17, snake.getStartTile());
+    assertEquals(6, snake.getEndTile());
+    assertEquals(geometry.getTileCenterY(17) - 3, snake.getStartY(), 0.0001);
+    assertEquals(geometry.getTileCenterX(6) + 2, snake.getEndX(), 0.0001);
+    assertEquals(geometry.getTileCenterY(6) + 3, snake.getEndY(), 0.0001);
+  }
+
+  @Test
+  void connectionBoundsShouldCoverLine() {
+    LadderBoard board = new LadderBoard(4, 5);
+    board.getTile(3).setLadder(board.getTile(19));
+    BoardGeometry.Connection ladder = new BoardGeometry(4, 5, 10, 2).computeConnections(board).get(0);
+
+    assertTrue(ladder.getBounds().contains(ladder.getStartX(), ladder.getStartY()), "Bounds should hold the start");
+    assertTrue(ladder.getBounds().contains(ladder.getEndX(), ladder.getEndY()), "Bounds should hold the end");
+  }
+
+  // NEGATIVE TESTS
+
+  @Test
+  void constructorShouldRejectInvalidDimensions() {
+    assertThrows(IllegalArgumentException.class, () -> new BoardGeometry(0, 5, 10, 2));
+    assertThrows(IllegalArgumentException.class, () -> new BoardGeometry(5, -1, 10, 2));
+    assertThrows(IllegalArgumentException.class, () -> new BoardGeometry(5, 5, 0, 2));
+    assertThrows(IllegalArgumentException.class, () -> new BoardGeometry(5, 5, 10, -1));
+  }
+
+  @Test
+  void computeConnectionsShouldRejectNullBoard() {
+    BoardGeometry geometry = new BoardGeometry(4, 5, 10, 2);
+
+    assertThrows(IllegalArgumentException.class, () -> geometry.computeConnections(null));
+  }
+}
@@ -0,0 +1,47 @@
+package edu.ntnu.idi.idatt.ui.components;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import org.junit.jupiter.api.Test;
+
+import javafx.scene.paint.Color;
+
+class PieceColorsTest {
+
+  // POSITIVE TESTS
+
+  @Test
+  void shouldMatchParseColor() {
+    PieceColors colors = new PieceColors();
+
+    assertEquals(GamePiece.parseColor("#FF0000", 0), colors.get("#FF0000", 0));
+    assertEquals(GamePiece.parseColor("00FF00", 7), colors.get("00FF00", 7));
+  }
+
+  @Test
+  void shouldReuseColorWhilePieceTypeIsUnchanged() {
+    PieceColors colors = new PieceColors();
+
+    Color first = colors.get("#123456", 1);
+
+    assertSame(first, colors.get(new String("#123456"), 1), "An unchanged piece type should not be parsed again");
+  }
+
+  @Test
+  void shouldResolveAgainWhenPieceTypeChanges() {
+    PieceColors colors = new PieceColors();
+    colors.get("#FF0000", 0);
+
+    assertEquals(Color.web("#0000FF"), colors.get("#0000FF", 0));
+  }
+
+  // NEGATIVE TESTS
+
+  @Test
+  void shouldFallBackToDefaultColorForMissingPieceType() {
+    PieceColors colors = new PieceColors();
+
+    assertEquals(GamePiece.parseColor(null, 2), colors.get(null, 2));
+    assertEquals(GamePiece.parseColor("not a color", 3), colors.get("not a color", 3));
+  }
+}
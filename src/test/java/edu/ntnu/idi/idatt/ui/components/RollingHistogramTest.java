@@ -0,0 +1,99 @@
+package edu.ntnu.idi.idatt.ui.components;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.Test;
+
+class RollingHistogramTest {
+
+  // POSITIVE TESTS
+
+  @Test
+  void shouldTrackCountMeanMaxAndLatest() {
+    RollingHistogram histogram = new RollingHistogram(10);
+
+    histogram.record(10);
+    histogram.record(30);
+    histogram.record(20);
+
+    assertEquals(3, histogram.getCount());
+    assertEquals(20.0, histogram.getMean(), 0.0001);
+    assertEquals(30, histogram.getMax());
+    assertEquals(20, histogram.getLatest());
+  }
+
+  @Test
+  void shouldDropOldestSamplesWhenFull() {
+    RollingHistogram histogram = new RollingHistogram(3);
+
+    histogram.record(1000);
+    histogram.record(1);
+    histogram.record(2);
+    histogram.record(3);
+
+    assertEquals(3, histogram.getCount());
+    assertEquals(3, histogram.getMax(), "The oldest sample should have fallen out");
+    assertEquals(2.0, histogram.getMean(), 0.0001);
+    assertTrue(histogram.getPercentile(1.0) <= 3);
+  }
+
+  @Test
+  void percentileShouldBeWithinFactorOfTwo() {
+    RollingHistogram histogram = new RollingHistogram(100);
+    for (int i = 1; i <= 100; i++) {
+      histogram.record(i * 100L);
+    }
+
+    long median = histogram.getPercentile(0.5);
+    long p99 = histogram.getPercentile(0.99);
+
+    assertTrue(median >= 5000 && median < 10000, "Median was " + median);
+    assertTrue(p99 >= 9900 && p99 <= 10000, "99th percentile was " + p99);
+  }
+
+  @Test
+  void emptyHistogramShouldReportZero() {
+    RollingHistogram histogram = new RollingHistogram(5);
+
+    assertEquals(0, histogram.getCount());
+    assertEquals(0.0, histogram.getMean());
+    assertEquals(0, histogram.getMax());
+    assertEquals(0, histogram.getPercentile(0.5));
+  }
+
+  @Test
+  void clearShouldRemoveAllSamples() {
+    RollingHistogram histogram = new RollingHistogram(5);
+    histogram.record(7);
+    histogram.record(0);
+
+    histogram.clear();
+
+    assertEquals(0, histogram.getCount());
+    assertEquals(0, histogram.getMax());
+    histogram.record(4);
+    assertEquals(4, histogram.getPercentile(0.5));
+  }
+
+  // NEGATIVE TESTS
+
+  @Test
+  void constructorShouldRejectNonPositiveWindow() {
+    assertThrows(IllegalArgumentException.class, () -> new RollingHistogram(0));
+  }
+
+  @Test
+  void recordShouldRejectNegativeSample() {
+    RollingHistogram histogram = new RollingHistogram(5);
+
+    assertThrows(IllegalArgumentException.class, () -> histogram.record(-1));
+  }
+
+  @Test
+  void percentileShouldRejectOutOfRangeShare() {
+    RollingHistogram histogram = new RollingHistogram(5);
+
+    assertThrows(IllegalArgumentException.class, () -> histogram.getPercentile(1.5));
+  }
+}